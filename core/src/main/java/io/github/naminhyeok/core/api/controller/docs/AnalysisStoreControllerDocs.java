@@ -0,0 +1,17 @@
+package io.github.naminhyeok.core.api.controller.docs;
+
+import io.github.naminhyeok.core.api.controller.v1.response.AnalysisStoreStatsResponse;
+import io.github.naminhyeok.core.support.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "시스템")
+public interface AnalysisStoreControllerDocs {
+
+    @Operation(
+        summary = "분석 결과 저장소 상태 조회",
+        description = "보관 중인 분석 결과 수, 메모리 점유량과 예산, 기동 후 예산 초과로 내보내거나 보관 기간이 지나 제거한 결과 수를 조회합니다."
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
+    ApiResponse<AnalysisStoreStatsResponse> getStats();
+}
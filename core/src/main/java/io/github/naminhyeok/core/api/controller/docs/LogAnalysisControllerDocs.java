@@ -1,15 +1,24 @@
 package io.github.naminhyeok.core.api.controller.docs;
 
 import io.github.naminhyeok.core.api.controller.v1.response.LogAnalysisResponse;
+import io.github.naminhyeok.core.api.controller.v1.response.LogAppendResponse;
 import io.github.naminhyeok.core.api.controller.v1.response.LogAnalysisResultResponse;
+import io.github.naminhyeok.core.api.controller.v1.response.RankingPageResponse;
+import io.github.naminhyeok.core.api.controller.v1.response.TimeSeriesResponse;
+import io.github.naminhyeok.core.api.controller.v1.response.VolumeRankingResponse;
+import io.github.naminhyeok.core.domain.RankingDimension;
+import io.github.naminhyeok.core.domain.counter.CounterMode;
+import io.github.naminhyeok.core.domain.counter.TrafficWeight;
 import io.github.naminhyeok.core.support.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
 
 @Tag(name = "로그 분석")
@@ -17,12 +26,19 @@ public interface LogAnalysisControllerDocs {
 
     @Operation(
         summary = "로그 파일 분석",
-        description = "IIS 로그 파일(CSV)을 업로드하여 분석을 시작합니다. 분석 완료 후 결과 조회에 사용할 analysisId를 반환합니다."
+        description = "IIS 로그 파일(CSV)을 업로드하여 분석을 시작합니다. 분석 완료 후 결과 조회에 사용할 analysisId를 반환합니다. "
+            + "같은 내용의 파일을 같은 카운터 모드로 분석한 결과가 아직 보관되어 있으면 다시 파싱하지 않고 그 analysisId를 반환하며, "
+            + "이때 X-Analysis-Deduplicated 헤더가 true입니다."
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "200",
-            description = "분석 성공"
+            description = "분석 성공",
+            headers = @Header(
+                name = "X-Analysis-Deduplicated",
+                description = "기존 분석 결과를 재사용했으면 true",
+                example = "true"
+            )
         ),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "400",
@@ -85,8 +101,90 @@ public interface LogAnalysisControllerDocs {
             )
         )
     })
-    ApiResponse<LogAnalysisResponse> analyze(
+    ResponseEntity<ApiResponse<LogAnalysisResponse>> analyze(
         @Parameter(description = "분석할 IIS 로그 파일 (CSV 형식)", required = true)
+        MultipartFile file,
+        @Parameter(description = "경로/IP 카운터 모드 (EXACT: 정확, APPROXIMATE: 고정 메모리 근사). 생략 시 서버 설정값", example = "EXACT")
+        CounterMode counterMode,
+        @Parameter(description = "true이면 같은 파일의 기존 결과가 있어도 다시 분석 (기본값: false)", example = "false")
+        boolean force
+    );
+
+    @Operation(
+        summary = "분석 결과에 로그 추가",
+        description = "기존 분석 결과에 새로 쌓인 로그 파일(CSV, 첫 줄은 헤더)을 이어 붙입니다. 새 파일만 파싱해 저장된 집계에 더하며, "
+            + "파싱 오류의 라인 번호는 기존 행 다음부터 이어집니다. 같은 분석 ID에 대한 추가 요청은 차례로 반영됩니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "추가 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "분석 결과 없음 (E2000)",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "result": "ERROR",
+                          "data": null,
+                          "error": {
+                            "code": "E2000",
+                            "message": "분석 결과를 찾을 수 없습니다.",
+                            "data": null
+                          }
+                        }
+                        """
+                )
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "410",
+            description = "분석 결과 만료 (E2001)",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "result": "ERROR",
+                          "data": null,
+                          "error": {
+                            "code": "E2001",
+                            "message": "분석 결과가 만료되어 삭제되었습니다. 다시 분석해 주세요.",
+                            "data": null
+                          }
+                        }
+                        """
+                )
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "422",
+            description = "파일 처리 불가 (E1001)",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "result": "ERROR",
+                          "data": null,
+                          "error": {
+                            "code": "E1001",
+                            "message": "파일을 처리할 수 없습니다.",
+                            "data": null
+                          }
+                        }
+                        """
+                )
+            )
+        )
+    })
+    ApiResponse<LogAppendResponse> append(
+        @Parameter(description = "분석 ID", required = true, example = "1")
+        Long analysisId,
+        @Parameter(description = "추가할 IIS 로그 파일 (CSV 형식)", required = true)
         MultipartFile file
     );
 
@@ -101,7 +199,7 @@ public interface LogAnalysisControllerDocs {
         ),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "400",
-            description = "잘못된 요청 (E400) - topN이 1 미만인 경우",
+            description = "잘못된 요청 (E400) - topN이 1 미만이거나 1000 초과인 경우",
             content = @Content(
                 mediaType = "application/json",
                 examples = @ExampleObject(
@@ -112,7 +210,7 @@ public interface LogAnalysisControllerDocs {
                           "error": {
                             "code": "E400",
                             "message": "요청이 올바르지 않습니다.",
-                            "data": "topN은 1 이상이어야 합니다."
+                            "data": "topN은 1 이상 1000 이하여야 합니다."
                           }
                         }
                         """
@@ -143,7 +241,188 @@ public interface LogAnalysisControllerDocs {
     ApiResponse<LogAnalysisResultResponse> getAnalysis(
         @Parameter(description = "분석 ID", required = true, example = "1")
         Long analysisId,
-        @Parameter(description = "상위 항목 개수 (기본값: 10, 최소값: 1)", example = "10")
+        @Parameter(description = "상위 항목 개수 (기본값: 10, 범위: 1~1000)", example = "10")
         int topN
     );
+
+    @Operation(
+        summary = "분 단위 시계열 조회",
+        description = "분석된 로그의 요청 수, 4xx/5xx 수, 송수신 바이트를 시간 버킷별로 조회합니다. "
+            + "resolution(분) 단위로 집계 시점에 묶어 반환합니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "잘못된 요청 (E400) - resolution이 1 미만이거나 1440 초과인 경우",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "result": "ERROR",
+                          "data": null,
+                          "error": {
+                            "code": "E400",
+                            "message": "요청이 올바르지 않습니다.",
+                            "data": "resolution은 1 이상 1440 이하여야 합니다."
+                          }
+                        }
+                        """
+                )
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "분석 결과 없음 (E2000)",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "result": "ERROR",
+                          "data": null,
+                          "error": {
+                            "code": "E2000",
+                            "message": "분석 결과를 찾을 수 없습니다.",
+                            "data": null
+                          }
+                        }
+                        """
+                )
+            )
+        )
+    })
+    ApiResponse<TimeSeriesResponse> getTimeSeries(
+        @Parameter(description = "분석 ID", required = true, example = "1")
+        Long analysisId,
+        @Parameter(description = "버킷 크기(분) (기본값: 1, 범위: 1~1440)", example = "5")
+        int resolution
+    );
+
+    @Operation(
+        summary = "트래픽 합산 순위 조회",
+        description = "요청 경로와 클라이언트 IP를 송신 바이트, 수신 바이트 또는 응답 시간의 합으로 순위를 매겨 조회합니다. "
+            + "요청 횟수 순위와 같은 분석 과정에서 함께 집계됩니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "잘못된 요청 (E400) - topN이 1 미만이거나 1000 초과인 경우",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "result": "ERROR",
+                          "data": null,
+                          "error": {
+                            "code": "E400",
+                            "message": "요청이 올바르지 않습니다.",
+                            "data": "topN은 1 이상 1000 이하여야 합니다."
+                          }
+                        }
+                        """
+                )
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "분석 결과 없음 (E2000)",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "result": "ERROR",
+                          "data": null,
+                          "error": {
+                            "code": "E2000",
+                            "message": "분석 결과를 찾을 수 없습니다.",
+                            "data": null
+                          }
+                        }
+                        """
+                )
+            )
+        )
+    })
+    ApiResponse<VolumeRankingResponse> getVolumeRanking(
+        @Parameter(description = "분석 ID", required = true, example = "1")
+        Long analysisId,
+        @Parameter(description = "순위 기준 (SENT_BYTES, RECEIVED_BYTES, RESPONSE_TIME, 기본값: SENT_BYTES)", example = "SENT_BYTES")
+        TrafficWeight by,
+        @Parameter(description = "상위 항목 개수 (기본값: 10, 범위: 1~1000)", example = "10")
+        int topN
+    );
+
+    @Operation(
+        summary = "순위 페이지 조회",
+        description = "요청 경로, 경로 템플릿 또는 클라이언트 IP의 요청 횟수 순위를 페이지 단위로 끝까지 조회합니다. "
+            + "응답의 nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회하며, nextCursor가 null이면 마지막 페이지입니다. "
+            + "커서는 마지막 항목을 가리키므로 페이지 사이에 로그가 추가되어도 이미 받은 항목 뒤에서 이어집니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "잘못된 요청 (E400) - size가 1 미만이거나 1000 초과인 경우, cursor가 올바르지 않은 경우",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "result": "ERROR",
+                          "data": null,
+                          "error": {
+                            "code": "E400",
+                            "message": "요청이 올바르지 않습니다.",
+                            "data": "cursor가 올바르지 않습니다."
+                          }
+                        }
+                        """
+                )
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "분석 결과 없음 (E2000)",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "result": "ERROR",
+                          "data": null,
+                          "error": {
+                            "code": "E2000",
+                            "message": "분석 결과를 찾을 수 없습니다.",
+                            "data": null
+                          }
+                        }
+                        """
+                )
+            )
+        )
+    })
+    ApiResponse<RankingPageResponse> getRankingPage(
+        @Parameter(description = "분석 ID", required = true, example = "1")
+        Long analysisId,
+        @Parameter(description = "순위 대상 (PATHS, PATH_TEMPLATES, CLIENT_IPS, 기본값: PATHS)", example = "PATHS")
+        RankingDimension dimension,
+        @Parameter(description = "이전 응답의 nextCursor. 생략하면 첫 페이지", example = "MTUwMDovYXBpL3VzZXJz")
+        String cursor,
+        @Parameter(description = "페이지 크기 (기본값: 100, 범위: 1~1000)", example = "100")
+        int size
+    );
 }
@@ -1,6 +1,7 @@
 package io.github.naminhyeok.core.api.controller.docs;
 
-import io.github.naminhyeok.core.api.controller.v1.response.LogAnalysisResponse;
+import io.github.naminhyeok.core.api.controller.v2.response.AnalysisJobResponse;
+import io.github.naminhyeok.core.domain.counter.CounterMode;
 import io.github.naminhyeok.core.support.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,6 +12,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "로그 분석 v2", description = "비동기 IP 조회를 지원하는 로그 분석 API")
 public interface LogAnalysisControllerV2Docs {
@@ -18,10 +20,11 @@ public interface LogAnalysisControllerV2Docs {
     @Operation(
         summary = "로그 파일 분석 (비동기)",
         description = """
-            IIS 로그 파일(CSV)을 업로드하여 분석을 시작합니다.
+            IIS 로그 파일(CSV)을 업로드하여 분석 작업을 등록합니다. 분석은 백그라운드 작업으로 실행됩니다.
 
             **v1과의 차이점:**
-            - 202 Accepted 응답과 함께 Location 헤더로 결과 조회 URL 제공
+            - 파일을 받는 즉시 202 Accepted로 응답하고, Location 헤더로 작업 상태 조회 URL 제공
+            - 작업이 COMPLETED가 되면 같은 분석 ID로 v1 결과 조회 API를 사용
             - IP 정보는 백그라운드에서 비동기적으로 조회됨
             - 첫 번째 GET 요청 시 일부 IP가 'UNKNOWN'일 수 있으며, 이후 요청에서 점진적으로 채워짐
             """
@@ -32,8 +35,8 @@ public interface LogAnalysisControllerV2Docs {
             description = "분석 요청 접수됨",
             headers = @Header(
                 name = "Location",
-                description = "분석 결과 조회 URL",
-                example = "/api/logs/v1/analysis/1"
+                description = "작업 상태 조회 URL",
+                example = "/api/logs/v2/analysis/jobs/1"
             )
         ),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -95,10 +98,139 @@ public interface LogAnalysisControllerV2Docs {
                         """
                 )
             )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "503",
+            description = "분석 대기열 가득 참 (E2003)",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "result": "ERROR",
+                          "data": null,
+                          "error": {
+                            "code": "E2003",
+                            "message": "분석 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.",
+                            "data": null
+                          }
+                        }
+                        """
+                )
+            )
         )
     })
-    ResponseEntity<ApiResponse<LogAnalysisResponse>> analyze(
+    ResponseEntity<ApiResponse<AnalysisJobResponse>> analyze(
         @Parameter(description = "분석할 IIS 로그 파일 (CSV 형식)", required = true)
-        MultipartFile file
+        MultipartFile file,
+        @Parameter(description = "경로/IP 카운터 모드 (EXACT: 정확, APPROXIMATE: 고정 메모리 근사). 생략 시 서버 설정값", example = "EXACT")
+        CounterMode counterMode
+    );
+
+    @Operation(
+        summary = "분석 작업 상태 조회",
+        description = """
+            분석 작업의 진행 상황을 조회합니다.
+
+            - 처리한 라인/바이트 수, 평균 처리 속도, 예상 남은 시간 제공
+            - COMPLETED 상태에서는 resultUrl로 분석 결과를 조회
+            - FAILED 상태에서는 errorCode와 errorMessage로 실패 원인 제공
+            - 끝난 작업의 상태는 일정 시간 보관 후 삭제됨
+            """
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "분석 작업 없음 (E2002)",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "result": "ERROR",
+                          "data": null,
+                          "error": {
+                            "code": "E2002",
+                            "message": "분석 작업을 찾을 수 없습니다.",
+                            "data": null
+                          }
+                        }
+                        """
+                )
+            )
+        )
+    })
+    ApiResponse<AnalysisJobResponse> getJob(
+        @Parameter(description = "분석 ID", required = true, example = "1")
+        Long analysisId
+    );
+
+    @Operation(
+        summary = "분석 진행 상황 스트림 (SSE)",
+        description = """
+            분석 작업의 진행 스냅샷을 Server-Sent Events로 받습니다.
+
+            - 설정된 주기마다 `progress` 이벤트로 작업 상태와 부분 집계를 전송
+            - 부분 집계: 지금까지의 요청/오류 수, 상위 경로/IP/상태 코드
+            - 상위 경로/IP는 병렬 파싱 청크별 후보를 합친 근사치이며, 정확한 결과는 완료 후 결과 조회 API로 확인
+            - 작업이 COMPLETED 또는 FAILED가 되면 마지막 스냅샷을 보내고 스트림 종료
+            - topN은 1 이상 서버 설정값(analysis.job.live-top-n, 기본 10, 최대 100) 이하만 허용
+            """
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "스트림 시작"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "잘못된 요청 (E400) - topN이 1 미만이거나 서버 설정값을 넘는 경우",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "result": "ERROR",
+                          "data": null,
+                          "error": {
+                            "code": "E400",
+                            "message": "요청이 올바르지 않습니다.",
+                            "data": "topN은 1 이상 10 이하여야 합니다."
+                          }
+                        }
+                        """
+                )
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "분석 작업 없음 (E2002)",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "result": "ERROR",
+                          "data": null,
+                          "error": {
+                            "code": "E2002",
+                            "message": "분석 작업을 찾을 수 없습니다.",
+                            "data": null
+                          }
+                        }
+                        """
+                )
+            )
+        )
+    })
+    SseEmitter streamJob(
+        @Parameter(description = "분석 ID", required = true, example = "1")
+        Long analysisId,
+        @Parameter(description = "스냅샷에 담을 상위 항목 개수", example = "10")
+        int topN
     );
 }
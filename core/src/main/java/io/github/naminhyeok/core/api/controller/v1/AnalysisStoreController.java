@@ -0,0 +1,26 @@
+package io.github.naminhyeok.core.api.controller.v1;
+
+import io.github.naminhyeok.core.api.controller.docs.AnalysisStoreControllerDocs;
+import io.github.naminhyeok.core.api.controller.v1.response.AnalysisStoreStatsResponse;
+import io.github.naminhyeok.core.application.AnalysisStoreMonitor;
+import io.github.naminhyeok.core.support.response.ApiResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin")
+public class AnalysisStoreController implements AnalysisStoreControllerDocs {
+
+    private final AnalysisStoreMonitor analysisStoreMonitor;
+
+    public AnalysisStoreController(AnalysisStoreMonitor analysisStoreMonitor) {
+        this.analysisStoreMonitor = analysisStoreMonitor;
+    }
+
+    @Override
+    @GetMapping("/v1/store/stats")
+    public ApiResponse<AnalysisStoreStatsResponse> getStats() {
+        return ApiResponse.success(AnalysisStoreStatsResponse.from(analysisStoreMonitor.stats()));
+    }
+}
@@ -2,14 +2,25 @@ package io.github.naminhyeok.core.api.controller.v1;
 
 import io.github.naminhyeok.core.api.controller.docs.LogAnalysisControllerDocs;
 import io.github.naminhyeok.core.api.controller.v1.response.LogAnalysisResponse;
+import io.github.naminhyeok.core.api.controller.v1.response.LogAppendResponse;
 import io.github.naminhyeok.core.api.controller.v1.response.LogAnalysisResultResponse;
+import io.github.naminhyeok.core.api.controller.v1.response.RankingPageResponse;
+import io.github.naminhyeok.core.api.controller.v1.response.TimeSeriesResponse;
+import io.github.naminhyeok.core.api.controller.v1.response.VolumeRankingResponse;
 import io.github.naminhyeok.core.application.LogAnalysisService;
+import io.github.naminhyeok.core.application.LogAnalyzer;
 import io.github.naminhyeok.core.domain.LogAnalysisAggregate;
 import io.github.naminhyeok.core.domain.LogAnalysisResult;
+import io.github.naminhyeok.core.domain.RankingCursor;
+import io.github.naminhyeok.core.domain.RankingDimension;
+import io.github.naminhyeok.core.domain.RankingPage;
+import io.github.naminhyeok.core.domain.counter.CounterMode;
+import io.github.naminhyeok.core.domain.counter.TrafficWeight;
 import io.github.naminhyeok.core.support.error.CoreException;
 import io.github.naminhyeok.core.support.error.ErrorType;
 import io.github.naminhyeok.core.support.response.ApiResponse;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -23,6 +34,13 @@ import org.springframework.web.multipart.MultipartFile;
 @RequestMapping("/api/logs")
 public class LogAnalysisController implements LogAnalysisControllerDocs {
 
+    static final String DEDUPLICATED_HEADER = "X-Analysis-Deduplicated";
+
+    private static final int MAX_RESOLUTION_MINUTES = 24 * 60;
+    // 순위 전체가 필요하면 커서로 나눠 받는다
+    private static final int MAX_TOP_N = 1000;
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final LogAnalysisService logAnalysisService;
 
     public LogAnalysisController(LogAnalysisService logAnalysisService) {
@@ -31,11 +49,24 @@ public class LogAnalysisController implements LogAnalysisControllerDocs {
 
     @Override
     @PostMapping(value = "/v1/analyze", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ApiResponse<LogAnalysisResponse> analyze(
+    public ResponseEntity<ApiResponse<LogAnalysisResponse>> analyze(
+        @RequestPart("file") MultipartFile file,
+        @RequestParam(required = false) CounterMode counterMode,
+        @RequestParam(defaultValue = "false") boolean force
+    ) {
+        LogAnalyzer.AnalyzeResult result = logAnalysisService.analyze(file, counterMode, force);
+        return ResponseEntity.ok()
+            .header(DEDUPLICATED_HEADER, String.valueOf(result.deduplicated()))
+            .body(ApiResponse.success(LogAnalysisResponse.from(result.aggregate())));
+    }
+
+    @Override
+    @PostMapping(value = "/v1/analysis/{analysisId}/lines", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ApiResponse<LogAppendResponse> append(
+        @PathVariable Long analysisId,
         @RequestPart("file") MultipartFile file
     ) {
-        LogAnalysisAggregate aggregate = logAnalysisService.analyze(file);
-        return ApiResponse.success(LogAnalysisResponse.from(aggregate));
+        return ApiResponse.success(LogAppendResponse.from(logAnalysisService.append(analysisId, file)));
     }
 
     @Override
@@ -44,10 +75,55 @@ public class LogAnalysisController implements LogAnalysisControllerDocs {
         @PathVariable Long analysisId,
         @RequestParam(defaultValue = "10") int topN
     ) {
-        if (topN < 1) {
-            throw new CoreException(ErrorType.INVALID_REQUEST, "topN은 1 이상이어야 합니다.");
-        }
+        validateTopN(topN);
         LogAnalysisResult result = logAnalysisService.getAnalysisResult(analysisId, topN);
         return ApiResponse.success(LogAnalysisResultResponse.from(result, topN));
     }
+
+    @Override
+    @GetMapping("/v1/analysis/{analysisId}/timeseries")
+    public ApiResponse<TimeSeriesResponse> getTimeSeries(
+        @PathVariable Long analysisId,
+        @RequestParam(defaultValue = "1") int resolution
+    ) {
+        if (resolution < 1 || resolution > MAX_RESOLUTION_MINUTES) {
+            throw new CoreException(ErrorType.INVALID_REQUEST, "resolution은 1 이상 1440 이하여야 합니다.");
+        }
+        LogAnalysisAggregate aggregate = logAnalysisService.getAnalysis(analysisId);
+        return ApiResponse.success(TimeSeriesResponse.from(aggregate, resolution));
+    }
+
+    @Override
+    @GetMapping("/v1/analysis/{analysisId}/volume")
+    public ApiResponse<VolumeRankingResponse> getVolumeRanking(
+        @PathVariable Long analysisId,
+        @RequestParam(defaultValue = "SENT_BYTES") TrafficWeight by,
+        @RequestParam(defaultValue = "10") int topN
+    ) {
+        validateTopN(topN);
+        LogAnalysisAggregate aggregate = logAnalysisService.getAnalysis(analysisId);
+        return ApiResponse.success(VolumeRankingResponse.from(aggregate, by, topN));
+    }
+
+    @Override
+    @GetMapping("/v1/analysis/{analysisId}/rankings")
+    public ApiResponse<RankingPageResponse> getRankingPage(
+        @PathVariable Long analysisId,
+        @RequestParam(defaultValue = "PATHS") RankingDimension dimension,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "100") int size
+    ) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CoreException(ErrorType.INVALID_REQUEST, "size는 1 이상 1000 이하여야 합니다.");
+        }
+        RankingCursor after = cursor == null || cursor.isBlank() ? null : RankingCursor.decode(cursor);
+        RankingPage page = logAnalysisService.getRankingPage(analysisId, dimension, after, size);
+        return ApiResponse.success(RankingPageResponse.from(analysisId, dimension, page));
+    }
+
+    private void validateTopN(int topN) {
+        if (topN < 1 || topN > MAX_TOP_N) {
+            throw new CoreException(ErrorType.INVALID_REQUEST, "topN은 1 이상 1000 이하여야 합니다.");
+        }
+    }
 }
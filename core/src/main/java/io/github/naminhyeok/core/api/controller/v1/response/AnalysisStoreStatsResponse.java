@@ -0,0 +1,29 @@
+package io.github.naminhyeok.core.api.controller.v1.response;
+
+import io.github.naminhyeok.core.domain.AnalysisStoreStats;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "분석 결과 저장소 상태 응답")
+public record AnalysisStoreStatsResponse(
+    @Schema(description = "보관 중인 분석 결과 수", example = "42")
+    long entries,
+    @Schema(description = "메모리에 올려 둔 결과의 추정 크기 합 (bytes)", example = "268435456")
+    long footprintBytes,
+    @Schema(description = "메모리 예산 (bytes)", example = "536870912")
+    long budgetBytes,
+    @Schema(description = "기동 후 메모리 예산 초과로 내보낸 수", example = "3")
+    long evictions,
+    @Schema(description = "기동 후 보관 기간이 지나 제거한 수", example = "10")
+    long expirations
+) {
+
+    public static AnalysisStoreStatsResponse from(AnalysisStoreStats stats) {
+        return new AnalysisStoreStatsResponse(
+            stats.entries(),
+            stats.footprintBytes(),
+            stats.budgetBytes(),
+            stats.evictions(),
+            stats.expirations()
+        );
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.naminhyeok.core.api.controller.v1.response;
+
+import io.github.naminhyeok.core.domain.LatencySummary;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "응답 시간 분포 (clientResponseTime 단위, 백분위 값은 최대 약 1.6% 과대 추정)")
+public record LatencyResponse(
+    @Schema(description = "p50", example = "45")
+    long p50,
+    @Schema(description = "p90", example = "120")
+    long p90,
+    @Schema(description = "p99", example = "480")
+    long p99,
+    @Schema(description = "p99.9", example = "1500")
+    long p999,
+    @Schema(description = "최댓값", example = "3200")
+    long max
+) {
+
+    public static LatencyResponse from(LatencySummary summary) {
+        if (summary == null) {
+            return null;
+        }
+        return new LatencyResponse(
+            summary.p50(),
+            summary.p90(),
+            summary.p99(),
+            summary.p999(),
+            summary.max()
+        );
+    }
+}
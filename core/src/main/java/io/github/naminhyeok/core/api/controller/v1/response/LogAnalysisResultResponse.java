@@ -2,10 +2,12 @@ package io.github.naminhyeok.core.api.controller.v1.response;
 
 import io.github.naminhyeok.core.domain.LogAnalysisAggregate;
 import io.github.naminhyeok.core.domain.LogAnalysisResult;
+import io.github.naminhyeok.core.domain.ParseErrorReason;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Schema(description = "분석 결과 상세 응답")
 public record LogAnalysisResultResponse(
@@ -15,14 +17,20 @@ public record LogAnalysisResultResponse(
     LocalDateTime analyzedAt,
     @Schema(description = "요약 정보")
     SummaryResponse summary,
-    @Schema(description = "상위 요청 경로 목록")
-    List<RankedItemResponse> topPaths,
+    @Schema(description = "경로/IP 순위가 근사 집계인지 여부 (true면 count는 상한이며 errorBound만큼 과대 추정되었을 수 있음)", example = "false")
+    boolean approximate,
+    @Schema(description = "상위 요청 경로 목록 (경로별 응답 시간 분포 포함)")
+    List<RankedPathResponse> topPaths,
+    @Schema(description = "ID 세그먼트를 자리표시자로 묶은 상위 경로 템플릿 목록 (예: /users/{id})")
+    List<RankedItemResponse> topPathTemplates,
     @Schema(description = "상위 HTTP 상태 코드 목록")
     List<RankedItemResponse> topStatusCodes,
     @Schema(description = "상위 클라이언트 IP 목록 (IP 상세 정보 포함)")
     List<RankedIpResponse> topClientIps,
     @Schema(description = "파싱 오류 총 개수", example = "5")
     int parseErrorCount,
+    @Schema(description = "파싱 오류 사유별 개수", example = "{\"TIMESTAMP\": 3, \"COLUMN_COUNT\": 2}")
+    Map<ParseErrorReason, Integer> parseErrorCountsByReason,
     @Schema(description = "파싱 오류 샘플 (최대 10개)")
     List<ParseErrorResponse> parseErrorSamples
 ) {
@@ -38,10 +46,15 @@ public record LogAnalysisResultResponse(
             aggregate.getId(),
             aggregate.getAnalyzedAt(),
             SummaryResponse.from(aggregate),
-            aggregate.getTopPaths(topN).stream().map(RankedItemResponse::from).toList(),
+            aggregate.isApproximate(),
+            aggregate.getTopPaths(topN).stream()
+                .map(rankedItem -> RankedPathResponse.from(rankedItem, aggregate.getResponseTime(rankedItem.value())))
+                .toList(),
+            aggregate.getTopPathTemplates(topN).stream().map(RankedItemResponse::from).toList(),
             aggregate.getTopStatusCodes(topN).stream().map(RankedItemResponse::from).toList(),
             topClientIpsWithDetail,
             aggregate.getParseErrorCount(),
+            aggregate.getParseErrorCountsByReason(),
             aggregate.getParseErrorSamples().stream().map(ParseErrorResponse::from).toList()
         );
     }
@@ -0,0 +1,28 @@
+package io.github.naminhyeok.core.api.controller.v1.response;
+
+import io.github.naminhyeok.core.application.LogAppender;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "로그 추가 응답")
+public record LogAppendResponse(
+    @Schema(description = "분석 ID", example = "1")
+    Long analysisId,
+    @Schema(description = "이번에 추가된 요청 수", example = "1200")
+    long appendedRequests,
+    @Schema(description = "이번에 발생한 파싱 오류 수", example = "3")
+    int appendedErrors,
+    @Schema(description = "추가 후 전체 요청 수", example = "48200")
+    long totalRequests,
+    @Schema(description = "추가 후 전체 파싱 오류 수", example = "15")
+    int totalErrors
+) {
+    public static LogAppendResponse from(LogAppender.AppendResult result) {
+        return new LogAppendResponse(
+            result.analysisId(),
+            result.appendedRequests(),
+            result.appendedErrors(),
+            result.totalRequests(),
+            result.totalErrors()
+        );
+    }
+}
@@ -12,6 +12,8 @@ public record RankedIpResponse(
     long count,
     @Schema(description = "전체 대비 비율 (%)", example = "3.5")
     double percentage,
+    @Schema(description = "요청 횟수의 최대 과대 추정치 (근사 집계가 아니면 0)", example = "0")
+    long errorBound,
     @Schema(description = "IP 상세 정보 (조회 실패 시 null)")
     IpDetail ipDetail
 ) {
@@ -21,6 +23,7 @@ public record RankedIpResponse(
             rankedItem.value(),
             rankedItem.count(),
             rankedItem.percentage(),
+            rankedItem.errorBound(),
             IpDetail.from(ipInfo)
         );
     }
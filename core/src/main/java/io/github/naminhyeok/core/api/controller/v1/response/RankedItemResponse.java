@@ -10,14 +10,17 @@ public record RankedItemResponse(
     @Schema(description = "요청 횟수", example = "1500")
     long count,
     @Schema(description = "전체 대비 비율 (%)", example = "10.5")
-    double percentage
+    double percentage,
+    @Schema(description = "요청 횟수의 최대 과대 추정치 (근사 집계가 아니면 0)", example = "0")
+    long errorBound
 ) {
 
     public static RankedItemResponse from(RankedItem rankedItem) {
         return new RankedItemResponse(
             rankedItem.value(),
             rankedItem.count(),
-            rankedItem.percentage()
+            rankedItem.percentage(),
+            rankedItem.errorBound()
         );
     }
 }
@@ -0,0 +1,30 @@
+package io.github.naminhyeok.core.api.controller.v1.response;
+
+import io.github.naminhyeok.core.domain.LatencySummary;
+import io.github.naminhyeok.core.domain.RankedItem;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "순위 경로 항목 (응답 시간 분포 포함)")
+public record RankedPathResponse(
+    @Schema(description = "요청 경로", example = "/api/users")
+    String value,
+    @Schema(description = "요청 횟수", example = "1500")
+    long count,
+    @Schema(description = "전체 대비 비율 (%)", example = "10.5")
+    double percentage,
+    @Schema(description = "요청 횟수의 최대 과대 추정치 (근사 집계가 아니면 0)", example = "0")
+    long errorBound,
+    @Schema(description = "경로의 응답 시간 분포 (빈도가 낮아 추적되지 않은 경로는 null)")
+    LatencyResponse responseTime
+) {
+
+    public static RankedPathResponse from(RankedItem rankedItem, LatencySummary responseTime) {
+        return new RankedPathResponse(
+            rankedItem.value(),
+            rankedItem.count(),
+            rankedItem.percentage(),
+            rankedItem.errorBound(),
+            LatencyResponse.from(responseTime)
+        );
+    }
+}
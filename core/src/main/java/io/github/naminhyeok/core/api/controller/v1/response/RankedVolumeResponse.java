@@ -0,0 +1,26 @@
+package io.github.naminhyeok.core.api.controller.v1.response;
+
+import io.github.naminhyeok.core.domain.RankedItem;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "합산 값 기준 순위 항목")
+public record RankedVolumeResponse(
+    @Schema(description = "항목 값", example = "/api/download")
+    String value,
+    @Schema(description = "합산 값 (바이트 또는 응답 시간)", example = "73400320")
+    long total,
+    @Schema(description = "전체 합 대비 비율 (%)", example = "42.1")
+    double percentage,
+    @Schema(description = "합산 값의 최대 과대 추정치 (근사 집계가 아니면 0)", example = "0")
+    long errorBound
+) {
+
+    public static RankedVolumeResponse from(RankedItem rankedItem) {
+        return new RankedVolumeResponse(
+            rankedItem.value(),
+            rankedItem.count(),
+            rankedItem.percentage(),
+            rankedItem.errorBound()
+        );
+    }
+}
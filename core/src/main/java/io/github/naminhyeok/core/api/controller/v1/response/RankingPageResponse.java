@@ -0,0 +1,34 @@
+package io.github.naminhyeok.core.api.controller.v1.response;
+
+import io.github.naminhyeok.core.domain.RankingCursor;
+import io.github.naminhyeok.core.domain.RankingDimension;
+import io.github.naminhyeok.core.domain.RankingPage;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "순위 페이지 응답")
+public record RankingPageResponse(
+    @Schema(description = "분석 ID", example = "1")
+    Long analysisId,
+    @Schema(description = "순위 대상", example = "PATHS")
+    RankingDimension dimension,
+    @Schema(description = "순위에 있는 전체 항목 수", example = "48213")
+    int totalItems,
+    @Schema(description = "이 페이지의 항목 목록 (요청 횟수 내림차순, 같으면 값 오름차순)")
+    List<RankedItemResponse> items,
+    @Schema(description = "다음 페이지 커서. 마지막 페이지면 null", example = "MTUwMDovYXBpL3VzZXJz")
+    String nextCursor
+) {
+
+    public static RankingPageResponse from(Long analysisId, RankingDimension dimension, RankingPage page) {
+        RankingCursor next = page.nextCursor();
+        return new RankingPageResponse(
+            analysisId,
+            dimension,
+            page.totalItems(),
+            page.items().stream().map(RankedItemResponse::from).toList(),
+            next == null ? null : next.encode()
+        );
+    }
+}
@@ -7,14 +7,26 @@ import io.swagger.v3.oas.annotations.media.Schema;
 public record SummaryResponse(
     @Schema(description = "총 요청 수", example = "15000")
     long totalRequests,
+    @Schema(description = "고유 클라이언트 IP 수 (HyperLogLog 추정치, 상대 표준 오차 약 1.6%)", example = "320")
+    long distinctClientIps,
+    @Schema(description = "고유 요청 경로 수 (HyperLogLog 추정치, 상대 표준 오차 약 1.6%)", example = "85")
+    long distinctPaths,
+    @Schema(description = "고유 User-Agent 수 (HyperLogLog 추정치, 상대 표준 오차 약 1.6%)", example = "42")
+    long distinctUserAgents,
     @Schema(description = "HTTP 상태 코드 분포")
-    StatusDistributionResponse statusCodeDistribution
+    StatusDistributionResponse statusCodeDistribution,
+    @Schema(description = "전체 응답 시간 분포")
+    LatencyResponse responseTime
 ) {
 
     public static SummaryResponse from(LogAnalysisAggregate aggregate) {
         return new SummaryResponse(
             aggregate.getTotalRequests(),
-            StatusDistributionResponse.from(aggregate.getStatusCodeDistribution())
+            aggregate.getDistinctClientIps(),
+            aggregate.getDistinctPaths(),
+            aggregate.getDistinctUserAgents(),
+            StatusDistributionResponse.from(aggregate.getStatusCodeDistribution()),
+            LatencyResponse.from(aggregate.getResponseTime())
         );
     }
 }
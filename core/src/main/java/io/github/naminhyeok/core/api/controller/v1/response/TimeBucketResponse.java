@@ -0,0 +1,37 @@
+package io.github.naminhyeok.core.api.controller.v1.response;
+
+import io.github.naminhyeok.core.domain.TimeBucket;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "시계열 버킷")
+public record TimeBucketResponse(
+    @Schema(description = "버킷 시작 시각", example = "2024-01-15T10:30:00")
+    LocalDateTime start,
+    @Schema(description = "요청 수", example = "1200")
+    long requests,
+    @Schema(description = "4xx 응답 수", example = "30")
+    long clientErrors,
+    @Schema(description = "5xx 응답 수", example = "2")
+    long serverErrors,
+    @Schema(description = "오류 비율 (4xx + 5xx, %)", example = "2.67")
+    double errorRate,
+    @Schema(description = "송신 바이트 합계", example = "5242880")
+    long sentBytes,
+    @Schema(description = "수신 바이트 합계", example = "1048576")
+    long receivedBytes
+) {
+
+    public static TimeBucketResponse from(TimeBucket bucket) {
+        return new TimeBucketResponse(
+            bucket.start(),
+            bucket.requests(),
+            bucket.clientErrors(),
+            bucket.serverErrors(),
+            bucket.errorRate(),
+            bucket.sentBytes(),
+            bucket.receivedBytes()
+        );
+    }
+}
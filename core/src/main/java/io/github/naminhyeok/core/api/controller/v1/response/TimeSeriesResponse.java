@@ -0,0 +1,28 @@
+package io.github.naminhyeok.core.api.controller.v1.response;
+
+import io.github.naminhyeok.core.domain.LogAnalysisAggregate;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "분 단위 시계열 응답")
+public record TimeSeriesResponse(
+    @Schema(description = "분석 ID", example = "1")
+    Long analysisId,
+    @Schema(description = "버킷 크기 (분)", example = "5")
+    int resolutionMinutes,
+    @Schema(description = "시계열 범위(최대 31일)를 벗어나 버킷에 포함되지 않은 요청 수", example = "0")
+    long outOfRangeRequests,
+    @Schema(description = "시간순 버킷 목록 (요청이 없는 구간도 0으로 포함)")
+    List<TimeBucketResponse> buckets
+) {
+
+    public static TimeSeriesResponse from(LogAnalysisAggregate aggregate, int resolutionMinutes) {
+        return new TimeSeriesResponse(
+            aggregate.getId(),
+            resolutionMinutes,
+            aggregate.getTimeSeriesOutOfRange(),
+            aggregate.getTimeSeries(resolutionMinutes).stream().map(TimeBucketResponse::from).toList()
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.naminhyeok.core.api.controller.v1.response;
+
+import io.github.naminhyeok.core.domain.LogAnalysisAggregate;
+import io.github.naminhyeok.core.domain.counter.TrafficWeight;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "송수신 바이트/응답 시간 합산 기준 순위 응답")
+public record VolumeRankingResponse(
+    @Schema(description = "분석 ID", example = "1")
+    Long analysisId,
+    @Schema(description = "순위 기준", example = "SENT_BYTES")
+    TrafficWeight by,
+    @Schema(description = "전체 합", example = "174325760")
+    long total,
+    @Schema(description = "근사 집계 여부 (true면 total은 상한이며 errorBound만큼 과대 추정되었을 수 있음)", example = "false")
+    boolean approximate,
+    @Schema(description = "합산 값 상위 요청 경로 목록")
+    List<RankedVolumeResponse> topPaths,
+    @Schema(description = "합산 값 상위 클라이언트 IP 목록")
+    List<RankedVolumeResponse> topClientIps
+) {
+
+    public static VolumeRankingResponse from(LogAnalysisAggregate aggregate, TrafficWeight by, int topN) {
+        return new VolumeRankingResponse(
+            aggregate.getId(),
+            by,
+            aggregate.getTotal(by),
+            aggregate.isApproximate(),
+            aggregate.getTopPaths(by, topN).stream().map(RankedVolumeResponse::from).toList(),
+            aggregate.getTopClientIps(by, topN).stream().map(RankedVolumeResponse::from).toList()
+        );
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.naminhyeok.core.api.controller.v2;
+
+import io.github.naminhyeok.core.api.controller.v2.response.AnalysisJobSnapshotResponse;
+import io.github.naminhyeok.core.application.AnalysisJobSnapshot;
+import io.github.naminhyeok.core.application.AnalysisJobState;
+import io.github.naminhyeok.core.application.LogAnalysisService;
+import io.github.naminhyeok.core.support.config.AnalysisJobProperties;
+import io.github.naminhyeok.core.support.error.CoreException;
+import io.github.naminhyeok.core.support.error.ErrorType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분석 작업의 진행 스냅샷을 SSE로 주기적으로 보낸다. 스냅샷은 파싱 스레드가 넘겨 둔 부분 집계를 합쳐 만들므로 분석 속도에 영향을 주지 않는다.
+ * 작업이 끝나면 마지막 스냅샷을 보내고 스트림을 닫는다.
+ */
+@Slf4j
+@Component
+public class AnalysisJobEventStreamer {
+
+    static final String PROGRESS_EVENT = "progress";
+
+    private final LogAnalysisService logAnalysisService;
+    private final long intervalMillis;
+    private final long timeoutMillis;
+    private final int maxTopN;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("analysis-stream-", 0).daemon(true).factory()
+    );
+
+    public AnalysisJobEventStreamer(LogAnalysisService logAnalysisService, AnalysisJobProperties properties) {
+        this.logAnalysisService = logAnalysisService;
+        this.intervalMillis = properties.streamIntervalMillis();
+        this.timeoutMillis = Duration.ofMinutes(properties.retentionMinutes()).toMillis();
+        this.maxTopN = properties.liveTopN();
+    }
+
+    /**
+     * 작업이 없거나 {@code topN}이 1부터 설정된 최대값 사이가 아니면 스트림을 열기 전에 {@link CoreException}을 던진다.
+     * 작업은 최대값의 두 배만큼만 후보를 들고 있으므로 그보다 큰 순위는 믿을 수 없어 줄이지 않고 거절한다.
+     */
+    public SseEmitter open(Long analysisId, int topN) {
+        if (topN < 1 || topN > maxTopN) {
+            throw new CoreException(ErrorType.INVALID_REQUEST, "topN은 1 이상 " + maxTopN + " 이하여야 합니다.");
+        }
+        AnalysisJobSnapshot first = logAnalysisService.getJobSnapshot(analysisId, topN);
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Stream stream = new Stream(analysisId, topN, emitter);
+        emitter.onCompletion(stream::stop);
+        emitter.onTimeout(stream::stop);
+        emitter.onError(e -> stream.stop());
+        if (stream.send(first)) {
+            stream.future = scheduler.scheduleAtFixedRate(stream, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private final class Stream implements Runnable {
+
+        private final Long analysisId;
+        private final int topN;
+        private final SseEmitter emitter;
+        private volatile ScheduledFuture<?> future;
+        private volatile boolean stopped;
+
+        private Stream(Long analysisId, int topN, SseEmitter emitter) {
+            this.analysisId = analysisId;
+            this.topN = topN;
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void run() {
+            if (stopped) {
+                stop();
+                return;
+            }
+            try {
+                send(logAnalysisService.getJobSnapshot(analysisId, topN));
+            } catch (CoreException e) {
+                // 보관 기간이 지나 작업이 사라졌다
+                emitter.complete();
+                stop();
+            }
+        }
+
+        // 끝난 작업이면 스트림을 닫고 false를 돌려준다
+        private boolean send(AnalysisJobSnapshot snapshot) {
+            try {
+                emitter.send(SseEmitter.event()
+                    .name(PROGRESS_EVENT)
+                    .data(AnalysisJobSnapshotResponse.from(snapshot)));
+            } catch (IOException e) {
+                log.debug("진행 상황 스트림 전송 실패: analysisId={}", analysisId);
+                stop();
+                return false;
+            }
+            AnalysisJobState state = snapshot.status().state();
+            if (state == AnalysisJobState.COMPLETED || state == AnalysisJobState.FAILED) {
+                emitter.complete();
+                stop();
+                return false;
+            }
+            return true;
+        }
+
+        private void stop() {
+            stopped = true;
+            ScheduledFuture<?> scheduled = future;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+    }
+}
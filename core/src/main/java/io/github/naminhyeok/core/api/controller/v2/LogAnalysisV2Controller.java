@@ -1,17 +1,22 @@
 package io.github.naminhyeok.core.api.controller.v2;
 
 import io.github.naminhyeok.core.api.controller.docs.LogAnalysisControllerV2Docs;
-import io.github.naminhyeok.core.api.controller.v1.response.LogAnalysisResponse;
+import io.github.naminhyeok.core.api.controller.v2.response.AnalysisJobResponse;
+import io.github.naminhyeok.core.application.AnalysisJobStatus;
 import io.github.naminhyeok.core.application.LogAnalysisService;
-import io.github.naminhyeok.core.domain.LogAnalysisAggregate;
+import io.github.naminhyeok.core.domain.counter.CounterMode;
 import io.github.naminhyeok.core.support.response.ApiResponse;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.net.URI;
 
@@ -20,22 +25,43 @@ import java.net.URI;
 public class LogAnalysisV2Controller implements LogAnalysisControllerV2Docs {
 
     private final LogAnalysisService logAnalysisService;
+    private final AnalysisJobEventStreamer analysisJobEventStreamer;
 
-    public LogAnalysisV2Controller(LogAnalysisService logAnalysisService) {
+    public LogAnalysisV2Controller(
+        LogAnalysisService logAnalysisService,
+        AnalysisJobEventStreamer analysisJobEventStreamer
+    ) {
         this.logAnalysisService = logAnalysisService;
+        this.analysisJobEventStreamer = analysisJobEventStreamer;
     }
 
     @Override
     @PostMapping(value = "/v2/analyze", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<ApiResponse<LogAnalysisResponse>> analyze(
-        @RequestPart("file") MultipartFile file
+    public ResponseEntity<ApiResponse<AnalysisJobResponse>> analyze(
+        @RequestPart("file") MultipartFile file,
+        @RequestParam(required = false) CounterMode counterMode
     ) {
-        LogAnalysisAggregate aggregate = logAnalysisService.analyze(file);
-        URI location = URI.create("/api/logs/v1/analysis/" + aggregate.getId());
+        AnalysisJobStatus status = logAnalysisService.submitAnalysis(file, counterMode);
+        URI location = URI.create(AnalysisJobResponse.statusUrl(status.analysisId()));
 
         return ResponseEntity
             .accepted()
             .location(location)
-            .body(ApiResponse.success(LogAnalysisResponse.from(aggregate)));
+            .body(ApiResponse.success(AnalysisJobResponse.from(status)));
+    }
+
+    @Override
+    @GetMapping("/v2/analysis/jobs/{analysisId}")
+    public ApiResponse<AnalysisJobResponse> getJob(@PathVariable Long analysisId) {
+        return ApiResponse.success(AnalysisJobResponse.from(logAnalysisService.getJobStatus(analysisId)));
+    }
+
+    @Override
+    @GetMapping(value = "/v2/analysis/jobs/{analysisId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamJob(
+        @PathVariable Long analysisId,
+        @RequestParam(defaultValue = "10") int topN
+    ) {
+        return analysisJobEventStreamer.open(analysisId, topN);
     }
 }
@@ -0,0 +1,59 @@
+package io.github.naminhyeok.core.api.controller.v2.response;
+
+import io.github.naminhyeok.core.application.AnalysisJobState;
+import io.github.naminhyeok.core.application.AnalysisJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "분석 작업 상태 응답")
+public record AnalysisJobResponse(
+    @Schema(description = "분석 ID (작업 ID와 같으며 완료 후 결과 조회에 사용)", example = "1")
+    Long analysisId,
+    @Schema(description = "작업 상태 (QUEUED, RUNNING, COMPLETED, FAILED)", example = "RUNNING")
+    AnalysisJobState state,
+    @Schema(description = "업로드한 파일 이름", example = "access.csv")
+    String fileName,
+    @Schema(description = "파일 크기 (바이트)", example = "209715200")
+    long totalBytes,
+    @Schema(description = "처리한 바이트 수", example = "73400320")
+    long bytesProcessed,
+    @Schema(description = "처리한 라인 수", example = "412000")
+    long linesProcessed,
+    @Schema(description = "시작 후 평균 초당 처리 라인 수", example = "205000.0")
+    double linesPerSecond,
+    @Schema(description = "예상 남은 시간 (초). 실행 중이 아니거나 추정할 수 없으면 null", example = "4")
+    Long etaSeconds,
+    @Schema(description = "작업 상태 조회 URL", example = "/api/logs/v2/analysis/jobs/1")
+    String statusUrl,
+    @Schema(description = "분석 결과 조회 URL. 완료된 경우에만 제공", example = "/api/logs/v1/analysis/1")
+    String resultUrl,
+    @Schema(description = "실패 시 에러 코드. 실패한 경우에만 제공", example = "E1001")
+    String errorCode,
+    @Schema(description = "실패 시 에러 메시지. 실패한 경우에만 제공", example = "파일을 처리할 수 없습니다.")
+    String errorMessage
+) {
+
+    public static AnalysisJobResponse from(AnalysisJobStatus status) {
+        return new AnalysisJobResponse(
+            status.analysisId(),
+            status.state(),
+            status.fileName(),
+            status.totalBytes(),
+            status.bytesProcessed(),
+            status.linesProcessed(),
+            status.linesPerSecond(),
+            status.etaSeconds(),
+            statusUrl(status.analysisId()),
+            status.state() == AnalysisJobState.COMPLETED ? resultUrl(status.analysisId()) : null,
+            status.error() == null ? null : status.error().getCode().name(),
+            status.error() == null ? null : status.error().getMessage()
+        );
+    }
+
+    public static String statusUrl(Long analysisId) {
+        return "/api/logs/v2/analysis/jobs/" + analysisId;
+    }
+
+    public static String resultUrl(Long analysisId) {
+        return "/api/logs/v1/analysis/" + analysisId;
+    }
+}
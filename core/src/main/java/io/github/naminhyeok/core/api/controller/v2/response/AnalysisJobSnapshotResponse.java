@@ -0,0 +1,35 @@
+package io.github.naminhyeok.core.api.controller.v2.response;
+
+import io.github.naminhyeok.core.api.controller.v1.response.RankedItemResponse;
+import io.github.naminhyeok.core.application.AnalysisJobSnapshot;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "분석 진행 스냅샷 (SSE progress 이벤트 데이터)")
+public record AnalysisJobSnapshotResponse(
+    @Schema(description = "작업 상태")
+    AnalysisJobResponse job,
+    @Schema(description = "지금까지 집계된 요청 수", example = "412000")
+    long requests,
+    @Schema(description = "지금까지 발생한 파싱 오류 수", example = "12")
+    long errors,
+    @Schema(description = "현재 상위 경로 (청크별 후보를 합친 근사치)")
+    List<RankedItemResponse> topPaths,
+    @Schema(description = "현재 상위 IP (청크별 후보를 합친 근사치)")
+    List<RankedItemResponse> topIps,
+    @Schema(description = "현재 상위 상태 코드")
+    List<RankedItemResponse> topStatusCodes
+) {
+
+    public static AnalysisJobSnapshotResponse from(AnalysisJobSnapshot snapshot) {
+        return new AnalysisJobSnapshotResponse(
+            AnalysisJobResponse.from(snapshot.status()),
+            snapshot.requests(),
+            snapshot.errors(),
+            snapshot.topPaths().stream().map(RankedItemResponse::from).toList(),
+            snapshot.topIps().stream().map(RankedItemResponse::from).toList(),
+            snapshot.topStatusCodes().stream().map(RankedItemResponse::from).toList()
+        );
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.naminhyeok.core.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.naminhyeok.core.domain.counter.CounterSpec;
+import io.github.naminhyeok.core.support.error.CoreException;
+import io.github.naminhyeok.core.support.error.ErrorType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 업로드 파일 내용의 SHA-256과 그 파일로 만든 분석 ID를 짝지어 둔다. 같은 파일을 다시 올리면 다시 파싱하지 않고 기존 결과를 돌려주기 위한 것이다.
+ * <p>
+ * 같은 파일이라도 카운터 모드가 다르면 결과가 다르므로 키에 모드를 함께 넣는다. 결과가 보관 기간이 지나 사라졌는지는 여기서 알 수 없으므로
+ * 찾은 ID는 호출하는 쪽에서 저장소로 다시 확인해야 한다. 이 색인은 메모리에만 있어 재시작하면 비어 있다.
+ */
+@Component
+public class AnalysisDigestIndex {
+
+    private static final long MAX_ENTRIES = 10_000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Cache<String, Long> analysisIds = Caffeine.newBuilder()
+        .maximumSize(MAX_ENTRIES)
+        .build();
+
+    /**
+     * 파일을 한 번 끝까지 읽어 내용의 해시와 카운터 모드로 키를 만든다.
+     */
+    public String keyOf(MultipartFile file, CounterSpec counterSpec) {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = file.getInputStream()) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new CoreException(ErrorType.FILE_READ_ERROR);
+        }
+        return counterSpec.mode() + ":" + HexFormat.of().formatHex(digest.digest());
+    }
+
+    public Optional<Long> find(String key) {
+        return Optional.ofNullable(analysisIds.getIfPresent(key));
+    }
+
+    public void register(String key, Long analysisId) {
+        analysisIds.put(key, analysisId);
+    }
+
+    /**
+     * 로그를 이어 붙여 더 이상 원래 파일의 결과가 아닌 분석 ID를 색인에서 뺀다.
+     */
+    public void forget(Long analysisId) {
+        analysisIds.asMap().values().removeIf(analysisId::equals);
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM이 SHA-256을 제공해야 하므로 일어나지 않는다
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.naminhyeok.core.application;
+
+import io.github.naminhyeok.core.domain.PartialAggregate;
+import io.github.naminhyeok.core.support.error.ErrorType;
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 접수된 분석 작업 하나. 작업 스레드가 상태를 바꾸고 요청 스레드가 {@link #status(long)}로 읽으므로 상태 필드는 모두 volatile이다.
+ * 작업 ID는 저장소에서 미리 예약한 분석 ID와 같아 완료되면 같은 ID로 결과를 조회할 수 있다.
+ */
+public class AnalysisJob {
+
+    @Getter
+    private final Long analysisId;
+    @Getter
+    private final String fileName;
+    private final long totalBytes;
+    @Getter
+    private final IngestProgress progress;
+    private volatile AnalysisJobState state = AnalysisJobState.QUEUED;
+    private volatile long startedNanos;
+    private volatile long finishedNanos;
+    private volatile ErrorType error;
+
+    public AnalysisJob(Long analysisId, String fileName, long totalBytes) {
+        this(analysisId, fileName, totalBytes, new IngestProgress());
+    }
+
+    public AnalysisJob(Long analysisId, String fileName, long totalBytes, IngestProgress progress) {
+        this.analysisId = analysisId;
+        this.fileName = fileName;
+        this.totalBytes = totalBytes;
+        this.progress = progress;
+    }
+
+    void start(long nowNanos) {
+        startedNanos = nowNanos;
+        state = AnalysisJobState.RUNNING;
+    }
+
+    void complete(long nowNanos) {
+        finishedNanos = nowNanos;
+        state = AnalysisJobState.COMPLETED;
+    }
+
+    void fail(ErrorType errorType, long nowNanos) {
+        finishedNanos = nowNanos;
+        error = errorType;
+        state = AnalysisJobState.FAILED;
+    }
+
+    public AnalysisJobState getState() {
+        return state;
+    }
+
+    public AnalysisJobStatus status(long nowNanos) {
+        AnalysisJobState current = state;
+        long lines = progress.lines();
+        // 헤더 라인과 줄바꿈 근사 때문에 센 바이트가 파일 크기와 다를 수 있어, 완료되면 파일 크기로 맞추고 그 전에는 넘지 않게 한다
+        long bytes = current == AnalysisJobState.COMPLETED ? totalBytes : Math.min(progress.bytes(), totalBytes);
+
+        double linesPerSecond = 0.0;
+        Long etaSeconds = null;
+        if (current != AnalysisJobState.QUEUED) {
+            long end = current == AnalysisJobState.RUNNING ? nowNanos : finishedNanos;
+            double elapsedSeconds = (end - startedNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+            if (elapsedSeconds > 0) {
+                linesPerSecond = lines / elapsedSeconds;
+                if (current == AnalysisJobState.RUNNING && bytes > 0) {
+                    etaSeconds = Math.round((totalBytes - bytes) / (bytes / elapsedSeconds));
+                }
+            }
+        }
+        return new AnalysisJobStatus(
+            analysisId, current, fileName, totalBytes, bytes, lines, linesPerSecond, etaSeconds, error
+        );
+    }
+
+    /**
+     * 상태와 함께 파싱 중인 집계의 상위 {@code topN}개 경로, IP, 상태 코드를 담는다. 파싱 스레드가 마지막으로 넘긴 스냅샷을 합칠 뿐
+     * 카운터를 읽지 않으므로 분석을 멈추지 않는다.
+     */
+    public AnalysisJobSnapshot snapshot(long nowNanos, int topN) {
+        AnalysisJobStatus status = status(nowNanos);
+        PartialAggregate partial = progress.partial();
+        return new AnalysisJobSnapshot(
+            status,
+            partial.requests(),
+            partial.errors(),
+            partial.topPaths(topN),
+            partial.topIps(topN),
+            partial.topStatusCodes(topN)
+        );
+    }
+}
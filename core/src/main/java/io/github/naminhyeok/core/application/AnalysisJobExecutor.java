@@ -0,0 +1,132 @@
+package io.github.naminhyeok.core.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.naminhyeok.core.domain.counter.CounterMode;
+import io.github.naminhyeok.core.support.config.AnalysisJobProperties;
+import io.github.naminhyeok.core.support.error.CoreException;
+import io.github.naminhyeok.core.support.error.ErrorType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드된 파일을 임시 파일로 내려받은 뒤 제한된 크기의 스레드 풀에서 분석한다. 요청 스레드는 내려받기까지만 하고 바로 반환되므로
+ * 큰 파일도 짧은 HTTP 타임아웃 안에 접수된다. 실행 중인 작업과 대기열이 모두 차면 {@link ErrorType#ANALYSIS_QUEUE_FULL}로 거절한다.
+ */
+@Slf4j
+@Component
+public class AnalysisJobExecutor {
+
+    private static final long MAX_TRACKED_JOBS = 10_000;
+
+    private final LogAnalyzer logAnalyzer;
+    private final ThreadPoolExecutor executor;
+    private final Cache<Long, AnalysisJob> jobs;
+    private final int liveTopCapacity;
+
+    public AnalysisJobExecutor(LogAnalyzer logAnalyzer, AnalysisJobProperties properties) {
+        this.logAnalyzer = logAnalyzer;
+        // 청크별 후보를 합칠 때 한 청크에서만 상위권 밖이던 키를 놓치지 않도록 보여줄 개수의 두 배를 추적한다
+        this.liveTopCapacity = properties.liveTopN() * 2;
+        this.executor = new ThreadPoolExecutor(
+            properties.workers(),
+            properties.workers(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.queueCapacity()),
+            Thread.ofPlatform().name("analysis-job-", 0).daemon(true).factory()
+        );
+        this.jobs = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_JOBS)
+            .expireAfterWrite(Duration.ofMinutes(properties.retentionMinutes()))
+            .build();
+    }
+
+    public AnalysisJob submit(MultipartFile file, CounterMode counterMode) {
+        Path spooled = spool(file);
+        AnalysisJob job = new AnalysisJob(
+            logAnalyzer.reserveId(),
+            file.getOriginalFilename(),
+            file.getSize(),
+            new IngestProgress(liveTopCapacity)
+        );
+        jobs.put(job.getAnalysisId(), job);
+        try {
+            executor.execute(() -> run(job, spooled, counterMode));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.getAnalysisId());
+            deleteQuietly(spooled);
+            throw new CoreException(ErrorType.ANALYSIS_QUEUE_FULL);
+        }
+        log.info("분석 작업 접수: analysisId={}, fileName={}, size={} bytes, queued={}",
+            job.getAnalysisId(), job.getFileName(), file.getSize(), executor.getQueue().size());
+        return job;
+    }
+
+    public AnalysisJob find(Long analysisId) {
+        AnalysisJob job = jobs.getIfPresent(analysisId);
+        if (job == null) {
+            throw new CoreException(ErrorType.ANALYSIS_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    private void run(AnalysisJob job, Path spooled, CounterMode counterMode) {
+        job.start(System.nanoTime());
+        try {
+            logAnalyzer.analyze(spooled, job.getFileName(), counterMode, job.getAnalysisId(), job.getProgress());
+            job.complete(System.nanoTime());
+        } catch (CoreException e) {
+            log.warn("분석 작업 실패: analysisId={}, error={}", job.getAnalysisId(), e.getErrorType());
+            job.fail(e.getErrorType(), System.nanoTime());
+        } catch (RuntimeException e) {
+            log.error("분석 작업 실패: analysisId={}", job.getAnalysisId(), e);
+            job.fail(ErrorType.DEFAULT_ERROR, System.nanoTime());
+        } catch (Error e) {
+            // OOM 등으로 작업이 RUNNING에 영원히 머물지 않도록 상태를 남기고 다시 던진다
+            job.fail(ErrorType.DEFAULT_ERROR, System.nanoTime());
+            throw e;
+        } finally {
+            deleteQuietly(spooled);
+        }
+    }
+
+    private Path spool(MultipartFile file) {
+        Path spooled = null;
+        try {
+            spooled = Files.createTempFile("analysis-job-", ".csv");
+            file.transferTo(spooled);
+            return spooled;
+        } catch (IOException e) {
+            deleteQuietly(spooled);
+            throw new CoreException(ErrorType.FILE_READ_ERROR);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
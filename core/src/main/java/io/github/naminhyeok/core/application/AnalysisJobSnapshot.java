@@ -0,0 +1,19 @@
+package io.github.naminhyeok.core.application;
+
+import io.github.naminhyeok.core.domain.RankedItem;
+
+import java.util.List;
+
+/**
+ * 작업 상태와 분석 도중의 부분 집계. 요청 수와 오류 수는 파싱 스레드가 마지막으로 스냅샷을 넘긴 시점의 값이라
+ * {@code status}의 처리 라인 수보다 조금 뒤처질 수 있고, 상위 항목은 청크별 후보를 합친 근사치다.
+ */
+public record AnalysisJobSnapshot(
+    AnalysisJobStatus status,
+    long requests,
+    long errors,
+    List<RankedItem> topPaths,
+    List<RankedItem> topIps,
+    List<RankedItem> topStatusCodes
+) {
+}
@@ -0,0 +1,8 @@
+package io.github.naminhyeok.core.application;
+
+public enum AnalysisJobState {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
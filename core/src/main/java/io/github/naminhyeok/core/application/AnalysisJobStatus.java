@@ -0,0 +1,20 @@
+package io.github.naminhyeok.core.application;
+
+import io.github.naminhyeok.core.support.error.ErrorType;
+
+/**
+ * 조회 시점의 작업 상태. {@code linesPerSecond}는 시작 후 평균 처리 속도이고, {@code etaSeconds}는 그 속도로 남은 바이트를 처리하는 데
+ * 걸릴 예상 시간으로 실행 중이 아니거나 아직 추정할 수 없으면 {@code null}이다. {@code error}는 실패했을 때만 있다.
+ */
+public record AnalysisJobStatus(
+    Long analysisId,
+    AnalysisJobState state,
+    String fileName,
+    long totalBytes,
+    long bytesProcessed,
+    long linesProcessed,
+    double linesPerSecond,
+    Long etaSeconds,
+    ErrorType error
+) {
+}
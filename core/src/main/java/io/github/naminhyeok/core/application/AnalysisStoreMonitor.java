@@ -0,0 +1,22 @@
+package io.github.naminhyeok.core.application;
+
+import io.github.naminhyeok.core.domain.AnalysisStoreStats;
+import io.github.naminhyeok.core.domain.LogAnalysisAggregateRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * 운영자가 저장소의 메모리 점유량과 축출 추세를 볼 수 있도록 저장소 통계를 읽어 준다.
+ */
+@Component
+public class AnalysisStoreMonitor {
+
+    private final LogAnalysisAggregateRepository repository;
+
+    public AnalysisStoreMonitor(LogAnalysisAggregateRepository repository) {
+        this.repository = repository;
+    }
+
+    public AnalysisStoreStats stats() {
+        return repository.stats();
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.naminhyeok.core.application;
+
+import io.github.naminhyeok.core.domain.LogStreamAggregator;
+import io.github.naminhyeok.core.domain.PartialAggregate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 파싱한 행 수와 바이트 수. 병렬 파싱 스레드들이 동시에 더하고 다른 스레드가 읽으므로 {@link LongAdder}로 센다.
+ * 바이트 수는 행마다 줄바꿈 한 바이트를 더한 근사치라 CRLF 파일에서는 실제보다 조금 작다.
+ * <p>
+ * {@code liveTopCapacity}를 주면 파싱 중인 집계기마다 상위 경로와 IP 후보를 유지하게 하고, {@link #partial()}로 그 스냅샷들을 합쳐 본다.
+ */
+public final class IngestProgress {
+
+    private final LongAdder lines = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final int liveTopCapacity;
+    private final List<AtomicReference<PartialAggregate>> partials = new CopyOnWriteArrayList<>();
+
+    public IngestProgress() {
+        this(0);
+    }
+
+    public IngestProgress(int liveTopCapacity) {
+        this.liveTopCapacity = liveTopCapacity;
+    }
+
+    void recordLine(int lineBytes) {
+        lines.increment();
+        bytes.add(lineBytes + 1L);
+    }
+
+    // 파싱을 시작하기 전에 집계기마다 스냅샷 자리를 하나씩 만든다. 청크 수만큼만 불리므로 쓰기 시 복사 리스트로 충분하다
+    void track(LogStreamAggregator aggregator) {
+        if (liveTopCapacity <= 0) {
+            return;
+        }
+        AtomicReference<PartialAggregate> slot = new AtomicReference<>(PartialAggregate.EMPTY);
+        partials.add(slot);
+        aggregator.trackLive(liveTopCapacity, slot::set);
+    }
+
+    public long lines() {
+        return lines.sum();
+    }
+
+    public long bytes() {
+        return bytes.sum();
+    }
+
+    /**
+     * 집계기들이 마지막으로 넘긴 스냅샷의 합. 파싱 스레드를 기다리지 않으므로 최대 한 게시 주기만큼 뒤처질 수 있다.
+     */
+    public PartialAggregate partial() {
+        PartialAggregate partial = PartialAggregate.EMPTY;
+        for (AtomicReference<PartialAggregate> slot : partials) {
+            partial = partial.plus(slot.get());
+        }
+        return partial;
+    }
+}
@@ -17,6 +17,8 @@ public class LogAnalysisFinder {
 
     public LogAnalysisAggregate find(Long analysisId) {
         return repository.findById(analysisId)
-            .orElseThrow(() -> new CoreException(ErrorType.ANALYSIS_NOT_FOUND));
+            .orElseThrow(() -> new CoreException(
+                repository.isExpired(analysisId) ? ErrorType.ANALYSIS_EXPIRED : ErrorType.ANALYSIS_NOT_FOUND
+            ));
     }
 }
@@ -2,6 +2,10 @@ package io.github.naminhyeok.core.application;
 
 import io.github.naminhyeok.core.domain.LogAnalysisAggregate;
 import io.github.naminhyeok.core.domain.LogAnalysisResult;
+import io.github.naminhyeok.core.domain.RankingCursor;
+import io.github.naminhyeok.core.domain.RankingDimension;
+import io.github.naminhyeok.core.domain.RankingPage;
+import io.github.naminhyeok.core.domain.counter.CounterMode;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -11,25 +15,65 @@ public class LogAnalysisService {
     private final LogAnalyzer logAnalyzer;
     private final LogAnalysisFinder logAnalysisFinder;
     private final LogAnalysisEnricher logAnalysisEnricher;
+    private final AnalysisJobExecutor analysisJobExecutor;
+    private final LogAppender logAppender;
 
     public LogAnalysisService(
         LogAnalyzer logAnalyzer,
         LogAnalysisFinder logAnalysisFinder,
-        LogAnalysisEnricher logAnalysisEnricher
+        LogAnalysisEnricher logAnalysisEnricher,
+        AnalysisJobExecutor analysisJobExecutor,
+        LogAppender logAppender
     ) {
         this.logAnalyzer = logAnalyzer;
         this.logAnalysisFinder = logAnalysisFinder;
         this.logAnalysisEnricher = logAnalysisEnricher;
+        this.analysisJobExecutor = analysisJobExecutor;
+        this.logAppender = logAppender;
     }
 
     public LogAnalysisAggregate analyze(MultipartFile file) {
         return logAnalyzer.analyze(file);
     }
 
+    public LogAnalysisAggregate analyze(MultipartFile file, CounterMode counterMode) {
+        return logAnalyzer.analyze(file, counterMode);
+    }
+
+    public LogAnalyzer.AnalyzeResult analyze(MultipartFile file, CounterMode counterMode, boolean force) {
+        return logAnalyzer.analyze(file, counterMode, force);
+    }
+
+    /**
+     * 파일을 내려받아 분석 작업으로 접수하고 바로 반환한다. 결과는 작업이 완료된 뒤 같은 ID로 조회한다.
+     */
+    public AnalysisJobStatus submitAnalysis(MultipartFile file, CounterMode counterMode) {
+        return analysisJobExecutor.submit(file, counterMode).status(System.nanoTime());
+    }
+
+    public AnalysisJobStatus getJobStatus(Long analysisId) {
+        return analysisJobExecutor.find(analysisId).status(System.nanoTime());
+    }
+
+    public AnalysisJobSnapshot getJobSnapshot(Long analysisId, int topN) {
+        return analysisJobExecutor.find(analysisId).snapshot(System.nanoTime(), topN);
+    }
+
+    /**
+     * 기존 분석 결과에 새 로그 파일의 행을 이어 붙인다.
+     */
+    public LogAppender.AppendResult append(Long analysisId, MultipartFile file) {
+        return logAppender.append(analysisId, file);
+    }
+
     public LogAnalysisAggregate getAnalysis(Long analysisId) {
         return logAnalysisFinder.find(analysisId);
     }
 
+    public RankingPage getRankingPage(Long analysisId, RankingDimension dimension, RankingCursor after, int size) {
+        return logAnalysisFinder.find(analysisId).getRankingPage(dimension, after, size);
+    }
+
     public LogAnalysisResult getAnalysisResult(Long analysisId, int topN) {
         LogAnalysisAggregate aggregate = logAnalysisFinder.find(analysisId);
         return logAnalysisEnricher.enrich(aggregate, topN);
@@ -1,21 +1,19 @@
 package io.github.naminhyeok.core.application;
 
-import io.github.naminhyeok.core.domain.AccessLog;
 import io.github.naminhyeok.core.domain.LogAnalysisAggregate;
 import io.github.naminhyeok.core.domain.LogAnalysisAggregateRepository;
 import io.github.naminhyeok.core.domain.LogStreamAggregator;
 import io.github.naminhyeok.core.domain.RankedItem;
-import io.github.naminhyeok.core.support.error.CoreException;
-import io.github.naminhyeok.core.support.error.ErrorType;
-import io.github.naminhyeok.core.support.parser.CsvParser;
-import io.github.naminhyeok.core.support.parser.CsvRow;
+import io.github.naminhyeok.core.domain.counter.CounterMode;
+import io.github.naminhyeok.core.domain.counter.CounterSpec;
+import io.github.naminhyeok.core.support.config.CounterProperties;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -25,30 +23,85 @@ public class LogAnalyzer {
 
     private final LogAnalysisAggregateRepository repository;
     private final PendingQueue<String> pendingIpQueue;
-
-    public LogAnalyzer(LogAnalysisAggregateRepository repository, PendingQueue<String> pendingIpQueue) {
+    private final LogIngestor logIngestor;
+    private final CounterProperties counterProperties;
+    private final AnalysisDigestIndex digestIndex;
+
+    public LogAnalyzer(
+        LogAnalysisAggregateRepository repository,
+        PendingQueue<String> pendingIpQueue,
+        LogIngestor logIngestor,
+        CounterProperties counterProperties,
+        AnalysisDigestIndex digestIndex
+    ) {
         this.repository = repository;
         this.pendingIpQueue = pendingIpQueue;
+        this.logIngestor = logIngestor;
+        this.counterProperties = counterProperties;
+        this.digestIndex = digestIndex;
     }
 
     public LogAnalysisAggregate analyze(MultipartFile file) {
-        log.info("로그 분석 시작: fileName={}, size={} bytes", file.getOriginalFilename(), file.getSize());
+        return analyze(file, null);
+    }
+
+    /**
+     * {@code counterMode}가 {@code null}이면 설정된 카운터 모드로 분석한다.
+     */
+    public LogAnalysisAggregate analyze(MultipartFile file, CounterMode counterMode) {
+        CounterSpec counterSpec = counterProperties.resolve(counterMode);
+        log.info("로그 분석 시작: fileName={}, size={} bytes, counterMode={}",
+            file.getOriginalFilename(), file.getSize(), counterSpec.mode());
         long startTime = System.currentTimeMillis();
 
-        LogStreamAggregator aggregator = new LogStreamAggregator();
-        AtomicInteger lineNumber = new AtomicInteger(1);
+        LogStreamAggregator aggregator = logIngestor.ingest(file, counterSpec);
+        return complete(aggregator.finish(), startTime);
+    }
 
-        try {
-            CsvParser.parse(file.getInputStream(), stream ->
-                stream.forEach(row -> processRow(row, aggregator, lineNumber))
-            );
-        } catch (IOException e) {
-            throw new CoreException(ErrorType.FILE_READ_ERROR);
+    /**
+     * 같은 내용의 파일을 같은 카운터 모드로 분석한 결과가 아직 보관되어 있으면 파싱하지 않고 그 결과를 돌려준다.
+     * {@code force}가 {@code true}이면 항상 새로 분석하고, 이후 같은 파일은 새 결과로 이어진다.
+     */
+    public AnalyzeResult analyze(MultipartFile file, CounterMode counterMode, boolean force) {
+        CounterSpec counterSpec = counterProperties.resolve(counterMode);
+        String digestKey = digestIndex.keyOf(file, counterSpec);
+        if (!force) {
+            Optional<LogAnalysisAggregate> existing = digestIndex.find(digestKey).flatMap(repository::findById);
+            if (existing.isPresent()) {
+                log.info("중복 업로드: fileName={}, analysisId={}", file.getOriginalFilename(), existing.get().getId());
+                return new AnalyzeResult(existing.get(), true);
+            }
         }
 
-        LogAnalysisAggregate aggregate = aggregator.finish();
-        LogAnalysisAggregate savedAggregate = repository.save(aggregate);
+        LogAnalysisAggregate aggregate = analyze(file, counterMode);
+        digestIndex.register(digestKey, aggregate.getId());
+        return new AnalyzeResult(aggregate, false);
+    }
+
+    public Long reserveId() {
+        return repository.reserveId();
+    }
 
+    /**
+     * 디스크에 내려받아 둔 파일을 {@link #reserveId()}로 미리 받은 ID로 분석해 저장한다. 진행 상황은 {@code progress}에 쌓인다.
+     */
+    public LogAnalysisAggregate analyze(
+        Path path,
+        String fileName,
+        CounterMode counterMode,
+        Long analysisId,
+        IngestProgress progress
+    ) {
+        CounterSpec counterSpec = counterProperties.resolve(counterMode);
+        log.info("로그 분석 시작: analysisId={}, fileName={}, counterMode={}", analysisId, fileName, counterSpec.mode());
+        long startTime = System.currentTimeMillis();
+
+        LogStreamAggregator aggregator = logIngestor.ingest(path, counterSpec, progress);
+        return complete(aggregator.finish().withId(analysisId), startTime);
+    }
+
+    private LogAnalysisAggregate complete(LogAnalysisAggregate aggregate, long startTime) {
+        LogAnalysisAggregate savedAggregate = repository.save(aggregate);
         preloadTopIps(savedAggregate);
         logCompletion(savedAggregate, startTime);
         return savedAggregate;
@@ -64,16 +117,6 @@ public class LogAnalyzer {
         log.debug("Top {} IPs queued for preload: {} added", TOP_IP_PRELOAD_COUNT, addedCount);
     }
 
-    private void processRow(CsvRow row, LogStreamAggregator aggregator, AtomicInteger lineNumber) {
-        int currentLine = lineNumber.incrementAndGet();
-        try {
-            AccessLog accessLog = AccessLog.from(row);
-            aggregator.accumulate(accessLog);
-        } catch (CoreException e) {
-            aggregator.recordError(currentLine, toRawLine(row), e.getMessage());
-        }
-    }
-
     private void logCompletion(LogAnalysisAggregate aggregate, long startTime) {
         long elapsedTime = System.currentTimeMillis() - startTime;
         log.info("로그 분석 완료: analysisId={}, totalRequests={}, parseErrors={}, elapsedTime={}ms",
@@ -84,12 +127,9 @@ public class LogAnalyzer {
         }
     }
 
-    private String toRawLine(CsvRow row) {
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < row.size(); i++) {
-            if (i > 0) sb.append(",");
-            sb.append(row.get(i));
-        }
-        return sb.toString();
+    public record AnalyzeResult(
+        LogAnalysisAggregate aggregate,
+        boolean deduplicated
+    ) {
     }
 }
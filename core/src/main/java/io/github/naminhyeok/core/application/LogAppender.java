@@ -0,0 +1,103 @@
+package io.github.naminhyeok.core.application;
+
+import io.github.naminhyeok.core.domain.LogAnalysisAggregate;
+import io.github.naminhyeok.core.domain.LogAnalysisAggregateRepository;
+import io.github.naminhyeok.core.domain.LogStreamAggregator;
+import io.github.naminhyeok.core.domain.counter.CounterMode;
+import io.github.naminhyeok.core.domain.counter.CounterSpec;
+import io.github.naminhyeok.core.support.config.CounterProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 기존 분석 결과에 새로 쌓인 로그를 이어 붙인다. 새 파일만 파싱해 저장된 카운터에 병합하므로 비용은 새 데이터 크기에만 비례한다.
+ * <p>
+ * 파싱은 잠금 없이 하고, 병합과 저장만 ID별 잠금 안에서 한다. 같은 ID에 대한 추가는 차례로 반영되어 오류 라인 번호가 겹치지 않는다.
+ * 잠금은 ID를 고정된 수의 줄무늬로 나눠 쓰므로 분석 결과 수와 관계없이 메모리가 일정하다.
+ */
+@Slf4j
+@Component
+public class LogAppender {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final LogAnalysisFinder logAnalysisFinder;
+    private final LogAnalysisAggregateRepository repository;
+    private final LogIngestor logIngestor;
+    private final CounterProperties counterProperties;
+    private final AnalysisDigestIndex digestIndex;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public LogAppender(
+        LogAnalysisFinder logAnalysisFinder,
+        LogAnalysisAggregateRepository repository,
+        LogIngestor logIngestor,
+        CounterProperties counterProperties,
+        AnalysisDigestIndex digestIndex
+    ) {
+        this.logAnalysisFinder = logAnalysisFinder;
+        this.repository = repository;
+        this.logIngestor = logIngestor;
+        this.counterProperties = counterProperties;
+        this.digestIndex = digestIndex;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * {@code file}은 분석할 때와 같은 형식의 CSV이며 첫 줄은 헤더로 건너뛴다. 결과가 없거나 만료되었으면 파싱하기 전에 실패한다.
+     */
+    public AppendResult append(Long analysisId, MultipartFile file) {
+        CounterMode mode = logAnalysisFinder.find(analysisId).isApproximate() ? CounterMode.APPROXIMATE : CounterMode.EXACT;
+        CounterSpec counterSpec = counterProperties.resolve(mode);
+        log.info("로그 추가 시작: analysisId={}, fileName={}, size={} bytes",
+            analysisId, file.getOriginalFilename(), file.getSize());
+        long startTime = System.currentTimeMillis();
+
+        LogStreamAggregator chunk = logIngestor.ingest(file, counterSpec);
+
+        ReentrantLock lock = lockFor(analysisId);
+        lock.lock();
+        try {
+            // 파싱하는 동안 다른 추가가 저장했을 수 있으므로 잠금 안에서 다시 읽는다
+            LogAnalysisAggregate aggregate = logAnalysisFinder.find(analysisId);
+            long requestsBefore = aggregate.getTotalRequests();
+            int errorsBefore = aggregate.getParseErrorCount();
+            aggregate.append(chunk);
+            repository.save(aggregate);
+            // 원래 파일과 내용이 달라졌으므로 같은 파일을 다시 올려도 이 결과를 돌려주지 않는다
+            digestIndex.forget(analysisId);
+
+            AppendResult result = new AppendResult(
+                analysisId,
+                aggregate.getTotalRequests() - requestsBefore,
+                aggregate.getParseErrorCount() - errorsBefore,
+                aggregate.getTotalRequests(),
+                aggregate.getParseErrorCount()
+            );
+            log.info("로그 추가 완료: analysisId={}, appendedRequests={}, appendedErrors={}, totalRequests={}, elapsedTime={}ms",
+                analysisId, result.appendedRequests(), result.appendedErrors(), result.totalRequests(),
+                System.currentTimeMillis() - startTime);
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock lockFor(Long analysisId) {
+        return locks[Math.floorMod(analysisId.hashCode(), LOCK_STRIPES)];
+    }
+
+    public record AppendResult(
+        Long analysisId,
+        long appendedRequests,
+        int appendedErrors,
+        long totalRequests,
+        int totalErrors
+    ) {
+    }
+}
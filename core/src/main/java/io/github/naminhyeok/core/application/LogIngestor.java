@@ -0,0 +1,263 @@
+package io.github.naminhyeok.core.application;
+
+import io.github.naminhyeok.core.domain.AccessLog;
+import io.github.naminhyeok.core.domain.AccessLogParser;
+import io.github.naminhyeok.core.domain.LogStreamAggregator;
+import io.github.naminhyeok.core.domain.ParseErrorReason;
+import io.github.naminhyeok.core.domain.ParseOutcome;
+import io.github.naminhyeok.core.domain.counter.CounterSpec;
+import io.github.naminhyeok.core.support.config.LogIngestProperties;
+import io.github.naminhyeok.core.support.error.CoreException;
+import io.github.naminhyeok.core.support.error.ErrorType;
+import io.github.naminhyeok.core.support.parser.CsvParser;
+import io.github.naminhyeok.core.support.parser.CsvRow;
+import io.github.naminhyeok.core.support.parser.MappedCsvFile;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+public class LogIngestor {
+
+    private static final int HEADER_LINE_NUMBER = 1;
+
+    private final LogIngestProperties properties;
+    private final ExecutorService executor;
+
+    public LogIngestor(LogIngestProperties properties) {
+        this.properties = properties;
+        this.executor = Executors.newFixedThreadPool(
+            properties.parallelism(),
+            Thread.ofPlatform().name("log-ingest-", 0).daemon(true).factory()
+        );
+    }
+
+    public LogStreamAggregator ingest(MultipartFile file) {
+        return ingest(file, CounterSpec.exact());
+    }
+
+    public LogStreamAggregator ingest(MultipartFile file, CounterSpec counterSpec) {
+        if (file.getSize() < properties.parallelThresholdBytes()) {
+            try {
+                return ingest(file.getInputStream(), counterSpec);
+            } catch (IOException e) {
+                throw new CoreException(ErrorType.FILE_READ_ERROR);
+            }
+        }
+
+        Path spooled = null;
+        try {
+            spooled = Files.createTempFile("log-ingest-", ".csv");
+            file.transferTo(spooled);
+            return ingest(spooled, counterSpec);
+        } catch (IOException e) {
+            throw new CoreException(ErrorType.FILE_READ_ERROR);
+        } finally {
+            deleteQuietly(spooled);
+        }
+    }
+
+    public LogStreamAggregator ingest(InputStream inputStream) {
+        return ingest(inputStream, CounterSpec.exact());
+    }
+
+    public LogStreamAggregator ingest(InputStream inputStream, CounterSpec counterSpec) {
+        LogStreamAggregator aggregator = new LogStreamAggregator(counterSpec);
+        RowContext context = new RowContext(aggregator, new IngestProgress());
+        CsvParser.forEachRow(inputStream, row -> processRow(row, aggregator, context));
+        return aggregator;
+    }
+
+    public LogStreamAggregator ingest(Path path) {
+        return ingest(path, CounterSpec.exact());
+    }
+
+    public LogStreamAggregator ingest(Path path, CounterSpec counterSpec) {
+        return ingest(path, counterSpec, new IngestProgress());
+    }
+
+    /**
+     * 파싱하면서 {@code progress}에 처리한 행과 바이트를 더한다. 다른 스레드에서 진행률을 읽을 수 있다.
+     * <p>
+     * 한 청크라도 실패하거나 호출 스레드가 인터럽트되면 나머지 청크를 멈추고, 모든 청크 작업이 파일에서 손을 뗀 뒤에 매핑을 닫는다.
+     */
+    public LogStreamAggregator ingest(Path path, CounterSpec counterSpec, IngestProgress progress) {
+        try (MappedCsvFile file = MappedCsvFile.open(path)) {
+            List<MappedCsvFile.Chunk> chunks = file.split(properties.parallelism());
+            if (chunks.isEmpty()) {
+                return new LogStreamAggregator(counterSpec);
+            }
+            log.debug("병렬 파싱 시작: path={}, size={} bytes, chunks={}", path, file.size(), chunks.size());
+
+            AtomicBoolean aborted = new AtomicBoolean();
+            List<ChunkTask> tasks = new ArrayList<>(chunks.size());
+            List<Future<ChunkResult>> futures = new ArrayList<>(chunks.size());
+            for (MappedCsvFile.Chunk chunk : chunks) {
+                ChunkTask task = new ChunkTask(() -> ingestChunk(file, chunk, counterSpec, progress, aborted));
+                tasks.add(task);
+                futures.add(executor.submit(task));
+            }
+            return mergeInOrder(tasks, futures, aborted);
+        } catch (IOException e) {
+            throw new CoreException(ErrorType.FILE_READ_ERROR);
+        }
+    }
+
+    private ChunkResult ingestChunk(
+        MappedCsvFile file,
+        MappedCsvFile.Chunk chunk,
+        CounterSpec counterSpec,
+        IngestProgress progress,
+        AtomicBoolean aborted
+    ) {
+        LogStreamAggregator aggregator = new LogStreamAggregator(counterSpec);
+        progress.track(aggregator);
+        RowContext context = new RowContext(aggregator, progress);
+        file.forEachRow(chunk, row -> {
+            if (aborted.get()) {
+                throw new CancellationException();
+            }
+            processRow(row, aggregator, context);
+        });
+        aggregator.publishLive();
+        return new ChunkResult(aggregator, context.rows);
+    }
+
+    // 청크마다 1번 라인부터 번호를 매기므로, 앞선 청크들의 행 수만큼 밀어 순차 파싱과 같은 라인 번호로 맞춘 뒤 병합한다
+    private LogStreamAggregator mergeInOrder(
+        List<ChunkTask> tasks,
+        List<Future<ChunkResult>> futures,
+        AtomicBoolean aborted
+    ) {
+        List<LogStreamAggregator> partials = new ArrayList<>(futures.size());
+        int rowsBefore = 0;
+        boolean completed = false;
+        try {
+            for (Future<ChunkResult> future : futures) {
+                ChunkResult result = future.get();
+                result.aggregator().shiftErrorLineNumbers(rowsBefore);
+                partials.add(result.aggregator());
+                rowsBefore += result.rows();
+            }
+            completed = true;
+            return LogStreamAggregator.mergeAll(partials);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreException(ErrorType.FILE_READ_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CoreException coreException) {
+                throw coreException;
+            }
+            throw new CoreException(ErrorType.FILE_READ_ERROR);
+        } finally {
+            if (!completed) {
+                // Future.cancel은 실행 중인 작업을 기다리지 않으므로, 멈추라고 알린 뒤 각 작업이 끝났는지 직접 확인한다
+                aborted.set(true);
+                tasks.forEach(ChunkTask::preventOrAwait);
+            }
+        }
+    }
+
+    private void processRow(CsvRow row, LogStreamAggregator aggregator, RowContext context) {
+        int currentLine = HEADER_LINE_NUMBER + ++context.rows;
+        context.progress.recordLine(row.lineLength());
+        switch (context.parser.parse(row)) {
+            case ParseOutcome.Parsed(AccessLog accessLog) -> aggregator.accumulate(accessLog);
+            case ParseOutcome.Rejected(ParseErrorReason reason) ->
+                aggregator.recordError(currentLine, row.rawLine(), reason);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 파싱 스레드마다 하나씩 두는 상태. parser의 타임스탬프 캐시는 스레드 간에 공유하지 않는다
+    private static final class RowContext {
+        private final AccessLogParser parser;
+        private final IngestProgress progress;
+        private int rows;
+
+        private RowContext(LogStreamAggregator aggregator, IngestProgress progress) {
+            this.parser = new AccessLogParser(aggregator.requiredFields());
+            this.progress = progress;
+        }
+    }
+
+    /**
+     * 청크 하나를 읽는 작업. 호출 스레드가 파일을 닫기 전에 이 작업이 매핑을 더 읽지 않는다는 것을 확인할 수 있도록,
+     * 시작하려면 먼저 선점해야 하고 끝나면 그 사실을 알린다.
+     */
+    private static final class ChunkTask implements Callable<ChunkResult> {
+        private final Callable<ChunkResult> work;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CountDownLatch finished = new CountDownLatch(1);
+
+        private ChunkTask(Callable<ChunkResult> work) {
+            this.work = work;
+        }
+
+        @Override
+        public ChunkResult call() throws Exception {
+            if (!claimed.compareAndSet(false, true)) {
+                throw new CancellationException();
+            }
+            try {
+                return work.call();
+            } finally {
+                finished.countDown();
+            }
+        }
+
+        // 아직 시작하지 않았으면 시작하지 못하게 막고, 이미 시작했으면 끝날 때까지 인터럽트를 무시하고 기다린다
+        private void preventOrAwait() {
+            if (claimed.compareAndSet(false, true)) {
+                return;
+            }
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    finished.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private record ChunkResult(LogStreamAggregator aggregator, int rows) {
+    }
+}
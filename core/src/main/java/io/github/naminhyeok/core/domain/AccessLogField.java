@@ -0,0 +1,31 @@
+package io.github.naminhyeok.core.domain;
+
+import lombok.Getter;
+
+/**
+ * 액세스 로그 CSV의 컬럼. 집계기는 필요한 컬럼을 이 enum으로 선언하고, 파서는 선언된 컬럼만 값으로 만든다.
+ */
+@Getter
+public enum AccessLogField {
+
+    TIME_GENERATED(0),
+    CLIENT_IP(1),
+    HTTP_METHOD(2),
+    REQUEST_URI(3),
+    USER_AGENT(4),
+    HTTP_STATUS(5),
+    HTTP_VERSION(6),
+    RECEIVED_BYTES(7),
+    SENT_BYTES(8),
+    CLIENT_RESPONSE_TIME(9),
+    SSL_PROTOCOL(10),
+    ORIGINAL_REQUEST_URI_WITH_ARGS(11);
+
+    public static final int COLUMN_COUNT = values().length;
+
+    private final int column;
+
+    AccessLogField(int column) {
+        this.column = column;
+    }
+}
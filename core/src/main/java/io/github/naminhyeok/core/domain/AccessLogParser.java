@@ -0,0 +1,179 @@
+package io.github.naminhyeok.core.domain;
+
+import io.github.naminhyeok.core.support.parser.CsvRow;
+import io.github.naminhyeok.core.support.parser.TimestampDecoder;
+import org.springframework.http.HttpMethod;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link CsvRow}를 {@link AccessLog}로 변환한다. 잘못된 행에서도 예외를 만들지 않고 {@link ParseOutcome.Rejected}를 반환한다.
+ * <p>
+ * 행의 유효성은 프로젝션과 무관하게 모든 컬럼을 바이트 단위로 검사해 판단하고, 값 객체는 프로젝션에 포함된 컬럼만 만든다.
+ * 포함되지 않은 컬럼은 {@code null}(숫자, 상태 코드와 생성 시각은 0)로 채워진다.
+ * <p>
+ * 타임스탬프 접두사 캐시를 가지므로 파싱 스레드마다 하나씩 사용한다.
+ */
+public class AccessLogParser {
+
+    private static final List<HttpMethod> VALID_HTTP_METHODS = List.of(
+        HttpMethod.GET, HttpMethod.POST, HttpMethod.PUT, HttpMethod.DELETE,
+        HttpMethod.PATCH, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.TRACE
+    );
+    private static final byte[][] HTTP_METHOD_NAMES = VALID_HTTP_METHODS.stream()
+        .map(method -> method.name().getBytes(StandardCharsets.US_ASCII))
+        .toArray(byte[][]::new);
+    private static final int MIN_HTTP_STATUS = 100;
+    private static final int MAX_HTTP_STATUS = 999;
+
+    private final TimestampDecoder timestampDecoder = new TimestampDecoder();
+    private final boolean[] projected = new boolean[AccessLogField.COLUMN_COUNT];
+    private long parsedNumber;
+
+    public AccessLogParser() {
+        this(EnumSet.allOf(AccessLogField.class));
+    }
+
+    public AccessLogParser(Set<AccessLogField> projection) {
+        for (AccessLogField field : projection) {
+            projected[field.ordinal()] = true;
+        }
+    }
+
+    public ParseOutcome parse(CsvRow row) {
+        if (row.size() != AccessLogField.COLUMN_COUNT) {
+            return ParseOutcome.Rejected.of(ParseErrorReason.COLUMN_COUNT);
+        }
+
+        long epochMillis = timestampDecoder.decode(row, AccessLogField.TIME_GENERATED.getColumn());
+        if (epochMillis == TimestampDecoder.INVALID) {
+            return ParseOutcome.Rejected.of(ParseErrorReason.TIMESTAMP);
+        }
+
+        HttpMethod httpMethod = findHttpMethod(row, AccessLogField.HTTP_METHOD.getColumn());
+        if (httpMethod == null) {
+            return ParseOutcome.Rejected.of(ParseErrorReason.HTTP_METHOD);
+        }
+
+        if (!parseNumber(row, AccessLogField.HTTP_STATUS.getColumn())
+            || parsedNumber < MIN_HTTP_STATUS || parsedNumber > MAX_HTTP_STATUS) {
+            return ParseOutcome.Rejected.of(ParseErrorReason.HTTP_STATUS);
+        }
+        int httpStatus = (int) parsedNumber;
+
+        if (!parseNumber(row, AccessLogField.RECEIVED_BYTES.getColumn())) {
+            return ParseOutcome.Rejected.of(ParseErrorReason.NUMERIC_FIELD);
+        }
+        long receivedBytes = parsedNumber;
+        if (!parseNumber(row, AccessLogField.SENT_BYTES.getColumn())) {
+            return ParseOutcome.Rejected.of(ParseErrorReason.NUMERIC_FIELD);
+        }
+        long sentBytes = parsedNumber;
+        if (!parseNumber(row, AccessLogField.CLIENT_RESPONSE_TIME.getColumn())) {
+            return ParseOutcome.Rejected.of(ParseErrorReason.NUMERIC_FIELD);
+        }
+        long clientResponseTime = parsedNumber;
+
+        return new ParseOutcome.Parsed(new AccessLog(
+            isProjected(AccessLogField.TIME_GENERATED) ? epochMillis : 0L,
+            string(row, AccessLogField.CLIENT_IP),
+            isProjected(AccessLogField.HTTP_METHOD) ? httpMethod : null,
+            string(row, AccessLogField.REQUEST_URI),
+            string(row, AccessLogField.USER_AGENT),
+            isProjected(AccessLogField.HTTP_STATUS) ? httpStatus : 0,
+            string(row, AccessLogField.HTTP_VERSION),
+            isProjected(AccessLogField.RECEIVED_BYTES) ? receivedBytes : 0L,
+            isProjected(AccessLogField.SENT_BYTES) ? sentBytes : 0L,
+            isProjected(AccessLogField.CLIENT_RESPONSE_TIME) ? clientResponseTime : 0L,
+            string(row, AccessLogField.SSL_PROTOCOL),
+            string(row, AccessLogField.ORIGINAL_REQUEST_URI_WITH_ARGS)
+        ));
+    }
+
+    private boolean isProjected(AccessLogField field) {
+        return projected[field.ordinal()];
+    }
+
+    private String string(CsvRow row, AccessLogField field) {
+        return isProjected(field) ? row.get(field.getColumn()) : null;
+    }
+
+    private static HttpMethod findHttpMethod(CsvRow row, int column) {
+        for (int i = 0; i < HTTP_METHOD_NAMES.length; i++) {
+            if (row.fieldEquals(column, HTTP_METHOD_NAMES[i])) {
+                return VALID_HTTP_METHODS.get(i);
+            }
+        }
+        return null;
+    }
+
+    // Long.parseLong과 같은 규칙으로 읽되 실패 시 예외 대신 false를 반환한다. 성공하면 parsedNumber에 값을 담는다
+    private boolean parseNumber(CsvRow row, int column) {
+        int length = row.length(column);
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (row.byteAt(column, 0) == '-' || row.byteAt(column, 0) == '+')) {
+            negative = row.byteAt(column, 0) == '-';
+            i++;
+        }
+        if (i == length) {
+            return false;
+        }
+
+        // 음수 쪽으로 누적해야 Long.MIN_VALUE까지 표현할 수 있다
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyMin = limit / 10;
+        long result = 0;
+        for (; i < length; i++) {
+            byte b = row.byteAt(column, i);
+            if (b < 0) {
+                // ASCII가 아닌 숫자(예: 아랍-인도 숫자)도 Long.parseLong은 허용하므로 문자 단위로 다시 읽는다
+                return parseNumber(row.get(column));
+            }
+            if (b < '0' || b > '9' || result < multiplyMin) {
+                return false;
+            }
+            int digit = b - '0';
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+        parsedNumber = negative ? result : -result;
+        return true;
+    }
+
+    private boolean parseNumber(String value) {
+        int length = value.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+            negative = value.charAt(0) == '-';
+            i++;
+        }
+        if (i == length) {
+            return false;
+        }
+
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyMin = limit / 10;
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = Character.digit(value.charAt(i), 10);
+            if (digit < 0 || result < multiplyMin) {
+                return false;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+        parsedNumber = negative ? result : -result;
+        return true;
+    }
+}
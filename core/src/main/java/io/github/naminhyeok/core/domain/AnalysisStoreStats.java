@@ -0,0 +1,14 @@
+package io.github.naminhyeok.core.domain;
+
+/**
+ * 분석 결과 저장소의 현재 상태. {@code footprintBytes}는 메모리에 올려 둔 결과의 추정 크기 합이고 {@code budgetBytes}가 그 상한이다.
+ * {@code evictions}는 예산 초과로 메모리에서 내보낸 수, {@code expirations}는 보관 기간이 지나 제거한 수로, 둘 다 기동 후 누적이다.
+ */
+public record AnalysisStoreStats(
+    long entries,
+    long footprintBytes,
+    long budgetBytes,
+    long evictions,
+    long expirations
+) {
+}
@@ -0,0 +1,15 @@
+package io.github.naminhyeok.core.domain;
+
+/**
+ * 응답 시간 분포 요약. 값은 {@link AccessLog#clientResponseTime()}과 같은 단위이며,
+ * 백분위 값은 히스토그램 버킷의 상한이라 실제 값보다 최대 약 1.6% 클 수 있다(단, {@code max}를 넘지 않는다).
+ */
+public record LatencySummary(
+    long count,
+    long p50,
+    long p90,
+    long p99,
+    long p999,
+    long max
+) {
+}
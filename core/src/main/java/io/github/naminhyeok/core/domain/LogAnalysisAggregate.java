@@ -1,37 +1,106 @@
 package io.github.naminhyeok.core.domain;
 
-import io.github.naminhyeok.core.domain.counter.FrequencyCounter;
+import io.github.naminhyeok.core.domain.counter.CardinalityCounter;
+import io.github.naminhyeok.core.domain.counter.CounterMode;
+import io.github.naminhyeok.core.domain.counter.KeyCounter;
+import io.github.naminhyeok.core.domain.counter.KeyRanking;
+import io.github.naminhyeok.core.domain.counter.LatencyTracker;
 import io.github.naminhyeok.core.domain.counter.ParseErrorCollector;
+import io.github.naminhyeok.core.domain.counter.SnapshotInput;
+import io.github.naminhyeok.core.domain.counter.SnapshotOutput;
 import io.github.naminhyeok.core.domain.counter.StatusCodeCounter;
+import io.github.naminhyeok.core.domain.counter.TimeSeriesCounter;
+import io.github.naminhyeok.core.domain.counter.TrafficWeight;
+import io.github.naminhyeok.core.domain.counter.WeightedCounter;
 import lombok.Getter;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 
-@Getter
+/**
+ * 한 번의 분석 결과. 카운터는 {@link LogStreamAggregator#finish()}에서 복사 없이 넘겨받으며, 밖으로는 조회 결과만 내보내고
+ * 카운터 자체는 노출하지 않는다. 만들어진 뒤에는 {@link #append(LogStreamAggregator)}로만 바뀌며, 조회는 읽기 잠금을,
+ * 추가는 쓰기 잠금을 잡으므로 추가 도중의 카운터를 읽지 않는다.
+ * <p>
+ * 경로와 IP 순위는 처음 조회할 때 {@link KeyRanking}으로 한 번 정렬해 두고, 이후 상위 N개와 페이지 조회는 그 구간만 잘라 낸다.
+ * 추가하면 카운터가 바뀌므로 순위를 버리고 다음 조회에서 다시 만든다.
+ */
 public class LogAnalysisAggregate {
 
+    @Getter
     private final Long id;
+    @Getter
     private final LocalDateTime analyzedAt;
-    private final FrequencyCounter pathCounter;
-    private final FrequencyCounter ipCounter;
+    private final KeyCounter pathCounter;
+    private final KeyCounter ipCounter;
+    private final KeyCounter pathTemplateCounter;
+    private final WeightedCounter pathVolumeCounter;
+    private final WeightedCounter ipVolumeCounter;
     private final StatusCodeCounter statusCodeCounter;
     private final ParseErrorCollector errorCollector;
+    private final CardinalityCounter cardinalityCounter;
+    private final LatencyTracker latencyTracker;
+    private final TimeSeriesCounter timeSeriesCounter;
+    // withId로 만든 인스턴스도 같은 카운터를 가리키므로 잠금과 순위도 함께 쓴다. 한쪽에서 추가하면 다른 쪽의 순위도 버려야 한다
+    private final ReadWriteLock lock;
+    // 차원별 순위. 읽기 잠금만 잡은 조회들이 동시에 만들 수 있지만 같은 카운터로 만든 같은 순위이므로 어느 쪽이 남아도 된다
+    private final AtomicReferenceArray<KeyRanking> rankings;
 
     public LogAnalysisAggregate(
         Long id,
         LocalDateTime analyzedAt,
-        FrequencyCounter pathCounter,
-        FrequencyCounter ipCounter,
+        KeyCounter pathCounter,
+        KeyCounter ipCounter,
+        KeyCounter pathTemplateCounter,
+        WeightedCounter pathVolumeCounter,
+        WeightedCounter ipVolumeCounter,
         StatusCodeCounter statusCodeCounter,
-        ParseErrorCollector errorCollector
+        ParseErrorCollector errorCollector,
+        CardinalityCounter cardinalityCounter,
+        LatencyTracker latencyTracker,
+        TimeSeriesCounter timeSeriesCounter
+    ) {
+        this(id, analyzedAt, pathCounter, ipCounter, pathTemplateCounter, pathVolumeCounter, ipVolumeCounter,
+            statusCodeCounter, errorCollector, cardinalityCounter, latencyTracker, timeSeriesCounter,
+            new ReentrantReadWriteLock(), new AtomicReferenceArray<>(RankingDimension.values().length));
+    }
+
+    private LogAnalysisAggregate(
+        Long id,
+        LocalDateTime analyzedAt,
+        KeyCounter pathCounter,
+        KeyCounter ipCounter,
+        KeyCounter pathTemplateCounter,
+        WeightedCounter pathVolumeCounter,
+        WeightedCounter ipVolumeCounter,
+        StatusCodeCounter statusCodeCounter,
+        ParseErrorCollector errorCollector,
+        CardinalityCounter cardinalityCounter,
+        LatencyTracker latencyTracker,
+        TimeSeriesCounter timeSeriesCounter,
+        ReadWriteLock lock,
+        AtomicReferenceArray<KeyRanking> rankings
     ) {
         this.id = id;
         this.analyzedAt = analyzedAt;
         this.pathCounter = pathCounter;
         this.ipCounter = ipCounter;
+        this.pathTemplateCounter = pathTemplateCounter;
+        this.pathVolumeCounter = pathVolumeCounter;
+        this.ipVolumeCounter = ipVolumeCounter;
         this.statusCodeCounter = statusCodeCounter;
         this.errorCollector = errorCollector;
+        this.cardinalityCounter = cardinalityCounter;
+        this.latencyTracker = latencyTracker;
+        this.timeSeriesCounter = timeSeriesCounter;
+        this.lock = lock;
+        this.rankings = rankings;
     }
 
     public LogAnalysisAggregate withId(Long id) {
@@ -40,36 +109,234 @@ public class LogAnalysisAggregate {
             this.analyzedAt,
             this.pathCounter,
             this.ipCounter,
+            this.pathTemplateCounter,
+            this.pathVolumeCounter,
+            this.ipVolumeCounter,
             this.statusCodeCounter,
-            this.errorCollector
+            this.errorCollector,
+            this.cardinalityCounter,
+            this.latencyTracker,
+            this.timeSeriesCounter,
+            this.lock,
+            this.rankings
+        );
+    }
+
+    /**
+     * 새로 파싱한 청크를 이 결과에 더한다. 청크의 카운터를 이 결과의 카운터에 병합하므로 비용은 기존 결과가 아니라 청크 크기에 비례한다.
+     * 청크의 오류 라인 번호는 지금까지 처리한 행 수만큼 밀어, 원래 파일 끝에 청크의 행을 이어 붙인 것처럼 매긴다.
+     * 청크의 카운터는 이 결과로 넘어오므로 청크는 finish된 상태가 된다.
+     */
+    public void append(LogStreamAggregator chunk) {
+        if ((chunk.counterSpec().mode() == CounterMode.APPROXIMATE) != isApproximate()) {
+            throw new IllegalArgumentException("같은 카운터 모드로 집계한 청크만 추가할 수 있습니다: " + chunk.counterSpec().mode());
+        }
+        lock.writeLock().lock();
+        try {
+            chunk.shiftErrorLineNumbers(Math.toIntExact(statusCodeCounter.getTotal() + errorCollector.getTotalCount()));
+            LogAnalysisAggregate delta = chunk.finish();
+            pathCounter.merge(delta.pathCounter);
+            ipCounter.merge(delta.ipCounter);
+            pathTemplateCounter.merge(delta.pathTemplateCounter);
+            pathVolumeCounter.merge(delta.pathVolumeCounter);
+            ipVolumeCounter.merge(delta.ipVolumeCounter);
+            statusCodeCounter.merge(delta.statusCodeCounter);
+            errorCollector.merge(delta.errorCollector);
+            cardinalityCounter.merge(delta.cardinalityCounter);
+            latencyTracker.merge(delta.latencyTracker);
+            timeSeriesCounter.merge(delta.timeSeriesCounter);
+            for (int i = 0; i < rankings.length(); i++) {
+                rankings.set(i, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 경로와 IP의 빈도와 가중치 합이 근사 카운터로 집계되었는지 여부. 근사인 경우 순위 항목의 {@link RankedItem#errorBound()}가 오차 상한이다.
+     */
+    public boolean isApproximate() {
+        return pathCounter.isApproximate() || ipCounter.isApproximate() || pathTemplateCounter.isApproximate()
+            || pathVolumeCounter.isApproximate() || ipVolumeCounter.isApproximate();
+    }
+
+    /**
+     * 이 결과가 붙잡고 있는 카운터들의 힙 크기 추정치(바이트). 저장소가 메모리 예산 안에서 보관할 결과를 고르는 데 쓴다.
+     * 순위는 나중에 만들어지므로 처음부터 키마다 슬롯 번호 하나씩을 더해 둔다.
+     */
+    public long estimatedBytes() {
+        return read(() -> (long) Integer.BYTES * (pathCounter.size() + ipCounter.size() + pathTemplateCounter.size())
+            + pathCounter.estimatedBytes()
+            + ipCounter.estimatedBytes()
+            + pathTemplateCounter.estimatedBytes()
+            + pathVolumeCounter.estimatedBytes()
+            + ipVolumeCounter.estimatedBytes()
+            + statusCodeCounter.estimatedBytes()
+            + errorCollector.estimatedBytes()
+            + cardinalityCounter.estimatedBytes()
+            + latencyTracker.estimatedBytes()
+            + timeSeriesCounter.estimatedBytes());
+    }
+
+    // 경로 카운터를 맨 앞에 둬서 LogAnalysisSnapshotCodec#readTopPaths가 나머지를 읽지 않고 멈출 수 있게 한다
+    void writeTo(SnapshotOutput out) throws IOException {
+        lock.readLock().lock();
+        try {
+            writeCounters(out);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void writeCounters(SnapshotOutput out) throws IOException {
+        pathCounter.writeTo(out);
+        ipCounter.writeTo(out);
+        pathTemplateCounter.writeTo(out);
+        pathVolumeCounter.writeTo(out);
+        ipVolumeCounter.writeTo(out);
+        statusCodeCounter.writeTo(out);
+        errorCollector.writeTo(out);
+        cardinalityCounter.writeTo(out);
+        latencyTracker.writeTo(out);
+        timeSeriesCounter.writeTo(out);
+    }
+
+    static LogAnalysisAggregate readFrom(Long id, LocalDateTime analyzedAt, SnapshotInput in) throws IOException {
+        return new LogAnalysisAggregate(
+            id,
+            analyzedAt,
+            KeyCounter.readFrom(in),
+            KeyCounter.readFrom(in),
+            KeyCounter.readFrom(in),
+            WeightedCounter.readFrom(in),
+            WeightedCounter.readFrom(in),
+            StatusCodeCounter.readFrom(in),
+            ParseErrorCollector.readFrom(in),
+            CardinalityCounter.readFrom(in),
+            LatencyTracker.readFrom(in),
+            TimeSeriesCounter.readFrom(in)
         );
     }
 
     public long getTotalRequests() {
-        return statusCodeCounter.getTotal();
+        return read(statusCodeCounter::getTotal);
+    }
+
+    public long getDistinctClientIps() {
+        return read(cardinalityCounter::getDistinctClientIps);
+    }
+
+    public long getDistinctPaths() {
+        return read(cardinalityCounter::getDistinctPaths);
+    }
+
+    public long getDistinctUserAgents() {
+        return read(cardinalityCounter::getDistinctUserAgents);
+    }
+
+    public LatencySummary getResponseTime() {
+        return read(latencyTracker::getOverall);
+    }
+
+    /**
+     * 경로별 응답 시간은 빈도가 높아 추적 중인 경로에만 있으며, 그 외의 경로는 {@code null}이다.
+     */
+    public LatencySummary getResponseTime(String path) {
+        return read(() -> latencyTracker.getByPath(path));
+    }
+
+    public List<TimeBucket> getTimeSeries(int resolutionMinutes) {
+        return read(() -> timeSeriesCounter.rollUp(resolutionMinutes));
+    }
+
+    public long getTimeSeriesOutOfRange() {
+        return read(timeSeriesCounter::getOutOfRange);
     }
 
     public List<RankedItem> getTopPaths(int topN) {
-        return pathCounter.getTop(topN);
+        return read(() -> ranking(RankingDimension.PATHS).slice(0, topN));
     }
 
     public List<RankedItem> getTopClientIps(int topN) {
-        return ipCounter.getTop(topN);
+        return read(() -> ranking(RankingDimension.CLIENT_IPS).slice(0, topN));
+    }
+
+    /**
+     * 숫자, UUID, 해시 세그먼트를 자리표시자로 바꾸거나 등록된 템플릿으로 묶은 경로의 순위. 원래 경로의 순위는 {@link #getTopPaths(int)}다.
+     */
+    public List<RankedItem> getTopPathTemplates(int topN) {
+        return read(() -> ranking(RankingDimension.PATH_TEMPLATES).slice(0, topN));
+    }
+
+    /**
+     * {@code after} 다음부터 최대 {@code size}개. {@code after}가 {@code null}이면 처음부터다.
+     */
+    public RankingPage getRankingPage(RankingDimension dimension, RankingCursor after, int size) {
+        return read(() -> {
+            KeyRanking ranking = ranking(dimension);
+            int from = after == null ? 0 : ranking.positionAfter(after.count(), after.value());
+            List<RankedItem> items = ranking.slice(from, size);
+            return new RankingPage(items, ranking.size(), !items.isEmpty() && from + items.size() < ranking.size());
+        });
+    }
+
+    public List<RankedItem> getTopPaths(TrafficWeight weight, int topN) {
+        return read(() -> pathVolumeCounter.getTop(weight, topN));
+    }
+
+    public List<RankedItem> getTopClientIps(TrafficWeight weight, int topN) {
+        return read(() -> ipVolumeCounter.getTop(weight, topN));
+    }
+
+    public long getTotal(TrafficWeight weight) {
+        return read(() -> pathVolumeCounter.getTotal(weight));
     }
 
     public List<RankedItem> getTopStatusCodes(int topN) {
-        return statusCodeCounter.getTop(topN);
+        return read(() -> statusCodeCounter.getTop(topN));
     }
 
     public StatusCodeDistribution getStatusCodeDistribution() {
-        return statusCodeCounter.getDistribution();
+        return read(statusCodeCounter::getDistribution);
     }
 
     public int getParseErrorCount() {
-        return errorCollector.getTotalCount();
+        return read(errorCollector::getTotalCount);
     }
 
     public List<ParseError> getParseErrorSamples() {
-        return errorCollector.getSamples();
+        return read(errorCollector::getSamples);
+    }
+
+    public Map<ParseErrorReason, Integer> getParseErrorCountsByReason() {
+        return read(errorCollector::getCountsByReason);
+    }
+
+    public Map<ParseErrorReason, List<ParseError>> getParseErrorSamplesByReason() {
+        return read(errorCollector::getSamplesByReason);
+    }
+
+    // 읽기 잠금 안에서만 부른다
+    private KeyRanking ranking(RankingDimension dimension) {
+        KeyRanking ranking = rankings.get(dimension.ordinal());
+        if (ranking == null) {
+            ranking = switch (dimension) {
+                case PATHS -> pathCounter.rank();
+                case CLIENT_IPS -> ipCounter.rank();
+                case PATH_TEMPLATES -> pathTemplateCounter.rank();
+            };
+            rankings.set(dimension.ordinal(), ranking);
+        }
+        return ranking;
+    }
+
+    private <T> T read(Supplier<T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 }
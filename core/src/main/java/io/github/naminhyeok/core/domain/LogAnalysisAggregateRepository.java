@@ -5,4 +5,22 @@ import java.util.Optional;
 public interface LogAnalysisAggregateRepository {
     LogAnalysisAggregate save(LogAnalysisAggregate aggregate);
     Optional<LogAnalysisAggregate> findById(Long id);
+    void deleteById(Long id);
+
+    /**
+     * 결과를 저장하기 전에 ID를 먼저 받는다. 비동기 분석이 결과 조회 URL을 접수 시점에 알려 주는 데 쓴다.
+     */
+    Long reserveId();
+
+    /**
+     * 저장된 적이 있지만 보관 기간이나 메모리 예산 때문에 제거된 ID인지 여부. 처음부터 없던 ID와 구분하는 데 쓴다.
+     */
+    default boolean isExpired(Long id) {
+        return false;
+    }
+
+    /**
+     * 보관 중인 결과 수, 메모리 점유량과 지금까지의 축출/만료 수.
+     */
+    AnalysisStoreStats stats();
 }
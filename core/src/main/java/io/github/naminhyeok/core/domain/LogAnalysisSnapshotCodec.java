@@ -0,0 +1,91 @@
+package io.github.naminhyeok.core.domain;
+
+import io.github.naminhyeok.core.domain.counter.KeyCounter;
+import io.github.naminhyeok.core.domain.counter.SnapshotInput;
+import io.github.naminhyeok.core.domain.counter.SnapshotOutput;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link LogAnalysisAggregate}를 버전이 붙은 바이너리 스냅샷으로 쓰고 읽는다.
+ * <p>
+ * 형식은 매직 {@code LASN}, 버전, ID, 분석 시각 다음에 카운터들을 차례로 이어 쓴 것이다. 정수는 varint로, 키 문자열은 스트림 전체에서
+ * 공유하는 사전으로 처음 한 번만 쓰고 이후에는 번호로 가리킨다. 키 카운터의 항목은 카운트 내림차순이고 경로 카운터가 맨 앞에 있으므로
+ * {@link #readTopPaths(InputStream, int)}는 헤더와 상위 몇 항목만 읽고 멈춘다. 버퍼 하나로 스트리밍하므로 결과 크기만큼의 바이트 배열을 따로 만들지 않는다.
+ */
+public final class LogAnalysisSnapshotCodec {
+
+    public static final int VERSION = 1;
+    private static final byte[] MAGIC = {'L', 'A', 'S', 'N'};
+
+    private LogAnalysisSnapshotCodec() {
+    }
+
+    /**
+     * 스냅샷을 쓰고 버퍼를 비운다. {@code out}은 닫지 않는다.
+     */
+    public static void encode(LogAnalysisAggregate aggregate, OutputStream out) throws IOException {
+        SnapshotOutput output = new SnapshotOutput(out);
+        output.writeBytes(MAGIC);
+        output.writeVarInt(VERSION);
+        Long id = aggregate.getId();
+        output.writeByte(id == null ? 0 : 1);
+        if (id != null) {
+            output.writeSignedVarLong(id);
+        }
+        LocalDateTime analyzedAt = aggregate.getAnalyzedAt();
+        output.writeByte(analyzedAt == null ? 0 : 1);
+        if (analyzedAt != null) {
+            output.writeSignedVarLong(analyzedAt.toEpochSecond(ZoneOffset.UTC));
+            output.writeVarInt(analyzedAt.getNano());
+        }
+        aggregate.writeTo(output);
+        output.flush();
+    }
+
+    /**
+     * 형식이 다르거나 지원하지 않는 버전이면 {@link IOException}을 던진다.
+     */
+    public static LogAnalysisAggregate decode(InputStream in) throws IOException {
+        SnapshotInput input = new SnapshotInput(in);
+        readHeader(input);
+        Long id = input.readByte() == 0 ? null : input.readSignedVarLong();
+        LocalDateTime analyzedAt = input.readByte() == 0
+            ? null
+            : LocalDateTime.ofEpochSecond(input.readSignedVarLong(), input.readVarInt(), ZoneOffset.UTC);
+        return LogAnalysisAggregate.readFrom(id, analyzedAt, input);
+    }
+
+    /**
+     * 전체를 복원하지 않고 상위 {@code topN}개 경로만 읽는다. 결과는 복원한 집계의 {@link LogAnalysisAggregate#getTopPaths(int)}와 같다.
+     */
+    public static List<RankedItem> readTopPaths(InputStream in, int topN) throws IOException {
+        SnapshotInput input = new SnapshotInput(in);
+        readHeader(input);
+        if (input.readByte() != 0) {
+            input.readSignedVarLong();
+        }
+        if (input.readByte() != 0) {
+            input.readSignedVarLong();
+            input.readVarInt();
+        }
+        return KeyCounter.readTop(input, topN);
+    }
+
+    private static void readHeader(SnapshotInput input) throws IOException {
+        byte[] magic = input.readBytes(MAGIC.length);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("분석 결과 스냅샷이 아닙니다.");
+        }
+        int version = input.readVarInt();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 스냅샷 버전입니다: " + version);
+        }
+    }
+}
@@ -1,36 +1,247 @@
 package io.github.naminhyeok.core.domain;
 
-import io.github.naminhyeok.core.domain.counter.FrequencyCounter;
+import io.github.naminhyeok.core.domain.counter.CardinalityCounter;
+import io.github.naminhyeok.core.domain.counter.CounterSpec;
+import io.github.naminhyeok.core.domain.counter.KeyCounter;
+import io.github.naminhyeok.core.domain.counter.LatencyTracker;
 import io.github.naminhyeok.core.domain.counter.ParseErrorCollector;
 import io.github.naminhyeok.core.domain.counter.StatusCodeCounter;
+import io.github.naminhyeok.core.domain.counter.TimeSeriesCounter;
+import io.github.naminhyeok.core.domain.counter.TopKTracker;
+import io.github.naminhyeok.core.domain.counter.WeightedCounter;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public class LogStreamAggregator {
 
-    private final FrequencyCounter pathCounter = new FrequencyCounter();
-    private final FrequencyCounter ipCounter = new FrequencyCounter();
-    private final StatusCodeCounter statusCodeCounter = new StatusCodeCounter();
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+
+    static final int PUBLISH_INTERVAL_ROWS = 1 << 15;
+
+    private final CounterSpec counterSpec;
+    // 아래 집계기들이 등록하면서 채우므로 집계기 필드보다 먼저 선언한다
+    private final Set<AccessLogField> requiredFields = EnumSet.noneOf(AccessLogField.class);
+    private final KeyCounter pathCounter;
+    private final KeyCounter ipCounter;
+    private final KeyCounter pathTemplateCounter;
+    private final PathNormalizer pathNormalizer;
+    private final WeightedCounter pathVolumeCounter;
+    private final WeightedCounter ipVolumeCounter;
+    private final StatusCodeCounter statusCodeCounter = register(new StatusCodeCounter(), AccessLogField.HTTP_STATUS);
     private final ParseErrorCollector errorCollector = new ParseErrorCollector();
+    private final CardinalityCounter cardinalityCounter = register(
+        new CardinalityCounter(), AccessLogField.CLIENT_IP, AccessLogField.REQUEST_URI, AccessLogField.USER_AGENT);
+    private final LatencyTracker latencyTracker = register(
+        new LatencyTracker(), AccessLogField.REQUEST_URI, AccessLogField.CLIENT_RESPONSE_TIME);
+    private final TimeSeriesCounter timeSeriesCounter = register(new TimeSeriesCounter(),
+        AccessLogField.TIME_GENERATED, AccessLogField.HTTP_STATUS, AccessLogField.SENT_BYTES, AccessLogField.RECEIVED_BYTES);
+    private boolean finished;
+    private TopKTracker livePaths;
+    private TopKTracker liveIps;
+    private Consumer<PartialAggregate> liveSink;
+    private int rowsSincePublish;
+
+    public LogStreamAggregator() {
+        this(CounterSpec.exact());
+    }
+
+    /**
+     * 경로와 IP의 빈도와 가중치 합을 {@code counterSpec}이 정한 카운터로 센다. 상태 코드와 오류는 항상 정확히 센다.
+     * 경로는 원래 값과 {@link PathNormalizer}로 템플릿화한 값을 각각 센다.
+     */
+    public LogStreamAggregator(CounterSpec counterSpec) {
+        this.counterSpec = counterSpec;
+        this.pathCounter = register(counterSpec.newCounter(), AccessLogField.REQUEST_URI);
+        this.ipCounter = register(counterSpec.newCounter(), AccessLogField.CLIENT_IP);
+        this.pathTemplateCounter = register(counterSpec.newCounter(), AccessLogField.REQUEST_URI);
+        this.pathNormalizer = counterSpec.newPathNormalizer();
+        this.pathVolumeCounter = register(counterSpec.newWeightedCounter(), AccessLogField.REQUEST_URI,
+            AccessLogField.SENT_BYTES, AccessLogField.RECEIVED_BYTES, AccessLogField.CLIENT_RESPONSE_TIME);
+        this.ipVolumeCounter = register(counterSpec.newWeightedCounter(), AccessLogField.CLIENT_IP,
+            AccessLogField.SENT_BYTES, AccessLogField.RECEIVED_BYTES, AccessLogField.CLIENT_RESPONSE_TIME);
+    }
+
+    public CounterSpec counterSpec() {
+        return counterSpec;
+    }
+
+    /**
+     * 등록된 집계기들이 {@link #accumulate(AccessLog)}에서 읽는 컬럼. 파서는 이 컬럼만 값으로 만들고 나머지는 검증만 한다.
+     */
+    public Set<AccessLogField> requiredFields() {
+        return Collections.unmodifiableSet(requiredFields);
+    }
+
+    // 집계기와 그 집계기가 읽는 컬럼을 함께 등록해, 파서가 등록된 집계기가 읽는 컬럼만 값으로 만들게 한다
+    private <T> T register(T aggregator, AccessLogField... fields) {
+        Collections.addAll(requiredFields, fields);
+        return aggregator;
+    }
+
+    /**
+     * 진행 중인 집계를 다른 스레드에서 볼 수 있게 경로와 IP의 상위 {@code capacity}개 후보를 따로 유지하고,
+     * {@value #PUBLISH_INTERVAL_ROWS}행마다 불변 스냅샷을 만들어 {@code sink}에 넘긴다. {@code sink}는 파싱 스레드에서 불리므로
+     * 참조를 바꿔 끼우는 정도로 가벼워야 한다. 집계기 대신 스냅샷만 넘기므로 받는 쪽이 카운터를 붙잡고 있지 않는다.
+     */
+    public LogStreamAggregator trackLive(int capacity, Consumer<PartialAggregate> sink) {
+        ensureNotFinished();
+        this.livePaths = new TopKTracker(capacity);
+        this.liveIps = new TopKTracker(capacity);
+        this.liveSink = sink;
+        return this;
+    }
+
+    /**
+     * 지금까지 쌓인 값으로 스냅샷을 바로 넘긴다. 파싱이 끝난 청크의 마지막 상태를 남길 때 쓴다.
+     */
+    public void publishLive() {
+        ensureNotFinished();
+        if (livePaths == null) {
+            return;
+        }
+        rowsSincePublish = 0;
+        liveSink.accept(new PartialAggregate(
+            pathCounter.getTotal(),
+            errorCollector.getTotalCount(),
+            livePaths.snapshot(),
+            liveIps.snapshot(),
+            statusCodeCounter.copy()
+        ));
+    }
 
     public void accumulate(AccessLog log) {
-        pathCounter.increment(log.requestUri());
-        ipCounter.increment(log.clientIp());
+        ensureNotFinished();
+        long pathCount = pathCounter.increment(log.requestUri());
+        long ipCount = ipCounter.increment(log.clientIp());
+        if (livePaths != null) {
+            livePaths.offer(log.requestUri(), pathCount);
+            liveIps.offer(log.clientIp(), ipCount);
+            publishIfDue();
+        }
+        pathTemplateCounter.increment(pathNormalizer.normalize(log.requestUri()));
         statusCodeCounter.increment(log.httpStatus());
+        pathVolumeCounter.add(log.requestUri(), log.sentBytes(), log.receivedBytes(), log.clientResponseTime());
+        ipVolumeCounter.add(log.clientIp(), log.sentBytes(), log.receivedBytes(), log.clientResponseTime());
+        cardinalityCounter.add(log.clientIp(), log.requestUri(), log.userAgent());
+        latencyTracker.record(log.requestUri(), log.clientResponseTime());
+        timeSeriesCounter.record(
+            Math.floorDiv(log.timeGeneratedMillis(), MILLIS_PER_MINUTE),
+            log.httpStatus(),
+            log.sentBytes(),
+            log.receivedBytes()
+        );
     }
 
     public void recordError(int lineNumber, String rawLine, String message) {
+        ensureNotFinished();
         errorCollector.add(lineNumber, rawLine, message);
+        if (livePaths != null) {
+            publishIfDue();
+        }
     }
 
+    public void recordError(int lineNumber, String rawLine, ParseErrorReason reason) {
+        ensureNotFinished();
+        errorCollector.add(lineNumber, rawLine, reason);
+        if (livePaths != null) {
+            publishIfDue();
+        }
+    }
+
+    private void publishIfDue() {
+        if (++rowsSincePublish >= PUBLISH_INTERVAL_ROWS) {
+            publishLive();
+        }
+    }
+
+    /**
+     * 다른 집계 결과를 이 집계에 합친다. 카운트와 카테고리별 합계는 정확히 더해지고, 오류 샘플은 라인 번호가 앞선 것을 남긴다.
+     */
+    public LogStreamAggregator merge(LogStreamAggregator other) {
+        ensureNotFinished();
+        other.ensureNotFinished();
+        // 병합된 카운터로 게시하면 다른 청크의 스냅샷과 겹쳐 세므로, 병합 이후에는 마지막 스냅샷을 그대로 둔다
+        stopLiveTracking();
+        other.stopLiveTracking();
+        pathCounter.merge(other.pathCounter);
+        ipCounter.merge(other.ipCounter);
+        pathTemplateCounter.merge(other.pathTemplateCounter);
+        pathVolumeCounter.merge(other.pathVolumeCounter);
+        ipVolumeCounter.merge(other.ipVolumeCounter);
+        statusCodeCounter.merge(other.statusCodeCounter);
+        errorCollector.merge(other.errorCollector);
+        cardinalityCounter.merge(other.cardinalityCounter);
+        latencyTracker.merge(other.latencyTracker);
+        timeSeriesCounter.merge(other.timeSeriesCounter);
+        return this;
+    }
+
+    /**
+     * 부분 집계들을 짝지어 합치는 트리 리덕션. 병합은 결합 법칙을 만족하므로 순차 병합과 결과가 같고,
+     * 단계마다 부분 집계 수가 절반으로 줄어든다. 입력 집계들은 병합 대상으로 재사용된다.
+     */
+    public static LogStreamAggregator mergeAll(List<LogStreamAggregator> partials) {
+        if (partials.isEmpty()) {
+            return new LogStreamAggregator();
+        }
+        List<LogStreamAggregator> level = new ArrayList<>(partials);
+        while (level.size() > 1) {
+            List<LogStreamAggregator> next = new ArrayList<>((level.size() + 1) / 2);
+            for (int i = 0; i < level.size(); i += 2) {
+                next.add(i + 1 < level.size() ? level.get(i).merge(level.get(i + 1)) : level.get(i));
+            }
+            level = next;
+        }
+        return level.getFirst();
+    }
+
+    public void shiftErrorLineNumbers(int offset) {
+        ensureNotFinished();
+        errorCollector.shiftLineNumbers(offset);
+    }
+
+    /**
+     * 카운터들을 복사하지 않고 그대로 {@link LogAnalysisAggregate}에 넘긴다. 결과를 만든 순간 최대 메모리가 두 배가 되지 않도록
+     * 소유권을 넘기는 것이므로, 이후 이 집계기에 쌓거나 병합하거나 다시 {@code finish}하면 {@link IllegalStateException}이 발생한다.
+     */
     public LogAnalysisAggregate finish() {
+        ensureNotFinished();
+        finished = true;
         return new LogAnalysisAggregate(
             null,
             LocalDateTime.now(),
-            pathCounter.copy(),
-            ipCounter.copy(),
-            statusCodeCounter.copy(),
-            errorCollector.copy()
+            pathCounter,
+            ipCounter,
+            pathTemplateCounter,
+            pathVolumeCounter,
+            ipVolumeCounter,
+            statusCodeCounter,
+            errorCollector,
+            cardinalityCounter,
+            latencyTracker,
+            timeSeriesCounter
         );
     }
+
+    private void stopLiveTracking() {
+        livePaths = null;
+        liveIps = null;
+        liveSink = null;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    private void ensureNotFinished() {
+        if (finished) {
+            throw new IllegalStateException("이미 finish된 집계기입니다. 카운터는 LogAnalysisAggregate로 넘어갔습니다.");
+        }
+    }
 }
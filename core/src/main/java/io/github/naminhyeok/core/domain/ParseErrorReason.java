@@ -0,0 +1,19 @@
+package io.github.naminhyeok.core.domain;
+
+import lombok.Getter;
+
+@Getter
+public enum ParseErrorReason {
+
+    COLUMN_COUNT("컬럼 개수가 올바르지 않습니다."),
+    TIMESTAMP("시간 형식이 올바르지 않습니다."),
+    HTTP_METHOD("지원하지 않는 HTTP 메서드입니다."),
+    HTTP_STATUS("HTTP 상태 코드가 올바르지 않습니다."),
+    NUMERIC_FIELD("숫자 필드 형식이 올바르지 않습니다.");
+
+    private final String message;
+
+    ParseErrorReason(String message) {
+        this.message = message;
+    }
+}
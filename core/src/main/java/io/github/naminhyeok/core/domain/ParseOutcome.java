@@ -0,0 +1,28 @@
+package io.github.naminhyeok.core.domain;
+
+/**
+ * 한 행의 파싱 결과. 잘못된 행은 예외 대신 사유 코드로 표현하며, {@link Rejected}는 사유별로 하나의 인스턴스를 재사용한다.
+ */
+public sealed interface ParseOutcome {
+
+    record Parsed(AccessLog accessLog) implements ParseOutcome {
+    }
+
+    record Rejected(ParseErrorReason reason) implements ParseOutcome {
+
+        private static final Rejected[] CACHE = createCache();
+
+        public static Rejected of(ParseErrorReason reason) {
+            return CACHE[reason.ordinal()];
+        }
+
+        private static Rejected[] createCache() {
+            ParseErrorReason[] reasons = ParseErrorReason.values();
+            Rejected[] cache = new Rejected[reasons.length];
+            for (ParseErrorReason reason : reasons) {
+                cache[reason.ordinal()] = new Rejected(reason);
+            }
+            return cache;
+        }
+    }
+}
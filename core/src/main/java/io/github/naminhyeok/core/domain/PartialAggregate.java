@@ -0,0 +1,70 @@
+package io.github.naminhyeok.core.domain;
+
+import io.github.naminhyeok.core.domain.counter.StatusCodeCounter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 집계 도중의 한 시점을 담은 불변 스냅샷. {@link LogStreamAggregator}가 파싱 스레드에서 주기적으로 만들어 게시하고, 다른 스레드는 잠금 없이 읽는다.
+ * 경로와 IP는 전체 카운터가 아니라 {@link io.github.naminhyeok.core.domain.counter.TopKTracker}의 상위 후보만 담는다.
+ * <p>
+ * 병렬 파싱의 청크별 스냅샷은 {@link #plus(PartialAggregate)}로 합친다. 요청 수, 오류 수, 상태 코드는 정확히 더해지지만, 경로와 IP는 각 청크의 후보끼리만
+ * 더하므로 여러 청크에 고르게 흩어진 키는 실제보다 작게 보일 수 있다. 최종 결과는 분석이 끝난 뒤의 집계로 확인한다.
+ */
+public record PartialAggregate(
+    long requests,
+    long errors,
+    Map<String, Long> pathCounts,
+    Map<String, Long> ipCounts,
+    StatusCodeCounter statusCodes
+) {
+
+    public static final PartialAggregate EMPTY = new PartialAggregate(0, 0, Map.of(), Map.of(), new StatusCodeCounter());
+
+    public PartialAggregate plus(PartialAggregate other) {
+        return new PartialAggregate(
+            requests + other.requests,
+            errors + other.errors,
+            sum(pathCounts, other.pathCounts),
+            sum(ipCounts, other.ipCounts),
+            statusCodes.copy().merge(other.statusCodes)
+        );
+    }
+
+    public List<RankedItem> topPaths(int limit) {
+        return top(pathCounts, limit);
+    }
+
+    public List<RankedItem> topIps(int limit) {
+        return top(ipCounts, limit);
+    }
+
+    public List<RankedItem> topStatusCodes(int limit) {
+        return statusCodes.getTop(limit);
+    }
+
+    private List<RankedItem> top(Map<String, Long> counts, int limit) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(counts.entrySet());
+        entries.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+            .thenComparing(Map.Entry.comparingByKey()));
+
+        int size = Math.max(Math.min(limit, entries.size()), 0);
+        List<RankedItem> top = new ArrayList<>(size);
+        for (Map.Entry<String, Long> entry : entries.subList(0, size)) {
+            double percentage = requests == 0 ? 0.0 : (double) entry.getValue() / requests * 100.0;
+            top.add(new RankedItem(entry.getKey(), entry.getValue(), percentage));
+        }
+        return List.copyOf(top);
+    }
+
+    private static Map<String, Long> sum(Map<String, Long> left, Map<String, Long> right) {
+        Map<String, Long> sum = HashMap.newHashMap(left.size() + right.size());
+        sum.putAll(left);
+        right.forEach((key, count) -> sum.merge(key, count, Long::sum));
+        return sum;
+    }
+}
@@ -0,0 +1,162 @@
+package io.github.naminhyeok.core.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 경로를 템플릿으로 바꿔 ID가 박힌 경로들이 하나로 묶이게 한다.
+ * <p>
+ * 등록된 {@link PathTemplates}와 일치하면 그 템플릿을 쓰고, 아니면 쿼리 문자열을 떼고 숫자는 {@value #ID},
+ * UUID는 {@value #UUID}, 16자 이상의 16진수 문자열은 {@value #HASH}로 바꾼다.
+ * <p>
+ * 세그먼트를 나누지 않고 경로 문자열 안에서 구간만 옮겨 가며 검사하므로, 바꿀 세그먼트가 없는 경로는 아무것도 만들지 않고
+ * 바꿀 세그먼트가 있는 경로도 결과 문자열 하나만 만든다. ID의 종류가 아무리 많아도 비용은 경로 길이에만 비례한다.
+ * 상태가 없으므로 여러 스레드가 공유해도 된다.
+ */
+public final class PathNormalizer {
+
+    public static final String ID = "{id}";
+    public static final String UUID = "{uuid}";
+    public static final String HASH = "{hash}";
+
+    private static final int UUID_LENGTH = 36;
+    private static final int MIN_HASH_LENGTH = 16;
+
+    private final PathTemplates templates;
+
+    public PathNormalizer(PathTemplates templates) {
+        this.templates = templates;
+    }
+
+    public String normalize(String path) {
+        if (path == null) {
+            return null;
+        }
+        int end = path.length();
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            end = query;
+        }
+        int fragment = path.indexOf('#');
+        if (fragment >= 0 && fragment < end) {
+            end = fragment;
+        }
+
+        if (!templates.isEmpty()) {
+            String template = templates.match(path, end);
+            if (template != null) {
+                return template;
+            }
+        }
+
+        // 첫 자리표시자를 만나기 전까지는 빌더를 만들지 않는다
+        StringBuilder builder = null;
+        int start = path.startsWith("/") ? 1 : 0;
+        if (start < end) {
+            while (true) {
+                int slash = path.indexOf('/', start);
+                int segmentEnd = slash < 0 || slash >= end ? end : slash;
+                String placeholder = placeholderOf(path, start, segmentEnd);
+                if (placeholder != null && builder == null) {
+                    builder = new StringBuilder(end + 1);
+                    if (!path.startsWith("/")) {
+                        builder.append('/');
+                    }
+                    builder.append(path, 0, start);
+                }
+                if (builder != null) {
+                    if (placeholder != null) {
+                        builder.append(placeholder);
+                    } else {
+                        builder.append(path, start, segmentEnd);
+                    }
+                }
+                if (segmentEnd == end) {
+                    break;
+                }
+                if (builder != null) {
+                    builder.append('/');
+                }
+                start = segmentEnd + 1;
+            }
+        }
+        if (builder != null) {
+            return builder.toString();
+        }
+        // 바뀐 세그먼트가 없으면 원본 문자열을 그대로 돌려줘 카운터가 같은 인스턴스를 키로 쓰게 한다
+        return end == path.length() ? path : path.substring(0, end);
+    }
+
+    private static String placeholderOf(String path, int start, int end) {
+        int length = end - start;
+        if (length == 0) {
+            return null;
+        }
+        if (isDigits(path, start, end)) {
+            return ID;
+        }
+        if (length == UUID_LENGTH && isUuid(path, start)) {
+            return UUID;
+        }
+        if (length >= MIN_HASH_LENGTH && isHash(path, start, end)) {
+            return HASH;
+        }
+        return null;
+    }
+
+    private static boolean isDigits(String path, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = path.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 8-4-4-4-12 형태의 16진수
+    private static boolean isUuid(String path, int start) {
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = path.charAt(start + i);
+            boolean dash = i == 8 || i == 13 || i == 18 || i == 23;
+            if (dash ? c != '-' : Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 영단어가 16진수로만 이루어진 경우를 피하려고 숫자가 하나 이상 섞인 것만 해시로 본다
+    private static boolean isHash(String path, int start, int end) {
+        boolean hasDigit = false;
+        for (int i = start; i < end; i++) {
+            char c = path.charAt(i);
+            if (Character.digit(c, 16) < 0) {
+                return false;
+            }
+            hasDigit |= c <= '9';
+        }
+        return hasDigit;
+    }
+
+    /**
+     * 맨 앞의 {@code /}를 제외하고 {@code /}로 나눈 세그먼트. {@code /}로 시작하지 않으면 경로 전체를 첫 세그먼트로 본다.
+     * 템플릿을 등록할 때만 쓴다.
+     */
+    static String[] split(String path) {
+        List<String> segments = new ArrayList<>();
+        int start = path.startsWith("/") ? 1 : 0;
+        if (start == path.length()) {
+            return new String[0];
+        }
+        while (true) {
+            int slash = path.indexOf('/', start);
+            if (slash < 0) {
+                segments.add(path.substring(start));
+                return segments.toArray(String[]::new);
+            }
+            segments.add(path.substring(start, slash));
+            start = slash + 1;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.naminhyeok.core.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 미리 등록한 경로 템플릿(예: {@code /bbs/list/{board}})을 세그먼트 단위 트라이로 담는다. {@code {name}} 세그먼트는 임의의 값 하나와 일치한다.
+ * <p>
+ * 조회는 경로 문자열 안의 세그먼트 구간을 그대로 비교하므로 세그먼트마다 부분 문자열을 만들지 않는다. 템플릿은 손으로 등록하는
+ * 수십 개 수준이라 한 노드의 고정 세그먼트는 순서대로 비교한다.
+ * <p>
+ * 만든 뒤에는 바뀌지 않으므로 여러 스레드의 {@link PathNormalizer}가 공유해도 된다.
+ */
+public final class PathTemplates {
+
+    private static final PathTemplates NONE = new PathTemplates(new Node());
+
+    private final Node root;
+
+    private PathTemplates(Node root) {
+        this.root = root;
+    }
+
+    public static PathTemplates none() {
+        return NONE;
+    }
+
+    public static PathTemplates of(List<String> templates) {
+        if (templates == null || templates.isEmpty()) {
+            return NONE;
+        }
+        Node root = new Node();
+        for (String template : templates) {
+            if (template == null || !template.startsWith("/")) {
+                throw new IllegalArgumentException("경로 템플릿은 '/'로 시작해야 합니다: " + template);
+            }
+            Node node = root;
+            for (String segment : PathNormalizer.split(template)) {
+                node = isPlaceholder(segment)
+                    ? node.wildcard()
+                    : node.literalOrCreate(segment);
+            }
+            if (node.template == null) {
+                node.template = template;
+            }
+        }
+        return new PathTemplates(root);
+    }
+
+    public boolean isEmpty() {
+        return root.literalKeys.isEmpty() && root.wildcard == null;
+    }
+
+    String match(String path) {
+        return match(path, path.length());
+    }
+
+    /**
+     * {@code path}의 앞 {@code end}글자와 일치하는 템플릿. 세그먼트는 {@link PathNormalizer#split(String)}과 같이 나눈다.
+     * 같은 위치에서는 고정 세그먼트를 {@code {name}}보다 먼저 시도하며, 일치하는 템플릿이 없으면 {@code null}이다.
+     */
+    String match(String path, int end) {
+        int start = path.startsWith("/") ? 1 : 0;
+        return start >= end ? root.template : match(root, path, start, end);
+    }
+
+    // start는 지금 세그먼트의 시작 위치다
+    private static String match(Node node, String path, int start, int end) {
+        int slash = path.indexOf('/', start);
+        int segmentEnd = slash < 0 || slash >= end ? end : slash;
+        Node literal = node.literal(path, start, segmentEnd);
+        if (literal != null) {
+            String matched = next(literal, path, segmentEnd, end);
+            if (matched != null) {
+                return matched;
+            }
+        }
+        return node.wildcard == null ? null : next(node.wildcard, path, segmentEnd, end);
+    }
+
+    private static String next(Node node, String path, int segmentEnd, int end) {
+        return segmentEnd == end ? node.template : match(node, path, segmentEnd + 1, end);
+    }
+
+    private static boolean isPlaceholder(String segment) {
+        return segment.length() > 2 && segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}';
+    }
+
+    private static final class Node {
+        private final List<String> literalKeys = new ArrayList<>();
+        private final List<Node> literalNodes = new ArrayList<>();
+        private Node wildcard;
+        private String template;
+
+        private Node literal(String path, int start, int end) {
+            int length = end - start;
+            for (int i = 0; i < literalKeys.size(); i++) {
+                String key = literalKeys.get(i);
+                if (key.length() == length && path.regionMatches(start, key, 0, length)) {
+                    return literalNodes.get(i);
+                }
+            }
+            return null;
+        }
+
+        private Node literalOrCreate(String segment) {
+            int index = literalKeys.indexOf(segment);
+            if (index >= 0) {
+                return literalNodes.get(index);
+            }
+            Node node = new Node();
+            literalKeys.add(segment);
+            literalNodes.add(node);
+            return node;
+        }
+
+        private Node wildcard() {
+            if (wildcard == null) {
+                wildcard = new Node();
+            }
+            return wildcard;
+        }
+    }
+}
@@ -1,8 +1,17 @@
 package io.github.naminhyeok.core.domain;
 
+/**
+ * 순위 항목. {@code errorBound}는 근사 카운터가 {@code count}를 최대 얼마나 과대 추정했을 수 있는지를 나타내며,
+ * 정확히 센 항목은 0이다.
+ */
 public record RankedItem(
     String value,
     long count,
-    double percentage
+    double percentage,
+    long errorBound
 ) {
+
+    public RankedItem(String value, long count, double percentage) {
+        this(value, count, percentage, 0L);
+    }
 }
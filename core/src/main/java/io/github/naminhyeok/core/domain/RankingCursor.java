@@ -0,0 +1,39 @@
+package io.github.naminhyeok.core.domain;
+
+import io.github.naminhyeok.core.support.error.CoreException;
+import io.github.naminhyeok.core.support.error.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 순위 페이지의 마지막 항목. 위치가 아니라 항목의 카운트와 값으로 다음 페이지를 찾으므로, 페이지 사이에 로그가 추가되어 순위가 바뀌어도
+ * 이미 본 항목 뒤에서 이어간다.
+ */
+public record RankingCursor(
+    long count,
+    String value
+) {
+
+    private static final char SEPARATOR = ':';
+
+    public static RankingCursor after(RankedItem item) {
+        return new RankingCursor(item.count(), item.value());
+    }
+
+    public String encode() {
+        byte[] bytes = (count + String.valueOf(SEPARATOR) + value).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public static RankingCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            // 값에도 구분자가 있을 수 있으므로 첫 구분자로만 나눈다
+            return new RankingCursor(Long.parseLong(decoded.substring(0, separator)), decoded.substring(separator + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new CoreException(ErrorType.INVALID_REQUEST, "cursor가 올바르지 않습니다.");
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.naminhyeok.core.domain;
+
+/**
+ * 페이지 단위로 끝까지 훑을 수 있는 빈도 순위의 대상.
+ */
+public enum RankingDimension {
+    PATHS,
+    PATH_TEMPLATES,
+    CLIENT_IPS
+}
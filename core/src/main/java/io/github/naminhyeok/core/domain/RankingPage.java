@@ -0,0 +1,17 @@
+package io.github.naminhyeok.core.domain;
+
+import java.util.List;
+
+/**
+ * 순위의 한 구간. {@code totalItems}는 순위에 있는 전체 항목 수이고, {@code hasNext}이면 마지막 항목 뒤에 항목이 더 있다.
+ */
+public record RankingPage(
+    List<RankedItem> items,
+    int totalItems,
+    boolean hasNext
+) {
+
+    public RankingCursor nextCursor() {
+        return hasNext ? RankingCursor.after(items.getLast()) : null;
+    }
+}
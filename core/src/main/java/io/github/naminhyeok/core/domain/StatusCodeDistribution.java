@@ -16,16 +16,16 @@ public record StatusCodeDistribution(
 
         long total = accessLogs.size();
         long successCount = accessLogs.stream()
-            .filter(log -> log.httpStatus().is2xxSuccessful())
+            .filter(log -> log.httpStatus() / 100 == 2)
             .count();
         long redirectCount = accessLogs.stream()
-            .filter(log -> log.httpStatus().is3xxRedirection())
+            .filter(log -> log.httpStatus() / 100 == 3)
             .count();
         long clientErrorCount = accessLogs.stream()
-            .filter(log -> log.httpStatus().is4xxClientError())
+            .filter(log -> log.httpStatus() / 100 == 4)
             .count();
         long serverErrorCount = accessLogs.stream()
-            .filter(log -> log.httpStatus().is5xxServerError())
+            .filter(log -> log.httpStatus() / 100 == 5)
             .count();
 
         return new StatusCodeDistribution(
@@ -0,0 +1,17 @@
+package io.github.naminhyeok.core.domain;
+
+import java.time.LocalDateTime;
+
+public record TimeBucket(
+    LocalDateTime start,
+    long requests,
+    long clientErrors,
+    long serverErrors,
+    long sentBytes,
+    long receivedBytes
+) {
+
+    public double errorRate() {
+        return requests == 0 ? 0.0 : (double) (clientErrors + serverErrors) / requests * 100.0;
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import java.io.IOException;
+
+/**
+ * 클라이언트 IP, 요청 경로, User-Agent의 고유 개수를 {@link HyperLogLog}로 추정한다.
+ * 경로와 IP 카운터의 모드와 무관하게 항상 고정된 메모리(스케치당 4KB)만 사용한다.
+ */
+public class CardinalityCounter {
+
+    private final HyperLogLog clientIps;
+    private final HyperLogLog paths;
+    private final HyperLogLog userAgents;
+
+    public CardinalityCounter() {
+        this(new HyperLogLog(), new HyperLogLog(), new HyperLogLog());
+    }
+
+    private CardinalityCounter(HyperLogLog clientIps, HyperLogLog paths, HyperLogLog userAgents) {
+        this.clientIps = clientIps;
+        this.paths = paths;
+        this.userAgents = userAgents;
+    }
+
+    public void add(String clientIp, String path, String userAgent) {
+        clientIps.add(clientIp);
+        paths.add(path);
+        userAgents.add(userAgent);
+    }
+
+    public long getDistinctClientIps() {
+        return clientIps.estimate();
+    }
+
+    public long getDistinctPaths() {
+        return paths.estimate();
+    }
+
+    public long getDistinctUserAgents() {
+        return userAgents.estimate();
+    }
+
+    public CardinalityCounter merge(CardinalityCounter other) {
+        clientIps.merge(other.clientIps);
+        paths.merge(other.paths);
+        userAgents.merge(other.userAgents);
+        return this;
+    }
+
+    public long estimatedBytes() {
+        return MemoryFootprint.OBJECT_HEADER + 3 * MemoryFootprint.REFERENCE
+            + clientIps.estimatedBytes() + paths.estimatedBytes() + userAgents.estimatedBytes();
+    }
+
+    public void writeTo(SnapshotOutput out) throws IOException {
+        clientIps.writeTo(out);
+        paths.writeTo(out);
+        userAgents.writeTo(out);
+    }
+
+    public static CardinalityCounter readFrom(SnapshotInput in) throws IOException {
+        return new CardinalityCounter(HyperLogLog.readFrom(in), HyperLogLog.readFrom(in), HyperLogLog.readFrom(in));
+    }
+
+    public CardinalityCounter copy() {
+        return new CardinalityCounter(clientIps.copy(), paths.copy(), userAgents.copy());
+    }
+}
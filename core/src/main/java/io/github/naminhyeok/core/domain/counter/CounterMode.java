@@ -0,0 +1,6 @@
+package io.github.naminhyeok.core.domain.counter;
+
+public enum CounterMode {
+    EXACT,
+    APPROXIMATE
+}
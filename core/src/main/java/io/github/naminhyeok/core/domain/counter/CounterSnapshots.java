@@ -0,0 +1,69 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import io.github.naminhyeok.core.domain.RankedItem;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 키 카운터 스냅샷의 공통 형식. 종류 태그, (근사면) 용량, 총합, 항목 수 다음에 카운트 내림차순으로 항목을 쓴다.
+ * 항목은 키, 카운트(첫 항목은 값 그대로, 이후는 앞 항목과의 차이), (근사면) 오차다. 정렬되어 있으므로 차이는 항상 0 이상이고 대부분 작다.
+ */
+final class CounterSnapshots {
+
+    static final int EXACT = 0;
+    static final int APPROXIMATE = 1;
+
+    private CounterSnapshots() {
+    }
+
+    static void writeCount(SnapshotOutput out, int index, long count, long previous) throws IOException {
+        out.writeVarLong(index == 0 ? count : previous - count);
+    }
+
+    static long readCount(SnapshotInput in, int index, long previous) throws IOException {
+        long value = in.readVarLong();
+        if (index == 0) {
+            return value;
+        }
+        if (value < 0 || value > previous) {
+            throw new IOException("카운트가 내림차순이 아닙니다.");
+        }
+        return previous - value;
+    }
+
+    static KeyCounter readKeyCounter(SnapshotInput in) throws IOException {
+        int tag = in.readByte();
+        return switch (tag) {
+            case EXACT -> FrequencyCounter.readBody(in);
+            case APPROXIMATE -> SpaceSavingCounter.readBody(in);
+            default -> throw new IOException("알 수 없는 카운터 종류입니다: " + tag);
+        };
+    }
+
+    static List<RankedItem> readTop(SnapshotInput in, int limit) throws IOException {
+        int tag = in.readByte();
+        if (tag != EXACT && tag != APPROXIMATE) {
+            throw new IOException("알 수 없는 카운터 종류입니다: " + tag);
+        }
+        boolean approximate = tag == APPROXIMATE;
+        if (approximate) {
+            in.readVarInt();
+        }
+        long total = in.readVarLong();
+        int size = in.readLength(Integer.MAX_VALUE);
+
+        int resultSize = Math.max(Math.min(limit, size), 0);
+        List<RankedItem> top = new ArrayList<>(resultSize);
+        long count = 0;
+        for (int i = 0; i < resultSize; i++) {
+            String key = in.readString();
+            count = readCount(in, i, count);
+            long error = approximate ? in.readVarLong() : 0L;
+            double percentage = total == 0 ? 0.0 : (double) count / total * 100.0;
+            top.add(new RankedItem(key, count, percentage, error));
+        }
+        return List.copyOf(top);
+    }
+}
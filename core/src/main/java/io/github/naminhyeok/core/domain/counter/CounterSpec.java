@@ -0,0 +1,59 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import io.github.naminhyeok.core.domain.PathNormalizer;
+import io.github.naminhyeok.core.domain.PathTemplates;
+
+/**
+ * 경로와 IP의 빈도/가중치 카운터를 어떤 방식으로 만들지 정한다. {@code capacity}는 근사 모드에서 추적할 최대 키 수이고,
+ * {@code pathTemplates}는 경로를 템플릿별로 묶어 셀 때 우선 적용할 템플릿이다.
+ */
+public record CounterSpec(
+    CounterMode mode,
+    int capacity,
+    PathTemplates pathTemplates
+) {
+    private static final CounterSpec EXACT = new CounterSpec(CounterMode.EXACT, 0);
+
+    public CounterSpec {
+        if (mode == CounterMode.APPROXIMATE && capacity <= 0) {
+            throw new IllegalArgumentException("근사 카운터의 capacity는 1 이상이어야 합니다: " + capacity);
+        }
+        if (pathTemplates == null) {
+            pathTemplates = PathTemplates.none();
+        }
+    }
+
+    public CounterSpec(CounterMode mode, int capacity) {
+        this(mode, capacity, PathTemplates.none());
+    }
+
+    public static CounterSpec exact() {
+        return EXACT;
+    }
+
+    public static CounterSpec approximate(int capacity) {
+        return new CounterSpec(CounterMode.APPROXIMATE, capacity);
+    }
+
+    public CounterSpec withPathTemplates(PathTemplates pathTemplates) {
+        return new CounterSpec(mode, capacity, pathTemplates);
+    }
+
+    public KeyCounter newCounter() {
+        return switch (mode) {
+            case EXACT -> new FrequencyCounter();
+            case APPROXIMATE -> new SpaceSavingCounter(capacity);
+        };
+    }
+
+    public WeightedCounter newWeightedCounter() {
+        return switch (mode) {
+            case EXACT -> new WeightedFrequencyCounter();
+            case APPROXIMATE -> new WeightedSpaceSavingCounter(capacity);
+        };
+    }
+
+    public PathNormalizer newPathNormalizer() {
+        return new PathNormalizer(pathTemplates);
+    }
+}
@@ -2,51 +2,116 @@ package io.github.naminhyeok.core.domain.counter;
 
 import io.github.naminhyeok.core.domain.RankedItem;
 
-import java.util.Comparator;
-import java.util.HashMap;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
-public class FrequencyCounter {
+public final class FrequencyCounter implements KeyCounter {
 
-    private final Map<String, Long> counts;
+    private final StringLongTable counts;
     private long total;
 
     public FrequencyCounter() {
-        this.counts = new HashMap<>();
+        this.counts = new StringLongTable();
         this.total = 0;
     }
 
-    private FrequencyCounter(Map<String, Long> counts, long total) {
-        this.counts = new HashMap<>(counts);
+    private FrequencyCounter(StringLongTable counts, long total) {
+        this.counts = counts;
         this.total = total;
     }
 
-    public void increment(String key) {
-        counts.merge(key, 1L, Long::sum);
+    @Override
+    public long increment(String key) {
         total++;
+        return counts.add(key, 1L);
     }
 
+    public long getCount(String key) {
+        return counts.get(key);
+    }
+
+    @Override
+    public int size() {
+        return counts.size();
+    }
+
+    @Override
     public long getTotal() {
         return total;
     }
 
+    @Override
     public List<RankedItem> getTop(int limit) {
-        return counts.entrySet().stream()
-            .sorted(Comparator
-                .comparing(Map.Entry<String, Long>::getValue).reversed()
-                .thenComparing(Map.Entry::getKey))
-            .limit(limit)
-            .map(this::toRankedItem)
-            .toList();
+        List<RankedItem> top = new ArrayList<>(Math.max(Math.min(limit, counts.size()), 0));
+        counts.forEachTop(limit, (key, count) -> top.add(toRankedItem(key, count)));
+        return List.copyOf(top);
+    }
+
+    @Override
+    public KeyRanking rank() {
+        return new KeyRanking(counts.topSlots(counts.size()), counts::keyAt, counts::valueAt, slot -> 0L, total);
+    }
+
+    private RankedItem toRankedItem(String key, long count) {
+        double percentage = total == 0 ? 0.0 : (double) count / total * 100.0;
+        return new RankedItem(key, count, percentage);
+    }
+
+    @Override
+    public boolean isApproximate() {
+        return false;
+    }
+
+    @Override
+    public FrequencyCounter merge(KeyCounter other) {
+        if (!(other instanceof FrequencyCounter frequencyCounter)) {
+            throw new IllegalArgumentException("정확 카운터는 정확 카운터와만 병합할 수 있습니다.");
+        }
+        return merge(frequencyCounter);
+    }
+
+    public FrequencyCounter merge(FrequencyCounter other) {
+        counts.addAll(other.counts);
+        total += other.total;
+        return this;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return MemoryFootprint.OBJECT_HEADER + MemoryFootprint.REFERENCE + Long.BYTES + counts.estimatedBytes();
+    }
+
+    @Override
+    public void writeTo(SnapshotOutput out) throws IOException {
+        out.writeByte(CounterSnapshots.EXACT);
+        out.writeVarLong(total);
+        int[] slots = counts.topSlots(counts.size());
+        out.writeVarInt(slots.length);
+        long previous = 0;
+        for (int i = 0; i < slots.length; i++) {
+            long count = counts.valueAt(slots[i]);
+            out.writeString(counts.keyAt(slots[i]));
+            CounterSnapshots.writeCount(out, i, count, previous);
+            previous = count;
+        }
     }
 
-    private RankedItem toRankedItem(Map.Entry<String, Long> entry) {
-        double percentage = total == 0 ? 0.0 : (double) entry.getValue() / total * 100.0;
-        return new RankedItem(entry.getKey(), entry.getValue(), percentage);
+    static FrequencyCounter readBody(SnapshotInput in) throws IOException {
+        long total = in.readVarLong();
+        int size = in.readLength(Integer.MAX_VALUE);
+        StringLongTable counts = new StringLongTable();
+        long count = 0;
+        for (int i = 0; i < size; i++) {
+            String key = in.readString();
+            count = CounterSnapshots.readCount(in, i, count);
+            counts.add(key, count);
+        }
+        return new FrequencyCounter(counts, total);
     }
 
+    @Override
     public FrequencyCounter copy() {
-        return new FrequencyCounter(this.counts, this.total);
+        return new FrequencyCounter(this.counts.copy(), this.total);
     }
 }
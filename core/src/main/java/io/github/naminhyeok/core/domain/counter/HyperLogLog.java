@@ -0,0 +1,148 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import java.io.IOException;
+
+/**
+ * 서로 다른 문자열 수를 고정된 메모리로 추정하는 HyperLogLog 스케치.
+ * <p>
+ * 2<sup>{@value #PRECISION}</sup>개의 1바이트 레지스터(4KB)를 사용하며 상대 표준 오차는 {@code 1.04 / sqrt(4096)}, 약 1.6%다
+ * (선형 카운팅과 전환되는 약 1만 근처에서는 최대 2% 정도). 작은 값은 빈 레지스터 수로 선형 카운팅을 하므로 오차가 더 작다.
+ * 64비트 해시를 쓰므로 큰 값 구간의 보정은 필요 없다. 병합은 레지스터별 최댓값이라 순서와 무관하게 같은 결과를 낸다.
+ */
+public final class HyperLogLog {
+
+    static final int PRECISION = 12;
+    private static final int REGISTER_COUNT = 1 << PRECISION;
+    private static final double ALPHA = 0.7213 / (1.0 + 1.079 / REGISTER_COUNT);
+    private static final double LINEAR_COUNTING_LIMIT = 3.0 * REGISTER_COUNT;
+    private static final int DENSE = 0;
+    private static final int SPARSE = 1;
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this.registers = new byte[REGISTER_COUNT];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers.clone();
+    }
+
+    public void add(String value) {
+        if (value == null) {
+            return;
+        }
+        long hash = hash(value);
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        // 인덱스로 쓴 상위 비트를 밀어낸 뒤, 남은 비트의 선행 0 개수 + 1을 기록한다
+        long remaining = hash << PRECISION;
+        int rank = remaining == 0 ? Long.SIZE - PRECISION + 1 : Long.numberOfLeadingZeros(remaining) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    public long estimate() {
+        double sum = 0.0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += Double.longBitsToDouble((long) (1023 - register) << 52);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        if (zeros > 0) {
+            // 원래 HLL 추정치는 2.5m 근처에서 편향이 커지므로, 선형 카운팅 값 자체가 3m 이하이면 그 값을 쓴다
+            double linearCount = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros);
+            if (linearCount <= LINEAR_COUNTING_LIMIT) {
+                return Math.round(linearCount);
+            }
+        }
+        return Math.round(ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum);
+    }
+
+    public HyperLogLog merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+        return this;
+    }
+
+    public long estimatedBytes() {
+        return MemoryFootprint.OBJECT_HEADER + MemoryFootprint.REFERENCE + MemoryFootprint.ofArray(registers.length, Byte.BYTES);
+    }
+
+    /**
+     * 값이 적어 빈 레지스터가 대부분이면 (앞 레지스터와의 인덱스 차이, 값) 쌍으로, 아니면 레지스터 전체를 그대로 쓴다.
+     */
+    public void writeTo(SnapshotOutput out) throws IOException {
+        out.writeByte(PRECISION);
+        int nonZero = 0;
+        for (byte register : registers) {
+            if (register != 0) {
+                nonZero++;
+            }
+        }
+        // 희소 형식은 레지스터당 대략 2바이트이므로 1/3 미만이 채워졌을 때만 이득이다
+        if (nonZero * 3 >= REGISTER_COUNT) {
+            out.writeByte(DENSE);
+            out.writeBytes(registers);
+            return;
+        }
+        out.writeByte(SPARSE);
+        out.writeVarInt(nonZero);
+        int previous = -1;
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (registers[i] != 0) {
+                out.writeVarInt(i - previous);
+                out.writeByte(registers[i]);
+                previous = i;
+            }
+        }
+    }
+
+    public static HyperLogLog readFrom(SnapshotInput in) throws IOException {
+        int precision = in.readByte();
+        if (precision != PRECISION) {
+            throw new IOException("지원하지 않는 HyperLogLog 정밀도입니다: " + precision);
+        }
+        int encoding = in.readByte();
+        if (encoding == DENSE) {
+            return new HyperLogLog(in.readBytes(REGISTER_COUNT));
+        }
+        if (encoding != SPARSE) {
+            throw new IOException("알 수 없는 HyperLogLog 형식입니다: " + encoding);
+        }
+        HyperLogLog sketch = new HyperLogLog();
+        int nonZero = in.readLength(REGISTER_COUNT);
+        int index = -1;
+        for (int i = 0; i < nonZero; i++) {
+            index += in.readLength(REGISTER_COUNT);
+            if (index >= REGISTER_COUNT) {
+                throw new IOException("레지스터 범위를 벗어났습니다: " + index);
+            }
+            sketch.registers[index] = (byte) in.readByte();
+        }
+        return sketch;
+    }
+
+    public HyperLogLog copy() {
+        return new HyperLogLog(registers);
+    }
+
+    // String.hashCode는 32비트라 레지스터 인덱스와 순위에 쓰기에 부족하므로, 문자 단위 FNV-1a 뒤에 murmur3 finalizer로 비트를 섞는다
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import io.github.naminhyeok.core.domain.RankedItem;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 문자열 키(경로, IP)의 빈도를 세는 카운터. 모든 키를 정확히 세는 {@link FrequencyCounter}와
+ * 고정된 메모리로 상위 키만 근사하는 {@link SpaceSavingCounter}가 있다.
+ * 병합은 같은 종류의 카운터끼리만 가능하다.
+ */
+public sealed interface KeyCounter permits FrequencyCounter, SpaceSavingCounter {
+
+    /**
+     * 키를 1 늘리고 늘어난 뒤의 카운트를 돌려준다. 근사 카운터는 추정 카운트를 돌려준다.
+     */
+    long increment(String key);
+
+    long getTotal();
+
+    List<RankedItem> getTop(int limit);
+
+    /**
+     * 추적 중인 키의 수. 근사 카운터는 {@code capacity}를 넘지 않는다.
+     */
+    int size();
+
+    /**
+     * 모든 키를 {@link #getTop(int)}과 같은 순서로 정렬한 순위를 만든다. 순위는 이 카운터를 읽으므로 카운터를 바꾸면 다시 만들어야 한다.
+     */
+    KeyRanking rank();
+
+    boolean isApproximate();
+
+    KeyCounter merge(KeyCounter other);
+
+    KeyCounter copy();
+
+    /**
+     * 카운터가 차지하는 힙 크기의 추정치(바이트). 키 문자열도 포함한다.
+     */
+    long estimatedBytes();
+
+    /**
+     * 카운트 내림차순으로 항목을 쓰므로 {@link #readTop(SnapshotInput, int)}는 앞부분만 읽고 멈출 수 있다.
+     */
+    void writeTo(SnapshotOutput out) throws IOException;
+
+    static KeyCounter readFrom(SnapshotInput in) throws IOException {
+        return CounterSnapshots.readKeyCounter(in);
+    }
+
+    /**
+     * {@link #writeTo(SnapshotOutput)}로 쓴 카운터에서 상위 {@code limit}개만 읽는다. 나머지 항목은 읽지 않고 남겨 두므로
+     * 호출 후 같은 스트림에서 이어 읽을 수 없다.
+     */
+    static List<RankedItem> readTop(SnapshotInput in, int limit) throws IOException {
+        return CounterSnapshots.readTop(in, limit);
+    }
+}
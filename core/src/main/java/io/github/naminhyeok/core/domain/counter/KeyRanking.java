@@ -0,0 +1,79 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import io.github.naminhyeok.core.domain.RankedItem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.IntToLongFunction;
+
+/**
+ * 카운터의 키를 카운트 내림차순, 같으면 키 오름차순으로 한 번 정렬해 둔 순위. 정렬된 슬롯 번호 배열만 들고 키와 카운트는 카운터의 저장소에서 읽으므로
+ * 키 하나에 4바이트만 더 든다. 카운터가 바뀌면 슬롯 번호가 달라지므로 카운터를 바꾸기 전에 버려야 한다.
+ * <p>
+ * 상위 N개는 앞에서 자르기만 하면 되고, 어떤 항목 다음 구간은 이진 탐색으로 찾으므로 다시 정렬하지 않는다.
+ */
+public final class KeyRanking {
+
+    private final int[] order;
+    private final IntFunction<String> keyAt;
+    private final IntToLongFunction countAt;
+    private final IntToLongFunction errorAt;
+    private final long total;
+
+    KeyRanking(int[] order, IntFunction<String> keyAt, IntToLongFunction countAt, IntToLongFunction errorAt, long total) {
+        this.order = order;
+        this.keyAt = keyAt;
+        this.countAt = countAt;
+        this.errorAt = errorAt;
+        this.total = total;
+    }
+
+    public int size() {
+        return order.length;
+    }
+
+    /**
+     * {@code from}번째(0부터)부터 최대 {@code limit}개. 범위를 벗어나면 빈 리스트다.
+     */
+    public List<RankedItem> slice(int from, int limit) {
+        int start = Math.max(from, 0);
+        int end = (int) Math.min((long) start + Math.max(limit, 0), order.length);
+        if (start >= end) {
+            return List.of();
+        }
+        List<RankedItem> items = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            int slot = order[i];
+            long count = countAt.applyAsLong(slot);
+            double percentage = total == 0 ? 0.0 : (double) count / total * 100.0;
+            items.add(new RankedItem(keyAt.apply(slot), count, percentage, errorAt.applyAsLong(slot)));
+        }
+        return List.copyOf(items);
+    }
+
+    /**
+     * 카운트가 {@code count}이고 키가 {@code key}인 항목보다 순위가 낮은 첫 위치. 그 항목이 지금 순위에 없어도 그 자리를 기준으로 찾는다.
+     */
+    public int positionAfter(long count, String key) {
+        int low = 0;
+        int high = order.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ranksLower(order[mid], count, key)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private boolean ranksLower(int slot, long count, String key) {
+        long slotCount = countAt.applyAsLong(slot);
+        if (slotCount != count) {
+            return slotCount < count;
+        }
+        return keyAt.apply(slot).compareTo(key) > 0;
+    }
+}
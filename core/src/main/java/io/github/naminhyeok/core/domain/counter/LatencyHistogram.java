@@ -0,0 +1,175 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import io.github.naminhyeok.core.domain.LatencySummary;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 로그-선형 버킷(HdrHistogram 방식)으로 값을 세는 히스토그램. 2의 거듭제곱 구간마다 {@value #SUB_BUCKET_COUNT}개의 균등 버킷을 두므로
+ * 버킷 폭은 값의 1/64 이하이고, 백분위 값의 상대 오차도 그 이내다. 64 미만의 값은 정확히 센다.
+ * <p>
+ * 버킷 배열은 기록된 최댓값까지만 늘어나며, {@code long} 전체 범위를 담아도 {@value #MAX_BUCKETS}개를 넘지 않는다.
+ * 병합은 버킷별 합이라 순서와 무관하다.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int INITIAL_BUCKETS = 2 * SUB_BUCKET_COUNT;
+    static final int MAX_BUCKETS = bucketIndex(Long.MAX_VALUE) + 1;
+
+    private long[] counts;
+    private long totalCount;
+    private long max;
+
+    public LatencyHistogram() {
+        this.counts = new long[INITIAL_BUCKETS];
+    }
+
+    private LatencyHistogram(LatencyHistogram source) {
+        this.counts = source.counts.clone();
+        this.totalCount = source.totalCount;
+        this.max = source.max;
+    }
+
+    /**
+     * 음수는 0으로 기록한다.
+     */
+    public void record(long value) {
+        long clamped = Math.max(value, 0L);
+        int index = bucketIndex(clamped);
+        if (index >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.min(Math.max(index + 1, counts.length * 2), MAX_BUCKETS));
+        }
+        counts[index]++;
+        totalCount++;
+        if (clamped > max) {
+            max = clamped;
+        }
+    }
+
+    /**
+     * 모든 기록을 지운다. 늘어난 버킷 배열은 그대로 두고 0으로 채워 다시 쓴다.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0L);
+        totalCount = 0;
+        max = 0;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * {@code percentile}(0~100) 위치의 값. 해당 순위가 속한 버킷의 상한을 반환하되 기록된 최댓값을 넘지 않는다.
+     */
+    public long valueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    public LatencySummary summarize() {
+        return new LatencySummary(
+            totalCount,
+            valueAtPercentile(50.0),
+            valueAtPercentile(90.0),
+            valueAtPercentile(99.0),
+            valueAtPercentile(99.9),
+            max
+        );
+    }
+
+    public LatencyHistogram merge(LatencyHistogram other) {
+        if (other.counts.length > counts.length) {
+            counts = Arrays.copyOf(counts, other.counts.length);
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    public long estimatedBytes() {
+        return MemoryFootprint.OBJECT_HEADER + MemoryFootprint.REFERENCE + 2 * Long.BYTES
+            + MemoryFootprint.ofArray(counts.length, Long.BYTES);
+    }
+
+    /**
+     * 비어 있지 않은 버킷만 (앞 버킷과의 인덱스 차이, 카운트) 쌍으로 쓴다.
+     */
+    public void writeTo(SnapshotOutput out) throws IOException {
+        out.writeVarLong(totalCount);
+        out.writeVarLong(max);
+        out.writeVarInt(counts.length);
+        int nonZero = 0;
+        for (long count : counts) {
+            if (count > 0) {
+                nonZero++;
+            }
+        }
+        out.writeVarInt(nonZero);
+        int previous = -1;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                out.writeVarInt(i - previous);
+                out.writeVarLong(counts[i]);
+                previous = i;
+            }
+        }
+    }
+
+    public static LatencyHistogram readFrom(SnapshotInput in) throws IOException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.totalCount = in.readVarLong();
+        histogram.max = in.readVarLong();
+        int length = in.readLength(MAX_BUCKETS);
+        histogram.counts = new long[Math.max(length, INITIAL_BUCKETS)];
+        int nonZero = in.readLength(length);
+        int index = -1;
+        for (int i = 0; i < nonZero; i++) {
+            index += in.readLength(length);
+            if (index >= length) {
+                throw new IOException("히스토그램 버킷 범위를 벗어났습니다: " + index);
+            }
+            histogram.counts[index] = in.readVarLong();
+        }
+        return histogram;
+    }
+
+    public LatencyHistogram copy() {
+        return new LatencyHistogram(this);
+    }
+
+    // 최상위 비트 아래 SUB_BUCKET_BITS 비트까지를 남기고 버린 비트 수(shift)를 구간 번호로 쓴다. 64 미만은 shift가 0이라 값 자체가 인덱스다
+    static int bucketIndex(long value) {
+        int shift = Math.max(0, Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < INITIAL_BUCKETS) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long lowest = (long) (index - (shift << SUB_BUCKET_BITS)) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
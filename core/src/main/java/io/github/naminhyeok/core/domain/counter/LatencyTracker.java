@@ -0,0 +1,135 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import io.github.naminhyeok.core.domain.LatencySummary;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 전체 응답 시간 히스토그램과, 빈도가 높은 경로별 히스토그램을 함께 관리한다.
+ * <p>
+ * 경로별 히스토그램은 {@link SpaceSavingCounter}가 추적하는 최대 {@code capacity}개 경로에만 둔다. 빈도가 전체의 {@code 1/capacity}를 넘는
+ * 경로는 항상 추적되며, 도중에 추적을 시작한 경로는 그 이전의 관측값(최대 해당 슬롯의 오차만큼)이 빠진 분포를 갖는다.
+ * 추적되지 않는 경로의 분포는 제공하지 않는다.
+ */
+public class LatencyTracker {
+
+    public static final int DEFAULT_TRACKED_PATHS = 128;
+
+    private final LatencyHistogram overall;
+    private final SpaceSavingCounter trackedPaths;
+    private LatencyHistogram[] pathHistograms;
+
+    public LatencyTracker() {
+        this(DEFAULT_TRACKED_PATHS);
+    }
+
+    public LatencyTracker(int trackedPathCapacity) {
+        this.overall = new LatencyHistogram();
+        this.trackedPaths = new SpaceSavingCounter(trackedPathCapacity);
+        this.pathHistograms = new LatencyHistogram[trackedPathCapacity];
+    }
+
+    private LatencyTracker(LatencyHistogram overall, SpaceSavingCounter trackedPaths) {
+        this.overall = overall;
+        this.trackedPaths = trackedPaths;
+        this.pathHistograms = new LatencyHistogram[trackedPaths.capacity()];
+    }
+
+    private LatencyTracker(LatencyTracker source) {
+        this.overall = source.overall.copy();
+        this.trackedPaths = source.trackedPaths.copy();
+        this.pathHistograms = new LatencyHistogram[source.pathHistograms.length];
+        for (int slot = 0; slot < source.trackedPaths.size(); slot++) {
+            this.pathHistograms[slot] = source.pathHistograms[slot].copy();
+        }
+    }
+
+    public void record(String path, long responseTime) {
+        overall.record(responseTime);
+
+        int slot = trackedPaths.incrementSlot(path);
+        if (slot < 0) {
+            // 새로 추적하는 경로다. 밀려난 경로의 히스토그램이 있으면 비워서 다시 쓰고, 빈 슬롯일 때만 새로 만든다
+            slot = ~slot;
+            if (pathHistograms[slot] == null) {
+                pathHistograms[slot] = new LatencyHistogram();
+            } else {
+                pathHistograms[slot].reset();
+            }
+        }
+        pathHistograms[slot].record(responseTime);
+    }
+
+    public LatencySummary getOverall() {
+        return overall.summarize();
+    }
+
+    /**
+     * 추적 중인 경로면 그 경로의 응답 시간 요약을, 아니면 {@code null}을 반환한다.
+     */
+    public LatencySummary getByPath(String path) {
+        int slot = trackedPaths.slotOf(path);
+        return slot < 0 ? null : pathHistograms[slot].summarize();
+    }
+
+    public LatencyTracker merge(LatencyTracker other) {
+        overall.merge(other.overall);
+
+        // 병합 후 남는 경로는 양쪽 경로의 합집합 안에 있으므로, 키별로 히스토그램을 모아 둔 뒤 새 슬롯 배치에 맞춰 다시 꽂는다
+        Map<String, LatencyHistogram> byPath = HashMap.newHashMap(trackedPaths.size() + other.trackedPaths.size());
+        for (int slot = 0; slot < trackedPaths.size(); slot++) {
+            byPath.put(trackedPaths.keyAt(slot), pathHistograms[slot]);
+        }
+        for (int slot = 0; slot < other.trackedPaths.size(); slot++) {
+            byPath.merge(other.trackedPaths.keyAt(slot), other.pathHistograms[slot].copy(), LatencyHistogram::merge);
+        }
+
+        trackedPaths.merge(other.trackedPaths);
+        pathHistograms = new LatencyHistogram[pathHistograms.length];
+        for (int slot = 0; slot < trackedPaths.size(); slot++) {
+            pathHistograms[slot] = byPath.get(trackedPaths.keyAt(slot));
+        }
+        return this;
+    }
+
+    public long estimatedBytes() {
+        long bytes = MemoryFootprint.OBJECT_HEADER + 3 * MemoryFootprint.REFERENCE
+            + overall.estimatedBytes() + trackedPaths.estimatedBytes()
+            + MemoryFootprint.ofArray(pathHistograms.length, MemoryFootprint.REFERENCE);
+        for (LatencyHistogram histogram : pathHistograms) {
+            if (histogram != null) {
+                bytes += histogram.estimatedBytes();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 추적 경로 요약 다음에 경로별 히스토그램을 요약의 순위 순서대로 쓴다. 복원한 요약도 같은 순서를 내므로 슬롯 번호는 따로 쓰지 않는다.
+     */
+    public void writeTo(SnapshotOutput out) throws IOException {
+        overall.writeTo(out);
+        trackedPaths.writeTo(out);
+        for (int slot : trackedPaths.orderedSlots()) {
+            pathHistograms[slot].writeTo(out);
+        }
+    }
+
+    public static LatencyTracker readFrom(SnapshotInput in) throws IOException {
+        LatencyHistogram overall = LatencyHistogram.readFrom(in);
+        if (!(KeyCounter.readFrom(in) instanceof SpaceSavingCounter trackedPaths)) {
+            throw new IOException("추적 경로 요약이 근사 카운터가 아닙니다.");
+        }
+        LatencyTracker tracker = new LatencyTracker(overall, trackedPaths);
+        for (int slot : trackedPaths.orderedSlots()) {
+            tracker.pathHistograms[slot] = LatencyHistogram.readFrom(in);
+        }
+        return tracker;
+    }
+
+    public LatencyTracker copy() {
+        return new LatencyTracker(this);
+    }
+}
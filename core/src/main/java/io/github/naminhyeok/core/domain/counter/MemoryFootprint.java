@@ -0,0 +1,29 @@
+package io.github.naminhyeok.core.domain.counter;
+
+/**
+ * 카운터의 힙 점유량을 어림하는 데 쓰는 상수와 계산. 64비트 JVM의 압축 참조(객체 헤더 12바이트를 8바이트 정렬)와
+ * Latin-1 compact string을 가정하며, 여러 카운터가 같은 키 문자열을 공유해도 각각 센다. 정확한 값이 아니라 상한에 가까운 추정치다.
+ */
+final class MemoryFootprint {
+
+    static final long OBJECT_HEADER = 16;
+    static final long REFERENCE = 4;
+
+    private static final long ARRAY_HEADER = 16;
+    private static final long STRING_OVERHEAD = 24 + ARRAY_HEADER;
+
+    private MemoryFootprint() {
+    }
+
+    static long ofArray(int length, long elementBytes) {
+        return align(ARRAY_HEADER + length * elementBytes);
+    }
+
+    static long ofString(String value) {
+        return value == null ? 0L : align(STRING_OVERHEAD + value.length());
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
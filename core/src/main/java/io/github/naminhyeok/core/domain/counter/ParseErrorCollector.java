@@ -1,32 +1,52 @@
 package io.github.naminhyeok.core.domain.counter;
 
 import io.github.naminhyeok.core.domain.ParseError;
+import io.github.naminhyeok.core.domain.ParseErrorReason;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 public class ParseErrorCollector {
 
     private static final int MAX_SAMPLES = 10;
+    private static final int MAX_SAMPLES_PER_REASON = 3;
+    private static final ParseErrorReason[] REASONS = ParseErrorReason.values();
 
     private final List<ParseError> samples;
+    private final int[] reasonCounts;
+    private final EnumMap<ParseErrorReason, List<ParseError>> reasonSamples;
     private int totalCount;
 
     public ParseErrorCollector() {
         this.samples = new ArrayList<>();
+        this.reasonCounts = new int[REASONS.length];
+        this.reasonSamples = new EnumMap<>(ParseErrorReason.class);
         this.totalCount = 0;
     }
 
-    private ParseErrorCollector(List<ParseError> samples, int totalCount) {
-        this.samples = new ArrayList<>(samples);
-        this.totalCount = totalCount;
+    private ParseErrorCollector(ParseErrorCollector source) {
+        this.samples = new ArrayList<>(source.samples);
+        this.reasonCounts = source.reasonCounts.clone();
+        this.reasonSamples = new EnumMap<>(ParseErrorReason.class);
+        source.reasonSamples.forEach((reason, list) -> this.reasonSamples.put(reason, new ArrayList<>(list)));
+        this.totalCount = source.totalCount;
     }
 
     public void add(int lineNumber, String rawLine, String message) {
         totalCount++;
-        if (samples.size() < MAX_SAMPLES) {
-            samples.add(ParseError.of(lineNumber, rawLine, message));
-        }
+        insertSample(samples, lineNumber, rawLine, message, MAX_SAMPLES);
+    }
+
+    public void add(int lineNumber, String rawLine, ParseErrorReason reason) {
+        add(lineNumber, rawLine, reason.getMessage());
+        reasonCounts[reason.ordinal()]++;
+        List<ParseError> reasonList = reasonSamples.computeIfAbsent(reason, key -> new ArrayList<>(MAX_SAMPLES_PER_REASON));
+        insertSample(reasonList, lineNumber, rawLine, reason.getMessage(), MAX_SAMPLES_PER_REASON);
     }
 
     public int getTotalCount() {
@@ -37,7 +57,167 @@ public class ParseErrorCollector {
         return List.copyOf(samples);
     }
 
+    public Map<ParseErrorReason, Integer> getCountsByReason() {
+        EnumMap<ParseErrorReason, Integer> counts = new EnumMap<>(ParseErrorReason.class);
+        for (ParseErrorReason reason : REASONS) {
+            if (reasonCounts[reason.ordinal()] > 0) {
+                counts.put(reason, reasonCounts[reason.ordinal()]);
+            }
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    public Map<ParseErrorReason, List<ParseError>> getSamplesByReason() {
+        EnumMap<ParseErrorReason, List<ParseError>> copied = new EnumMap<>(ParseErrorReason.class);
+        reasonSamples.forEach((reason, list) -> copied.put(reason, List.copyOf(list)));
+        return Collections.unmodifiableMap(copied);
+    }
+
+    /**
+     * 다른 collector의 오류를 합친다. 양쪽 샘플을 라인 번호 순으로 병합해 가장 앞선 {@value MAX_SAMPLES}개만 남기므로
+     * 병합 순서와 관계없이 같은 샘플이 선택된다. 사유별 샘플도 같은 규칙을 따른다.
+     */
+    public ParseErrorCollector merge(ParseErrorCollector other) {
+        totalCount += other.totalCount;
+        for (int i = 0; i < reasonCounts.length; i++) {
+            reasonCounts[i] += other.reasonCounts[i];
+        }
+        mergeSamples(samples, other.samples, MAX_SAMPLES);
+        other.reasonSamples.forEach((reason, otherList) -> mergeSamples(
+            reasonSamples.computeIfAbsent(reason, key -> new ArrayList<>(MAX_SAMPLES_PER_REASON)),
+            otherList,
+            MAX_SAMPLES_PER_REASON
+        ));
+        return this;
+    }
+
+    public void shiftLineNumbers(int offset) {
+        samples.replaceAll(sample -> shift(sample, offset));
+        reasonSamples.values().forEach(list -> list.replaceAll(sample -> shift(sample, offset)));
+    }
+
+    /**
+     * 샘플 수가 제한되어 있으므로 카운터들에 비해 작다. 샘플의 원본 라인과 메시지 문자열을 포함한다.
+     */
+    public long estimatedBytes() {
+        long bytes = MemoryFootprint.OBJECT_HEADER + 3 * MemoryFootprint.REFERENCE + Integer.BYTES
+            + MemoryFootprint.ofArray(reasonCounts.length, Integer.BYTES)
+            + estimatedBytes(samples);
+        for (List<ParseError> reasonList : reasonSamples.values()) {
+            bytes += estimatedBytes(reasonList);
+        }
+        return bytes;
+    }
+
+    private static long estimatedBytes(List<ParseError> errors) {
+        long bytes = MemoryFootprint.OBJECT_HEADER + MemoryFootprint.ofArray(errors.size(), MemoryFootprint.REFERENCE);
+        for (ParseError error : errors) {
+            bytes += MemoryFootprint.OBJECT_HEADER + Integer.BYTES + 2 * MemoryFootprint.REFERENCE
+                + MemoryFootprint.ofString(error.rawLine()) + MemoryFootprint.ofString(error.errorMessage());
+        }
+        return bytes;
+    }
+
+    /**
+     * 사유는 순서 번호가 아니라 이름으로 써서 {@link ParseErrorReason} 상수가 추가되거나 순서가 바뀌어도 읽을 수 있게 한다.
+     */
+    public void writeTo(SnapshotOutput out) throws IOException {
+        out.writeVarInt(totalCount);
+        Map<ParseErrorReason, Integer> counts = getCountsByReason();
+        out.writeVarInt(counts.size());
+        for (Map.Entry<ParseErrorReason, Integer> entry : counts.entrySet()) {
+            out.writeString(entry.getKey().name());
+            out.writeVarInt(entry.getValue());
+        }
+        writeSamples(out, samples);
+        out.writeVarInt(reasonSamples.size());
+        for (Map.Entry<ParseErrorReason, List<ParseError>> entry : reasonSamples.entrySet()) {
+            out.writeString(entry.getKey().name());
+            writeSamples(out, entry.getValue());
+        }
+    }
+
+    public static ParseErrorCollector readFrom(SnapshotInput in) throws IOException {
+        ParseErrorCollector collector = new ParseErrorCollector();
+        collector.totalCount = in.readVarInt();
+        int reasonCount = in.readLength(REASONS.length);
+        for (int i = 0; i < reasonCount; i++) {
+            collector.reasonCounts[readReason(in).ordinal()] = in.readVarInt();
+        }
+        readSamples(in, collector.samples, MAX_SAMPLES);
+        int sampledReasons = in.readLength(REASONS.length);
+        for (int i = 0; i < sampledReasons; i++) {
+            List<ParseError> reasonList = new ArrayList<>(MAX_SAMPLES_PER_REASON);
+            collector.reasonSamples.put(readReason(in), reasonList);
+            readSamples(in, reasonList, MAX_SAMPLES_PER_REASON);
+        }
+        return collector;
+    }
+
+    private static void writeSamples(SnapshotOutput out, List<ParseError> errors) throws IOException {
+        out.writeVarInt(errors.size());
+        for (ParseError error : errors) {
+            out.writeSignedVarLong(error.lineNumber());
+            out.writeString(error.rawLine());
+            out.writeString(error.errorMessage());
+        }
+    }
+
+    private static void readSamples(SnapshotInput in, List<ParseError> target, int limit) throws IOException {
+        int size = in.readLength(limit);
+        for (int i = 0; i < size; i++) {
+            target.add(ParseError.of((int) in.readSignedVarLong(), in.readString(), in.readString()));
+        }
+    }
+
+    private static ParseErrorReason readReason(SnapshotInput in) throws IOException {
+        String name = in.readString();
+        for (ParseErrorReason reason : REASONS) {
+            if (reason.name().equals(name)) {
+                return reason;
+            }
+        }
+        throw new IOException("알 수 없는 파싱 오류 사유입니다: " + name);
+    }
+
     public ParseErrorCollector copy() {
-        return new ParseErrorCollector(this.samples, this.totalCount);
+        return new ParseErrorCollector(this);
+    }
+
+    // 샘플은 라인 번호 오름차순으로 유지하며, 가득 차면 가장 뒤의 샘플보다 앞선 오류만 받아들인다
+    private static void insertSample(List<ParseError> target, int lineNumber, String rawLine, String message, int limit) {
+        if (target.size() == limit && lineNumber >= target.getLast().lineNumber()) {
+            return;
+        }
+        int index = target.size();
+        while (index > 0 && target.get(index - 1).lineNumber() > lineNumber) {
+            index--;
+        }
+        target.add(index, ParseError.of(lineNumber, rawLine, message));
+        if (target.size() > limit) {
+            target.removeLast();
+        }
+    }
+
+    private static void mergeSamples(List<ParseError> target, List<ParseError> other, int limit) {
+        if (other.isEmpty()) {
+            return;
+        }
+        ParseError[] merged = new ParseError[Math.min(limit, target.size() + other.size())];
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < merged.length; k++) {
+            if (j == other.size() || (i < target.size() && target.get(i).lineNumber() <= other.get(j).lineNumber())) {
+                merged[k] = target.get(i++);
+            } else {
+                merged[k] = other.get(j++);
+            }
+        }
+        target.clear();
+        target.addAll(Arrays.asList(merged));
+    }
+
+    private static ParseError shift(ParseError sample, int offset) {
+        return ParseError.of(sample.lineNumber() + offset, sample.rawLine(), sample.errorMessage());
     }
 }
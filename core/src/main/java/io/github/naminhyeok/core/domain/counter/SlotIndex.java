@@ -0,0 +1,109 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import java.util.Arrays;
+
+/**
+ * 고정된 개수의 슬롯을 쓰는 카운터에서 키로 슬롯 번호를 찾는 open addressing 인덱스.
+ * {@code HashMap<String, Integer>}와 달리 항목마다 Node와 박싱된 Integer를 만들지 않는다.
+ * <p>
+ * 슬롯을 다른 키에 넘겨줄 때 이전 키를 지워야 하므로, 삭제한 칸은 묘비를 남기지 않고 뒤의 항목을 당겨 채운다.
+ */
+final class SlotIndex {
+
+    private final String[] keys;
+    private final int[] hashes;
+    private final int[] slots;
+
+    SlotIndex(int capacity) {
+        // 적재율을 0.5 이하로 두어 탐사가 짧게 끝나게 한다
+        int tableSize = Integer.highestOneBit(Math.max(capacity * 2, 2) - 1) << 1;
+        this.keys = new String[tableSize];
+        this.hashes = new int[tableSize];
+        this.slots = new int[tableSize];
+    }
+
+    private SlotIndex(SlotIndex source) {
+        this.keys = source.keys.clone();
+        this.hashes = source.hashes.clone();
+        this.slots = source.slots.clone();
+    }
+
+    /**
+     * 키의 슬롯 번호. 없으면 -1이다.
+     */
+    int get(String key) {
+        int hash = hash(key);
+        int mask = keys.length - 1;
+        for (int index = hash & mask; keys[index] != null; index = (index + 1) & mask) {
+            if (hashes[index] == hash && keys[index].equals(key)) {
+                return slots[index];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 없는 키를 슬롯에 대응시킨다. 이미 있는 키인지는 확인하지 않는다.
+     */
+    void put(String key, int slot) {
+        int hash = hash(key);
+        int mask = keys.length - 1;
+        int index = hash & mask;
+        while (keys[index] != null) {
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        hashes[index] = hash;
+        slots[index] = slot;
+    }
+
+    void remove(String key) {
+        int hash = hash(key);
+        int mask = keys.length - 1;
+        int index = hash & mask;
+        while (true) {
+            if (keys[index] == null) {
+                return;
+            }
+            if (hashes[index] == hash && keys[index].equals(key)) {
+                break;
+            }
+            index = (index + 1) & mask;
+        }
+
+        // 빈 칸을 만날 때까지, 빈 자리로 옮겨도 자기 탐사 경로를 벗어나지 않는 항목을 하나씩 당긴다
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (keys[next] != null) {
+            int home = hashes[next] & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                hashes[hole] = hashes[next];
+                slots[hole] = slots[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = null;
+    }
+
+    void clear() {
+        Arrays.fill(keys, null);
+    }
+
+    long estimatedBytes() {
+        return MemoryFootprint.OBJECT_HEADER + 3 * MemoryFootprint.REFERENCE
+            + MemoryFootprint.ofArray(keys.length, MemoryFootprint.REFERENCE)
+            + 2 * MemoryFootprint.ofArray(keys.length, Integer.BYTES);
+    }
+
+    SlotIndex copy() {
+        return new SlotIndex(this);
+    }
+
+    // StringLongTable과 같은 이유로 상위 비트를 섞는다
+    private static int hash(String key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link SnapshotOutput}으로 쓴 스냅샷을 읽는다. 형식이 어긋나면 {@link IOException}을 던진다.
+ */
+public final class SnapshotInput {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_VAR_LONG_BYTES = 10;
+    private static final int MAX_STRING_BYTES = 1 << 24;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final List<String> dictionary = new ArrayList<>();
+    private int position;
+    private int limit;
+
+    public SnapshotInput(InputStream in) {
+        this.in = in;
+    }
+
+    public int readByte() throws IOException {
+        if (position == limit && !fill()) {
+            throw new EOFException("스냅샷이 예상보다 일찍 끝났습니다.");
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    public byte[] readBytes(int length) throws IOException {
+        byte[] bytes = new byte[length];
+        int read = 0;
+        while (read < length) {
+            if (position == limit && !fill()) {
+                throw new EOFException("스냅샷이 예상보다 일찍 끝났습니다.");
+            }
+            int chunk = Math.min(length - read, limit - position);
+            System.arraycopy(buffer, position, bytes, read, chunk);
+            position += chunk;
+            read += chunk;
+        }
+        return bytes;
+    }
+
+    public long readVarLong() throws IOException {
+        long value = 0;
+        for (int i = 0; i < MAX_VAR_LONG_BYTES; i++) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << (7 * i);
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("varint가 너무 깁니다.");
+    }
+
+    public int readVarInt() throws IOException {
+        long value = readVarLong();
+        if (value > 0xFFFFFFFFL) {
+            throw new IOException("int 범위를 벗어난 값입니다: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * 길이나 개수처럼 0 이상 {@code max} 이하여야 하는 값을 읽는다. 손상된 스냅샷이 거대한 배열 할당으로 이어지지 않게 한다.
+     */
+    public int readLength(int max) throws IOException {
+        long value = readVarLong();
+        if (value < 0 || value > max) {
+            throw new IOException("허용 범위를 벗어난 길이입니다: " + value);
+        }
+        return (int) value;
+    }
+
+    public long readSignedVarLong() throws IOException {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public String readString() throws IOException {
+        int tag = readVarInt();
+        if (tag == SnapshotOutput.NULL_STRING) {
+            return null;
+        }
+        if (tag == SnapshotOutput.NEW_STRING) {
+            String value = new String(readBytes(readLength(MAX_STRING_BYTES)), StandardCharsets.UTF_8);
+            dictionary.add(value);
+            return value;
+        }
+        int index = tag - SnapshotOutput.STRING_REFERENCE_OFFSET;
+        if (index < 0 || index >= dictionary.size()) {
+            throw new IOException("사전에 없는 문자열 번호입니다: " + index);
+        }
+        return dictionary.get(index);
+    }
+
+    private boolean fill() throws IOException {
+        int read = in.read(buffer, 0, BUFFER_SIZE);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
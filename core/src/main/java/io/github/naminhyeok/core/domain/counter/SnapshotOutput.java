@@ -0,0 +1,105 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 스냅샷 인코딩용 출력 스트림. 정수는 LEB128 varint로, 문자열은 스트림 전체에 걸친 사전으로 쓴다.
+ * <p>
+ * 문자열은 처음 나올 때만 UTF-8 바이트를 쓰고 번호를 매기며, 이후에는 번호만 쓴다. 같은 경로와 IP가 여러 카운터에 반복되므로
+ * 사전이 스냅샷 크기의 대부분을 줄인다. 사전을 미리 만들지 않으므로 한 번의 순회로 인코딩이 끝난다.
+ */
+public final class SnapshotOutput {
+
+    // 문자열 태그: 0은 null, 1은 새 문자열, 2 이상은 (사전 번호 + 2)
+    static final int NULL_STRING = 0;
+    static final int NEW_STRING = 1;
+    static final int STRING_REFERENCE_OFFSET = 2;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private int position;
+
+    public SnapshotOutput(OutputStream out) {
+        this.out = out;
+    }
+
+    public void writeByte(int value) throws IOException {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeBytes(byte[] bytes) throws IOException {
+        if (bytes.length > BUFFER_SIZE - position) {
+            flushBuffer();
+            if (bytes.length > BUFFER_SIZE) {
+                out.write(bytes);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    /**
+     * 음수가 아닌 값을 7비트씩 나눠 쓴다. 음수를 넘기면 10바이트가 되므로 부호가 있는 값은 {@link #writeSignedVarLong(long)}을 쓴다.
+     */
+    public void writeVarLong(long value) throws IOException {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeVarInt(int value) throws IOException {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    // ZigZag: 절댓값이 작은 음수도 짧게 쓴다
+    public void writeSignedVarLong(long value) throws IOException {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeString(String value) throws IOException {
+        if (value == null) {
+            writeVarInt(NULL_STRING);
+            return;
+        }
+        Integer index = dictionary.get(value);
+        if (index != null) {
+            writeVarInt(index + STRING_REFERENCE_OFFSET);
+            return;
+        }
+        dictionary.put(value, dictionary.size());
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(NEW_STRING);
+        writeVarInt(bytes.length);
+        writeBytes(bytes);
+    }
+
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    private void ensureCapacity(int bytes) throws IOException {
+        if (position + bytes > BUFFER_SIZE) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import io.github.naminhyeok.core.domain.RankedItem;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 알고리즘으로 최대 {@code capacity}개의 키만 추적하는 근사 카운터. 키 종류가 아무리 많아도 메모리는 고정된다.
+ * <p>
+ * 추적 중이 아닌 키가 들어오면 가장 작은 카운트를 가진 키를 내보내고 그 카운트를 이어받는다. 이때 이어받은 값을 오차로 기록하므로
+ * 보고된 카운트 {@code c}와 오차 {@code e}에 대해 실제 빈도는 항상 {@code [c - e, c]} 안에 있고, {@code e}는 {@code total / capacity}를 넘지 않는다.
+ * 실제 빈도가 {@code total / capacity}보다 큰 키는 반드시 추적된다.
+ */
+public final class SpaceSavingCounter implements KeyCounter {
+
+    private final int capacity;
+    private final String[] keys;
+    private final long[] counts;
+    private final long[] errors;
+    // 카운트 기준 최소 힙. heap에는 슬롯 번호를, heapIndex에는 슬롯이 힙에서 차지한 위치를 담는다
+    private final int[] heap;
+    private final int[] heapIndex;
+    private final SlotIndex slots;
+    private int size;
+    private long total;
+
+    public SpaceSavingCounter(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.keys = new String[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+        this.heap = new int[capacity];
+        this.heapIndex = new int[capacity];
+        this.slots = new SlotIndex(capacity);
+    }
+
+    private SpaceSavingCounter(SpaceSavingCounter source) {
+        this.capacity = source.capacity;
+        this.keys = source.keys.clone();
+        this.counts = source.counts.clone();
+        this.errors = source.errors.clone();
+        this.heap = source.heap.clone();
+        this.heapIndex = source.heapIndex.clone();
+        this.slots = source.slots.copy();
+        this.size = source.size;
+        this.total = source.total;
+    }
+
+    @Override
+    public long increment(String key) {
+        int slot = add(key, 1L, 0L);
+        total++;
+        return counts[slot < 0 ? ~slot : slot];
+    }
+
+    /**
+     * 키에 {@code weight}만큼 더한다(가중 Space-Saving). 0 이하의 가중치는 무시하므로 기존 키를 밀어내지 않는다.
+     */
+    public void increment(String key, long weight) {
+        if (weight <= 0) {
+            return;
+        }
+        add(key, weight, 0L);
+        total += weight;
+    }
+
+    /**
+     * {@link #increment(String)}와 같지만 키가 놓인 슬롯을 돌려준다. 키가 이번에 새로 슬롯을 차지했다면 {@code ~slot}(음수)을 돌려주므로,
+     * 슬롯별 부가 정보를 두는 쪽은 이때 이전 키의 정보를 버려야 한다.
+     */
+    int incrementSlot(String key) {
+        total++;
+        return add(key, 1L, 0L);
+    }
+
+    int slotOf(String key) {
+        return slots.get(key);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    String keyAt(int slot) {
+        return keys[slot];
+    }
+
+    private int add(String key, long count, long error) {
+        int slot = slots.get(key);
+        if (slot >= 0) {
+            counts[slot] += count;
+            errors[slot] += error;
+            siftDown(heapIndex[slot]);
+            return slot;
+        }
+        if (size < capacity) {
+            int newSlot = size++;
+            keys[newSlot] = key;
+            counts[newSlot] = count;
+            errors[newSlot] = error;
+            heap[newSlot] = newSlot;
+            heapIndex[newSlot] = newSlot;
+            siftUp(newSlot);
+            slots.put(key, newSlot);
+            return ~newSlot;
+        }
+
+        // 가장 작은 카운트의 키를 내보내고, 그 카운트만큼을 새 키의 과대 추정 오차로 떠안는다
+        int evicted = heap[0];
+        long minCount = counts[evicted];
+        slots.remove(keys[evicted]);
+        keys[evicted] = key;
+        counts[evicted] = minCount + count;
+        errors[evicted] = minCount + error;
+        slots.put(key, evicted);
+        siftDown(0);
+        return ~evicted;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * 추적되지 않은 키가 가질 수 있는 최대 빈도. 보고된 모든 오차도 이 값 이하다.
+     */
+    public long getMaxError() {
+        return size < capacity ? 0L : counts[heap[0]];
+    }
+
+    /**
+     * 카운트 내림차순, 같으면 키 오름차순. 각 항목에는 과대 추정 가능한 최대치가 {@link RankedItem#errorBound()}로 담긴다.
+     */
+    @Override
+    public List<RankedItem> getTop(int limit) {
+        int[] ordered = topSlots(limit);
+        List<RankedItem> top = new ArrayList<>(ordered.length);
+        for (int slot : ordered) {
+            double percentage = total == 0 ? 0.0 : (double) counts[slot] / total * 100.0;
+            top.add(new RankedItem(keys[slot], counts[slot], percentage, errors[slot]));
+        }
+        return List.copyOf(top);
+    }
+
+    @Override
+    public KeyRanking rank() {
+        return new KeyRanking(orderedSlots(), slot -> keys[slot], slot -> counts[slot], slot -> errors[slot], total);
+    }
+
+    /**
+     * 카운트 내림차순, 같으면 키 오름차순으로 정렬한 슬롯 번호. 같은 상태면 항상 같은 순서다.
+     */
+    int[] orderedSlots() {
+        return topSlots(size);
+    }
+
+    private int[] topSlots(int limit) {
+        return TopSlots.select(size, Math.min(limit, size), slot -> true, this::ranksHigher);
+    }
+
+    private boolean ranksHigher(int slot, int other) {
+        if (counts[slot] != counts[other]) {
+            return counts[slot] > counts[other];
+        }
+        return keys[slot].compareTo(keys[other]) < 0;
+    }
+
+    @Override
+    public boolean isApproximate() {
+        return true;
+    }
+
+    /**
+     * 두 요약을 합친다. 한쪽이 가득 차 있는데 그쪽에 없는 키는 그쪽의 최소 카운트만큼 빈도를 가졌을 수 있으므로
+     * 그 값을 카운트와 오차에 함께 더한 뒤 상위 {@code capacity}개만 남긴다. 오차 보장은 병합 후에도 유지된다.
+     */
+    @Override
+    public SpaceSavingCounter merge(KeyCounter other) {
+        if (!(other instanceof SpaceSavingCounter that)) {
+            throw new IllegalArgumentException("근사 카운터는 근사 카운터와만 병합할 수 있습니다.");
+        }
+        long thisMin = getMaxError();
+        long thatMin = that.getMaxError();
+
+        Map<String, long[]> merged = HashMap.newHashMap(size + that.size);
+        for (int slot = 0; slot < size; slot++) {
+            merged.put(keys[slot], new long[]{counts[slot] + thatMin, errors[slot] + thatMin});
+        }
+        for (int slot = 0; slot < that.size; slot++) {
+            long[] entry = merged.get(that.keys[slot]);
+            if (entry == null) {
+                merged.put(that.keys[slot], new long[]{that.counts[slot] + thisMin, that.errors[slot] + thisMin});
+            } else {
+                // 양쪽 모두에 있는 키는 위에서 더한 상대편 최소값 대신 실제 카운트를 더한다
+                entry[0] += that.counts[slot] - thatMin;
+                entry[1] += that.errors[slot] - thatMin;
+            }
+        }
+
+        List<Map.Entry<String, long[]>> entries = new ArrayList<>(merged.entrySet());
+        entries.sort((a, b) -> a.getValue()[0] != b.getValue()[0]
+            ? Long.compare(b.getValue()[0], a.getValue()[0])
+            : a.getKey().compareTo(b.getKey()));
+
+        long mergedTotal = total + that.total;
+        clear();
+        for (int i = 0; i < Math.min(capacity, entries.size()); i++) {
+            Map.Entry<String, long[]> entry = entries.get(i);
+            add(entry.getKey(), entry.getValue()[0], entry.getValue()[1]);
+        }
+        total = mergedTotal;
+        return this;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        long bytes = MemoryFootprint.OBJECT_HEADER + 6 * MemoryFootprint.REFERENCE + 24
+            + MemoryFootprint.ofArray(capacity, MemoryFootprint.REFERENCE)
+            + 2 * MemoryFootprint.ofArray(capacity, Long.BYTES)
+            + 2 * MemoryFootprint.ofArray(capacity, Integer.BYTES)
+            + slots.estimatedBytes();
+        for (int slot = 0; slot < size; slot++) {
+            bytes += MemoryFootprint.ofString(keys[slot]);
+        }
+        return bytes;
+    }
+
+    @Override
+    public void writeTo(SnapshotOutput out) throws IOException {
+        out.writeByte(CounterSnapshots.APPROXIMATE);
+        out.writeVarInt(capacity);
+        out.writeVarLong(total);
+        int[] ordered = orderedSlots();
+        out.writeVarInt(ordered.length);
+        long previous = 0;
+        for (int i = 0; i < ordered.length; i++) {
+            int slot = ordered[i];
+            out.writeString(keys[slot]);
+            CounterSnapshots.writeCount(out, i, counts[slot], previous);
+            out.writeVarLong(errors[slot]);
+            previous = counts[slot];
+        }
+    }
+
+    static SpaceSavingCounter readBody(SnapshotInput in) throws IOException {
+        int capacity = in.readLength(Integer.MAX_VALUE);
+        if (capacity == 0) {
+            throw new IOException("근사 카운터의 capacity가 0입니다.");
+        }
+        long total = in.readVarLong();
+        int size = in.readLength(capacity);
+        SpaceSavingCounter counter = new SpaceSavingCounter(capacity);
+        long count = 0;
+        for (int i = 0; i < size; i++) {
+            String key = in.readString();
+            count = CounterSnapshots.readCount(in, i, count);
+            counter.add(key, count, in.readVarLong());
+        }
+        counter.total = total;
+        return counter;
+    }
+
+    @Override
+    public SpaceSavingCounter copy() {
+        return new SpaceSavingCounter(this);
+    }
+
+    private void clear() {
+        Arrays.fill(keys, 0, size, null);
+        slots.clear();
+        size = 0;
+        total = 0;
+    }
+
+    private void siftUp(int index) {
+        int slot = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (counts[heap[parent]] <= counts[slot]) {
+                break;
+            }
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(slot, index);
+    }
+
+    private void siftDown(int index) {
+        int slot = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && counts[heap[child + 1]] < counts[heap[child]]) {
+                child++;
+            }
+            if (counts[slot] <= counts[heap[child]]) {
+                break;
+            }
+            place(heap[child], index);
+            index = child;
+        }
+        place(slot, index);
+    }
+
+    private void place(int slot, int index) {
+        heap[index] = slot;
+        heapIndex[slot] = index;
+    }
+}
@@ -2,95 +2,146 @@ package io.github.naminhyeok.core.domain.counter;
 
 import io.github.naminhyeok.core.domain.RankedItem;
 import io.github.naminhyeok.core.domain.StatusCodeDistribution;
-import org.springframework.http.HttpStatusCode;
 
-import java.util.Comparator;
-import java.util.HashMap;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
+/**
+ * 상태 코드를 코드값으로 인덱싱한 {@code long[]}에 센다. 카테고리별 합계는 증가 시점이 아니라 조회 시점에 배열 구간을 더해 구한다.
+ */
 public class StatusCodeCounter {
 
-    private final Map<Integer, Long> counts;
+    // AccessLogParser가 허용하는 상태 코드 범위
+    private static final int MIN_STATUS = 100;
+    private static final int MAX_STATUS = 999;
+    // 정렬 키에서 상태 코드가 차지하는 비트 수 (MAX_STATUS < 1024)
+    private static final int CODE_BITS = 10;
+    private static final int CODE_MASK = (1 << CODE_BITS) - 1;
+
+    private final long[] counts;
     private long total;
-    private long count2xx;
-    private long count3xx;
-    private long count4xx;
-    private long count5xx;
 
     public StatusCodeCounter() {
-        this.counts = new HashMap<>();
+        this.counts = new long[MAX_STATUS - MIN_STATUS + 1];
         this.total = 0;
-        this.count2xx = 0;
-        this.count3xx = 0;
-        this.count4xx = 0;
-        this.count5xx = 0;
     }
 
-    private StatusCodeCounter(Map<Integer, Long> counts, long total,
-                              long count2xx, long count3xx, long count4xx, long count5xx) {
-        this.counts = new HashMap<>(counts);
+    private StatusCodeCounter(long[] counts, long total) {
+        this.counts = counts.clone();
         this.total = total;
-        this.count2xx = count2xx;
-        this.count3xx = count3xx;
-        this.count4xx = count4xx;
-        this.count5xx = count5xx;
     }
 
-    public void increment(HttpStatusCode status) {
-        counts.merge(status.value(), 1L, Long::sum);
+    public void increment(int status) {
+        counts[status - MIN_STATUS]++;
         total++;
-        incrementCategoryCount(status);
-    }
-
-    private void incrementCategoryCount(HttpStatusCode status) {
-        if (status.is2xxSuccessful()) {
-            count2xx++;
-        } else if (status.is3xxRedirection()) {
-            count3xx++;
-        } else if (status.is4xxClientError()) {
-            count4xx++;
-        } else if (status.is5xxServerError()) {
-            count5xx++;
-        }
     }
 
     public long getTotal() {
         return total;
     }
 
+    /**
+     * 빈도 내림차순, 같으면 상태 코드 오름차순. 빈도와 코드를 하나의 long 키로 묶어 박싱 없이 정렬한다.
+     */
     public List<RankedItem> getTop(int limit) {
-        return counts.entrySet().stream()
-            .sorted(Comparator
-                .comparing(Map.Entry<Integer, Long>::getValue).reversed()
-                .thenComparing(Map.Entry::getKey))
-            .limit(limit)
-            .map(this::toRankedItem)
-            .toList();
+        long[] keys = new long[counts.length];
+        int size = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                keys[size++] = (counts[i] << CODE_BITS) | (CODE_MASK - (i + MIN_STATUS));
+            }
+        }
+        Arrays.sort(keys, 0, size);
+
+        List<RankedItem> top = new ArrayList<>(Math.min(limit, size));
+        for (int i = size - 1; i >= 0 && top.size() < limit; i--) {
+            long count = keys[i] >>> CODE_BITS;
+            int status = CODE_MASK - (int) (keys[i] & CODE_MASK);
+            top.add(toRankedItem(status, count));
+        }
+        return List.copyOf(top);
     }
 
-    private RankedItem toRankedItem(Map.Entry<Integer, Long> entry) {
-        double percentage = total == 0 ? 0.0 : (double) entry.getValue() / total * 100.0;
-        return new RankedItem(String.valueOf(entry.getKey()), entry.getValue(), percentage);
+    private RankedItem toRankedItem(int status, long count) {
+        double percentage = total == 0 ? 0.0 : (double) count / total * 100.0;
+        return new RankedItem(String.valueOf(status), count, percentage);
     }
 
     public StatusCodeDistribution getDistribution() {
         return new StatusCodeDistribution(
-            percentage(count2xx),
-            percentage(count3xx),
-            percentage(count4xx),
-            percentage(count5xx)
+            percentage(sumCategory(2)),
+            percentage(sumCategory(3)),
+            percentage(sumCategory(4)),
+            percentage(sumCategory(5))
         );
     }
 
+    private long sumCategory(int category) {
+        int from = category * 100 - MIN_STATUS;
+        long sum = 0;
+        for (int i = from; i < from + 100; i++) {
+            sum += counts[i];
+        }
+        return sum;
+    }
+
     private double percentage(long count) {
         return total == 0 ? 0.0 : (double) count / total * 100.0;
     }
 
+    public StatusCodeCounter merge(StatusCodeCounter other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+        return this;
+    }
+
+    public long estimatedBytes() {
+        return MemoryFootprint.OBJECT_HEADER + MemoryFootprint.REFERENCE + Long.BYTES
+            + MemoryFootprint.ofArray(counts.length, Long.BYTES);
+    }
+
+    /**
+     * 0이 아닌 칸만 (앞 칸과의 인덱스 차이, 카운트) 쌍으로 쓴다. 보통 열 개 남짓이라 수십 바이트면 된다.
+     */
+    public void writeTo(SnapshotOutput out) throws IOException {
+        out.writeVarLong(total);
+        int nonZero = 0;
+        for (long count : counts) {
+            if (count > 0) {
+                nonZero++;
+            }
+        }
+        out.writeVarInt(nonZero);
+        int previous = -1;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                out.writeVarInt(i - previous);
+                out.writeVarLong(counts[i]);
+                previous = i;
+            }
+        }
+    }
+
+    public static StatusCodeCounter readFrom(SnapshotInput in) throws IOException {
+        StatusCodeCounter counter = new StatusCodeCounter();
+        counter.total = in.readVarLong();
+        int nonZero = in.readLength(counter.counts.length);
+        int index = -1;
+        for (int i = 0; i < nonZero; i++) {
+            index += in.readLength(counter.counts.length);
+            if (index >= counter.counts.length) {
+                throw new IOException("상태 코드 범위를 벗어났습니다: " + (index + MIN_STATUS));
+            }
+            counter.counts[index] = in.readVarLong();
+        }
+        return counter;
+    }
+
     public StatusCodeCounter copy() {
-        return new StatusCodeCounter(
-            this.counts, this.total,
-            this.count2xx, this.count3xx, this.count4xx, this.count5xx
-        );
+        return new StatusCodeCounter(this.counts, this.total);
     }
 }
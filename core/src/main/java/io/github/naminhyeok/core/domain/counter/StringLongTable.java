@@ -0,0 +1,233 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import java.util.function.ObjLongConsumer;
+
+/**
+ * {@code String} 키와 {@code long} 값을 병렬 배열에 담는 open addressing 해시 테이블.
+ * 선형 탐사를 사용하고 키의 해시를 함께 저장해 탐사 중 {@code equals} 호출을 줄인다.
+ * {@code HashMap<String, Long>}과 달리 항목마다 Node와 박싱된 Long을 만들지 않는다.
+ * <p>
+ * 키마다 {@code width}개의 값을 한 행으로 둘 수 있어, 여러 지표를 같은 키로 누적할 때 해시 탐색을 지표 수만큼 반복하지 않는다.
+ * 컬럼을 받지 않는 메서드는 첫 번째 컬럼을 다룬다.
+ */
+final class StringLongTable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private final int width;
+    private String[] keys;
+    // 슬롯 i의 값은 [i * width, (i + 1) * width) 구간에 있다
+    private long[] values;
+    private int[] hashes;
+    private int size;
+    private int threshold;
+
+    StringLongTable() {
+        this(1);
+    }
+
+    StringLongTable(int width) {
+        this.width = width;
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    private StringLongTable(StringLongTable source) {
+        this.width = source.width;
+        this.keys = source.keys.clone();
+        this.values = source.values.clone();
+        this.hashes = source.hashes.clone();
+        this.size = source.size;
+        this.threshold = source.threshold;
+    }
+
+    long add(String key, long delta) {
+        // row()가 배열을 늘릴 수 있으므로 values를 읽기 전에 행 번호부터 구한다
+        int row = row(key);
+        return values[row * width] += delta;
+    }
+
+    /**
+     * 키의 행 번호. 없으면 0으로 채운 행을 만든다. 반환된 행 번호는 다음 삽입 전까지만 유효하다.
+     */
+    int row(String key) {
+        int hash = hash(key);
+        int mask = keys.length - 1;
+        int index = hash & mask;
+        while (true) {
+            String existing = keys[index];
+            if (existing == null) {
+                keys[index] = key;
+                hashes[index] = hash;
+                if (++size > threshold) {
+                    resize();
+                    return find(key, hash);
+                }
+                return index;
+            }
+            if (hashes[index] == hash && existing.equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    void add(int row, int column, long delta) {
+        values[row * width + column] += delta;
+    }
+
+    long get(String key) {
+        return get(key, 0);
+    }
+
+    long get(String key, int column) {
+        int row = find(key, hash(key));
+        return row < 0 ? 0L : values[row * width + column];
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEach(ObjLongConsumer<String> consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                consumer.accept(keys[i], values[i * width]);
+            }
+        }
+    }
+
+    /**
+     * 값 내림차순, 같으면 키 오름차순으로 상위 {@code limit}개를 순서대로 전달한다.
+     * {@link TopSlots}의 최소 힙으로 고르므로 O(n log k)이며 항목별 객체를 만들지 않는다.
+     */
+    void forEachTop(int limit, ObjLongConsumer<String> consumer) {
+        forEachTop(0, limit, consumer);
+    }
+
+    /**
+     * {@code column} 값 기준으로 {@link #forEachTop(int, ObjLongConsumer)}와 같이 전달한다.
+     */
+    void forEachTop(int column, int limit, ObjLongConsumer<String> consumer) {
+        for (int slot : topSlots(column, limit)) {
+            consumer.accept(keys[slot], values[slot * width + column]);
+        }
+    }
+
+    /**
+     * {@link #forEachTop(int, ObjLongConsumer)}와 같은 순서의 슬롯 번호. 슬롯은 다음 삽입 전까지만 유효하다.
+     */
+    int[] topSlots(int limit) {
+        return topSlots(0, limit);
+    }
+
+    int[] topSlots(int column, int limit) {
+        return TopSlots.select(
+            keys.length,
+            Math.min(limit, size),
+            slot -> keys[slot] != null,
+            (slot, other) -> ranksHigher(slot, other, column)
+        );
+    }
+
+    String keyAt(int slot) {
+        return keys[slot];
+    }
+
+    long valueAt(int slot) {
+        return values[slot * width];
+    }
+
+    long valueAt(int slot, int column) {
+        return values[slot * width + column];
+    }
+
+    private boolean ranksHigher(int slot, int other, int column) {
+        long value = values[slot * width + column];
+        long otherValue = values[other * width + column];
+        if (value != otherValue) {
+            return value > otherValue;
+        }
+        return keys[slot].compareTo(keys[other]) < 0;
+    }
+
+    /**
+     * 다른 테이블의 값을 행 단위로 더한다. 두 테이블의 {@code width}는 같아야 한다.
+     */
+    void addAll(StringLongTable other) {
+        for (int slot = 0; slot < other.keys.length; slot++) {
+            if (other.keys[slot] == null) {
+                continue;
+            }
+            int row = row(other.keys[slot]);
+            for (int column = 0; column < width; column++) {
+                values[row * width + column] += other.values[slot * width + column];
+            }
+        }
+    }
+
+    long estimatedBytes() {
+        long bytes = MemoryFootprint.OBJECT_HEADER + 3 * MemoryFootprint.REFERENCE + 12
+            + MemoryFootprint.ofArray(keys.length, MemoryFootprint.REFERENCE)
+            + MemoryFootprint.ofArray(values.length, Long.BYTES)
+            + MemoryFootprint.ofArray(hashes.length, Integer.BYTES);
+        for (String key : keys) {
+            bytes += MemoryFootprint.ofString(key);
+        }
+        return bytes;
+    }
+
+    StringLongTable copy() {
+        return new StringLongTable(this);
+    }
+
+    private int find(String key, int hash) {
+        int mask = keys.length - 1;
+        int index = hash & mask;
+        while (true) {
+            String existing = keys[index];
+            if (existing == null) {
+                return -1;
+            }
+            if (hashes[index] == hash && existing.equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void resize() {
+        String[] oldKeys = keys;
+        long[] oldValues = values;
+        int[] oldHashes = hashes;
+        allocate(oldKeys.length * 2);
+
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == null) {
+                continue;
+            }
+            int index = oldHashes[i] & mask;
+            while (keys[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = oldKeys[i];
+            hashes[index] = oldHashes[i];
+            System.arraycopy(oldValues, i * width, values, index * width, width);
+        }
+    }
+
+    private void allocate(int capacity) {
+        int tableSize = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.keys = new String[tableSize];
+        this.values = new long[tableSize * width];
+        this.hashes = new int[tableSize];
+        this.threshold = (int) (tableSize * LOAD_FACTOR);
+    }
+
+    // 경로처럼 접두사가 긴 키는 하위 비트가 몰리기 쉬우므로 상위 비트를 섞는다
+    private static int hash(String key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
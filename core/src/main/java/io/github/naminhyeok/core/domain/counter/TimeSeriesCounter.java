@@ -0,0 +1,285 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import io.github.naminhyeok.core.domain.TimeBucket;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 요청 수, 4xx, 5xx, 송수신 바이트를 epoch 분 단위 버킷에 센다. 지표마다 {@code long[]} 하나를 두고,
+ * 범위를 벗어난 분이 들어오면 앞뒤 어느 쪽으로든 배열을 늘린다. 입력 순서와 무관하게 각 행은 제 분 버킷에 더해진다.
+ * <p>
+ * 잘못된 타임스탬프 하나로 배열이 폭증하지 않도록 전체 구간은 {@value #MAX_SPAN_MINUTES}분(31일)으로 제한하며,
+ * 이를 벗어나는 행은 버킷에 넣지 않고 {@link #getOutOfRange()}로만 센다. 다만 구간은 처음 들어온 행에 묶이지 않는다.
+ * 한쪽으로 벗어난 행이 구간을 그쪽으로 옮길 때 밀려날 행보다 많아지면 구간을 옮기고 밀려난 행을 범위 밖으로 센다.
+ * 그래서 앞쪽의 잘못된 타임스탬프 하나가 뒤따르는 정상 행을 모두 범위 밖으로 밀어내지 않는다.
+ */
+public class TimeSeriesCounter {
+
+    static final int MAX_SPAN_MINUTES = 31 * 24 * 60;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] requests;
+    private long[] clientErrors;
+    private long[] serverErrors;
+    private long[] sentBytes;
+    private long[] receivedBytes;
+    // firstMinute는 배열의 start 위치에 놓이고, 채워진 구간은 [start, start + span)이다
+    private long firstMinute;
+    private int start;
+    private int span;
+    private long outOfRange;
+    // 마지막으로 구간을 옮긴 뒤 구간보다 앞/뒤로 벗어나 버린 행 수
+    private long rejectedBefore;
+    private long rejectedAfter;
+
+    public TimeSeriesCounter() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    private TimeSeriesCounter(TimeSeriesCounter source) {
+        this.requests = source.copySpan(source.requests);
+        this.clientErrors = source.copySpan(source.clientErrors);
+        this.serverErrors = source.copySpan(source.serverErrors);
+        this.sentBytes = source.copySpan(source.sentBytes);
+        this.receivedBytes = source.copySpan(source.receivedBytes);
+        this.firstMinute = source.firstMinute;
+        this.start = 0;
+        this.span = source.span;
+        this.outOfRange = source.outOfRange;
+        this.rejectedBefore = source.rejectedBefore;
+        this.rejectedAfter = source.rejectedAfter;
+    }
+
+    public void record(long epochMinute, int httpStatus, long sent, long received) {
+        int index = indexOf(epochMinute, 1);
+        if (index < 0) {
+            outOfRange++;
+            return;
+        }
+        requests[index]++;
+        if (httpStatus / 100 == 4) {
+            clientErrors[index]++;
+        } else if (httpStatus / 100 == 5) {
+            serverErrors[index]++;
+        }
+        sentBytes[index] += sent;
+        receivedBytes[index] += received;
+    }
+
+    public long getOutOfRange() {
+        return outOfRange;
+    }
+
+    /**
+     * 첫 버킷부터 마지막 버킷까지 {@code resolutionMinutes} 단위로 묶어 반환한다. 버킷 경계는 epoch 기준으로 정렬되며
+     * 요청이 없는 구간도 0으로 채워 연속된 시계열을 만든다.
+     */
+    public List<TimeBucket> rollUp(int resolutionMinutes) {
+        if (span == 0) {
+            return List.of();
+        }
+        long lastMinute = firstMinute + span - 1;
+        long bucketStart = Math.floorDiv(firstMinute, resolutionMinutes) * resolutionMinutes;
+        List<TimeBucket> buckets = new ArrayList<>((int) ((lastMinute - bucketStart) / resolutionMinutes + 1));
+        for (; bucketStart <= lastMinute; bucketStart += resolutionMinutes) {
+            long from = Math.max(bucketStart, firstMinute);
+            long to = Math.min(bucketStart + resolutionMinutes - 1, lastMinute);
+            buckets.add(new TimeBucket(
+                LocalDateTime.ofEpochSecond(bucketStart * 60, 0, ZoneOffset.UTC),
+                sum(requests, from, to),
+                sum(clientErrors, from, to),
+                sum(serverErrors, from, to),
+                sum(sentBytes, from, to),
+                sum(receivedBytes, from, to)
+            ));
+        }
+        return List.copyOf(buckets);
+    }
+
+    private long sum(long[] values, long fromMinute, long toMinute) {
+        int from = start + (int) (fromMinute - firstMinute);
+        int to = start + (int) (toMinute - firstMinute);
+        long sum = 0;
+        for (int i = from; i <= to; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public TimeSeriesCounter merge(TimeSeriesCounter other) {
+        for (int offset = 0; offset < other.span; offset++) {
+            int source = other.start + offset;
+            if (other.requests[source] == 0) {
+                continue;
+            }
+            int index = indexOf(other.firstMinute + offset, other.requests[source]);
+            if (index < 0) {
+                outOfRange += other.requests[source];
+                continue;
+            }
+            requests[index] += other.requests[source];
+            clientErrors[index] += other.clientErrors[source];
+            serverErrors[index] += other.serverErrors[source];
+            sentBytes[index] += other.sentBytes[source];
+            receivedBytes[index] += other.receivedBytes[source];
+        }
+        outOfRange += other.outOfRange;
+        return this;
+    }
+
+    public long estimatedBytes() {
+        return MemoryFootprint.OBJECT_HEADER + 5 * MemoryFootprint.REFERENCE + 32
+            + 5 * MemoryFootprint.ofArray(requests.length, Long.BYTES);
+    }
+
+    /**
+     * 채워진 구간만 분 순서대로 쓴다. 바이트 합은 음수일 수 있어 zigzag로 쓴다.
+     */
+    public void writeTo(SnapshotOutput out) throws IOException {
+        out.writeSignedVarLong(firstMinute);
+        out.writeVarInt(span);
+        out.writeVarLong(outOfRange);
+        for (int i = start; i < start + span; i++) {
+            out.writeVarLong(requests[i]);
+            out.writeVarLong(clientErrors[i]);
+            out.writeVarLong(serverErrors[i]);
+            out.writeSignedVarLong(sentBytes[i]);
+            out.writeSignedVarLong(receivedBytes[i]);
+        }
+    }
+
+    public static TimeSeriesCounter readFrom(SnapshotInput in) throws IOException {
+        TimeSeriesCounter counter = new TimeSeriesCounter();
+        counter.firstMinute = in.readSignedVarLong();
+        counter.span = in.readLength(MAX_SPAN_MINUTES);
+        counter.outOfRange = in.readVarLong();
+        counter.allocate(Math.max(counter.span, 1));
+        counter.start = 0;
+        for (int i = 0; i < counter.span; i++) {
+            counter.requests[i] = in.readVarLong();
+            counter.clientErrors[i] = in.readVarLong();
+            counter.serverErrors[i] = in.readVarLong();
+            counter.sentBytes[i] = in.readSignedVarLong();
+            counter.receivedBytes[i] = in.readSignedVarLong();
+        }
+        return counter;
+    }
+
+    public TimeSeriesCounter copy() {
+        return new TimeSeriesCounter(this);
+    }
+
+    // epochMinute가 놓일 배열 위치. 필요하면 구간을 넓히거나 옮기고, 최대 구간을 넘으면 -1을 반환한다
+    private int indexOf(long epochMinute, long rows) {
+        if (span == 0) {
+            firstMinute = epochMinute;
+            start = requests.length / 2;
+            span = 1;
+            return start;
+        }
+        long offset = epochMinute - firstMinute;
+        if (offset >= 0 && offset < span) {
+            return start + (int) offset;
+        }
+
+        long newFirst = Math.min(firstMinute, epochMinute);
+        long newLast = Math.max(firstMinute + span - 1, epochMinute);
+        if (newLast - newFirst + 1 > MAX_SPAN_MINUTES) {
+            return slideToward(epochMinute, rows) ? indexOf(epochMinute, rows) : -1;
+        }
+        int newSpan = (int) (newLast - newFirst + 1);
+        int before = (int) (firstMinute - newFirst);
+        if (start - before < 0 || start - before + newSpan > requests.length) {
+            // 늘어나는 쪽에 여유를 두어 한 방향으로 계속 벗어나는 입력에서도 재할당이 로그 횟수로 끝나게 한다
+            int capacity = Math.min(Math.max(newSpan * 2, INITIAL_CAPACITY), MAX_SPAN_MINUTES * 2);
+            int newStart = epochMinute < firstMinute ? capacity - newSpan : 0;
+            relocate(capacity, newStart + before);
+            start = newStart;
+        } else {
+            start -= before;
+        }
+        firstMinute = newFirst;
+        span = newSpan;
+        return start + (int) (epochMinute - firstMinute);
+    }
+
+    // 구간 밖으로 벗어난 행이 구간을 옮길 때 밀려날 행보다 많아지면 epochMinute가 들어가도록 구간을 옮긴다.
+    // 밀려난 칸은 0으로 비우고 양 끝의 빈 칸을 잘라 내므로 구간 밖의 칸은 언제나 0이다
+    private boolean slideToward(long epochMinute, long rows) {
+        boolean after = epochMinute > firstMinute;
+        long lastMinute = firstMinute + span - 1;
+        long keepFirst = after ? Math.max(firstMinute, epochMinute - MAX_SPAN_MINUTES + 1) : firstMinute;
+        long keepLast = after ? lastMinute : Math.min(lastMinute, epochMinute + MAX_SPAN_MINUTES - 1);
+        long evicted = 0;
+        for (int i = start; i < start + span; i++) {
+            long minute = firstMinute + (i - start);
+            if (minute < keepFirst || minute > keepLast) {
+                evicted += requests[i];
+            }
+        }
+        long rejected = (after ? rejectedAfter : rejectedBefore) + rows;
+        if (rejected <= evicted) {
+            if (after) {
+                rejectedAfter = rejected;
+            } else {
+                rejectedBefore = rejected;
+            }
+            return false;
+        }
+
+        for (int i = start; i < start + span; i++) {
+            long minute = firstMinute + (i - start);
+            if (minute < keepFirst || minute > keepLast) {
+                requests[i] = 0;
+                clientErrors[i] = 0;
+                serverErrors[i] = 0;
+                sentBytes[i] = 0;
+                receivedBytes[i] = 0;
+            }
+        }
+        while (span > 0 && requests[start] == 0) {
+            start++;
+            firstMinute++;
+            span--;
+        }
+        while (span > 0 && requests[start + span - 1] == 0) {
+            span--;
+        }
+        outOfRange += evicted;
+        rejectedBefore = 0;
+        rejectedAfter = 0;
+        return true;
+    }
+
+    private void relocate(int capacity, int newStart) {
+        requests = relocate(requests, capacity, newStart);
+        clientErrors = relocate(clientErrors, capacity, newStart);
+        serverErrors = relocate(serverErrors, capacity, newStart);
+        sentBytes = relocate(sentBytes, capacity, newStart);
+        receivedBytes = relocate(receivedBytes, capacity, newStart);
+    }
+
+    private long[] relocate(long[] values, int capacity, int newStart) {
+        long[] relocated = new long[capacity];
+        System.arraycopy(values, start, relocated, newStart, span);
+        return relocated;
+    }
+
+    // 복사본은 채워진 구간만 담는다. 비어 있으면 첫 기록을 받을 한 칸을 둔다
+    private long[] copySpan(long[] values) {
+        return Arrays.copyOfRange(values, start, start + Math.max(span, 1));
+    }
+
+    private void allocate(int capacity) {
+        this.requests = new long[capacity];
+        this.clientErrors = new long[capacity];
+        this.serverErrors = new long[capacity];
+        this.sentBytes = new long[capacity];
+        this.receivedBytes = new long[capacity];
+    }
+}
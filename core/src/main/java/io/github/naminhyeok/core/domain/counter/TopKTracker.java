@@ -0,0 +1,133 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 카운터가 늘린 키와 늘어난 뒤의 카운트({@link KeyCounter#increment(String)}의 반환값)를 받아 카운트가 큰 키 최대 {@code capacity}개만 유지한다.
+ * 전체 카운터를 훑지 않고도 진행 중인 집계의 상위 키를 볼 수 있게 하려는 것이다.
+ * <p>
+ * 꽉 찬 뒤에는 가장 작은 후보 카운트보다 큰 카운트만 받으므로, 대부분의 키는 비교 한 번으로 걸러진다. 받는 값이 누적 카운트라서 밀려난 키도
+ * 다시 늘면 그 시점의 카운트로 돌아오고, 최소 후보 카운트는 줄어들지 않으므로 후보 밖의 키는 어떤 후보보다도 카운트가 크지 않다.
+ * 따라서 정확 카운터에 붙이면 후보는 동점을 제외하고 카운터의 상위 {@code capacity}개와 같다.
+ * <p>
+ * 한 스레드에서만 갱신하고, 다른 스레드에는 {@link #snapshot()}으로 만든 복사본을 넘긴다.
+ */
+public final class TopKTracker {
+
+    private final int capacity;
+    private final String[] keys;
+    private final long[] counts;
+    // 카운트 기준 최소 힙. heap에는 슬롯 번호를, heapIndex에는 슬롯이 힙에서 차지한 위치를 담는다
+    private final int[] heap;
+    private final int[] heapIndex;
+    private final Map<String, Integer> slots;
+    private int size;
+
+    public TopKTracker(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.keys = new String[capacity];
+        this.counts = new long[capacity];
+        this.heap = new int[capacity];
+        this.heapIndex = new int[capacity];
+        this.slots = HashMap.newHashMap(capacity);
+    }
+
+    /**
+     * {@code key}의 카운트가 {@code count}가 되었음을 알린다. 위의 보장은 같은 키의 카운트가 줄어들지 않을 때만 성립한다.
+     */
+    public void offer(String key, long count) {
+        // 후보의 카운트는 최소값 이상이고 카운트는 늘기만 하므로, 최소값 이하면 후보인 키일 수도 없다
+        if (size == capacity && count <= counts[heap[0]]) {
+            return;
+        }
+        Integer slot = slots.get(key);
+        if (slot != null) {
+            long previous = counts[slot];
+            counts[slot] = count;
+            // 근사 카운터에서 밀려났다 돌아온 키는 카운트가 줄어들 수 있다
+            if (count < previous) {
+                siftUp(heapIndex[slot]);
+            } else {
+                siftDown(heapIndex[slot]);
+            }
+            return;
+        }
+        if (size < capacity) {
+            int newSlot = size++;
+            keys[newSlot] = key;
+            counts[newSlot] = count;
+            place(newSlot, newSlot);
+            siftUp(newSlot);
+            slots.put(key, newSlot);
+            return;
+        }
+
+        int evicted = heap[0];
+        slots.remove(keys[evicted]);
+        keys[evicted] = key;
+        counts[evicted] = count;
+        slots.put(key, evicted);
+        siftDown(0);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 현재 후보와 카운트의 복사본. 순서는 정해져 있지 않다.
+     */
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = HashMap.newHashMap(size);
+        for (int slot = 0; slot < size; slot++) {
+            snapshot.put(keys[slot], counts[slot]);
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    private void siftUp(int index) {
+        int slot = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (counts[heap[parent]] <= counts[slot]) {
+                break;
+            }
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(slot, index);
+    }
+
+    private void siftDown(int index) {
+        int slot = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && counts[heap[child + 1]] < counts[heap[child]]) {
+                child++;
+            }
+            if (counts[slot] <= counts[heap[child]]) {
+                break;
+            }
+            place(heap[child], index);
+            index = child;
+        }
+        place(slot, index);
+    }
+
+    private void place(int slot, int index) {
+        heap[index] = slot;
+        heapIndex[slot] = index;
+    }
+}
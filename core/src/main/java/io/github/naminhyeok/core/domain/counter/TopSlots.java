@@ -0,0 +1,87 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import java.util.function.IntPredicate;
+
+/**
+ * 슬롯 번호로 값을 담는 카운터들이 함께 쓰는 상위 항목 선택. 슬롯 인덱스만 담는 크기 {@code limit}의 최소 힙으로 고르므로
+ * O(n log k)이며, 항목별 객체를 만들거나 박싱하지 않는다. 전체 순서가 필요하면 {@code limit}에 항목 수를 주면 된다.
+ */
+final class TopSlots {
+
+    @FunctionalInterface
+    interface Order {
+        boolean ranksHigher(int slot, int other);
+    }
+
+    private TopSlots() {
+    }
+
+    /**
+     * {@code [0, slotCount)} 중 {@code occupied}인 슬롯에서 {@code order}로 상위 {@code limit}개를 순위 순으로 고른다.
+     */
+    static int[] select(int slotCount, int limit, IntPredicate occupied, Order order) {
+        if (limit <= 0) {
+            return new int[0];
+        }
+
+        // heap[0]은 지금까지 고른 항목 중 가장 순위가 낮은 슬롯
+        int[] heap = new int[limit];
+        int heapSize = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (!occupied.test(slot)) {
+                continue;
+            }
+            if (heapSize < limit) {
+                heap[heapSize] = slot;
+                siftUp(heap, heapSize++, order);
+            } else if (order.ranksHigher(slot, heap[0])) {
+                heap[0] = slot;
+                siftDown(heap, heapSize, order);
+            }
+        }
+
+        int[] ordered = new int[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            ordered[i] = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, order);
+        }
+        return ordered;
+    }
+
+    private static void siftUp(int[] heap, int index, Order order) {
+        int slot = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!order.ranksHigher(heap[parent], slot)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = slot;
+    }
+
+    private static void siftDown(int[] heap, int heapSize, Order order) {
+        if (heapSize == 0) {
+            return;
+        }
+        int slot = heap[0];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && order.ranksHigher(heap[child], heap[child + 1])) {
+                child++;
+            }
+            if (!order.ranksHigher(slot, heap[child])) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = slot;
+    }
+}
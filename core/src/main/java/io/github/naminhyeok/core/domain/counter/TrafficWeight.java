@@ -0,0 +1,10 @@
+package io.github.naminhyeok.core.domain.counter;
+
+/**
+ * 가중 카운터가 키별로 합산하는 값.
+ */
+public enum TrafficWeight {
+    SENT_BYTES,
+    RECEIVED_BYTES,
+    RESPONSE_TIME
+}
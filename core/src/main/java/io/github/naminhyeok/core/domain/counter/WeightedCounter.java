@@ -0,0 +1,41 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import io.github.naminhyeok.core.domain.RankedItem;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 키(경로, IP)별로 송신 바이트, 수신 바이트, 응답 시간을 합산해 그 합으로 순위를 매기는 카운터.
+ * 순위 항목의 {@code count}는 합산 값이고 {@code percentage}는 전체 합 대비 비율이다. 음수 값은 0으로 본다.
+ */
+public sealed interface WeightedCounter permits WeightedFrequencyCounter, WeightedSpaceSavingCounter {
+
+    void add(String key, long sentBytes, long receivedBytes, long responseTime);
+
+    long getTotal(TrafficWeight weight);
+
+    List<RankedItem> getTop(TrafficWeight weight, int limit);
+
+    boolean isApproximate();
+
+    WeightedCounter merge(WeightedCounter other);
+
+    WeightedCounter copy();
+
+    /**
+     * 카운터가 차지하는 힙 크기의 추정치(바이트). 키 문자열도 포함한다.
+     */
+    long estimatedBytes();
+
+    void writeTo(SnapshotOutput out) throws IOException;
+
+    static WeightedCounter readFrom(SnapshotInput in) throws IOException {
+        int tag = in.readByte();
+        return switch (tag) {
+            case CounterSnapshots.EXACT -> WeightedFrequencyCounter.readBody(in);
+            case CounterSnapshots.APPROXIMATE -> WeightedSpaceSavingCounter.readBody(in);
+            default -> throw new IOException("알 수 없는 카운터 종류입니다: " + tag);
+        };
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import io.github.naminhyeok.core.domain.RankedItem;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 모든 키의 가중치 합을 정확히 센다. 세 지표를 한 행에 두어 행마다 해시 탐색은 한 번만 한다.
+ */
+public final class WeightedFrequencyCounter implements WeightedCounter {
+
+    private static final int WIDTH = TrafficWeight.values().length;
+
+    private final StringLongTable sums;
+    private final long[] totals;
+
+    public WeightedFrequencyCounter() {
+        this.sums = new StringLongTable(WIDTH);
+        this.totals = new long[WIDTH];
+    }
+
+    private WeightedFrequencyCounter(WeightedFrequencyCounter source) {
+        this.sums = source.sums.copy();
+        this.totals = source.totals.clone();
+    }
+
+    @Override
+    public void add(String key, long sentBytes, long receivedBytes, long responseTime) {
+        int row = sums.row(key);
+        add(row, TrafficWeight.SENT_BYTES, sentBytes);
+        add(row, TrafficWeight.RECEIVED_BYTES, receivedBytes);
+        add(row, TrafficWeight.RESPONSE_TIME, responseTime);
+    }
+
+    private void add(int row, TrafficWeight weight, long value) {
+        long clamped = Math.max(value, 0L);
+        sums.add(row, weight.ordinal(), clamped);
+        totals[weight.ordinal()] += clamped;
+    }
+
+    public long get(String key, TrafficWeight weight) {
+        return sums.get(key, weight.ordinal());
+    }
+
+    @Override
+    public long getTotal(TrafficWeight weight) {
+        return totals[weight.ordinal()];
+    }
+
+    @Override
+    public List<RankedItem> getTop(TrafficWeight weight, int limit) {
+        long total = totals[weight.ordinal()];
+        List<RankedItem> top = new ArrayList<>(Math.max(Math.min(limit, sums.size()), 0));
+        sums.forEachTop(weight.ordinal(), limit, (key, sum) ->
+            top.add(new RankedItem(key, sum, total == 0 ? 0.0 : (double) sum / total * 100.0)));
+        return List.copyOf(top);
+    }
+
+    @Override
+    public boolean isApproximate() {
+        return false;
+    }
+
+    @Override
+    public WeightedFrequencyCounter merge(WeightedCounter other) {
+        if (!(other instanceof WeightedFrequencyCounter that)) {
+            throw new IllegalArgumentException("정확 카운터는 정확 카운터와만 병합할 수 있습니다.");
+        }
+        sums.addAll(that.sums);
+        for (int i = 0; i < WIDTH; i++) {
+            totals[i] += that.totals[i];
+        }
+        return this;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return MemoryFootprint.OBJECT_HEADER + 2 * MemoryFootprint.REFERENCE
+            + sums.estimatedBytes() + MemoryFootprint.ofArray(totals.length, Long.BYTES);
+    }
+
+    /**
+     * 송신 바이트 내림차순으로 행을 쓴다. 송신 바이트는 앞 행과의 차이로, 나머지 지표는 값 그대로 쓴다.
+     */
+    @Override
+    public void writeTo(SnapshotOutput out) throws IOException {
+        out.writeByte(CounterSnapshots.EXACT);
+        for (long total : totals) {
+            out.writeVarLong(total);
+        }
+        int sent = TrafficWeight.SENT_BYTES.ordinal();
+        int[] rows = sums.topSlots(sent, sums.size());
+        out.writeVarInt(rows.length);
+        long previous = 0;
+        for (int i = 0; i < rows.length; i++) {
+            int row = rows[i];
+            out.writeString(sums.keyAt(row));
+            long sentBytes = sums.valueAt(row, sent);
+            CounterSnapshots.writeCount(out, i, sentBytes, previous);
+            previous = sentBytes;
+            for (int column = 0; column < WIDTH; column++) {
+                if (column != sent) {
+                    out.writeVarLong(sums.valueAt(row, column));
+                }
+            }
+        }
+    }
+
+    static WeightedFrequencyCounter readBody(SnapshotInput in) throws IOException {
+        WeightedFrequencyCounter counter = new WeightedFrequencyCounter();
+        for (int i = 0; i < WIDTH; i++) {
+            counter.totals[i] = in.readVarLong();
+        }
+        int sent = TrafficWeight.SENT_BYTES.ordinal();
+        int size = in.readLength(Integer.MAX_VALUE);
+        long sentBytes = 0;
+        for (int i = 0; i < size; i++) {
+            int row = counter.sums.row(in.readString());
+            sentBytes = CounterSnapshots.readCount(in, i, sentBytes);
+            counter.sums.add(row, sent, sentBytes);
+            for (int column = 0; column < WIDTH; column++) {
+                if (column != sent) {
+                    counter.sums.add(row, column, in.readVarLong());
+                }
+            }
+        }
+        return counter;
+    }
+
+    @Override
+    public WeightedFrequencyCounter copy() {
+        return new WeightedFrequencyCounter(this);
+    }
+}
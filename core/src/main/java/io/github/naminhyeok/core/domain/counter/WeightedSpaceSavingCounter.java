@@ -0,0 +1,97 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import io.github.naminhyeok.core.domain.RankedItem;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 지표마다 가중 Space-Saving 요약을 하나씩 두어 고정된 메모리로 가중치 상위 키를 근사한다.
+ * 지표별로 순위가 다르므로 요약을 공유하지 않으며, 오차 보장은 {@link SpaceSavingCounter}와 같다(단위만 가중치 합).
+ */
+public final class WeightedSpaceSavingCounter implements WeightedCounter {
+
+    private final SpaceSavingCounter[] summaries;
+
+    public WeightedSpaceSavingCounter(int capacity) {
+        this.summaries = new SpaceSavingCounter[TrafficWeight.values().length];
+        for (int i = 0; i < summaries.length; i++) {
+            summaries[i] = new SpaceSavingCounter(capacity);
+        }
+    }
+
+    private WeightedSpaceSavingCounter(SpaceSavingCounter[] summaries) {
+        this.summaries = summaries;
+    }
+
+    @Override
+    public void add(String key, long sentBytes, long receivedBytes, long responseTime) {
+        summaries[TrafficWeight.SENT_BYTES.ordinal()].increment(key, sentBytes);
+        summaries[TrafficWeight.RECEIVED_BYTES.ordinal()].increment(key, receivedBytes);
+        summaries[TrafficWeight.RESPONSE_TIME.ordinal()].increment(key, responseTime);
+    }
+
+    @Override
+    public long getTotal(TrafficWeight weight) {
+        return summaries[weight.ordinal()].getTotal();
+    }
+
+    @Override
+    public List<RankedItem> getTop(TrafficWeight weight, int limit) {
+        return summaries[weight.ordinal()].getTop(limit);
+    }
+
+    @Override
+    public boolean isApproximate() {
+        return true;
+    }
+
+    @Override
+    public WeightedSpaceSavingCounter merge(WeightedCounter other) {
+        if (!(other instanceof WeightedSpaceSavingCounter that)) {
+            throw new IllegalArgumentException("근사 카운터는 근사 카운터와만 병합할 수 있습니다.");
+        }
+        for (int i = 0; i < summaries.length; i++) {
+            summaries[i].merge(that.summaries[i]);
+        }
+        return this;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        long bytes = MemoryFootprint.OBJECT_HEADER + MemoryFootprint.REFERENCE
+            + MemoryFootprint.ofArray(summaries.length, MemoryFootprint.REFERENCE);
+        for (SpaceSavingCounter summary : summaries) {
+            bytes += summary.estimatedBytes();
+        }
+        return bytes;
+    }
+
+    @Override
+    public void writeTo(SnapshotOutput out) throws IOException {
+        out.writeByte(CounterSnapshots.APPROXIMATE);
+        for (SpaceSavingCounter summary : summaries) {
+            summary.writeTo(out);
+        }
+    }
+
+    static WeightedSpaceSavingCounter readBody(SnapshotInput in) throws IOException {
+        SpaceSavingCounter[] summaries = new SpaceSavingCounter[TrafficWeight.values().length];
+        for (int i = 0; i < summaries.length; i++) {
+            if (!(KeyCounter.readFrom(in) instanceof SpaceSavingCounter summary)) {
+                throw new IOException("근사 가중 카운터의 요약이 근사 카운터가 아닙니다.");
+            }
+            summaries[i] = summary;
+        }
+        return new WeightedSpaceSavingCounter(summaries);
+    }
+
+    @Override
+    public WeightedSpaceSavingCounter copy() {
+        SpaceSavingCounter[] copied = new SpaceSavingCounter[summaries.length];
+        for (int i = 0; i < summaries.length; i++) {
+            copied[i] = summaries[i].copy();
+        }
+        return new WeightedSpaceSavingCounter(copied);
+    }
+}
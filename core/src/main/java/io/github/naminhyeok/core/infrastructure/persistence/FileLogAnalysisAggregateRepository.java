@@ -0,0 +1,655 @@
+package io.github.naminhyeok.core.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.github.naminhyeok.core.domain.AnalysisStoreStats;
+import io.github.naminhyeok.core.domain.LogAnalysisAggregate;
+import io.github.naminhyeok.core.domain.LogAnalysisAggregateRepository;
+import io.github.naminhyeok.core.domain.LogAnalysisSnapshotCodec;
+import io.github.naminhyeok.core.support.config.AnalysisStoreProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 분석 결과를 {@link LogAnalysisSnapshotCodec} 스냅샷으로 세그먼트 파일에 이어 써서 재시작 후에도 남긴다.
+ * <p>
+ * 레코드는 헤더(매직, 종류, ID, 순번, 저장 시각, 길이, CRC32)와 스냅샷으로 이루어지며, 삭제는 삭제 레코드(툼스톤)를 덧붙여 기록한다.
+ * 순번은 레코드를 쓸 때마다 늘어나고 압축으로 옮겨도 바뀌지 않으므로, 툼스톤은 같은 ID에서 자기보다 순번이 작은 레코드를 모두 지운다.
+ * 같은 ID를 다시 저장하면 앞선 레코드가 다른 세그먼트에 남으므로, 압축은 그런 세그먼트가 남아 있는 동안 툼스톤을 함께 옮긴다.
+ * 세그먼트가 {@code segmentSizeMb}를 넘으면 봉인하면서 끝에 레코드 위치 목록(푸터)을 붙이고 파일 전체를 읽기 전용으로 매핑한다.
+ * 시작할 때는 봉인된 세그먼트의 푸터만 읽어 ID별 위치 색인을 다시 만들고, 푸터가 없는 세그먼트(비정상 종료 시 쓰던 세그먼트)만
+ * 레코드를 훑으며 CRC를 확인해 깨진 꼬리를 잘라낸다.
+ * <p>
+ * 조회할 때 처음으로 디코딩하며, 디코딩한 결과는 메모리 예산 안에서 캐시한다. 삭제나 만료로 살아 있는 레코드가 절반 미만이 된
+ * 봉인 세그먼트는 살아 있는 레코드만 디코딩 없이 현재 세그먼트로 옮긴 뒤 지운다.
+ * <p>
+ * 조회는 저장과 달리 모니터를 잡지 않으므로, 조회가 읽고 있는 세그먼트를 압축이 닫지 않도록 세그먼트를 닫고 지우는 일은
+ * {@code segmentLifetime}의 쓰기 잠금 안에서, 조회는 읽기 잠금 안에서 한다.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(prefix = "analysis.store", name = "type", havingValue = "file")
+public class FileLogAnalysisAggregateRepository implements LogAnalysisAggregateRepository, AutoCloseable {
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d+)\\.dat");
+    private static final int RECORD_MAGIC = 0x4C415352;
+    private static final long FOOTER_MAGIC = 0x4C41534E464F4F54L;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    // 매직(4) + 종류(1) + ID(8) + 순번(8) + 저장 시각(8) + 길이(4) + CRC(4)
+    private static final int RECORD_HEADER_BYTES = 37;
+    // 종류(1) + ID(8) + 순번(8) + 스냅샷 위치(8) + 길이(4) + 저장 시각(8)
+    private static final int FOOTER_ENTRY_BYTES = 37;
+    private static final byte[] NO_PAYLOAD = new byte[0];
+    // 항목 수(4) + 푸터 시작 위치(8) + 매직(8)
+    private static final int TRAILER_BYTES = 20;
+    private static final double COMPACTION_THRESHOLD = 0.5;
+    private static final long SWEEP_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final long MAX_EXPIRED_IDS = 100_000;
+
+    private final Path directory;
+    private final long segmentSizeBytes;
+    private final long ttlMillis;
+    private final LongSupplier currentTimeMillis;
+    private final Map<Long, Location> index = new ConcurrentHashMap<>();
+    private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final Cache<Long, Boolean> expiredIds;
+    private final Cache<Location, LogAnalysisAggregate> decoded;
+    private final AtomicLong idGenerator = new AtomicLong(0);
+    private final long memoryBudgetBytes;
+    private final LongAdder cacheEvictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final ReadWriteLock segmentLifetime = new ReentrantReadWriteLock();
+    private Segment active;
+    private long lastSequence;
+    private long lastSweepMillis;
+    private boolean closed;
+
+    public FileLogAnalysisAggregateRepository(AnalysisStoreProperties properties) {
+        this(properties, System::currentTimeMillis);
+    }
+
+    FileLogAnalysisAggregateRepository(AnalysisStoreProperties properties, LongSupplier currentTimeMillis) {
+        this.directory = Path.of(properties.directory());
+        this.segmentSizeBytes = properties.segmentSizeBytes();
+        this.ttlMillis = TimeUnit.MINUTES.toMillis(properties.ttlMinutes());
+        this.currentTimeMillis = currentTimeMillis;
+        this.expiredIds = Caffeine.newBuilder()
+            .maximumSize(MAX_EXPIRED_IDS)
+            .build();
+        this.memoryBudgetBytes = properties.memoryBudgetBytes();
+        this.decoded = Caffeine.newBuilder()
+            .maximumWeight(memoryBudgetBytes)
+            .weigher((Location location, LogAnalysisAggregate aggregate) ->
+                (int) Math.min(Integer.MAX_VALUE, aggregate.estimatedBytes()))
+            .evictionListener((Location location, LogAnalysisAggregate aggregate, RemovalCause cause) -> {
+                if (cause.wasEvicted()) {
+                    cacheEvictions.increment();
+                }
+            })
+            .build();
+        try {
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("분석 결과 저장소를 열 수 없습니다: " + directory, e);
+        }
+    }
+
+    @Override
+    public synchronized LogAnalysisAggregate save(LogAnalysisAggregate aggregate) {
+        LogAnalysisAggregate toSave = aggregate;
+        if (aggregate.getId() == null) {
+            toSave = aggregate.withId(idGenerator.incrementAndGet());
+        } else {
+            idGenerator.accumulateAndGet(aggregate.getId(), Math::max);
+        }
+        long now = currentTimeMillis.getAsLong();
+        try {
+            Entry entry = append(PUT, toSave.getId(), ++lastSequence, now, encode(toSave));
+            active.channel.force(false);
+            Location location = new Location(active, entry.offset(), entry.length(), entry.sequence(), now);
+            active.liveBytes += recordBytes(entry.length());
+            Location previous = index.put(toSave.getId(), location);
+            if (previous != null) {
+                release(previous);
+            }
+            decoded.put(location, toSave);
+            expiredIds.invalidate(toSave.getId());
+            if (now - lastSweepMillis >= SWEEP_INTERVAL_MILLIS) {
+                sweep(now);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("분석 결과를 저장할 수 없습니다: analysisId=" + toSave.getId(), e);
+        }
+        return toSave;
+    }
+
+    @Override
+    public Optional<LogAnalysisAggregate> findById(Long id) {
+        // 읽기 잠금 안에서 얻은 위치의 세그먼트는 잠금을 놓을 때까지 닫히지 않는다.
+        // 그 사이 압축이 레코드를 옮겼어도 옛 위치에서 같은 스냅샷을 읽는다
+        segmentLifetime.readLock().lock();
+        try {
+            Location location = index.get(id);
+            if (location == null || isStale(location, currentTimeMillis.getAsLong())) {
+                return Optional.empty();
+            }
+            LogAnalysisAggregate aggregate = decoded.get(location, FileLogAnalysisAggregateRepository::decode);
+            if (!location.equals(index.get(id))) {
+                // 옮겨진 뒤의 옛 위치로 캐시에 넣었다면 다시 조회되지 않으므로 바로 뺀다
+                decoded.invalidate(location);
+            }
+            return Optional.of(aggregate);
+        } finally {
+            segmentLifetime.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Long reserveId() {
+        return idGenerator.incrementAndGet();
+    }
+
+    @Override
+    public synchronized void deleteById(Long id) {
+        Location location = index.remove(id);
+        if (location == null) {
+            return;
+        }
+        try {
+            append(DELETE, id, ++lastSequence, currentTimeMillis.getAsLong(), NO_PAYLOAD);
+            active.channel.force(false);
+            release(location);
+        } catch (IOException e) {
+            throw new UncheckedIOException("분석 결과를 삭제할 수 없습니다: analysisId=" + id, e);
+        }
+    }
+
+    @Override
+    public boolean isExpired(Long id) {
+        Location location = index.get(id);
+        if (location != null) {
+            return isStale(location, currentTimeMillis.getAsLong());
+        }
+        return expiredIds.getIfPresent(id) != null;
+    }
+
+    /**
+     * 파일에 남아 있는 결과 수와 디코딩해 둔 결과 캐시의 점유량. 캐시에서 내보낸 결과는 파일에 남아 있으므로 {@code evictions}는
+     * 다음 조회 때 다시 디코딩해야 하는 횟수에 가깝다.
+     */
+    @Override
+    public AnalysisStoreStats stats() {
+        return new AnalysisStoreStats(
+            index.size(),
+            decoded.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L),
+            memoryBudgetBytes,
+            cacheEvictions.sum(),
+            expirations.sum()
+        );
+    }
+
+    /**
+     * TTL이 지난 결과를 색인에서 빼고, 그 때문에 살아 있는 레코드가 줄어든 세그먼트를 압축한다. 저장할 때 주기적으로 불린다.
+     */
+    synchronized void sweep() {
+        try {
+            sweep(currentTimeMillis.getAsLong());
+        } catch (IOException e) {
+            throw new UncheckedIOException("만료된 분석 결과를 정리할 수 없습니다.", e);
+        }
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * 쓰던 세그먼트를 봉인하고 파일을 닫는다. 닫은 뒤에는 사용할 수 없다.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        segmentLifetime.writeLock().lock();
+        try {
+            if (active.entries.isEmpty()) {
+                segments.remove(active.number);
+                active.channel.close();
+                Files.deleteIfExists(active.path);
+            } else {
+                seal(active);
+            }
+            for (Segment segment : segments.values()) {
+                segment.channel.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("분석 결과 저장소를 닫을 수 없습니다: " + directory, e);
+        } finally {
+            segmentLifetime.writeLock().unlock();
+        }
+    }
+
+    private void recover() throws IOException {
+        Files.createDirectories(directory);
+        List<Long> numbers;
+        try (Stream<Path> files = Files.list(directory)) {
+            numbers = files
+                .map(file -> SEGMENT_NAME.matcher(file.getFileName().toString()))
+                .filter(Matcher::matches)
+                .map(matcher -> Long.parseLong(matcher.group(1)))
+                .sorted()
+                .toList();
+        }
+
+        long maxId = 0;
+        // ID별로 지금까지 읽은 툼스톤 중 가장 큰 순번. 압축으로 옮겨진 레코드는 파일 순서와 순번 순서가 다를 수 있다
+        Map<Long, Long> deletedUpTo = new HashMap<>();
+        for (long number : numbers) {
+            Segment segment = openSegment(number);
+            if (!readFooter(segment)) {
+                scanRecords(segment);
+                seal(segment);
+            }
+            segments.put(number, segment);
+            for (Entry entry : segment.entries) {
+                maxId = Math.max(maxId, entry.id());
+                lastSequence = Math.max(lastSequence, entry.sequence());
+                replay(segment, entry, deletedUpTo);
+            }
+        }
+        idGenerator.set(maxId);
+
+        long now = currentTimeMillis.getAsLong();
+        index.forEach((id, location) -> {
+            if (isStale(location, now)) {
+                index.remove(id);
+                expiredIds.put(id, Boolean.TRUE);
+                expirations.increment();
+            } else {
+                location.segment().liveBytes += recordBytes(location.length());
+            }
+        });
+
+        active = openSegment(numbers.isEmpty() ? 1 : numbers.getLast() + 1);
+        segments.put(active.number, active);
+        lastSweepMillis = now;
+        for (Segment segment : List.copyOf(segments.values())) {
+            compactIfSparse(segment);
+        }
+        log.info("분석 결과 저장소 복구: directory={}, segments={}, analyses={}", directory, segments.size(), index.size());
+    }
+
+    // 순번이 가장 큰 레코드가 이긴다. 툼스톤은 자기보다 앞선 레코드만 지우므로 삭제 후 같은 ID로 다시 저장된 레코드는 남는다
+    private void replay(Segment segment, Entry entry, Map<Long, Long> deletedUpTo) {
+        Location current = index.get(entry.id());
+        if (entry.kind() == PUT) {
+            Long deleted = deletedUpTo.get(entry.id());
+            if ((deleted == null || entry.sequence() > deleted)
+                && (current == null || entry.sequence() > current.sequence())) {
+                index.put(entry.id(), new Location(
+                    segment, entry.offset(), entry.length(), entry.sequence(), entry.savedAtMillis()));
+            }
+            return;
+        }
+        deletedUpTo.merge(entry.id(), entry.sequence(), Math::max);
+        if (current != null && current.sequence() < entry.sequence()) {
+            index.remove(entry.id());
+        }
+    }
+
+    private void sweep(long now) throws IOException {
+        lastSweepMillis = now;
+        // 압축이 색인의 위치를 옮기므로 만료 대상을 먼저 모은 뒤 처리한다
+        List<Long> staleIds = index.entrySet().stream()
+            .filter(entry -> isStale(entry.getValue(), now))
+            .map(Map.Entry::getKey)
+            .toList();
+        for (Long id : staleIds) {
+            Location location = index.remove(id);
+            if (location != null) {
+                expiredIds.put(id, Boolean.TRUE);
+                expirations.increment();
+                release(location);
+                log.info("분석 결과 만료: analysisId={}", id);
+            }
+        }
+        // 봉인되기 전에 대부분 지워진 세그먼트도 여기서 정리된다
+        for (Segment segment : List.copyOf(segments.values())) {
+            compactIfSparse(segment);
+        }
+    }
+
+    private boolean isStale(Location location, long now) {
+        return now - location.savedAtMillis() >= ttlMillis;
+    }
+
+    // 레코드가 더 이상 살아 있지 않음을 세그먼트에 반영하고, 필요하면 압축한다
+    private void release(Location location) throws IOException {
+        Segment segment = location.segment();
+        segment.liveBytes -= recordBytes(location.length());
+        decoded.invalidate(location);
+        compactIfSparse(segment);
+    }
+
+    private void compactIfSparse(Segment segment) throws IOException {
+        if (segment == active || !segments.containsKey(segment.number)
+            || (segment.size > 0 && segment.liveBytes >= segment.size * COMPACTION_THRESHOLD)) {
+            return;
+        }
+        Set<Long> shadowed = idsWithOlderPuts(segment);
+        int moved = 0;
+        for (Entry entry : segment.entries) {
+            if (entry.kind() == PUT) {
+                Location location = new Location(
+                    segment, entry.offset(), entry.length(), entry.sequence(), entry.savedAtMillis());
+                if (!location.equals(index.get(entry.id()))) {
+                    continue;
+                }
+                ByteBuffer payload = segment.read(entry.offset(), entry.length());
+                Entry copied = append(PUT, entry.id(), entry.sequence(), entry.savedAtMillis(), toBytes(payload));
+                Location relocated = new Location(
+                    active, copied.offset(), copied.length(), copied.sequence(), copied.savedAtMillis());
+                active.liveBytes += recordBytes(copied.length());
+                index.put(entry.id(), relocated);
+                LogAnalysisAggregate cached = decoded.getIfPresent(location);
+                if (cached != null) {
+                    decoded.put(relocated, cached);
+                }
+                decoded.invalidate(location);
+                moved++;
+            } else if (shadowed.contains(entry.id())) {
+                append(DELETE, entry.id(), entry.sequence(), entry.savedAtMillis(), NO_PAYLOAD);
+            }
+        }
+        active.channel.force(false);
+        retire(segment);
+        log.info("세그먼트 압축: segment={}, moved={}, reclaimed={} bytes",
+            segment.path.getFileName(), moved, segment.size - segment.liveBytes);
+    }
+
+    /**
+     * 이 세그먼트의 툼스톤이 지운 ID 중 더 오래된 세그먼트에 레코드가 남아 있는 것. 더 오래된 세그먼트의 레코드는 모두 이 세그먼트의
+     * 툼스톤보다 먼저 쓰였으므로, 툼스톤을 버리면 재시작할 때 그 레코드가 되살아난다.
+     */
+    private Set<Long> idsWithOlderPuts(Segment segment) {
+        Set<Long> deletedIds = new HashSet<>();
+        for (Entry entry : segment.entries) {
+            if (entry.kind() == DELETE) {
+                deletedIds.add(entry.id());
+            }
+        }
+        if (deletedIds.isEmpty()) {
+            return deletedIds;
+        }
+        Set<Long> shadowed = new HashSet<>();
+        for (Segment older : segments.headMap(segment.number, false).values()) {
+            for (Entry entry : older.entries) {
+                if (entry.kind() == PUT && deletedIds.contains(entry.id())) {
+                    shadowed.add(entry.id());
+                }
+            }
+        }
+        return shadowed;
+    }
+
+    // 색인은 이미 옮긴 위치를 가리키므로, 옛 위치를 읽고 있던 조회가 끝나기를 기다렸다가 닫는다
+    private void retire(Segment segment) throws IOException {
+        segmentLifetime.writeLock().lock();
+        try {
+            segments.remove(segment.number);
+            segment.channel.close();
+            Files.deleteIfExists(segment.path);
+        } finally {
+            segmentLifetime.writeLock().unlock();
+        }
+    }
+
+    private Entry append(byte kind, long id, long sequence, long savedAtMillis, byte[] payload) throws IOException {
+        if (active.size >= segmentSizeBytes) {
+            seal(active);
+            active = openSegment(active.number + 1);
+            segments.put(active.number, active);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES)
+            .putInt(RECORD_MAGIC)
+            .put(kind)
+            .putLong(id)
+            .putLong(sequence)
+            .putLong(savedAtMillis)
+            .putInt(payload.length)
+            .putInt((int) crc.getValue())
+            .flip();
+        long position = active.size;
+        writeFully(active.channel, header, position);
+        writeFully(active.channel, ByteBuffer.wrap(payload), position + RECORD_HEADER_BYTES);
+        active.size = position + RECORD_HEADER_BYTES + payload.length;
+
+        Entry entry = new Entry(kind, id, sequence, position + RECORD_HEADER_BYTES, payload.length, savedAtMillis);
+        active.entries.add(entry);
+        return entry;
+    }
+
+    private void seal(Segment segment) throws IOException {
+        ByteBuffer footer = ByteBuffer.allocate(segment.entries.size() * FOOTER_ENTRY_BYTES + TRAILER_BYTES);
+        for (Entry entry : segment.entries) {
+            footer.put(entry.kind())
+                .putLong(entry.id())
+                .putLong(entry.sequence())
+                .putLong(entry.offset())
+                .putInt(entry.length())
+                .putLong(entry.savedAtMillis());
+        }
+        footer.putInt(segment.entries.size())
+            .putLong(segment.size)
+            .putLong(FOOTER_MAGIC)
+            .flip();
+        writeFully(segment.channel, footer, segment.size);
+        segment.channel.truncate(segment.size + footer.limit());
+        segment.channel.force(true);
+        segment.map();
+    }
+
+    private boolean readFooter(Segment segment) throws IOException {
+        long fileSize = segment.channel.size();
+        if (fileSize < TRAILER_BYTES) {
+            return false;
+        }
+        ByteBuffer trailer = readFully(segment.channel, fileSize - TRAILER_BYTES, TRAILER_BYTES);
+        int count = trailer.getInt();
+        long footerOffset = trailer.getLong();
+        if (trailer.getLong() != FOOTER_MAGIC || count < 0
+            || footerOffset + (long) count * FOOTER_ENTRY_BYTES + TRAILER_BYTES != fileSize) {
+            return false;
+        }
+        ByteBuffer footer = readFully(segment.channel, footerOffset, count * FOOTER_ENTRY_BYTES);
+        for (int i = 0; i < count; i++) {
+            segment.entries.add(new Entry(
+                footer.get(), footer.getLong(), footer.getLong(), footer.getLong(), footer.getInt(), footer.getLong()));
+        }
+        segment.size = footerOffset;
+        segment.map();
+        return true;
+    }
+
+    // 푸터가 없는 세그먼트의 레코드를 앞에서부터 확인하고, 처음으로 깨진 레코드부터 끝까지 잘라낸다
+    private void scanRecords(Segment segment) throws IOException {
+        long fileSize = segment.channel.size();
+        long position = 0;
+        while (position + RECORD_HEADER_BYTES <= fileSize) {
+            ByteBuffer header = readFully(segment.channel, position, RECORD_HEADER_BYTES);
+            int magic = header.getInt();
+            byte kind = header.get();
+            long id = header.getLong();
+            long sequence = header.getLong();
+            long savedAtMillis = header.getLong();
+            int length = header.getInt();
+            int checksum = header.getInt();
+            if (magic != RECORD_MAGIC || (kind != PUT && kind != DELETE)
+                || length < 0 || position + RECORD_HEADER_BYTES + length > fileSize) {
+                break;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(readFully(segment.channel, position + RECORD_HEADER_BYTES, length));
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            segment.entries.add(new Entry(kind, id, sequence, position + RECORD_HEADER_BYTES, length, savedAtMillis));
+            position += RECORD_HEADER_BYTES + length;
+        }
+        if (position < fileSize) {
+            log.warn("세그먼트의 깨진 꼬리를 잘라냅니다: segment={}, validBytes={}, fileBytes={}",
+                segment.path.getFileName(), position, fileSize);
+            segment.channel.truncate(position);
+        }
+        segment.size = position;
+    }
+
+    private Segment openSegment(long number) throws IOException {
+        Path path = directory.resolve("segment-%010d.dat".formatted(number));
+        FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new Segment(number, path, channel);
+    }
+
+    private static LogAnalysisAggregate decode(Location location) {
+        try {
+            ByteBuffer snapshot = location.segment().read(location.offset(), location.length());
+            return LogAnalysisSnapshotCodec.decode(new ByteBufferInputStream(snapshot));
+        } catch (IOException e) {
+            throw new UncheckedIOException("분석 결과를 읽을 수 없습니다: " + location.segment().path, e);
+        }
+    }
+
+    private static byte[] encode(LogAnalysisAggregate aggregate) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LogAnalysisSnapshotCodec.encode(aggregate, out);
+        return out.toByteArray();
+    }
+
+    private static long recordBytes(int payloadLength) {
+        return RECORD_HEADER_BYTES + (long) payloadLength;
+    }
+
+    private static byte[] toBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("세그먼트가 예상보다 일찍 끝났습니다.");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private record Entry(byte kind, long id, long sequence, long offset, int length, long savedAtMillis) {
+    }
+
+    private record Location(Segment segment, long offset, int length, long sequence, long savedAtMillis) {
+    }
+
+    private static final class Segment {
+        private final long number;
+        private final Path path;
+        private final FileChannel channel;
+        private final List<Entry> entries = new ArrayList<>();
+        // 봉인된 세그먼트는 데이터 구간 전체를 매핑해 두고, 쓰는 중인 세그먼트는 읽을 때마다 레코드 구간만 매핑한다
+        private volatile MappedByteBuffer mapped;
+        private long size;
+        private long liveBytes;
+
+        private Segment(long number, Path path, FileChannel channel) {
+            this.number = number;
+            this.path = path;
+            this.channel = channel;
+        }
+
+        private void map() throws IOException {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        private ByteBuffer read(long offset, int length) throws IOException {
+            MappedByteBuffer whole = mapped;
+            if (whole != null) {
+                return whole.slice((int) offset, length);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int chunk = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, chunk);
+            return chunk;
+        }
+    }
+}
@@ -1,19 +1,65 @@
 package io.github.naminhyeok.core.infrastructure.persistence;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.github.naminhyeok.core.domain.AnalysisStoreStats;
 import io.github.naminhyeok.core.domain.LogAnalysisAggregate;
 import io.github.naminhyeok.core.domain.LogAnalysisAggregateRepository;
+import io.github.naminhyeok.core.support.config.AnalysisStoreProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
-import java.util.Map;
+import java.time.Duration;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * 분석 결과를 메모리에 보관한다. 결과마다 {@link LogAnalysisAggregate#estimatedBytes()}를 가중치로 삼아 합이 메모리 예산을 넘으면
+ * Caffeine의 W-TinyLFU 정책으로 덜 쓰이는 결과부터 내보내고, 저장 후 TTL이 지난 결과도 제거한다.
+ * 가중치는 {@link #save(LogAnalysisAggregate)}할 때만 계산되므로, {@link LogAnalysisAggregate#append}처럼 결과를 제자리에서 바꾼 뒤에는
+ * 다시 저장해야 점유량에 반영된다.
+ * <p>
+ * 제거된 ID는 한동안 기억해 두어 {@link #isExpired(Long)}로 처음부터 없던 ID와 구분할 수 있게 한다.
+ */
+@Slf4j
 @Repository
+@ConditionalOnProperty(prefix = "analysis.store", name = "type", havingValue = "memory", matchIfMissing = true)
 public class InMemoryLogAnalysisAggregateRepository implements LogAnalysisAggregateRepository {
 
-    private final Map<Long, LogAnalysisAggregate> store = new ConcurrentHashMap<>();
+    private static final long MAX_EXPIRED_IDS = 100_000;
+
+    private final Cache<Long, Boolean> expiredIds;
+    private final Cache<Long, LogAnalysisAggregate> store;
     private final AtomicLong idGenerator = new AtomicLong(0);
+    private final long memoryBudgetBytes;
+    private final LongAdder sizeEvictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public InMemoryLogAnalysisAggregateRepository(AnalysisStoreProperties properties) {
+        this(properties, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    InMemoryLogAnalysisAggregateRepository(AnalysisStoreProperties properties, Ticker ticker, Executor executor) {
+        this.memoryBudgetBytes = properties.memoryBudgetBytes();
+        this.expiredIds = Caffeine.newBuilder()
+            .maximumSize(MAX_EXPIRED_IDS)
+            .executor(executor)
+            .build();
+        this.store = Caffeine.newBuilder()
+            .maximumWeight(memoryBudgetBytes)
+            .weigher((Long id, LogAnalysisAggregate aggregate) -> weigh(aggregate))
+            .expireAfterWrite(Duration.ofMinutes(properties.ttlMinutes()))
+            .evictionListener(this::onEviction)
+            .ticker(ticker)
+            .executor(executor)
+            .build();
+    }
 
     @Override
     public LogAnalysisAggregate save(LogAnalysisAggregate aggregate) {
@@ -21,12 +67,68 @@ public class InMemoryLogAnalysisAggregateRepository implements LogAnalysisAggreg
         if (aggregate.getId() == null) {
             toSave = aggregate.withId(idGenerator.incrementAndGet());
         }
+        expiredIds.invalidate(toSave.getId());
         store.put(toSave.getId(), toSave);
         return toSave;
     }
 
     @Override
     public Optional<LogAnalysisAggregate> findById(Long id) {
-        return Optional.ofNullable(store.get(id));
+        return Optional.ofNullable(store.getIfPresent(id));
+    }
+
+    @Override
+    public Long reserveId() {
+        return idGenerator.incrementAndGet();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        store.invalidate(id);
+    }
+
+    @Override
+    public boolean isExpired(Long id) {
+        return store.getIfPresent(id) == null && expiredIds.getIfPresent(id) != null;
+    }
+
+    @Override
+    public AnalysisStoreStats stats() {
+        return new AnalysisStoreStats(
+            store.estimatedSize(),
+            footprintBytes(),
+            memoryBudgetBytes,
+            sizeEvictions.sum(),
+            expirations.sum()
+        );
+    }
+
+    // 보류 중인 만료와 축출을 즉시 처리한다. 테스트에서 결과를 확정할 때 쓴다
+    void cleanUp() {
+        store.cleanUp();
+    }
+
+    private long footprintBytes() {
+        return store.policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(0L))
+            .orElse(0L);
+    }
+
+    private void onEviction(Long id, LogAnalysisAggregate aggregate, RemovalCause cause) {
+        if (id == null) {
+            return;
+        }
+        expiredIds.put(id, Boolean.TRUE);
+        if (cause == RemovalCause.EXPIRED) {
+            expirations.increment();
+        } else {
+            sizeEvictions.increment();
+        }
+        log.info("분석 결과 제거: analysisId={}, cause={}, footprint={}/{} bytes",
+            id, cause, footprintBytes(), memoryBudgetBytes);
+    }
+
+    private static int weigh(LogAnalysisAggregate aggregate) {
+        return (int) Math.min(Integer.MAX_VALUE, aggregate.estimatedBytes());
     }
 }
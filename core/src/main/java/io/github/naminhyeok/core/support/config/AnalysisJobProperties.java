@@ -0,0 +1,46 @@
+package io.github.naminhyeok.core.support.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 비동기 분석 작업 설정. 작업은 {@code workers}개의 스레드에서 실행되고, 그 뒤로 최대 {@code queueCapacity}개까지 대기하며,
+ * 대기열이 가득 차면 접수를 거절한다. 작업 상태는 접수 후 {@code retentionMinutes} 동안 조회할 수 있다.
+ * <p>
+ * 진행 상황 스트림은 {@code streamIntervalMillis}마다 스냅샷을 보내고, 스냅샷의 상위 경로/IP는 최대 {@code liveTopN}개까지다.
+ */
+@ConfigurationProperties(prefix = "analysis.job")
+public record AnalysisJobProperties(
+    Integer workers,
+    Integer queueCapacity,
+    Long retentionMinutes,
+    Integer liveTopN,
+    Long streamIntervalMillis
+) {
+    private static final int DEFAULT_WORKERS = 2;
+    private static final int DEFAULT_QUEUE_CAPACITY = 16;
+    private static final long DEFAULT_RETENTION_MINUTES = 60;
+    private static final int DEFAULT_LIVE_TOP_N = 10;
+    private static final int MAX_LIVE_TOP_N = 100;
+    private static final long DEFAULT_STREAM_INTERVAL_MILLIS = 1000;
+    private static final long MIN_STREAM_INTERVAL_MILLIS = 100;
+
+    public AnalysisJobProperties {
+        if (workers == null || workers <= 0) {
+            workers = DEFAULT_WORKERS;
+        }
+        if (queueCapacity == null || queueCapacity <= 0) {
+            queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        }
+        if (retentionMinutes == null || retentionMinutes <= 0) {
+            retentionMinutes = DEFAULT_RETENTION_MINUTES;
+        }
+        if (liveTopN == null || liveTopN <= 0) {
+            liveTopN = DEFAULT_LIVE_TOP_N;
+        }
+        liveTopN = Math.min(liveTopN, MAX_LIVE_TOP_N);
+        if (streamIntervalMillis == null || streamIntervalMillis <= 0) {
+            streamIntervalMillis = DEFAULT_STREAM_INTERVAL_MILLIS;
+        }
+        streamIntervalMillis = Math.max(streamIntervalMillis, MIN_STREAM_INTERVAL_MILLIS);
+    }
+}
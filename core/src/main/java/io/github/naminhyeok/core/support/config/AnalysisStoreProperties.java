@@ -0,0 +1,57 @@
+package io.github.naminhyeok.core.support.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 분석 결과 보관 설정. 결과들의 추정 크기 합이 {@code memoryBudgetMb}를 넘거나 저장 후 {@code ttlMinutes}가 지나면 제거된다.
+ * <p>
+ * {@code type}이 {@code file}이면 결과를 {@code directory} 아래 {@code segmentSizeMb} 크기의 세그먼트 파일에 저장해 재시작 후에도 남기고,
+ * 메모리 예산은 디코딩해 둔 결과의 캐시에만 적용한다.
+ */
+@ConfigurationProperties(prefix = "analysis.store")
+public record AnalysisStoreProperties(
+    Long memoryBudgetMb,
+    Long ttlMinutes,
+    Type type,
+    String directory,
+    Long segmentSizeMb
+) {
+    private static final long DEFAULT_MEMORY_BUDGET_MB = 512;
+    private static final long DEFAULT_TTL_MINUTES = 24 * 60;
+    private static final String DEFAULT_DIRECTORY = "data/analyses";
+    private static final long DEFAULT_SEGMENT_SIZE_MB = 64;
+    // 봉인된 세그먼트를 통째로 매핑하므로 MappedByteBuffer 한계(2GB)보다 작게 둔다
+    private static final long MAX_SEGMENT_SIZE_MB = 1024;
+
+    public AnalysisStoreProperties {
+        if (memoryBudgetMb == null || memoryBudgetMb <= 0) {
+            memoryBudgetMb = DEFAULT_MEMORY_BUDGET_MB;
+        }
+        if (ttlMinutes == null || ttlMinutes <= 0) {
+            ttlMinutes = DEFAULT_TTL_MINUTES;
+        }
+        if (type == null) {
+            type = Type.MEMORY;
+        }
+        if (directory == null || directory.isBlank()) {
+            directory = DEFAULT_DIRECTORY;
+        }
+        if (segmentSizeMb == null || segmentSizeMb <= 0) {
+            segmentSizeMb = DEFAULT_SEGMENT_SIZE_MB;
+        }
+        segmentSizeMb = Math.min(segmentSizeMb, MAX_SEGMENT_SIZE_MB);
+    }
+
+    public long memoryBudgetBytes() {
+        return memoryBudgetMb * 1024 * 1024;
+    }
+
+    public long segmentSizeBytes() {
+        return segmentSizeMb * 1024 * 1024;
+    }
+
+    public enum Type {
+        MEMORY,
+        FILE
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.naminhyeok.core.support.config;
+
+import io.github.naminhyeok.core.domain.PathTemplates;
+import io.github.naminhyeok.core.domain.counter.CounterMode;
+import io.github.naminhyeok.core.domain.counter.CounterSpec;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * 카운터 설정. 경로 템플릿은 바인딩할 때 한 번만 트라이로 만들어 모든 분석이 같이 쓰므로, 다른 설정과 달리 레코드가 아니라
+ * 만든 트라이를 들고 있는 클래스다. 잘못된 템플릿은 요청 시점이 아니라 기동 시점에 드러난다.
+ */
+@ConfigurationProperties(prefix = "analysis.counter")
+public final class CounterProperties {
+
+    private static final int DEFAULT_CAPACITY = 10_000;
+
+    private final CounterMode mode;
+    private final int capacity;
+    private final List<String> pathTemplates;
+    private final PathTemplates compiledPathTemplates;
+
+    public CounterProperties(CounterMode mode, Integer capacity, List<String> pathTemplates) {
+        this.mode = mode == null ? CounterMode.EXACT : mode;
+        this.capacity = capacity == null || capacity <= 0 ? DEFAULT_CAPACITY : capacity;
+        this.pathTemplates = pathTemplates == null ? List.of() : List.copyOf(pathTemplates);
+        this.compiledPathTemplates = PathTemplates.of(this.pathTemplates);
+    }
+
+    public CounterMode mode() {
+        return mode;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public List<String> pathTemplates() {
+        return pathTemplates;
+    }
+
+    /**
+     * 요청에서 지정한 모드가 있으면 그것을, 없으면 설정된 모드를 사용한다. 근사 모드의 용량과 경로 템플릿은 항상 설정값을 따른다.
+     */
+    public CounterSpec resolve(CounterMode requestedMode) {
+        CounterMode resolvedMode = requestedMode != null ? requestedMode : mode;
+        CounterSpec spec = switch (resolvedMode) {
+            case EXACT -> CounterSpec.exact();
+            case APPROXIMATE -> CounterSpec.approximate(capacity);
+        };
+        return spec.withPathTemplates(compiledPathTemplates);
+    }
+}
@@ -0,0 +1,9 @@
+package io.github.naminhyeok.core.support.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(LogIngestProperties.class)
+public class LogIngestConfig {
+}
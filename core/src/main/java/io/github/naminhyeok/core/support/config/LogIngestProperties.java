@@ -0,0 +1,20 @@
+package io.github.naminhyeok.core.support.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "analysis.ingest")
+public record LogIngestProperties(
+    Integer parallelism,
+    Long parallelThresholdBytes
+) {
+    private static final long DEFAULT_PARALLEL_THRESHOLD_BYTES = 8L * 1024 * 1024;
+
+    public LogIngestProperties {
+        if (parallelism == null || parallelism <= 0) {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+        if (parallelThresholdBytes == null || parallelThresholdBytes <= 0) {
+            parallelThresholdBytes = DEFAULT_PARALLEL_THRESHOLD_BYTES;
+        }
+    }
+}
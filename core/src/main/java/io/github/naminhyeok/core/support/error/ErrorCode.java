@@ -11,6 +11,9 @@ public enum ErrorCode {
     E1002,
 
     // 분석 관련 에러 (2000번대)
-    E2000
+    E2000,
+    E2001,
+    E2002,
+    E2003
 
 }
@@ -22,7 +22,13 @@ public enum ErrorType {
 
     // 분석 관련 에러 (2000번대)
     ANALYSIS_NOT_FOUND(HttpStatus.NOT_FOUND, ErrorCode.E2000, "분석 결과를 찾을 수 없습니다.",
-        LogLevel.INFO);
+        LogLevel.INFO),
+    ANALYSIS_EXPIRED(HttpStatus.GONE, ErrorCode.E2001, "분석 결과가 만료되어 삭제되었습니다. 다시 분석해 주세요.",
+        LogLevel.INFO),
+    ANALYSIS_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, ErrorCode.E2002, "분석 작업을 찾을 수 없습니다.",
+        LogLevel.INFO),
+    ANALYSIS_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, ErrorCode.E2003, "분석 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.",
+        LogLevel.WARN);
 
     private final HttpStatus status;
 
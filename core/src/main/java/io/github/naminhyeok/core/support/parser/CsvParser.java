@@ -3,14 +3,14 @@ package io.github.naminhyeok.core.support.parser;
 import io.github.naminhyeok.core.support.error.CoreException;
 import io.github.naminhyeok.core.support.error.ErrorType;
 
-import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public final class CsvParser {
 
@@ -18,39 +18,56 @@ public final class CsvParser {
     }
 
     public static void parse(InputStream inputStream, Consumer<Stream<CsvRow>> consumer) {
-        try (BufferedReader reader = new BufferedReader(
-            new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-
-            Stream<CsvRow> stream = reader.lines()
-                .skip(1)
-                .filter(line -> !line.trim().isEmpty())
-                .map(CsvParser::parseLine);
+        try (inputStream) {
+            CsvTokenizer tokenizer = new CsvTokenizer(inputStream);
+            tokenizer.skipLine();
 
+            Stream<CsvRow> stream = StreamSupport.stream(new RowSpliterator(tokenizer), false);
             consumer.accept(stream);
         } catch (Exception e) {
             throw new CoreException(ErrorType.FILE_READ_ERROR);
         }
     }
 
-    private static CsvRow parseLine(String line) {
-        List<String> fields = new ArrayList<>();
-        StringBuilder currentField = new StringBuilder();
-        boolean inQuotes = false;
-
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-
-            if (c == '"') {
-                inQuotes = !inQuotes;
-            } else if (c == ',' && !inQuotes) {
-                fields.add(currentField.toString().trim());
-                currentField = new StringBuilder();
-            } else {
-                currentField.append(c);
+    /**
+     * 헤더를 제외한 각 행을 재사용되는 {@link CsvRow} 뷰로 전달한다.
+     * 행은 콜백 안에서만 유효하므로 보관하려면 {@link CsvRow#copy()}를 사용해야 한다.
+     */
+    public static void forEachRow(InputStream inputStream, Consumer<CsvRow> consumer) {
+        try (inputStream) {
+            CsvTokenizer tokenizer = new CsvTokenizer(inputStream);
+            tokenizer.skipLine();
+
+            CsvRow row;
+            while ((row = tokenizer.next()) != null) {
+                consumer.accept(row);
             }
+        } catch (Exception e) {
+            throw new CoreException(ErrorType.FILE_READ_ERROR);
         }
-        fields.add(currentField.toString().trim());
+    }
+
+    private static final class RowSpliterator extends Spliterators.AbstractSpliterator<CsvRow> {
 
-        return new CsvRow(fields.toArray(new String[0]));
+        private final CsvTokenizer tokenizer;
+
+        private RowSpliterator(CsvTokenizer tokenizer) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.tokenizer = tokenizer;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super CsvRow> action) {
+            try {
+                CsvRow row = tokenizer.next();
+                if (row == null) {
+                    return false;
+                }
+                action.accept(row.copy());
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
     }
 }
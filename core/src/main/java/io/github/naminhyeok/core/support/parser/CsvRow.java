@@ -1,15 +1,156 @@
 package io.github.naminhyeok.core.support.parser;
 
-public record CsvRow(String[] fields) {
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public final class CsvRow {
+
+    private static final int INITIAL_FIELD_CAPACITY = 16;
+
+    private byte[] buffer;
+    private int[] bounds;
+    private int size;
+    private int lineStart;
+    private int lineEnd;
+    private byte[] rawLine;
+
+    CsvRow() {
+        this.bounds = new int[INITIAL_FIELD_CAPACITY * 2];
+    }
+
+    public CsvRow(String[] fields) {
+        this.bounds = new int[Math.max(fields.length, 1) * 2];
+        byte[][] encoded = new byte[fields.length][];
+        int length = Math.max(fields.length - 1, 0);
+        for (int i = 0; i < fields.length; i++) {
+            encoded[i] = fields[i].getBytes(StandardCharsets.UTF_8);
+            length += encoded[i].length;
+        }
+
+        byte[] line = new byte[length];
+        int position = 0;
+        for (int i = 0; i < encoded.length; i++) {
+            if (i > 0) {
+                line[position++] = ',';
+            }
+            System.arraycopy(encoded[i], 0, line, position, encoded[i].length);
+            bounds[i * 2] = position;
+            bounds[i * 2 + 1] = position + encoded[i].length;
+            position += encoded[i].length;
+        }
+
+        this.buffer = line;
+        this.size = fields.length;
+        this.lineStart = 0;
+        this.lineEnd = line.length;
+    }
 
     public String get(int index) {
-        if (index < 0 || index >= fields.length) {
+        if (index < 0 || index >= size) {
             return null;
         }
-        return fields[index];
+        int start = bounds[index * 2];
+        return new String(buffer, start, bounds[index * 2 + 1] - start, StandardCharsets.UTF_8);
     }
 
     public int size() {
-        return fields.length;
+        return size;
+    }
+
+    public int length(int index) {
+        return bounds[index * 2 + 1] - bounds[index * 2];
+    }
+
+    /**
+     * 필드를 {@code String}으로 만들지 않고 바이트 단위로 검사할 때 사용한다. 인덱스는 호출하는 쪽에서 보장해야 한다.
+     */
+    public byte byteAt(int index, int offset) {
+        return buffer[bounds[index * 2] + offset];
+    }
+
+    public boolean fieldEquals(int index, byte[] expected) {
+        int start = bounds[index * 2];
+        return Arrays.equals(buffer, start, bounds[index * 2 + 1], expected, 0, expected.length);
+    }
+
+    /**
+     * 줄바꿈을 뺀 원본 라인의 바이트 수. 라인 문자열을 만들지 않으므로 진행률 계산처럼 모든 행에서 호출해도 된다.
+     */
+    public int lineLength() {
+        return rawLine != null ? rawLine.length : lineEnd - lineStart;
+    }
+
+    public String rawLine() {
+        if (rawLine != null) {
+            return new String(rawLine, StandardCharsets.UTF_8);
+        }
+        return new String(buffer, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+    }
+
+    public CsvRow copy() {
+        CsvRow copied = new CsvRow();
+        int offset = lineStart;
+        copied.buffer = Arrays.copyOfRange(buffer, lineStart, lineEnd);
+        copied.bounds = Arrays.copyOf(bounds, Math.max(size, 1) * 2);
+        for (int i = 0; i < size * 2; i++) {
+            copied.bounds[i] -= offset;
+        }
+        copied.size = size;
+        copied.lineStart = 0;
+        copied.lineEnd = lineEnd - lineStart;
+        copied.rawLine = rawLine;
+        return copied;
+    }
+
+    byte[] buffer() {
+        return buffer;
+    }
+
+    int start(int index) {
+        return bounds[index * 2];
+    }
+
+    int end(int index) {
+        return bounds[index * 2 + 1];
+    }
+
+    void reset(byte[] buffer, int lineStart) {
+        this.buffer = buffer;
+        this.lineStart = lineStart;
+        this.lineEnd = lineStart;
+        this.size = 0;
+        this.rawLine = null;
+    }
+
+    void addField(int start, int end) {
+        if (size * 2 == bounds.length) {
+            bounds = Arrays.copyOf(bounds, bounds.length * 2);
+        }
+        bounds[size * 2] = start;
+        bounds[size * 2 + 1] = end;
+        size++;
+    }
+
+    void finishLine(int lineEnd, boolean hasInnerQuotes) {
+        this.lineEnd = lineEnd;
+        if (hasInnerQuotes) {
+            removeInnerQuotes();
+        }
+    }
+
+    // 필드 중간의 따옴표는 드물기 때문에, 이 경우에만 원본 라인을 보존한 뒤 버퍼에서 따옴표를 걷어낸다
+    private void removeInnerQuotes() {
+        rawLine = Arrays.copyOfRange(buffer, lineStart, lineEnd);
+        for (int i = 0; i < size; i++) {
+            int start = bounds[i * 2];
+            int end = bounds[i * 2 + 1];
+            int write = start;
+            for (int read = start; read < end; read++) {
+                if (buffer[read] != '"') {
+                    buffer[write++] = buffer[read];
+                }
+            }
+            bounds[i * 2 + 1] = write;
+        }
     }
 }
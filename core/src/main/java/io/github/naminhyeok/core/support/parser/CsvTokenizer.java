@@ -0,0 +1,157 @@
+package io.github.naminhyeok.core.support.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+final class CsvTokenizer {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final int END_OF_STREAM = -1;
+    private static final int BLANK_LINE = 0;
+    private static final int LINE = 1;
+
+    private final InputStream inputStream;
+    private final CsvRow row = new CsvRow();
+    private byte[] buffer;
+    private int position;
+    private int limit;
+    private boolean endOfStream;
+    private boolean skipLineFeed;
+
+    CsvTokenizer(InputStream inputStream) {
+        this(inputStream, DEFAULT_BUFFER_SIZE);
+    }
+
+    CsvTokenizer(InputStream inputStream, int bufferSize) {
+        this.inputStream = inputStream;
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * 다음 비어있지 않은 라인을 토큰화한다. 반환되는 {@link CsvRow}는 재사용되므로 다음 호출 전까지만 유효하다.
+     */
+    CsvRow next() throws IOException {
+        while (true) {
+            int result = tokenizeLine();
+            if (result == END_OF_STREAM) {
+                return null;
+            }
+            if (result == LINE) {
+                return row;
+            }
+        }
+    }
+
+    void skipLine() throws IOException {
+        tokenizeLine();
+    }
+
+    private int tokenizeLine() throws IOException {
+        if (skipLineFeed) {
+            if (position == limit && !fill()) {
+                return END_OF_STREAM;
+            }
+            if (buffer[position] == '\n') {
+                position++;
+            }
+            skipLineFeed = false;
+        }
+        if (position == limit && !fill()) {
+            return END_OF_STREAM;
+        }
+
+        while (true) {
+            int lineStart = position;
+            int fieldStart = lineStart;
+            boolean inQuotes = false;
+            boolean fieldHasQuotes = false;
+            boolean hasInnerQuotes = false;
+            boolean blank = true;
+            row.reset(buffer, lineStart);
+
+            int i = lineStart;
+            for (; i < limit; i++) {
+                byte b = buffer[i];
+                if (b == '\n' || b == '\r') {
+                    break;
+                }
+                if ((b & 0xFF) > ' ') {
+                    blank = false;
+                }
+                if (b == '"') {
+                    inQuotes = !inQuotes;
+                    fieldHasQuotes = true;
+                } else if (b == ',' && !inQuotes) {
+                    hasInnerQuotes |= addField(fieldStart, i, fieldHasQuotes);
+                    fieldStart = i + 1;
+                    fieldHasQuotes = false;
+                }
+            }
+
+            if (i == limit && !endOfStream) {
+                position = lineStart;
+                fill();
+                continue;
+            }
+
+            hasInnerQuotes |= addField(fieldStart, i, fieldHasQuotes);
+            row.finishLine(i, hasInnerQuotes);
+
+            if (i < limit) {
+                skipLineFeed = buffer[i] == '\r';
+                position = i + 1;
+            } else {
+                position = i;
+            }
+            return blank ? BLANK_LINE : LINE;
+        }
+    }
+
+    // String.trim()과 동일하게 공백 이하 문자를 제거하고, 따옴표는 값에 포함하지 않는다
+    private boolean addField(int start, int end, boolean hasQuotes) {
+        while (start < end && isTrimmable(buffer[start])) {
+            start++;
+        }
+        while (end > start && isTrimmable(buffer[end - 1])) {
+            end--;
+        }
+        row.addField(start, end);
+
+        if (!hasQuotes) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (buffer[i] == '"') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isTrimmable(byte b) {
+        return (b & 0xFF) <= ' ' || b == '"';
+    }
+
+    private boolean fill() throws IOException {
+        if (endOfStream) {
+            return false;
+        }
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+
+        int read = inputStream.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            endOfStream = true;
+            return limit > position;
+        }
+        limit += read;
+        return true;
+    }
+}
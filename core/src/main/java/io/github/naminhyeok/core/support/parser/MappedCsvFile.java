@@ -0,0 +1,109 @@
+package io.github.naminhyeok.core.support.parser;
+
+import io.github.naminhyeok.core.support.error.CoreException;
+import io.github.naminhyeok.core.support.error.ErrorType;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public final class MappedCsvFile implements AutoCloseable {
+
+    private final Arena arena;
+    private final FileChannel channel;
+    private final MemorySegment segment;
+
+    private MappedCsvFile(Arena arena, FileChannel channel, MemorySegment segment) {
+        this.arena = arena;
+        this.channel = channel;
+        this.segment = segment;
+    }
+
+    public static MappedCsvFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        Arena arena = Arena.ofShared();
+        try {
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            return new MappedCsvFile(arena, channel, segment);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long size() {
+        return segment.byteSize();
+    }
+
+    /**
+     * 파일을 최대 {@code chunkCount}개의 청크로 나눈다. 토크나이저는 따옴표 안이라도 줄바꿈을 행의 끝으로 보므로
+     * 경계를 항상 줄바꿈 직후에 두면 순차 파싱과 같은 행으로 나뉜다.
+     */
+    public List<Chunk> split(int chunkCount) {
+        long size = size();
+        List<Chunk> chunks = new ArrayList<>();
+        long start = 0;
+        for (int i = 1; i <= chunkCount && start < size; i++) {
+            long end = i == chunkCount ? size : nextLineStart(Math.max(size * i / chunkCount, start));
+            if (end <= start) {
+                continue;
+            }
+            chunks.add(new Chunk(chunks.size(), start, end));
+            start = end;
+        }
+        return chunks;
+    }
+
+    public void forEachRow(Chunk chunk, Consumer<CsvRow> consumer) {
+        MemorySegment slice = segment.asSlice(chunk.start(), chunk.end() - chunk.start());
+        try {
+            CsvTokenizer tokenizer = new CsvTokenizer(new MemorySegmentInputStream(slice));
+            if (chunk.containsHeader()) {
+                tokenizer.skipLine();
+            }
+
+            CsvRow row;
+            while ((row = tokenizer.next()) != null) {
+                consumer.accept(row);
+            }
+        } catch (IOException e) {
+            throw new CoreException(ErrorType.FILE_READ_ERROR);
+        }
+    }
+
+    private long nextLineStart(long from) {
+        long size = size();
+        for (long i = from; i < size; i++) {
+            byte b = segment.get(ValueLayout.JAVA_BYTE, i);
+            if (b == '\n') {
+                return i + 1;
+            }
+            if (b == '\r') {
+                boolean crlf = i + 1 < size && segment.get(ValueLayout.JAVA_BYTE, i + 1) == '\n';
+                return crlf ? i + 2 : i + 1;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        arena.close();
+        channel.close();
+    }
+
+    public record Chunk(int index, long start, long end) {
+
+        public boolean containsHeader() {
+            return start == 0;
+        }
+    }
+}
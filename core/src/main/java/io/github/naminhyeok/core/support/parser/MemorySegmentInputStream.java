@@ -0,0 +1,38 @@
+package io.github.naminhyeok.core.support.parser;
+
+import java.io.InputStream;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+final class MemorySegmentInputStream extends InputStream {
+
+    private final MemorySegment segment;
+    private long position;
+
+    MemorySegmentInputStream(MemorySegment segment) {
+        this.segment = segment;
+    }
+
+    @Override
+    public int read() {
+        if (position >= segment.byteSize()) {
+            return -1;
+        }
+        return segment.get(ValueLayout.JAVA_BYTE, position++) & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        long remaining = segment.byteSize() - position;
+        if (remaining <= 0) {
+            return -1;
+        }
+        int count = (int) Math.min(length, remaining);
+        MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, position, buffer, offset, count);
+        position += count;
+        return count;
+    }
+}
@@ -0,0 +1,201 @@
+package io.github.naminhyeok.core.support.parser;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * "M/d/yyyy, h:mm:ss.SSS a" 형식의 타임스탬프를 바이트에서 바로 epoch millis(UTC 기준)로 변환한다.
+ * 연속된 로그는 대부분 날짜와 시(hour)가 같으므로 마지막으로 해석한 "날짜, 시:" 접두사를 캐시해 두고,
+ * 접두사가 같으면 분/초/밀리초만 다시 읽는다. 정형화된 모양이 아닌 입력은 {@link DateTimeFormatter}로
+ * 위임해 기존 파싱과 같은 기준으로 거부하거나 해석한다.
+ * <p>
+ * 캐시를 가지므로 스레드 간에 공유하지 않는다.
+ */
+public final class TimestampDecoder {
+
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(
+        "M/d/yyyy, h:mm:ss.SSS a", Locale.ENGLISH
+    );
+    private static final int MAX_PREFIX_LENGTH = "12/31/9999, 12:".length();
+    // "mm:ss.SSS AM"
+    private static final int SUFFIX_LENGTH = 12;
+    private static final long MILLIS_PER_HOUR = 3_600_000L;
+    private static final long MILLIS_PER_DAY = 24 * MILLIS_PER_HOUR;
+
+    private final byte[] cachedPrefix = new byte[MAX_PREFIX_LENGTH];
+    private int cachedPrefixLength;
+    private boolean cachedPm;
+    private long cachedHourMillis;
+
+    public long decode(CsvRow row, int index) {
+        if (index < 0 || index >= row.size()) {
+            return INVALID;
+        }
+        return decode(row.buffer(), row.start(index), row.end(index));
+    }
+
+    public long decode(byte[] buffer, int start, int end) {
+        int suffixStart = end - SUFFIX_LENGTH;
+        if (cachedPrefixLength > 0 && suffixStart - start == cachedPrefixLength
+            && Arrays.equals(buffer, start, suffixStart, cachedPrefix, 0, cachedPrefixLength)
+            && isMeridiem(buffer, end - 2, cachedPm)) {
+            long millisOfHour = decodeMillisOfHour(buffer, suffixStart);
+            if (millisOfHour >= 0) {
+                return cachedHourMillis + millisOfHour;
+            }
+        }
+
+        long decoded = decodeFully(buffer, start, end);
+        return decoded != INVALID ? decoded : decodeWithFormatter(buffer, start, end);
+    }
+
+    public static LocalDateTime toLocalDateTime(long epochMillis) {
+        long epochSecond = Math.floorDiv(epochMillis, 1000);
+        int nanos = (int) Math.floorMod(epochMillis, 1000) * 1_000_000;
+        return LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC);
+    }
+
+    // 정형화된 모양(M/d/yyyy, h:mm:ss.SSS AM|PM)만 해석하고 나머지는 INVALID를 돌려 포매터에 맡긴다
+    private long decodeFully(byte[] buffer, int start, int end) {
+        int position = start;
+
+        int monthEnd = digitsEnd(buffer, position, end, 2);
+        int month = readDigits(buffer, position, monthEnd);
+        if (month < 1 || month > 12 || !isByte(buffer, monthEnd, end, '/')) {
+            return INVALID;
+        }
+        position = monthEnd + 1;
+
+        int dayEnd = digitsEnd(buffer, position, end, 2);
+        int day = readDigits(buffer, position, dayEnd);
+        if (day < 1 || !isByte(buffer, dayEnd, end, '/')) {
+            return INVALID;
+        }
+        position = dayEnd + 1;
+
+        if (digitsEnd(buffer, position, end, 4) != position + 4) {
+            return INVALID;
+        }
+        int year = readDigits(buffer, position, position + 4);
+        position += 4;
+        if (year < 1 || !isByte(buffer, position, end, ',') || !isByte(buffer, position + 1, end, ' ')) {
+            return INVALID;
+        }
+        position += 2;
+
+        int hourEnd = digitsEnd(buffer, position, end, 2);
+        int hour = readDigits(buffer, position, hourEnd);
+        if (hour < 1 || hour > 12 || !isByte(buffer, hourEnd, end, ':')) {
+            return INVALID;
+        }
+        position = hourEnd + 1;
+
+        if (end - position != SUFFIX_LENGTH) {
+            return INVALID;
+        }
+        boolean pm;
+        if (isMeridiem(buffer, end - 2, false)) {
+            pm = false;
+        } else if (isMeridiem(buffer, end - 2, true)) {
+            pm = true;
+        } else {
+            return INVALID;
+        }
+        long millisOfHour = decodeMillisOfHour(buffer, position);
+        if (millisOfHour < 0) {
+            return INVALID;
+        }
+
+        long epochDay;
+        try {
+            epochDay = LocalDate.of(year, month, day).toEpochDay();
+        } catch (DateTimeException e) {
+            // 2/30처럼 월의 길이를 넘는 날짜는 포매터의 SMART 보정 규칙을 따른다
+            return INVALID;
+        }
+        int hourOfDay = (hour == 12 ? 0 : hour) + (pm ? 12 : 0);
+        long hourMillis = epochDay * MILLIS_PER_DAY + hourOfDay * MILLIS_PER_HOUR;
+
+        cachedPrefixLength = position - start;
+        System.arraycopy(buffer, start, cachedPrefix, 0, cachedPrefixLength);
+        cachedPm = pm;
+        cachedHourMillis = hourMillis;
+        return hourMillis + millisOfHour;
+    }
+
+    // "mm:ss.SSS " 부분을 읽어 시 단위 안에서의 millis를 반환한다. 형식이 맞지 않으면 -1
+    private static long decodeMillisOfHour(byte[] buffer, int position) {
+        int minute = twoDigits(buffer, position);
+        int second = twoDigits(buffer, position + 3);
+        int millisHead = twoDigits(buffer, position + 6);
+        int millisTail = digit(buffer[position + 8]);
+        if (minute < 0 || minute > 59 || second < 0 || second > 59 || millisHead < 0 || millisTail < 0
+            || buffer[position + 2] != ':' || buffer[position + 5] != '.' || buffer[position + 9] != ' ') {
+            return -1;
+        }
+        return minute * 60_000L + second * 1_000L + millisHead * 10 + millisTail;
+    }
+
+    // 형식 자체가 다른 입력은 예외 없이 걸러내고, 값 해석 단계에서만 포매터의 예외에 기댄다
+    private static long decodeWithFormatter(byte[] buffer, int start, int end) {
+        String value = new String(buffer, start, end - start, StandardCharsets.UTF_8);
+        ParsePosition position = new ParsePosition(0);
+        if (DATE_FORMATTER.parseUnresolved(value, position) == null || position.getIndex() != value.length()) {
+            return INVALID;
+        }
+        try {
+            return LocalDateTime.parse(value, DATE_FORMATTER).toInstant(ZoneOffset.UTC).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return INVALID;
+        }
+    }
+
+    private static boolean isMeridiem(byte[] buffer, int position, boolean pm) {
+        return buffer[position] == (pm ? 'P' : 'A') && buffer[position + 1] == 'M';
+    }
+
+    private static boolean isByte(byte[] buffer, int position, int end, char expected) {
+        return position < end && buffer[position] == expected;
+    }
+
+    // position부터 최대 maxDigits개의 숫자가 끝나는 위치. 숫자가 하나도 없으면 position
+    private static int digitsEnd(byte[] buffer, int position, int end, int maxDigits) {
+        int limit = Math.min(end, position + maxDigits);
+        int i = position;
+        while (i < limit && digit(buffer[i]) >= 0) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int readDigits(byte[] buffer, int start, int end) {
+        if (start == end) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + digit(buffer[i]);
+        }
+        return value;
+    }
+
+    private static int twoDigits(byte[] buffer, int position) {
+        int tens = digit(buffer[position]);
+        int ones = digit(buffer[position + 1]);
+        return tens < 0 || ones < 0 ? -1 : tens * 10 + ones;
+    }
+
+    private static int digit(byte b) {
+        return b >= '0' && b <= '9' ? b - '0' : -1;
+    }
+}
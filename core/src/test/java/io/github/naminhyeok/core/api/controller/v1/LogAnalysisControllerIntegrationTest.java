@@ -120,4 +120,162 @@ class LogAnalysisControllerIntegrationTest {
             .jsonPath("$.error.code").isEqualTo("E400")
             .jsonPath("$.error.message").isEqualTo("요청이 올바르지 않습니다.");
     }
+
+    @Test
+    void 분석_결과를_요청한_간격의_시계열로_조회한다() {
+        // given
+        String csv = """
+            header1,header2,header3,header4,header5,header6,header7,header8,header9,header10,header11,header12
+            "1/29/2026, 5:44:10.000 AM",121.158.115.86,GET,/api/test,Mozilla/5.0,200,HTTP/1.1,100,200,50,TLSv1.2,/api/test
+            "1/29/2026, 5:46:10.000 AM",121.158.115.86,GET,/api/test,Mozilla/5.0,500,HTTP/1.1,100,200,50,TLSv1.2,/api/test
+            "1/29/2026, 5:41:10.000 AM",121.158.115.86,GET,/api/test,Mozilla/5.0,404,HTTP/1.1,100,200,50,TLSv1.2,/api/test
+            """;
+        ByteArrayResource fileResource = new ByteArrayResource(csv.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return "test.csv";
+            }
+        };
+
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", fileResource);
+
+        byte[] responseBody = restTestClient.post()
+            .uri("/api/logs/v1/analyze")
+            .contentType(MediaType.MULTIPART_FORM_DATA)
+            .body(body)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .returnResult()
+            .getResponseBody();
+
+        Integer analysisId = JsonPath.read(new String(responseBody, StandardCharsets.UTF_8), "$.data.analysisId");
+
+        // when & then
+        restTestClient.get()
+            .uri("/api/logs/v1/analysis/{analysisId}/timeseries?resolution=5", analysisId)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.data.resolutionMinutes").isEqualTo(5)
+            .jsonPath("$.data.buckets.length()").isEqualTo(2)
+            .jsonPath("$.data.buckets[0].start").isEqualTo("2026-01-29T05:40:00")
+            .jsonPath("$.data.buckets[0].requests").isEqualTo(2)
+            .jsonPath("$.data.buckets[0].clientErrors").isEqualTo(1)
+            .jsonPath("$.data.buckets[1].serverErrors").isEqualTo(1);
+    }
+
+    @Test
+    void 같은_파일을_다시_올리면_기존_분석_ID와_중복_헤더를_반환한다() {
+        // given
+        String csv = """
+            header1,header2,header3,header4,header5,header6,header7,header8,header9,header10,header11,header12
+            "1/30/2026, 9:12:00.000 AM",10.0.0.7,GET,/api/dedup,Mozilla/5.0,200,HTTP/1.1,100,200,50,TLSv1.2,/api/dedup
+            """;
+        ByteArrayResource fileResource = new ByteArrayResource(csv.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return "dedup.csv";
+            }
+        };
+
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", fileResource);
+
+        byte[] responseBody = restTestClient.post()
+            .uri("/api/logs/v1/analyze")
+            .contentType(MediaType.MULTIPART_FORM_DATA)
+            .body(body)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals("X-Analysis-Deduplicated", "false")
+            .expectBody()
+            .returnResult()
+            .getResponseBody();
+
+        Integer analysisId = JsonPath.read(new String(responseBody, StandardCharsets.UTF_8), "$.data.analysisId");
+
+        // when & then
+        restTestClient.post()
+            .uri("/api/logs/v1/analyze")
+            .contentType(MediaType.MULTIPART_FORM_DATA)
+            .body(body)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals("X-Analysis-Deduplicated", "true")
+            .expectBody()
+            .jsonPath("$.data.analysisId").isEqualTo(analysisId);
+
+        restTestClient.post()
+            .uri("/api/logs/v1/analyze?force=true")
+            .contentType(MediaType.MULTIPART_FORM_DATA)
+            .body(body)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals("X-Analysis-Deduplicated", "false")
+            .expectBody()
+            .jsonPath("$.data.analysisId").isNotEqualTo(analysisId);
+    }
+
+    @Test
+    void 순위를_커서로_나눠_조회한다() {
+        // given
+        String csv = """
+            header1,header2,header3,header4,header5,header6,header7,header8,header9,header10,header11,header12
+            "1/31/2026, 1:00:00.000 AM",10.0.0.1,GET,/api/rank/a,Mozilla/5.0,200,HTTP/1.1,100,200,50,TLSv1.2,/api/rank/a
+            "1/31/2026, 1:00:01.000 AM",10.0.0.1,GET,/api/rank/a,Mozilla/5.0,200,HTTP/1.1,100,200,50,TLSv1.2,/api/rank/a
+            "1/31/2026, 1:00:02.000 AM",10.0.0.1,GET,/api/rank/b,Mozilla/5.0,200,HTTP/1.1,100,200,50,TLSv1.2,/api/rank/b
+            """;
+        ByteArrayResource fileResource = new ByteArrayResource(csv.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return "rank.csv";
+            }
+        };
+
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", fileResource);
+
+        byte[] responseBody = restTestClient.post()
+            .uri("/api/logs/v1/analyze")
+            .contentType(MediaType.MULTIPART_FORM_DATA)
+            .body(body)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .returnResult()
+            .getResponseBody();
+
+        Integer analysisId = JsonPath.read(new String(responseBody, StandardCharsets.UTF_8), "$.data.analysisId");
+
+        byte[] firstPage = restTestClient.get()
+            .uri("/api/logs/v1/analysis/{analysisId}/rankings?dimension=PATHS&size=1", analysisId)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.data.totalItems").isEqualTo(2)
+            .jsonPath("$.data.items[0].value").isEqualTo("/api/rank/a")
+            .returnResult()
+            .getResponseBody();
+
+        String nextCursor = JsonPath.read(new String(firstPage, StandardCharsets.UTF_8), "$.data.nextCursor");
+
+        // when & then
+        restTestClient.get()
+            .uri("/api/logs/v1/analysis/{analysisId}/rankings?dimension=PATHS&size=1&cursor={cursor}", analysisId, nextCursor)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.data.items.length()").isEqualTo(1)
+            .jsonPath("$.data.items[0].value").isEqualTo("/api/rank/b")
+            .jsonPath("$.data.nextCursor").doesNotExist();
+
+        restTestClient.get()
+            .uri("/api/logs/v1/analysis/{analysisId}?topN=1001", analysisId)
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody()
+            .jsonPath("$.error.code").isEqualTo("E400");
+    }
 }
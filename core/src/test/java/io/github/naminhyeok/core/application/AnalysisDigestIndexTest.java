@@ -0,0 +1,70 @@
+package io.github.naminhyeok.core.application;
+
+import io.github.naminhyeok.core.domain.counter.CounterSpec;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class AnalysisDigestIndexTest {
+
+    private final AnalysisDigestIndex index = new AnalysisDigestIndex();
+
+    @Test
+    void 내용이_같으면_파일_이름이_달라도_같은_키를_만든다() {
+        // given
+        MultipartFile first = toMultipartFile("a.csv", "line1\nline2\n");
+        MultipartFile second = toMultipartFile("b.csv", "line1\nline2\n");
+
+        // when
+        String firstKey = index.keyOf(first, CounterSpec.exact());
+        String secondKey = index.keyOf(second, CounterSpec.exact());
+
+        // then
+        then(firstKey).isEqualTo(secondKey);
+    }
+
+    @Test
+    void 내용이나_카운터_모드가_다르면_다른_키를_만든다() {
+        // given
+        MultipartFile file = toMultipartFile("a.csv", "line1\nline2\n");
+        MultipartFile changed = toMultipartFile("a.csv", "line1\nline3\n");
+
+        // when
+        String exactKey = index.keyOf(file, CounterSpec.exact());
+        String changedKey = index.keyOf(changed, CounterSpec.exact());
+        String approximateKey = index.keyOf(file, CounterSpec.approximate(100));
+
+        // then
+        then(changedKey).isNotEqualTo(exactKey);
+        then(approximateKey).isNotEqualTo(exactKey);
+    }
+
+    @Test
+    void forget은_해당_분석_ID를_가리키는_키를_모두_지운다() {
+        // given
+        index.register("EXACT:aaa", 1L);
+        index.register("APPROXIMATE:aaa", 1L);
+        index.register("EXACT:bbb", 2L);
+
+        // when
+        index.forget(1L);
+
+        // then
+        then(index.find("EXACT:aaa")).isEmpty();
+        then(index.find("APPROXIMATE:aaa")).isEmpty();
+        then(index.find("EXACT:bbb")).contains(2L);
+    }
+
+    private MultipartFile toMultipartFile(String fileName, String content) {
+        return new MockMultipartFile(
+            "file",
+            fileName,
+            "text/csv",
+            content.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -0,0 +1,186 @@
+package io.github.naminhyeok.core.application;
+
+import io.github.naminhyeok.core.domain.LogAnalysisAggregate;
+import io.github.naminhyeok.core.domain.LogAnalysisAggregateRepository;
+import io.github.naminhyeok.core.domain.counter.CounterMode;
+import io.github.naminhyeok.core.infrastructure.persistence.InMemoryLogAnalysisAggregateRepository;
+import io.github.naminhyeok.core.support.config.AnalysisJobProperties;
+import io.github.naminhyeok.core.support.config.AnalysisStoreProperties;
+import io.github.naminhyeok.core.support.config.CounterProperties;
+import io.github.naminhyeok.core.support.config.LogIngestProperties;
+import io.github.naminhyeok.core.support.error.CoreException;
+import io.github.naminhyeok.core.support.error.ErrorType;
+import io.github.naminhyeok.core.support.fake.FakePendingIpQueue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class AnalysisJobExecutorTest {
+
+    private static final String CSV = """
+        header1,header2,header3,header4,header5,header6,header7,header8,header9,header10,header11,header12
+        "1/29/2026, 5:44:10.000 AM",121.158.115.86,GET,/api/test,Mozilla/5.0,200,HTTP/1.1,100,200,50,TLSv1.2,/api/test
+        "1/29/2026, 5:44:11.000 AM",121.158.115.87,POST,/api/users,Mozilla/5.0,201,HTTP/1.1,150,300,60,TLSv1.2,/api/users
+        """;
+
+    private LogAnalysisAggregateRepository repository;
+    private LogIngestor logIngestor;
+    private CounterProperties counterProperties;
+    private AnalysisJobExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryLogAnalysisAggregateRepository(new AnalysisStoreProperties(null, null, null, null, null));
+        logIngestor = new LogIngestor(new LogIngestProperties(null, null));
+        counterProperties = new CounterProperties(null, null, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void 접수한_작업은_완료되면_예약된_ID로_결과가_저장된다() {
+        // given
+        executor = new AnalysisJobExecutor(
+            new LogAnalyzer(repository, new FakePendingIpQueue(), logIngestor, counterProperties, new AnalysisDigestIndex()),
+            new AnalysisJobProperties(null, null, null, null, null)
+        );
+
+        // when
+        AnalysisJob job = executor.submit(toMultipartFile(CSV), null);
+
+        // then
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+            then(executor.find(job.getAnalysisId()).getState()).isEqualTo(AnalysisJobState.COMPLETED)
+        );
+        AnalysisJobStatus status = executor.find(job.getAnalysisId()).status(System.nanoTime());
+        then(status.linesProcessed()).isEqualTo(2);
+        then(status.bytesProcessed()).isEqualTo(status.totalBytes());
+        then(status.etaSeconds()).isNull();
+        then(status.error()).isNull();
+        then(repository.findById(job.getAnalysisId()))
+            .get()
+            .extracting(LogAnalysisAggregate::getTotalRequests)
+            .isEqualTo(2L);
+    }
+
+    @Test
+    void 분석이_실패하면_작업은_FAILED_상태와_에러를_남긴다() {
+        // given
+        executor = new AnalysisJobExecutor(
+            new BlockingLogAnalyzer(new CountDownLatch(0), ErrorType.FILE_READ_ERROR),
+            new AnalysisJobProperties(null, null, null, null, null)
+        );
+
+        // when
+        AnalysisJob job = executor.submit(toMultipartFile(CSV), null);
+
+        // then
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+            then(executor.find(job.getAnalysisId()).getState()).isEqualTo(AnalysisJobState.FAILED)
+        );
+        then(job.status(System.nanoTime()).error()).isEqualTo(ErrorType.FILE_READ_ERROR);
+    }
+
+    @Test
+    void 실행_중인_작업과_대기열이_모두_차면_접수를_거절한다() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        executor = new AnalysisJobExecutor(
+            new BlockingLogAnalyzer(release, null),
+            new AnalysisJobProperties(1, 1, null, null, null)
+        );
+        AnalysisJob running = executor.submit(toMultipartFile(CSV), null);
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+            then(running.getState()).isEqualTo(AnalysisJobState.RUNNING)
+        );
+        AnalysisJob queued = executor.submit(toMultipartFile(CSV), null);
+
+        // when & then
+        thenThrownBy(() -> executor.submit(toMultipartFile(CSV), null))
+            .isInstanceOf(CoreException.class)
+            .satisfies(e -> {
+                CoreException coreException = (CoreException) e;
+                then(coreException.getErrorType()).isEqualTo(ErrorType.ANALYSIS_QUEUE_FULL);
+            });
+        then(queued.getState()).isEqualTo(AnalysisJobState.QUEUED);
+
+        release.countDown();
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+            then(queued.getState()).isEqualTo(AnalysisJobState.COMPLETED)
+        );
+    }
+
+    @Test
+    void 알_수_없는_작업_ID를_조회하면_예외가_발생한다() {
+        // given
+        executor = new AnalysisJobExecutor(
+            new LogAnalyzer(repository, new FakePendingIpQueue(), logIngestor, counterProperties, new AnalysisDigestIndex()),
+            new AnalysisJobProperties(null, null, null, null, null)
+        );
+
+        // when & then
+        thenThrownBy(() -> executor.find(999L))
+            .isInstanceOf(CoreException.class)
+            .satisfies(e -> {
+                CoreException coreException = (CoreException) e;
+                then(coreException.getErrorType()).isEqualTo(ErrorType.ANALYSIS_JOB_NOT_FOUND);
+            });
+    }
+
+    private MultipartFile toMultipartFile(String content) {
+        return new MockMultipartFile(
+            "file",
+            "test.csv",
+            "text/csv",
+            content.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    // 풀려날 때까지 분석을 붙잡아 두거나, 지정한 에러로 실패시킨다
+    private class BlockingLogAnalyzer extends LogAnalyzer {
+
+        private final CountDownLatch release;
+        private final ErrorType failWith;
+
+        BlockingLogAnalyzer(CountDownLatch release, ErrorType failWith) {
+            super(repository, new FakePendingIpQueue(), logIngestor, counterProperties, new AnalysisDigestIndex());
+            this.release = release;
+            this.failWith = failWith;
+        }
+
+        @Override
+        public LogAnalysisAggregate analyze(
+            Path path,
+            String fileName,
+            CounterMode counterMode,
+            Long analysisId,
+            IngestProgress progress
+        ) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failWith != null) {
+                throw new CoreException(failWith);
+            }
+            return super.analyze(path, fileName, counterMode, analysisId, progress);
+        }
+    }
+}
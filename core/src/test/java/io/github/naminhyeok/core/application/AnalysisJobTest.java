@@ -0,0 +1,134 @@
+package io.github.naminhyeok.core.application;
+
+import io.github.naminhyeok.core.domain.AccessLog;
+import io.github.naminhyeok.core.domain.LogStreamAggregator;
+import io.github.naminhyeok.core.domain.RankedItem;
+import io.github.naminhyeok.core.support.error.ErrorType;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class AnalysisJobTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void 대기_중인_작업은_속도와_예상_시간이_없다() {
+        // given
+        AnalysisJob job = new AnalysisJob(1L, "access.csv", 1_000);
+
+        // when
+        AnalysisJobStatus status = job.status(10 * SECOND);
+
+        // then
+        then(status.state()).isEqualTo(AnalysisJobState.QUEUED);
+        then(status.linesPerSecond()).isZero();
+        then(status.etaSeconds()).isNull();
+    }
+
+    @Test
+    void 실행_중인_작업은_처리한_바이트_비율로_남은_시간을_추정한다() {
+        // given
+        AnalysisJob job = new AnalysisJob(1L, "access.csv", 1_000);
+        job.start(0);
+        for (int i = 0; i < 25; i++) {
+            job.getProgress().recordLine(9);
+        }
+
+        // when
+        AnalysisJobStatus status = job.status(2 * SECOND);
+
+        // then
+        then(status.state()).isEqualTo(AnalysisJobState.RUNNING);
+        then(status.linesProcessed()).isEqualTo(25);
+        then(status.bytesProcessed()).isEqualTo(250);
+        then(status.linesPerSecond()).isEqualTo(12.5);
+        then(status.etaSeconds()).isEqualTo(6);
+    }
+
+    @Test
+    void 처리한_바이트는_파일_크기를_넘지_않는다() {
+        // given
+        AnalysisJob job = new AnalysisJob(1L, "access.csv", 100);
+        job.start(0);
+        for (int i = 0; i < 20; i++) {
+            job.getProgress().recordLine(9);
+        }
+
+        // when
+        AnalysisJobStatus status = job.status(SECOND);
+
+        // then
+        then(status.bytesProcessed()).isEqualTo(100);
+        then(status.etaSeconds()).isZero();
+    }
+
+    @Test
+    void 완료된_작업은_끝난_시점까지의_속도를_유지한다() {
+        // given
+        AnalysisJob job = new AnalysisJob(1L, "access.csv", 1_000);
+        job.start(0);
+        for (int i = 0; i < 10; i++) {
+            job.getProgress().recordLine(9);
+        }
+        job.complete(2 * SECOND);
+
+        // when
+        AnalysisJobStatus status = job.status(100 * SECOND);
+
+        // then
+        then(status.state()).isEqualTo(AnalysisJobState.COMPLETED);
+        then(status.bytesProcessed()).isEqualTo(1_000);
+        then(status.linesPerSecond()).isEqualTo(5.0);
+        then(status.etaSeconds()).isNull();
+    }
+
+    @Test
+    void 실패한_작업은_에러를_담는다() {
+        // given
+        AnalysisJob job = new AnalysisJob(1L, "access.csv", 1_000);
+        job.start(0);
+
+        // when
+        job.fail(ErrorType.FILE_READ_ERROR, SECOND);
+
+        // then
+        AnalysisJobStatus status = job.status(2 * SECOND);
+        then(status.state()).isEqualTo(AnalysisJobState.FAILED);
+        then(status.error()).isEqualTo(ErrorType.FILE_READ_ERROR);
+        then(status.etaSeconds()).isNull();
+    }
+
+    @Test
+    void 스냅샷은_파싱_중_게시된_부분_집계를_담는다() {
+        // given
+        IngestProgress progress = new IngestProgress(10);
+        LogStreamAggregator aggregator = new LogStreamAggregator();
+        progress.track(aggregator);
+        aggregator.accumulate(new AccessLog(
+            LocalDateTime.of(2026, 1, 29, 5, 44, 10).toInstant(ZoneOffset.UTC).toEpochMilli(), "1.1.1.1", HttpMethod.GET, "/api/users",
+            "Mozilla/5.0", 200, "HTTP/1.1", 100L, 200L, 50L, "TLSv1.2", "/api/users"
+        ));
+        aggregator.publishLive();
+        AnalysisJob job = new AnalysisJob(1L, "access.csv", 1_000, progress);
+        job.start(0);
+
+        // when
+        AnalysisJobSnapshot snapshot = job.snapshot(SECOND, 5);
+
+        // then
+        then(snapshot.status().state()).isEqualTo(AnalysisJobState.RUNNING);
+        then(snapshot.requests()).isEqualTo(1);
+        then(snapshot.topPaths())
+            .extracting(RankedItem::value)
+            .containsExactly("/api/users");
+        then(snapshot.topStatusCodes())
+            .extracting(RankedItem::value)
+            .containsExactly("200");
+    }
+}
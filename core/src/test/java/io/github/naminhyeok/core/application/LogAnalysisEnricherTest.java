@@ -11,10 +11,8 @@ import io.github.naminhyeok.core.support.fake.FakePendingIpQueue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatusCode;
 
 import java.time.Duration;
-import java.time.LocalDateTime;
 
 import static org.assertj.core.api.BDDAssertions.then;
 
@@ -75,12 +73,12 @@ class LogAnalysisEnricherTest {
 
     private AccessLog createAccessLog(String clientIp) {
         return new AccessLog(
-            LocalDateTime.now(),
+            System.currentTimeMillis(),
             clientIp,
             HttpMethod.GET,
             "/api/test",
             "Mozilla/5.0",
-            HttpStatusCode.valueOf(200),
+            200,
             "HTTP/1.1",
             100L,
             200L,
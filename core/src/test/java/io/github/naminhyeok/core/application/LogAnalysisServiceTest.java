@@ -7,6 +7,10 @@ import io.github.naminhyeok.core.domain.LogAnalysisAggregate;
 import io.github.naminhyeok.core.domain.LogAnalysisAggregateRepository;
 import io.github.naminhyeok.core.domain.LogAnalysisResult;
 import io.github.naminhyeok.core.infrastructure.persistence.InMemoryLogAnalysisAggregateRepository;
+import io.github.naminhyeok.core.support.config.AnalysisJobProperties;
+import io.github.naminhyeok.core.support.config.AnalysisStoreProperties;
+import io.github.naminhyeok.core.support.config.CounterProperties;
+import io.github.naminhyeok.core.support.config.LogIngestProperties;
 import io.github.naminhyeok.core.support.error.CoreException;
 import io.github.naminhyeok.core.support.error.ErrorType;
 import io.github.naminhyeok.core.support.fake.FakePendingIpQueue;
@@ -27,19 +31,26 @@ class LogAnalysisServiceTest {
 
     @BeforeEach
     void setUp() {
-        LogAnalysisAggregateRepository repository = new InMemoryLogAnalysisAggregateRepository();
+        LogAnalysisAggregateRepository repository = new InMemoryLogAnalysisAggregateRepository(new AnalysisStoreProperties(null, null, null, null, null));
         FakePendingIpQueue fakePendingIpQueue = new FakePendingIpQueue();
         Cache<String, IpInfo> cache = Caffeine.newBuilder()
             .maximumSize(100)
             .expireAfterWrite(Duration.ofMinutes(10))
             .build();
 
-        LogAnalyzer logAnalyzer = new LogAnalyzer(repository, fakePendingIpQueue);
+        LogIngestor logIngestor = new LogIngestor(new LogIngestProperties(null, null));
+        AnalysisDigestIndex digestIndex = new AnalysisDigestIndex();
+        CounterProperties counterProperties = new CounterProperties(null, null, null);
+        LogAnalyzer logAnalyzer = new LogAnalyzer(repository, fakePendingIpQueue, logIngestor, counterProperties, digestIndex);
         LogAnalysisFinder logAnalysisFinder = new LogAnalysisFinder(repository);
         IpInfoReader ipInfoReader = new IpInfoReader(cache, fakePendingIpQueue);
         LogAnalysisEnricher logAnalysisEnricher = new LogAnalysisEnricher(ipInfoReader);
 
-        service = new LogAnalysisService(logAnalyzer, logAnalysisFinder, logAnalysisEnricher);
+        AnalysisJobExecutor analysisJobExecutor = new AnalysisJobExecutor(logAnalyzer, new AnalysisJobProperties(null, null, null, null, null));
+
+        LogAppender logAppender = new LogAppender(logAnalysisFinder, repository, logIngestor, counterProperties, digestIndex);
+
+        service = new LogAnalysisService(logAnalyzer, logAnalysisFinder, logAnalysisEnricher, analysisJobExecutor, logAppender);
     }
 
     @Test
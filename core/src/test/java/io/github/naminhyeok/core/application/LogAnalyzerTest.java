@@ -1,7 +1,12 @@
 package io.github.naminhyeok.core.application;
 
 import io.github.naminhyeok.core.domain.LogAnalysisAggregate;
+import io.github.naminhyeok.core.domain.RankedItem;
+import io.github.naminhyeok.core.domain.counter.CounterMode;
 import io.github.naminhyeok.core.infrastructure.persistence.InMemoryLogAnalysisAggregateRepository;
+import io.github.naminhyeok.core.support.config.AnalysisStoreProperties;
+import io.github.naminhyeok.core.support.config.CounterProperties;
+import io.github.naminhyeok.core.support.config.LogIngestProperties;
 import io.github.naminhyeok.core.support.fake.FakePendingIpQueue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +17,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.tuple;
 
 class LogAnalyzerTest {
 
@@ -22,8 +28,11 @@ class LogAnalyzerTest {
     void setUp() {
         fakePendingIpQueue = new FakePendingIpQueue();
         logAnalyzer = new LogAnalyzer(
-            new InMemoryLogAnalysisAggregateRepository(),
-            fakePendingIpQueue
+            new InMemoryLogAnalysisAggregateRepository(new AnalysisStoreProperties(null, null, null, null, null)),
+            fakePendingIpQueue,
+            new LogIngestor(new LogIngestProperties(null, null)),
+            new CounterProperties(null, null, null),
+            new AnalysisDigestIndex()
         );
     }
 
@@ -104,6 +113,83 @@ class LogAnalyzerTest {
         then(fakePendingIpQueue.getOfferCount("192.168.0.1")).isEqualTo(1);
     }
 
+    @Test
+    void 요청에서_근사_모드를_지정하면_근사_카운터로_집계한다() {
+        // given
+        String csv = """
+            header1,header2,header3,header4,header5,header6,header7,header8,header9,header10,header11,header12
+            "1/29/2026, 5:44:10.000 AM",192.168.0.1,GET,/api/test,Mozilla/5.0,200,HTTP/1.1,100,200,50,TLSv1.2,/api/test
+            "1/29/2026, 5:44:10.000 AM",192.168.0.2,GET,/api/test,Mozilla/5.0,200,HTTP/1.1,100,200,50,TLSv1.2,/api/test
+            """;
+        MultipartFile file = toMultipartFile(csv);
+
+        // when
+        LogAnalysisAggregate exact = logAnalyzer.analyze(file);
+        LogAnalysisAggregate approximate = logAnalyzer.analyze(file, CounterMode.APPROXIMATE);
+
+        // then
+        then(exact.isApproximate()).isFalse();
+        then(approximate.isApproximate()).isTrue();
+        then(approximate.getTopPaths(1))
+            .extracting(RankedItem::value, RankedItem::count)
+            .containsExactly(tuple("/api/test", 2L));
+    }
+
+    @Test
+    void 같은_파일을_다시_분석하면_기존_결과를_재사용한다() {
+        // given
+        String csv = """
+            header1,header2,header3,header4,header5,header6,header7,header8,header9,header10,header11,header12
+            "1/29/2026, 5:44:10.000 AM",192.168.0.1,GET,/api/test,Mozilla/5.0,200,HTTP/1.1,100,200,50,TLSv1.2,/api/test
+            """;
+        LogAnalyzer.AnalyzeResult first = logAnalyzer.analyze(toMultipartFile(csv), null, false);
+
+        // when
+        LogAnalyzer.AnalyzeResult second = logAnalyzer.analyze(toMultipartFile(csv), null, false);
+
+        // then
+        then(first.deduplicated()).isFalse();
+        then(second.deduplicated()).isTrue();
+        then(second.aggregate().getId()).isEqualTo(first.aggregate().getId());
+    }
+
+    @Test
+    void force이면_같은_파일도_다시_분석한다() {
+        // given
+        String csv = """
+            header1,header2,header3,header4,header5,header6,header7,header8,header9,header10,header11,header12
+            "1/29/2026, 5:44:10.000 AM",192.168.0.1,GET,/api/test,Mozilla/5.0,200,HTTP/1.1,100,200,50,TLSv1.2,/api/test
+            """;
+        LogAnalyzer.AnalyzeResult first = logAnalyzer.analyze(toMultipartFile(csv), null, false);
+
+        // when
+        LogAnalyzer.AnalyzeResult forced = logAnalyzer.analyze(toMultipartFile(csv), null, true);
+        LogAnalyzer.AnalyzeResult afterForced = logAnalyzer.analyze(toMultipartFile(csv), null, false);
+
+        // then
+        then(forced.deduplicated()).isFalse();
+        then(forced.aggregate().getId()).isNotEqualTo(first.aggregate().getId());
+        then(afterForced.aggregate().getId()).isEqualTo(forced.aggregate().getId());
+    }
+
+    @Test
+    void 카운터_모드가_다르면_같은_파일도_다시_분석한다() {
+        // given
+        String csv = """
+            header1,header2,header3,header4,header5,header6,header7,header8,header9,header10,header11,header12
+            "1/29/2026, 5:44:10.000 AM",192.168.0.1,GET,/api/test,Mozilla/5.0,200,HTTP/1.1,100,200,50,TLSv1.2,/api/test
+            """;
+        LogAnalyzer.AnalyzeResult exact = logAnalyzer.analyze(toMultipartFile(csv), CounterMode.EXACT, false);
+
+        // when
+        LogAnalyzer.AnalyzeResult approximate = logAnalyzer.analyze(toMultipartFile(csv), CounterMode.APPROXIMATE, false);
+
+        // then
+        then(approximate.deduplicated()).isFalse();
+        then(approximate.aggregate().getId()).isNotEqualTo(exact.aggregate().getId());
+        then(approximate.aggregate().isApproximate()).isTrue();
+    }
+
     private MultipartFile toMultipartFile(String content) {
         return new MockMultipartFile(
             "file",
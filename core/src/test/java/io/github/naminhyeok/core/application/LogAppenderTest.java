@@ -0,0 +1,151 @@
+package io.github.naminhyeok.core.application;
+
+import io.github.naminhyeok.core.domain.LogAnalysisAggregate;
+import io.github.naminhyeok.core.domain.LogAnalysisAggregateRepository;
+import io.github.naminhyeok.core.domain.ParseError;
+import io.github.naminhyeok.core.infrastructure.persistence.InMemoryLogAnalysisAggregateRepository;
+import io.github.naminhyeok.core.support.config.AnalysisStoreProperties;
+import io.github.naminhyeok.core.support.config.CounterProperties;
+import io.github.naminhyeok.core.support.config.LogIngestProperties;
+import io.github.naminhyeok.core.support.error.CoreException;
+import io.github.naminhyeok.core.support.error.ErrorType;
+import io.github.naminhyeok.core.support.fake.FakePendingIpQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+class LogAppenderTest {
+
+    private static final String HEADER =
+        "header1,header2,header3,header4,header5,header6,header7,header8,header9,header10,header11,header12\n";
+    private static final String ROW =
+        "\"1/29/2026, 5:44:10.000 AM\",121.158.115.86,GET,/api/test,Mozilla/5.0,200,HTTP/1.1,100,200,50,TLSv1.2,/api/test\n";
+
+    private LogAnalysisAggregateRepository repository;
+    private LogAnalyzer logAnalyzer;
+    private LogAppender logAppender;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryLogAnalysisAggregateRepository(new AnalysisStoreProperties(null, null, null, null, null));
+        LogIngestor logIngestor = new LogIngestor(new LogIngestProperties(null, null));
+        AnalysisDigestIndex digestIndex = new AnalysisDigestIndex();
+        CounterProperties counterProperties = new CounterProperties(null, null, null);
+        logAnalyzer = new LogAnalyzer(repository, new FakePendingIpQueue(), logIngestor, counterProperties, digestIndex);
+        logAppender = new LogAppender(new LogAnalysisFinder(repository), repository, logIngestor, counterProperties, digestIndex);
+    }
+
+    @Test
+    void 추가한_행이_기존_집계에_더해진다() {
+        // given
+        LogAnalysisAggregate original = logAnalyzer.analyze(toMultipartFile(HEADER + ROW + ROW));
+
+        // when
+        LogAppender.AppendResult result = logAppender.append(original.getId(), toMultipartFile(HEADER + ROW + ROW + ROW));
+
+        // then
+        then(result.appendedRequests()).isEqualTo(3);
+        then(result.totalRequests()).isEqualTo(5);
+        then(repository.findById(original.getId()))
+            .get()
+            .satisfies(aggregate -> {
+                then(aggregate.getTotalRequests()).isEqualTo(5);
+                then(aggregate.getTopPaths(1).getFirst().count()).isEqualTo(5);
+            });
+    }
+
+    @Test
+    void 추가한_파일의_오류_라인_번호는_기존_행_다음부터_이어진다() {
+        // given
+        LogAnalysisAggregate original = logAnalyzer.analyze(toMultipartFile(HEADER + ROW + ROW));
+
+        // when
+        LogAppender.AppendResult result = logAppender.append(original.getId(), toMultipartFile(HEADER + "invalid,line\n"));
+
+        // then
+        then(result.appendedErrors()).isEqualTo(1);
+        then(result.totalErrors()).isEqualTo(1);
+        then(repository.findById(original.getId()).orElseThrow().getParseErrorSamples())
+            .extracting(ParseError::lineNumber)
+            .containsExactly(4);
+    }
+
+    @Test
+    void 로그를_추가한_결과는_원래_파일을_다시_올려도_재사용하지_않는다() {
+        // given
+        LogAnalysisAggregate original = logAnalyzer.analyze(toMultipartFile(HEADER + ROW), null, false).aggregate();
+        logAppender.append(original.getId(), toMultipartFile(HEADER + ROW));
+
+        // when
+        LogAnalyzer.AnalyzeResult reuploaded = logAnalyzer.analyze(toMultipartFile(HEADER + ROW), null, false);
+
+        // then
+        then(reuploaded.deduplicated()).isFalse();
+        then(reuploaded.aggregate().getId()).isNotEqualTo(original.getId());
+        then(reuploaded.aggregate().getTotalRequests()).isEqualTo(1);
+    }
+
+    @Test
+    void 존재하지_않는_분석_결과에_추가하면_예외가_발생한다() {
+        // when & then
+        thenThrownBy(() -> logAppender.append(999L, toMultipartFile(HEADER + ROW)))
+            .isInstanceOf(CoreException.class)
+            .satisfies(e -> {
+                CoreException coreException = (CoreException) e;
+                then(coreException.getErrorType()).isEqualTo(ErrorType.ANALYSIS_NOT_FOUND);
+            });
+    }
+
+    @Test
+    void 같은_분석_결과에_동시에_추가해도_모든_행이_반영된다() throws InterruptedException {
+        // given
+        LogAnalysisAggregate original = logAnalyzer.analyze(toMultipartFile(HEADER + ROW));
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> appenders = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Thread appender = new Thread(() -> {
+                try {
+                    start.await();
+                    logAppender.append(original.getId(), toMultipartFile(HEADER + ROW + ROW + "invalid,line\n"));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            appender.start();
+            appenders.add(appender);
+        }
+
+        // when
+        start.countDown();
+        for (Thread appender : appenders) {
+            appender.join();
+        }
+
+        // then
+        LogAnalysisAggregate result = repository.findById(original.getId()).orElseThrow();
+        then(result.getTotalRequests()).isEqualTo(1 + threads * 2L);
+        then(result.getParseErrorCount()).isEqualTo(threads);
+        then(result.getParseErrorSamples())
+            .extracting(ParseError::lineNumber)
+            .doesNotHaveDuplicates();
+    }
+
+    private MultipartFile toMultipartFile(String content) {
+        return new MockMultipartFile(
+            "file",
+            "test.csv",
+            "text/csv",
+            content.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
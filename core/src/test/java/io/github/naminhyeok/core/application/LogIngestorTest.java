@@ -0,0 +1,216 @@
+package io.github.naminhyeok.core.application;
+
+import io.github.naminhyeok.core.domain.LogAnalysisAggregate;
+import io.github.naminhyeok.core.domain.ParseError;
+import io.github.naminhyeok.core.domain.ParseErrorReason;
+import io.github.naminhyeok.core.domain.RankedItem;
+import io.github.naminhyeok.core.domain.counter.CounterSpec;
+import io.github.naminhyeok.core.support.config.LogIngestProperties;
+import io.github.naminhyeok.core.support.error.CoreException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.BDDAssertions.entry;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.tuple;
+
+class LogIngestorTest {
+
+    private static final String HEADER =
+        "header1,header2,header3,header4,header5,header6,header7,header8,header9,header10,header11,header12\n";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void 스트림을_순차적으로_집계한다() {
+        // given
+        LogIngestor ingestor = new LogIngestor(new LogIngestProperties(1, null));
+        String csv = HEADER
+            + validLine("192.168.0.1", "/api/test", 200)
+            + "invalid,row\n"
+            + validLine("192.168.0.2", "/api/test", 404);
+
+        // when
+        LogAnalysisAggregate result = ingestor.ingest(toInputStream(csv)).finish();
+
+        // then
+        then(result.getTotalRequests()).isEqualTo(2);
+        then(result.getParseErrorSamples())
+            .extracting(ParseError::lineNumber)
+            .containsExactly(3);
+    }
+
+    @Test
+    void 파일을_청크로_나눠_병렬_집계한_결과는_순차_집계와_같다() throws IOException {
+        // given
+        String csv = createCsv(500);
+        Path file = Files.writeString(tempDir.resolve("access.csv"), csv);
+        LogIngestor sequential = new LogIngestor(new LogIngestProperties(1, null));
+        LogIngestor parallel = new LogIngestor(new LogIngestProperties(8, null));
+
+        // when
+        LogAnalysisAggregate expected = sequential.ingest(toInputStream(csv)).finish();
+        LogAnalysisAggregate actual = parallel.ingest(file).finish();
+
+        // then
+        then(actual.getTotalRequests()).isEqualTo(expected.getTotalRequests());
+        then(actual.getTopPaths(100)).isEqualTo(expected.getTopPaths(100));
+        then(actual.getTopClientIps(100)).isEqualTo(expected.getTopClientIps(100));
+        then(actual.getTopStatusCodes(100)).isEqualTo(expected.getTopStatusCodes(100));
+        then(actual.getParseErrorCount()).isEqualTo(expected.getParseErrorCount());
+        then(actual.getParseErrorSamples()).isEqualTo(expected.getParseErrorSamples());
+    }
+
+    @Test
+    void 병렬_집계에서도_오류_라인_번호는_파일_전체_기준이다() throws IOException {
+        // given
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 100; i++) {
+            csv.append(validLine("192.168.0.1", "/api/test", 200));
+        }
+        csv.append("invalid,row\n");
+        Path file = Files.writeString(tempDir.resolve("access.csv"), csv.toString());
+        LogIngestor ingestor = new LogIngestor(new LogIngestProperties(4, null));
+
+        // when
+        LogAnalysisAggregate result = ingestor.ingest(file).finish();
+
+        // then
+        then(result.getParseErrorSamples())
+            .extracting(ParseError::lineNumber, ParseError::rawLine)
+            .containsExactly(tuple(102, "invalid,row"));
+    }
+
+    @Test
+    void 임계값_이상의_업로드는_병렬_경로로_집계한다() {
+        // given
+        LogIngestor ingestor = new LogIngestor(new LogIngestProperties(4, 1L));
+        String csv = createCsv(50);
+        MockMultipartFile file = new MockMultipartFile(
+            "file", "test.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8)
+        );
+
+        // when
+        LogAnalysisAggregate result = ingestor.ingest(file).finish();
+
+        // then
+        LogAnalysisAggregate expected = ingestor.ingest(toInputStream(csv)).finish();
+        then(result.getTotalRequests()).isEqualTo(expected.getTotalRequests());
+        then(result.getTopPaths(1))
+            .extracting(RankedItem::value, RankedItem::count)
+            .containsExactlyElementsOf(
+                expected.getTopPaths(1).stream().map(item -> tuple(item.value(), item.count())).toList()
+            );
+    }
+
+    @Test
+    void 근사_모드로_병렬_집계하면_고정된_용량_안에서_상위_항목을_찾는다() throws IOException {
+        // given
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 400; i++) {
+            String path = i % 2 == 0 ? "/api/hot" : "/api/cold/" + i;
+            csv.append(validLine("10.0.0." + (i % 200), path, 200));
+        }
+        Path file = Files.writeString(tempDir.resolve("access.csv"), csv.toString());
+        LogIngestor ingestor = new LogIngestor(new LogIngestProperties(4, null));
+
+        // when
+        LogAnalysisAggregate result = ingestor.ingest(file, CounterSpec.approximate(16)).finish();
+
+        // then
+        then(result.isApproximate()).isTrue();
+        then(result.getTotalRequests()).isEqualTo(400);
+        then(result.getTopPaths(100)).hasSizeLessThanOrEqualTo(16);
+        RankedItem top = result.getTopPaths(1).getFirst();
+        then(top.value()).isEqualTo("/api/hot");
+        then(top.count() - top.errorBound()).isLessThanOrEqualTo(200);
+        then(top.count()).isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    void 병렬_집계가_중단되면_청크_작업이_모두_멈춘_뒤에_반환한다() throws Exception {
+        // given
+        Path file = Files.writeString(tempDir.resolve("access.csv"), createCsv(200_000));
+        LogIngestor ingestor = new LogIngestor(new LogIngestProperties(4, null));
+        IngestProgress progress = new IngestProgress();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread caller = new Thread(() -> {
+            try {
+                ingestor.ingest(file, CounterSpec.exact(), progress);
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        caller.start();
+        while (progress.lines() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // when
+        caller.interrupt();
+        caller.join();
+
+        // then
+        long linesAtReturn = progress.lines();
+        Thread.sleep(100);
+        then(failure.get()).isInstanceOf(CoreException.class);
+        then(progress.lines()).isEqualTo(linesAtReturn);
+    }
+
+    private String createCsv(int lines) {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < lines; i++) {
+            if (i % 17 == 0) {
+                csv.append("broken,line,").append(i).append('\n');
+            } else if (i % 23 == 0) {
+                csv.append('\n');
+            } else {
+                csv.append(validLine("10.0.0." + (i % 7), "/api/" + (i % 11), 200 + (i % 4) * 100));
+            }
+        }
+        return csv.toString();
+    }
+
+    private String validLine(String ip, String path, int status) {
+        return "\"1/29/2026, 5:44:10.000 AM\"," + ip + ",GET," + path
+            + ",Mozilla/5.0," + status + ",HTTP/1.1,100,200,50,TLSv1.2," + path + "\n";
+    }
+
+    private ByteArrayInputStream toInputStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void 오류_행은_사유별로_집계하고_원본_라인을_그대로_보존한다() {
+        // given
+        LogIngestor ingestor = new LogIngestor(new LogIngestProperties(1, null));
+        String csv = HEADER
+            + "\"broken, row\",  with spaces\n"
+            + validLine("192.168.0.1", "/api/test", 200).replace("GET", "FETCH");
+
+        // when
+        LogAnalysisAggregate result = ingestor.ingest(toInputStream(csv)).finish();
+
+        // then
+        then(result.getParseErrorCountsByReason())
+            .containsExactly(
+                entry(ParseErrorReason.COLUMN_COUNT, 1),
+                entry(ParseErrorReason.HTTP_METHOD, 1)
+            );
+        then(result.getParseErrorSamples())
+            .extracting(ParseError::lineNumber, ParseError::rawLine)
+            .containsExactly(
+                tuple(2, "\"broken, row\",  with spaces"),
+                tuple(3, validLine("192.168.0.1", "/api/test", 200).replace("GET", "FETCH").strip())
+            );
+    }
+}
@@ -0,0 +1,185 @@
+package io.github.naminhyeok.core.domain;
+
+import io.github.naminhyeok.core.support.parser.CsvRow;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class AccessLogParserTest {
+
+    private final AccessLogParser parser = new AccessLogParser();
+
+    @Test
+    void 올바른_행은_Parsed를_반환한다() {
+        // given
+        CsvRow row = createRow("1/29/2026, 5:44:10.000 AM", "GET", "200", "176");
+
+        // when
+        ParseOutcome outcome = parser.parse(row);
+
+        // then
+        then(outcome).isInstanceOf(ParseOutcome.Parsed.class);
+        AccessLog accessLog = ((ParseOutcome.Parsed) outcome).accessLog();
+        then(accessLog)
+            .extracting(
+                AccessLog::timeGenerated,
+                AccessLog::httpMethod,
+                AccessLog::httpStatus,
+                AccessLog::receivedBytes
+            )
+            .containsExactly(
+                LocalDateTime.of(2026, 1, 29, 5, 44, 10),
+                HttpMethod.GET,
+                200,
+                176L
+            );
+    }
+
+    @Test
+    void 컬럼_수가_다르면_COLUMN_COUNT_사유를_반환한다() {
+        // given
+        CsvRow row = new CsvRow(new String[]{"value1", "value2", "value3"});
+
+        // when
+        ParseOutcome outcome = parser.parse(row);
+
+        // then
+        then(outcome).isEqualTo(ParseOutcome.Rejected.of(ParseErrorReason.COLUMN_COUNT));
+    }
+
+    @Test
+    void 잘못된_날짜면_TIMESTAMP_사유를_반환한다() {
+        // given
+        CsvRow row = createRow("invalid-date", "GET", "200", "176");
+
+        // when
+        ParseOutcome outcome = parser.parse(row);
+
+        // then
+        then(outcome).isEqualTo(ParseOutcome.Rejected.of(ParseErrorReason.TIMESTAMP));
+    }
+
+    @Test
+    void 지원하지_않는_메서드면_HTTP_METHOD_사유를_반환한다() {
+        // given
+        CsvRow row = createRow("1/29/2026, 5:44:10.000 AM", "INVALID_METHOD", "200", "176");
+
+        // when
+        ParseOutcome outcome = parser.parse(row);
+
+        // then
+        then(outcome).isEqualTo(ParseOutcome.Rejected.of(ParseErrorReason.HTTP_METHOD));
+    }
+
+    @Test
+    void 숫자가_아니거나_범위를_벗어난_상태코드는_HTTP_STATUS_사유를_반환한다() {
+        // given
+        CsvRow notNumber = createRow("1/29/2026, 5:44:10.000 AM", "GET", "not-a-number", "176");
+        CsvRow outOfRange = createRow("1/29/2026, 5:44:10.000 AM", "GET", "42", "176");
+
+        // when
+        ParseOutcome notNumberOutcome = parser.parse(notNumber);
+        ParseOutcome outOfRangeOutcome = parser.parse(outOfRange);
+
+        // then
+        then(notNumberOutcome).isEqualTo(ParseOutcome.Rejected.of(ParseErrorReason.HTTP_STATUS));
+        then(outOfRangeOutcome).isEqualTo(ParseOutcome.Rejected.of(ParseErrorReason.HTTP_STATUS));
+    }
+
+    @Test
+    void 숫자_필드가_잘못되면_NUMERIC_FIELD_사유를_반환한다() {
+        // given
+        CsvRow invalid = createRow("1/29/2026, 5:44:10.000 AM", "GET", "200", "12a");
+        CsvRow overflow = createRow("1/29/2026, 5:44:10.000 AM", "GET", "200", "9223372036854775808");
+
+        // when
+        ParseOutcome invalidOutcome = parser.parse(invalid);
+        ParseOutcome overflowOutcome = parser.parse(overflow);
+
+        // then
+        then(invalidOutcome).isEqualTo(ParseOutcome.Rejected.of(ParseErrorReason.NUMERIC_FIELD));
+        then(overflowOutcome).isEqualTo(ParseOutcome.Rejected.of(ParseErrorReason.NUMERIC_FIELD));
+    }
+
+    @Test
+    void 숫자_필드는_Long_parseLong과_같은_범위를_허용한다() {
+        // given
+        CsvRow row = createRow("1/29/2026, 5:44:10.000 AM", "GET", "200", "-9223372036854775808");
+
+        // when
+        ParseOutcome outcome = parser.parse(row);
+
+        // then
+        then(outcome).isInstanceOf(ParseOutcome.Parsed.class);
+        then(((ParseOutcome.Parsed) outcome).accessLog().receivedBytes()).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    void 같은_사유의_Rejected는_같은_인스턴스를_재사용한다() {
+        // when
+        ParseOutcome.Rejected first = ParseOutcome.Rejected.of(ParseErrorReason.TIMESTAMP);
+        ParseOutcome.Rejected second = ParseOutcome.Rejected.of(ParseErrorReason.TIMESTAMP);
+
+        // then
+        then(first).isSameAs(second);
+    }
+
+    private CsvRow createRow(String timestamp, String method, String status, String receivedBytes) {
+        return new CsvRow(new String[]{
+            timestamp,
+            "121.158.115.86",
+            method,
+            "/event/banner",
+            "MyApp/1.0",
+            status,
+            "HTTP/1.1",
+            receivedBytes,
+            "1138",
+            "0",
+            "TLSv1.2",
+            "/event/banner"
+        });
+    }
+
+    @Test
+    void 프로젝션에_포함된_컬럼만_값으로_만든다() {
+        // given
+        AccessLogParser projectedParser = new AccessLogParser(
+            EnumSet.of(AccessLogField.REQUEST_URI, AccessLogField.HTTP_STATUS)
+        );
+        CsvRow row = createRow("1/29/2026, 5:44:10.000 AM", "GET", "200", "176");
+
+        // when
+        ParseOutcome outcome = projectedParser.parse(row);
+
+        // then
+        then(outcome).isInstanceOf(ParseOutcome.Parsed.class);
+        AccessLog accessLog = ((ParseOutcome.Parsed) outcome).accessLog();
+        then(accessLog.requestUri()).isEqualTo("/event/banner");
+        then(accessLog.httpStatus()).isEqualTo(200);
+        then(accessLog.timeGeneratedMillis()).isZero();
+        then(accessLog.clientIp()).isNull();
+        then(accessLog.userAgent()).isNull();
+        then(accessLog.receivedBytes()).isZero();
+    }
+
+    @Test
+    void 프로젝션에_포함되지_않은_컬럼도_검증한다() {
+        // given
+        AccessLogParser projectedParser = new AccessLogParser(EnumSet.of(AccessLogField.REQUEST_URI));
+        CsvRow invalidTimestamp = createRow("invalid-date", "GET", "200", "176");
+        CsvRow invalidNumber = createRow("1/29/2026, 5:44:10.000 AM", "GET", "200", "12a");
+
+        // when
+        ParseOutcome timestampOutcome = projectedParser.parse(invalidTimestamp);
+        ParseOutcome numberOutcome = projectedParser.parse(invalidNumber);
+
+        // then
+        then(timestampOutcome).isEqualTo(ParseOutcome.Rejected.of(ParseErrorReason.TIMESTAMP));
+        then(numberOutcome).isEqualTo(ParseOutcome.Rejected.of(ParseErrorReason.NUMERIC_FIELD));
+    }
+}
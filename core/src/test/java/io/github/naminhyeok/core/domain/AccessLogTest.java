@@ -5,9 +5,9 @@ import io.github.naminhyeok.core.support.error.ErrorType;
 import io.github.naminhyeok.core.support.parser.CsvRow;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatusCode;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenThrownBy;
@@ -22,7 +22,7 @@ class AccessLogTest {
         HttpMethod httpMethod = HttpMethod.GET;
         String requestUri = "/event/banner/mir2/popup";
         String userAgent = "MyThreadedApp/1.0";
-        HttpStatusCode httpStatus = HttpStatusCode.valueOf(200);
+        int httpStatus = 200;
         String httpVersion = "HTTP/1.1";
         long receivedBytes = 176L;
         long sentBytes = 1138L;
@@ -32,7 +32,7 @@ class AccessLogTest {
 
         // when
         AccessLog accessLog = new AccessLog(
-            timeGenerated,
+            timeGenerated.toInstant(ZoneOffset.UTC).toEpochMilli(),
             clientIp,
             httpMethod,
             requestUri,
@@ -99,7 +99,7 @@ class AccessLogTest {
                 "121.158.115.86",
                 HttpMethod.GET,
                 "/event/banner/mir2/popup",
-                HttpStatusCode.valueOf(200)
+                200
             );
     }
 
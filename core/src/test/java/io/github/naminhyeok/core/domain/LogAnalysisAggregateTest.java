@@ -1,15 +1,22 @@
 package io.github.naminhyeok.core.domain;
 
+import io.github.naminhyeok.core.domain.counter.CardinalityCounter;
+import io.github.naminhyeok.core.domain.counter.CounterSpec;
 import io.github.naminhyeok.core.domain.counter.FrequencyCounter;
+import io.github.naminhyeok.core.domain.counter.LatencyTracker;
 import io.github.naminhyeok.core.domain.counter.ParseErrorCollector;
 import io.github.naminhyeok.core.domain.counter.StatusCodeCounter;
+import io.github.naminhyeok.core.domain.counter.TimeSeriesCounter;
+import io.github.naminhyeok.core.domain.counter.WeightedFrequencyCounter;
 import org.junit.jupiter.api.Test;
-import org.springframework.http.HttpStatusCode;
+import org.springframework.http.HttpMethod;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 import static org.assertj.core.api.BDDAssertions.tuple;
 
 class LogAnalysisAggregateTest {
@@ -45,14 +52,19 @@ class LogAnalysisAggregateTest {
     void getTotalRequests는_총_요청_수를_반환한다() {
         // given
         StatusCodeCounter statusCodeCounter = new StatusCodeCounter();
-        statusCodeCounter.increment(HttpStatusCode.valueOf(200));
-        statusCodeCounter.increment(HttpStatusCode.valueOf(200));
-        statusCodeCounter.increment(HttpStatusCode.valueOf(404));
+        statusCodeCounter.increment(200);
+        statusCodeCounter.increment(200);
+        statusCodeCounter.increment(404);
 
         LogAnalysisAggregate aggregate = new LogAnalysisAggregate(
             null, LocalDateTime.now(),
             new FrequencyCounter(), new FrequencyCounter(),
-            statusCodeCounter, new ParseErrorCollector()
+            new FrequencyCounter(),
+            new WeightedFrequencyCounter(), new WeightedFrequencyCounter(),
+            statusCodeCounter, new ParseErrorCollector(),
+            new CardinalityCounter(),
+            new LatencyTracker(),
+            new TimeSeriesCounter()
         );
 
         // when & then
@@ -70,7 +82,12 @@ class LogAnalysisAggregateTest {
         LogAnalysisAggregate aggregate = new LogAnalysisAggregate(
             null, LocalDateTime.now(),
             pathCounter, new FrequencyCounter(),
-            new StatusCodeCounter(), new ParseErrorCollector()
+            new FrequencyCounter(),
+            new WeightedFrequencyCounter(), new WeightedFrequencyCounter(),
+            new StatusCodeCounter(), new ParseErrorCollector(),
+            new CardinalityCounter(),
+            new LatencyTracker(),
+            new TimeSeriesCounter()
         );
 
         // when
@@ -96,7 +113,12 @@ class LogAnalysisAggregateTest {
         LogAnalysisAggregate aggregate = new LogAnalysisAggregate(
             null, LocalDateTime.now(),
             new FrequencyCounter(), ipCounter,
-            new StatusCodeCounter(), new ParseErrorCollector()
+            new FrequencyCounter(),
+            new WeightedFrequencyCounter(), new WeightedFrequencyCounter(),
+            new StatusCodeCounter(), new ParseErrorCollector(),
+            new CardinalityCounter(),
+            new LatencyTracker(),
+            new TimeSeriesCounter()
         );
 
         // when
@@ -115,14 +137,19 @@ class LogAnalysisAggregateTest {
     void getTopStatusCodes는_상위_상태코드를_반환한다() {
         // given
         StatusCodeCounter statusCodeCounter = new StatusCodeCounter();
-        statusCodeCounter.increment(HttpStatusCode.valueOf(200));
-        statusCodeCounter.increment(HttpStatusCode.valueOf(200));
-        statusCodeCounter.increment(HttpStatusCode.valueOf(404));
+        statusCodeCounter.increment(200);
+        statusCodeCounter.increment(200);
+        statusCodeCounter.increment(404);
 
         LogAnalysisAggregate aggregate = new LogAnalysisAggregate(
             null, LocalDateTime.now(),
             new FrequencyCounter(), new FrequencyCounter(),
-            statusCodeCounter, new ParseErrorCollector()
+            new FrequencyCounter(),
+            new WeightedFrequencyCounter(), new WeightedFrequencyCounter(),
+            statusCodeCounter, new ParseErrorCollector(),
+            new CardinalityCounter(),
+            new LatencyTracker(),
+            new TimeSeriesCounter()
         );
 
         // when
@@ -141,15 +168,20 @@ class LogAnalysisAggregateTest {
     void getStatusCodeDistribution은_상태코드_분포를_반환한다() {
         // given
         StatusCodeCounter statusCodeCounter = new StatusCodeCounter();
-        statusCodeCounter.increment(HttpStatusCode.valueOf(200));
-        statusCodeCounter.increment(HttpStatusCode.valueOf(201));
-        statusCodeCounter.increment(HttpStatusCode.valueOf(404));
-        statusCodeCounter.increment(HttpStatusCode.valueOf(500));
+        statusCodeCounter.increment(200);
+        statusCodeCounter.increment(201);
+        statusCodeCounter.increment(404);
+        statusCodeCounter.increment(500);
 
         LogAnalysisAggregate aggregate = new LogAnalysisAggregate(
             null, LocalDateTime.now(),
             new FrequencyCounter(), new FrequencyCounter(),
-            statusCodeCounter, new ParseErrorCollector()
+            new FrequencyCounter(),
+            new WeightedFrequencyCounter(), new WeightedFrequencyCounter(),
+            statusCodeCounter, new ParseErrorCollector(),
+            new CardinalityCounter(),
+            new LatencyTracker(),
+            new TimeSeriesCounter()
         );
 
         // when
@@ -171,7 +203,12 @@ class LogAnalysisAggregateTest {
         LogAnalysisAggregate aggregate = new LogAnalysisAggregate(
             null, LocalDateTime.now(),
             new FrequencyCounter(), new FrequencyCounter(),
-            new StatusCodeCounter(), errorCollector
+            new FrequencyCounter(),
+            new WeightedFrequencyCounter(), new WeightedFrequencyCounter(),
+            new StatusCodeCounter(), errorCollector,
+            new CardinalityCounter(),
+            new LatencyTracker(),
+            new TimeSeriesCounter()
         );
 
         // when & then
@@ -182,6 +219,191 @@ class LogAnalysisAggregateTest {
             .containsExactly(5, 10);
     }
 
+    @Test
+    void 키가_많을수록_추정_크기가_커진다() {
+        // given
+        LogAnalysisAggregate small = createAggregate();
+        FrequencyCounter pathCounter = new FrequencyCounter();
+        for (int i = 0; i < 10_000; i++) {
+            pathCounter.increment("/api/items/" + i);
+        }
+        LogAnalysisAggregate large = new LogAnalysisAggregate(
+            null, LocalDateTime.now(),
+            pathCounter, new FrequencyCounter(),
+            new FrequencyCounter(),
+            new WeightedFrequencyCounter(), new WeightedFrequencyCounter(),
+            new StatusCodeCounter(), new ParseErrorCollector(),
+            new CardinalityCounter(),
+            new LatencyTracker(),
+            new TimeSeriesCounter()
+        );
+
+        // when
+        long difference = large.estimatedBytes() - small.estimatedBytes();
+
+        // then
+        then(small.estimatedBytes()).isPositive();
+        then(difference).isGreaterThan(10_000L * "/api/items/0".length());
+    }
+
+    @Test
+    void append는_청크의_집계를_기존_결과에_더한다() {
+        // given
+        LogAnalysisAggregate aggregate = createAggregate();
+        LogStreamAggregator chunk = new LogStreamAggregator();
+        chunk.accumulate(createAccessLog("/api/users", "2.2.2.2", 200));
+        chunk.accumulate(createAccessLog("/api/orders", "2.2.2.2", 404));
+
+        // when
+        aggregate.append(chunk);
+
+        // then
+        then(aggregate.getTotalRequests()).isEqualTo(3);
+        then(aggregate.getTopPaths(2))
+            .extracting(RankedItem::value, RankedItem::count)
+            .containsExactly(
+                tuple("/api/users", 2L),
+                tuple("/api/orders", 1L)
+            );
+        then(aggregate.getTopClientIps(1))
+            .extracting(RankedItem::value, RankedItem::count)
+            .containsExactly(tuple("2.2.2.2", 2L));
+        then(chunk.isFinished()).isTrue();
+    }
+
+    @Test
+    void append는_청크의_오류_라인_번호를_기존_행_다음으로_민다() {
+        // given
+        LogAnalysisAggregate aggregate = createAggregate();
+        LogStreamAggregator chunk = new LogStreamAggregator();
+        chunk.accumulate(createAccessLog("/api/users", "2.2.2.2", 200));
+        chunk.recordError(3, "invalid,line", "파싱 오류");
+
+        // when
+        aggregate.append(chunk);
+
+        // then
+        then(aggregate.getParseErrorCount()).isEqualTo(1);
+        then(aggregate.getParseErrorSamples())
+            .extracting(ParseError::lineNumber)
+            .containsExactly(4);
+    }
+
+    @Test
+    void append는_카운터_모드가_다른_청크를_거부한다() {
+        // given
+        LogAnalysisAggregate aggregate = createAggregate();
+        LogStreamAggregator chunk = new LogStreamAggregator(CounterSpec.approximate(100));
+
+        // when & then
+        thenThrownBy(() -> aggregate.append(chunk))
+            .isInstanceOf(IllegalArgumentException.class);
+        then(aggregate.getTotalRequests()).isEqualTo(1);
+    }
+
+    @Test
+    void 커서로_순위를_끝까지_페이지_단위로_조회한다() {
+        // given
+        FrequencyCounter pathCounter = new FrequencyCounter();
+        for (int i = 0; i < 25; i++) {
+            for (int j = 0; j <= i % 4; j++) {
+                pathCounter.increment("/api/" + i);
+            }
+        }
+        LogAnalysisAggregate aggregate = new LogAnalysisAggregate(
+            null, LocalDateTime.now(),
+            pathCounter, new FrequencyCounter(),
+            new FrequencyCounter(),
+            new WeightedFrequencyCounter(), new WeightedFrequencyCounter(),
+            new StatusCodeCounter(), new ParseErrorCollector(),
+            new CardinalityCounter(),
+            new LatencyTracker(),
+            new TimeSeriesCounter()
+        );
+
+        // when
+        List<RankedItem> walked = new ArrayList<>();
+        RankingCursor cursor = null;
+        int pages = 0;
+        do {
+            RankingPage page = aggregate.getRankingPage(RankingDimension.PATHS, cursor, 10);
+            walked.addAll(page.items());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // then
+        then(pages).isEqualTo(3);
+        then(walked).isEqualTo(aggregate.getTopPaths(25));
+    }
+
+    @Test
+    void append_후에는_바뀐_카운터로_순위를_다시_만든다() {
+        // given
+        LogAnalysisAggregate aggregate = createAggregate();
+        // 순위를 한 번 만들어 둔다
+        then(aggregate.getTopPaths(1))
+            .extracting(RankedItem::value)
+            .containsExactly("/api/users");
+        LogStreamAggregator chunk = new LogStreamAggregator();
+        chunk.accumulate(createAccessLog("/api/orders", "2.2.2.2", 200));
+        chunk.accumulate(createAccessLog("/api/orders", "2.2.2.2", 200));
+
+        // when
+        aggregate.append(chunk);
+
+        // then
+        then(aggregate.getTopPaths(2))
+            .extracting(RankedItem::value, RankedItem::count)
+            .containsExactly(
+                tuple("/api/orders", 2L),
+                tuple("/api/users", 1L)
+            );
+        then(aggregate.getRankingPage(RankingDimension.PATHS, null, 10).totalItems()).isEqualTo(2);
+    }
+
+    @Test
+    void withId로_만든_인스턴스에_추가해도_원래_인스턴스의_순위가_바뀐_카운터를_따른다() {
+        // given
+        LogAnalysisAggregate original = createAggregate();
+        LogAnalysisAggregate saved = original.withId(100L);
+        // 두 인스턴스 모두 순위를 한 번 만들어 둔다
+        then(original.getTopPaths(1)).extracting(RankedItem::value).containsExactly("/api/users");
+        then(saved.getTopPaths(1)).extracting(RankedItem::value).containsExactly("/api/users");
+        LogStreamAggregator chunk = new LogStreamAggregator();
+        chunk.accumulate(createAccessLog("/api/orders", "2.2.2.2", 200));
+        chunk.accumulate(createAccessLog("/api/orders", "2.2.2.2", 200));
+
+        // when
+        saved.append(chunk);
+
+        // then
+        then(original.getTopPaths(2))
+            .extracting(RankedItem::value, RankedItem::count)
+            .containsExactly(
+                tuple("/api/orders", 2L),
+                tuple("/api/users", 1L)
+            );
+        then(original.getRankingPage(RankingDimension.PATHS, null, 10).totalItems()).isEqualTo(2);
+    }
+
+    private AccessLog createAccessLog(String path, String ip, int statusCode) {
+        return new AccessLog(
+            System.currentTimeMillis(),
+            ip,
+            HttpMethod.GET,
+            path,
+            "Mozilla/5.0",
+            statusCode,
+            "HTTP/1.1",
+            0L,
+            0L,
+            0L,
+            "TLSv1.2",
+            path
+        );
+    }
+
     private LogAnalysisAggregate createAggregate() {
         FrequencyCounter pathCounter = new FrequencyCounter();
         pathCounter.increment("/api/users");
@@ -190,15 +412,21 @@ class LogAnalysisAggregateTest {
         ipCounter.increment("1.1.1.1");
 
         StatusCodeCounter statusCodeCounter = new StatusCodeCounter();
-        statusCodeCounter.increment(HttpStatusCode.valueOf(200));
+        statusCodeCounter.increment(200);
 
         return new LogAnalysisAggregate(
             null,
             LocalDateTime.now(),
             pathCounter,
             ipCounter,
+            new FrequencyCounter(),
+            new WeightedFrequencyCounter(),
+            new WeightedFrequencyCounter(),
             statusCodeCounter,
-            new ParseErrorCollector()
+            new ParseErrorCollector(),
+            new CardinalityCounter(),
+            new LatencyTracker(),
+            new TimeSeriesCounter()
         );
     }
 }
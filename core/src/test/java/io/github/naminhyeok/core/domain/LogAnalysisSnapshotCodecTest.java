@@ -0,0 +1,166 @@
+package io.github.naminhyeok.core.domain;
+
+import io.github.naminhyeok.core.domain.counter.CounterSpec;
+import io.github.naminhyeok.core.domain.counter.TrafficWeight;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+class LogAnalysisSnapshotCodecTest {
+
+    @Test
+    void 정확_집계를_복원하면_모든_조회_결과가_같다() throws IOException {
+        // given
+        LogAnalysisAggregate original = createAggregate(CounterSpec.exact()).withId(7L);
+
+        // when
+        LogAnalysisAggregate restored = decode(encode(original));
+
+        // then
+        thenSameResults(restored, original);
+    }
+
+    @Test
+    void 근사_집계를_복원하면_오차_상한까지_같다() throws IOException {
+        // given
+        LogAnalysisAggregate original = createAggregate(CounterSpec.approximate(20));
+
+        // when
+        LogAnalysisAggregate restored = decode(encode(original));
+
+        // then
+        then(restored.isApproximate()).isTrue();
+        then(restored.getId()).isNull();
+        thenSameResults(restored, original);
+    }
+
+    @Test
+    void 빈_집계도_복원한다() throws IOException {
+        // given
+        LogAnalysisAggregate original = new LogStreamAggregator().finish();
+
+        // when
+        LogAnalysisAggregate restored = decode(encode(original));
+
+        // then
+        then(restored.getTotalRequests()).isZero();
+        then(restored.getTopPaths(10)).isEmpty();
+        then(restored.getTimeSeries(1)).isEmpty();
+    }
+
+    @Test
+    void 스냅샷은_힙_점유량보다_몇_배_작다() throws IOException {
+        // given
+        LogAnalysisAggregate aggregate = createAggregate(CounterSpec.exact());
+
+        // when
+        byte[] snapshot = encode(aggregate);
+
+        // then
+        then((long) snapshot.length * 4).isLessThan(aggregate.estimatedBytes());
+    }
+
+    @Test
+    void 전체를_복원하지_않고_상위_경로만_읽는다() throws IOException {
+        // given
+        LogAnalysisAggregate aggregate = createAggregate(CounterSpec.exact());
+        byte[] snapshot = encode(aggregate);
+
+        // when
+        var topPaths = LogAnalysisSnapshotCodec.readTopPaths(new ByteArrayInputStream(snapshot), 3);
+
+        // then
+        then(topPaths).isEqualTo(aggregate.getTopPaths(3));
+    }
+
+    @Test
+    void 지원하지_않는_버전은_거부한다() throws IOException {
+        // given
+        byte[] snapshot = encode(createAggregate(CounterSpec.exact()));
+        snapshot[4] = (byte) (LogAnalysisSnapshotCodec.VERSION + 1);
+
+        // when & then
+        thenThrownBy(() -> decode(snapshot))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("버전");
+    }
+
+    @Test
+    void 스냅샷이_아니거나_잘린_입력은_거부한다() throws IOException {
+        // given
+        byte[] snapshot = encode(createAggregate(CounterSpec.exact()));
+
+        // when & then
+        thenThrownBy(() -> decode("not a snapshot".getBytes()))
+            .isInstanceOf(IOException.class);
+        thenThrownBy(() -> decode(Arrays.copyOf(snapshot, snapshot.length / 2)))
+            .isInstanceOf(IOException.class);
+    }
+
+    private void thenSameResults(LogAnalysisAggregate restored, LogAnalysisAggregate original) {
+        then(restored.getId()).isEqualTo(original.getId());
+        then(restored.getAnalyzedAt()).isEqualTo(original.getAnalyzedAt());
+        then(restored.getTotalRequests()).isEqualTo(original.getTotalRequests());
+        then(restored.getTopPaths(1_000)).isEqualTo(original.getTopPaths(1_000));
+        then(restored.getTopClientIps(1_000)).isEqualTo(original.getTopClientIps(1_000));
+        then(restored.getTopPathTemplates(1_000)).isEqualTo(original.getTopPathTemplates(1_000));
+        for (TrafficWeight weight : TrafficWeight.values()) {
+            then(restored.getTopPaths(weight, 1_000)).isEqualTo(original.getTopPaths(weight, 1_000));
+            then(restored.getTopClientIps(weight, 1_000)).isEqualTo(original.getTopClientIps(weight, 1_000));
+        }
+        then(restored.getTopStatusCodes(100)).isEqualTo(original.getTopStatusCodes(100));
+        then(restored.getStatusCodeDistribution()).isEqualTo(original.getStatusCodeDistribution());
+        then(restored.getParseErrorCount()).isEqualTo(original.getParseErrorCount());
+        then(restored.getParseErrorSamples()).isEqualTo(original.getParseErrorSamples());
+        then(restored.getParseErrorSamplesByReason()).isEqualTo(original.getParseErrorSamplesByReason());
+        then(restored.getDistinctClientIps()).isEqualTo(original.getDistinctClientIps());
+        then(restored.getDistinctPaths()).isEqualTo(original.getDistinctPaths());
+        then(restored.getDistinctUserAgents()).isEqualTo(original.getDistinctUserAgents());
+        then(restored.getResponseTime()).isEqualTo(original.getResponseTime());
+        then(restored.getResponseTime("/api/0")).isEqualTo(original.getResponseTime("/api/0"));
+        then(restored.getTimeSeries(1)).isEqualTo(original.getTimeSeries(1));
+    }
+
+    private LogAnalysisAggregate createAggregate(CounterSpec spec) {
+        LogStreamAggregator aggregator = new LogStreamAggregator(spec);
+        for (int i = 0; i < 5_000; i++) {
+            String path = "/api/" + (i % 97 % (i % 13 + 1));
+            aggregator.accumulate(new AccessLog(
+                LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(i).toInstant(ZoneOffset.UTC).toEpochMilli(),
+                "10.0." + (i % 7) + "." + (i % 211),
+                HttpMethod.GET,
+                path,
+                "Mozilla/5.0 " + (i % 3),
+                200 + (i % 4) * 100 + (i % 3),
+                "HTTP/1.1",
+                i % 300,
+                i % 1_000,
+                i % 2_000,
+                "TLSv1.2",
+                path
+            ));
+        }
+        aggregator.recordError(3, "broken", ParseErrorReason.COLUMN_COUNT);
+        aggregator.recordError(9, "broken again", ParseErrorReason.COLUMN_COUNT);
+        return aggregator.finish();
+    }
+
+    private byte[] encode(LogAnalysisAggregate aggregate) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LogAnalysisSnapshotCodec.encode(aggregate, out);
+        return out.toByteArray();
+    }
+
+    private LogAnalysisAggregate decode(byte[] snapshot) throws IOException {
+        return LogAnalysisSnapshotCodec.decode(new ByteArrayInputStream(snapshot));
+    }
+}
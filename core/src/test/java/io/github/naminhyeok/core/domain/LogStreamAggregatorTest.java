@@ -1,13 +1,15 @@
 package io.github.naminhyeok.core.domain;
 
+import io.github.naminhyeok.core.domain.counter.TrafficWeight;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatusCode;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 import static org.assertj.core.api.BDDAssertions.tuple;
 
 class LogStreamAggregatorTest {
@@ -139,29 +141,45 @@ class LogStreamAggregatorTest {
     }
 
     @Test
-    void finish_후에도_aggregator는_계속_사용_가능하다() {
+    void finish_후에는_더_쌓을_수_없다() {
         // given
         LogStreamAggregator aggregator = new LogStreamAggregator();
         aggregator.accumulate(createAccessLog("/api/users", "1.1.1.1", 200));
-        LogAnalysisAggregate first = aggregator.finish();
+        LogAnalysisAggregate result = aggregator.finish();
+
+        // when & then
+        thenThrownBy(() -> aggregator.accumulate(createAccessLog("/api/orders", "2.2.2.2", 404)))
+            .isInstanceOf(IllegalStateException.class);
+        thenThrownBy(() -> aggregator.recordError(2, "invalid,line", "파싱 오류"))
+            .isInstanceOf(IllegalStateException.class);
+        thenThrownBy(aggregator::finish)
+            .isInstanceOf(IllegalStateException.class);
+        then(aggregator.isFinished()).isTrue();
+        then(result.getTotalRequests()).isEqualTo(1);
+    }
 
-        // when - finish 후 추가 집계
-        aggregator.accumulate(createAccessLog("/api/orders", "2.2.2.2", 404));
-        LogAnalysisAggregate second = aggregator.finish();
+    @Test
+    void finish된_집계기는_병합할_수_없다() {
+        // given
+        LogStreamAggregator finished = new LogStreamAggregator();
+        finished.finish();
+        LogStreamAggregator open = new LogStreamAggregator();
 
-        // then - 첫 번째 결과는 영향받지 않음 (copy로 생성했으므로)
-        then(first.getTotalRequests()).isEqualTo(1);
-        then(second.getTotalRequests()).isEqualTo(2);
+        // when & then
+        thenThrownBy(() -> open.merge(finished))
+            .isInstanceOf(IllegalStateException.class);
+        thenThrownBy(() -> finished.merge(open))
+            .isInstanceOf(IllegalStateException.class);
     }
 
     private AccessLog createAccessLog(String path, String ip, int statusCode) {
         return new AccessLog(
-            LocalDateTime.now(),
+            System.currentTimeMillis(),
             ip,
             HttpMethod.GET,
             path,
             "Mozilla/5.0",
-            HttpStatusCode.valueOf(statusCode),
+            statusCode,
             "HTTP/1.1",
             0L,
             0L,
@@ -170,4 +188,237 @@ class LogStreamAggregatorTest {
             path
         );
     }
+
+    @Test
+    void merge는_두_집계_결과를_합친다() {
+        // given
+        LogStreamAggregator left = new LogStreamAggregator();
+        left.accumulate(createAccessLog("/api/users", "1.1.1.1", 200));
+        left.recordError(7, "left,error", "파싱 오류");
+        LogStreamAggregator right = new LogStreamAggregator();
+        right.accumulate(createAccessLog("/api/users", "2.2.2.2", 500));
+        right.recordError(3, "right,error", "파싱 오류");
+
+        // when
+        LogAnalysisAggregate result = left.merge(right).finish();
+
+        // then
+        then(result.getTotalRequests()).isEqualTo(2);
+        then(result.getTopPaths(1))
+            .extracting(RankedItem::value, RankedItem::count)
+            .containsExactly(tuple("/api/users", 2L));
+        then(result.getStatusCodeDistribution().serverErrorRate()).isEqualTo(50.0);
+        then(result.getParseErrorSamples())
+            .extracting(ParseError::lineNumber)
+            .containsExactly(3, 7);
+    }
+
+    @Test
+    void mergeAll은_순차_병합과_같은_결과를_반환한다() {
+        // given
+        List<LogStreamAggregator> partials = createPartials(13);
+        LogStreamAggregator sequential = new LogStreamAggregator();
+        createPartials(13).forEach(sequential::merge);
+
+        // when
+        LogAnalysisAggregate result = LogStreamAggregator.mergeAll(partials).finish();
+
+        // then
+        LogAnalysisAggregate expected = sequential.finish();
+        then(result.getTotalRequests()).isEqualTo(expected.getTotalRequests());
+        then(result.getTopPaths(10)).isEqualTo(expected.getTopPaths(10));
+        then(result.getTopClientIps(10)).isEqualTo(expected.getTopClientIps(10));
+        then(result.getTopStatusCodes(10)).isEqualTo(expected.getTopStatusCodes(10));
+        then(result.getParseErrorCount()).isEqualTo(expected.getParseErrorCount());
+        then(result.getParseErrorSamples()).isEqualTo(expected.getParseErrorSamples());
+    }
+
+    @Test
+    void mergeAll에_빈_목록을_전달하면_빈_집계를_반환한다() {
+        // when
+        LogAnalysisAggregate result = LogStreamAggregator.mergeAll(List.of()).finish();
+
+        // then
+        then(result.getTotalRequests()).isZero();
+        then(result.getParseErrorCount()).isZero();
+    }
+
+    private List<LogStreamAggregator> createPartials(int count) {
+        List<LogStreamAggregator> partials = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            LogStreamAggregator partial = new LogStreamAggregator();
+            for (int j = 0; j <= i; j++) {
+                partial.accumulate(createAccessLog("/api/" + (j % 4), "10.0.0." + (i % 3), 200 + (j % 4) * 100));
+            }
+            partial.recordError(count - i, "line" + i, "파싱 오류");
+            partials.add(partial);
+        }
+        return partials;
+    }
+
+    @Test
+    void 고유_IP와_경로와_User_Agent_수를_추정한다() {
+        // given
+        LogStreamAggregator left = new LogStreamAggregator();
+        LogStreamAggregator right = new LogStreamAggregator();
+        left.accumulate(createAccessLog("/api/users", "1.1.1.1", 200));
+        left.accumulate(createAccessLog("/api/users", "2.2.2.2", 200));
+        right.accumulate(createAccessLog("/api/orders", "1.1.1.1", 404));
+
+        // when
+        LogAnalysisAggregate result = left.merge(right).finish();
+
+        // then
+        then(result.getDistinctClientIps()).isEqualTo(2);
+        then(result.getDistinctPaths()).isEqualTo(2);
+        then(result.getDistinctUserAgents()).isEqualTo(1);
+    }
+
+    @Test
+    void 전송량_기준_상위_경로와_IP를_집계한다() {
+        // given
+        LogStreamAggregator aggregator = new LogStreamAggregator();
+        aggregator.accumulate(createTrafficLog("/api/users", "1.1.1.1", 100L));
+        aggregator.accumulate(createTrafficLog("/api/users", "1.1.1.1", 100L));
+        aggregator.accumulate(createTrafficLog("/download", "2.2.2.2", 1_000L));
+
+        // when
+        LogAnalysisAggregate result = aggregator.finish();
+
+        // then
+        then(result.getTotal(TrafficWeight.SENT_BYTES)).isEqualTo(1_200L);
+        then(result.getTopPaths(TrafficWeight.SENT_BYTES, 2))
+            .extracting(RankedItem::value, RankedItem::count)
+            .containsExactly(
+                tuple("/download", 1_000L),
+                tuple("/api/users", 200L)
+            );
+        then(result.getTopClientIps(TrafficWeight.SENT_BYTES, 1))
+            .extracting(RankedItem::value)
+            .containsExactly("2.2.2.2");
+    }
+
+    private AccessLog createTrafficLog(String path, String ip, long sentBytes) {
+        return new AccessLog(
+            System.currentTimeMillis(),
+            ip,
+            HttpMethod.GET,
+            path,
+            "Mozilla/5.0",
+            200,
+            "HTTP/1.1",
+            0L,
+            sentBytes,
+            0L,
+            "TLSv1.2",
+            path
+        );
+    }
+
+    @Test
+    void 원래_경로와_템플릿화한_경로를_각각_센다() {
+        // given
+        LogStreamAggregator aggregator = new LogStreamAggregator();
+        aggregator.accumulate(createAccessLog("/users/1", "1.1.1.1", 200));
+        aggregator.accumulate(createAccessLog("/users/2", "1.1.1.1", 200));
+        aggregator.accumulate(createAccessLog("/users/2", "1.1.1.1", 200));
+
+        // when
+        LogAnalysisAggregate result = aggregator.finish();
+
+        // then
+        then(result.getTopPaths(2))
+            .extracting(RankedItem::value, RankedItem::count)
+            .containsExactly(
+                tuple("/users/2", 2L),
+                tuple("/users/1", 1L)
+            );
+        then(result.getTopPathTemplates(2))
+            .extracting(RankedItem::value, RankedItem::count)
+            .containsExactly(tuple("/users/{id}", 3L));
+    }
+
+    @Test
+    void 집계에_필요한_컬럼을_선언한다() {
+        // given
+        LogStreamAggregator aggregator = new LogStreamAggregator();
+
+        // when
+        Set<AccessLogField> fields = aggregator.requiredFields();
+
+        // then
+        then(fields).containsExactlyInAnyOrder(
+            AccessLogField.REQUEST_URI,
+            AccessLogField.CLIENT_IP,
+            AccessLogField.HTTP_STATUS,
+            AccessLogField.USER_AGENT,
+            AccessLogField.CLIENT_RESPONSE_TIME,
+            AccessLogField.TIME_GENERATED,
+            AccessLogField.SENT_BYTES,
+            AccessLogField.RECEIVED_BYTES
+        );
+    }
+
+    @Test
+    void 실시간_추적을_켜면_게시한_스냅샷에_상위_항목과_오류_수가_담긴다() {
+        // given
+        List<PartialAggregate> published = new ArrayList<>();
+        LogStreamAggregator aggregator = new LogStreamAggregator().trackLive(10, published::add);
+        aggregator.accumulate(createAccessLog("/api/users", "1.1.1.1", 200));
+        aggregator.accumulate(createAccessLog("/api/users", "2.2.2.2", 200));
+        aggregator.accumulate(createAccessLog("/api/orders", "1.1.1.1", 404));
+        aggregator.recordError(5, "invalid", ParseErrorReason.COLUMN_COUNT);
+
+        // when
+        aggregator.publishLive();
+
+        // then
+        then(published).hasSize(1);
+        PartialAggregate partial = published.getFirst();
+        then(partial.requests()).isEqualTo(3);
+        then(partial.errors()).isEqualTo(1);
+        then(partial.topPaths(1))
+            .extracting(RankedItem::value, RankedItem::count)
+            .containsExactly(tuple("/api/users", 2L));
+        then(partial.topIps(1))
+            .extracting(RankedItem::value, RankedItem::count)
+            .containsExactly(tuple("1.1.1.1", 2L));
+        then(partial.topStatusCodes(1))
+            .extracting(RankedItem::value, RankedItem::count)
+            .containsExactly(tuple("200", 2L));
+    }
+
+    @Test
+    void 실시간_추적은_정해진_행_수마다_스냅샷을_게시한다() {
+        // given
+        List<PartialAggregate> published = new ArrayList<>();
+        LogStreamAggregator aggregator = new LogStreamAggregator().trackLive(10, published::add);
+
+        // when
+        for (int i = 0; i < LogStreamAggregator.PUBLISH_INTERVAL_ROWS; i++) {
+            aggregator.accumulate(createAccessLog("/api/users", "1.1.1.1", 200));
+        }
+
+        // then
+        then(published)
+            .extracting(PartialAggregate::requests)
+            .containsExactly((long) LogStreamAggregator.PUBLISH_INTERVAL_ROWS);
+    }
+
+    @Test
+    void 병합한_뒤에는_스냅샷을_게시하지_않는다() {
+        // given
+        List<PartialAggregate> published = new ArrayList<>();
+        LogStreamAggregator aggregator = new LogStreamAggregator().trackLive(10, published::add);
+        aggregator.accumulate(createAccessLog("/api/users", "1.1.1.1", 200));
+        LogStreamAggregator other = new LogStreamAggregator();
+        other.accumulate(createAccessLog("/api/orders", "2.2.2.2", 200));
+
+        // when
+        aggregator.merge(other);
+        aggregator.publishLive();
+
+        // then
+        then(published).isEmpty();
+    }
 }
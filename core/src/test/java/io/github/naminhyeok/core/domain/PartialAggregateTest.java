@@ -0,0 +1,77 @@
+package io.github.naminhyeok.core.domain;
+
+import io.github.naminhyeok.core.domain.counter.StatusCodeCounter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.tuple;
+
+class PartialAggregateTest {
+
+    @Test
+    void 두_스냅샷을_합치면_카운트와_후보를_더한다() {
+        // given
+        PartialAggregate left = new PartialAggregate(
+            3, 1, Map.of("/a", 2L, "/b", 1L), Map.of("1.1.1.1", 3L), statusCodes(200, 200, 404)
+        );
+        PartialAggregate right = new PartialAggregate(
+            2, 0, Map.of("/b", 2L), Map.of("2.2.2.2", 2L), statusCodes(200, 500)
+        );
+
+        // when
+        PartialAggregate merged = left.plus(right);
+
+        // then
+        then(merged.requests()).isEqualTo(5);
+        then(merged.errors()).isEqualTo(1);
+        then(merged.topPaths(10))
+            .extracting(RankedItem::value, RankedItem::count, RankedItem::percentage)
+            .containsExactly(
+                tuple("/b", 3L, 60.0),
+                tuple("/a", 2L, 40.0)
+            );
+        then(merged.topIps(1))
+            .extracting(RankedItem::value)
+            .containsExactly("1.1.1.1");
+        then(merged.topStatusCodes(10))
+            .extracting(RankedItem::value, RankedItem::count)
+            .containsExactly(
+                tuple("200", 3L),
+                tuple("404", 1L),
+                tuple("500", 1L)
+            );
+    }
+
+    @Test
+    void 합쳐도_원래_스냅샷은_바뀌지_않는다() {
+        // given
+        PartialAggregate left = new PartialAggregate(1, 0, Map.of("/a", 1L), Map.of(), statusCodes(200));
+
+        // when
+        left.plus(left);
+
+        // then
+        then(left.requests()).isEqualTo(1);
+        then(left.topStatusCodes(10))
+            .extracting(RankedItem::count)
+            .containsExactly(1L);
+    }
+
+    @Test
+    void 빈_스냅샷은_빈_순위를_반환한다() {
+        // when & then
+        then(PartialAggregate.EMPTY.topPaths(10)).isEmpty();
+        then(PartialAggregate.EMPTY.topIps(10)).isEmpty();
+        then(PartialAggregate.EMPTY.topStatusCodes(10)).isEmpty();
+    }
+
+    private StatusCodeCounter statusCodes(int... codes) {
+        StatusCodeCounter counter = new StatusCodeCounter();
+        for (int code : codes) {
+            counter.increment(code);
+        }
+        return counter;
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.naminhyeok.core.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class PathNormalizerTest {
+
+    @Test
+    void 숫자_UUID_해시_세그먼트를_자리표시자로_바꾼다() {
+        // given
+        PathNormalizer normalizer = new PathNormalizer(PathTemplates.none());
+
+        // when & then
+        then(normalizer.normalize("/users/123/orders/9")).isEqualTo("/users/{id}/orders/{id}");
+        then(normalizer.normalize("/files/550e8400-e29b-41d4-a716-446655440000")).isEqualTo("/files/{uuid}");
+        then(normalizer.normalize("/cache/d41d8cd98f00b204e9800998ecf8427e")).isEqualTo("/cache/{hash}");
+    }
+
+    @Test
+    void ID가_없는_경로는_그대로_둔다() {
+        // given
+        PathNormalizer normalizer = new PathNormalizer(PathTemplates.none());
+        String path = "/bbs/list/mir2free";
+
+        // when
+        String normalized = normalizer.normalize(path);
+
+        // then
+        then(normalized).isSameAs(path);
+        then(normalizer.normalize("/cache/deadbeefcafebabe")).isEqualTo("/cache/deadbeefcafebabe");
+    }
+
+    @Test
+    void 쿼리_문자열을_제거한다() {
+        // given
+        PathNormalizer normalizer = new PathNormalizer(PathTemplates.none());
+
+        // when & then
+        then(normalizer.normalize("/search?q=1")).isEqualTo("/search");
+        then(normalizer.normalize("/users/7#profile")).isEqualTo("/users/{id}");
+    }
+
+    @Test
+    void 등록된_템플릿이_있으면_템플릿으로_묶는다() {
+        // given
+        PathNormalizer normalizer = new PathNormalizer(PathTemplates.of(List.of(
+            "/bbs/list/{board}",
+            "/event/banner/{game}/popup"
+        )));
+
+        // when & then
+        then(normalizer.normalize("/bbs/list/mir2free")).isEqualTo("/bbs/list/{board}");
+        then(normalizer.normalize("/bbs/list/mir3free")).isEqualTo("/bbs/list/{board}");
+        then(normalizer.normalize("/event/banner/mir2/popup")).isEqualTo("/event/banner/{game}/popup");
+        then(normalizer.normalize("/event/banner/mir2/close")).isEqualTo("/event/banner/mir2/close");
+    }
+
+    @Test
+    void 서로_다른_ID가_많아도_모두_같은_템플릿으로_묶는다() {
+        // given
+        PathNormalizer normalizer = new PathNormalizer(PathTemplates.of(List.of("/bbs/list/{board}")));
+        Set<String> normalized = new HashSet<>();
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            normalized.add(normalizer.normalize("/users/" + i + "/orders/" + (i * 31) + "?page=" + i));
+            normalized.add(normalizer.normalize("/bbs/list/board" + i));
+        }
+
+        // then
+        then(normalized).containsExactlyInAnyOrder("/users/{id}/orders/{id}", "/bbs/list/{board}");
+    }
+
+    @Test
+    void 슬래시로_시작하지_않거나_빈_세그먼트가_있는_경로도_세그먼트_단위로_바꾼다() {
+        // given
+        PathNormalizer normalizer = new PathNormalizer(PathTemplates.none());
+
+        // when & then
+        then(normalizer.normalize("users/1")).isEqualTo("/users/{id}");
+        then(normalizer.normalize("/users//1/")).isEqualTo("/users//{id}/");
+        then(normalizer.normalize("/?q=1")).isEqualTo("/");
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.naminhyeok.core.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+class PathTemplatesTest {
+
+    @Test
+    void 자리표시자는_세그먼트_하나와_일치한다() {
+        // given
+        PathTemplates templates = PathTemplates.of(List.of("/bbs/list/{board}"));
+
+        // when & then
+        then(templates.match("/bbs/list/mir2free")).isEqualTo("/bbs/list/{board}");
+        then(templates.match("/bbs/list")).isNull();
+        then(templates.match("/bbs/list/mir2free/1")).isNull();
+        then(templates.match("/bbs/list/mir2free?page=1", "/bbs/list/mir2free".length())).isEqualTo("/bbs/list/{board}");
+    }
+
+    @Test
+    void 고정_세그먼트를_자리표시자보다_먼저_시도한다() {
+        // given
+        PathTemplates templates = PathTemplates.of(List.of("/bbs/{action}/{board}", "/bbs/list/notice"));
+
+        // when & then
+        then(templates.match("/bbs/list/notice")).isEqualTo("/bbs/list/notice");
+        then(templates.match("/bbs/list/free")).isEqualTo("/bbs/{action}/{board}");
+    }
+
+    @Test
+    void 템플릿이_없으면_비어_있다() {
+        // when & then
+        then(PathTemplates.of(List.of()).isEmpty()).isTrue();
+        then(PathTemplates.none().match("/bbs")).isNull();
+    }
+
+    @Test
+    void 슬래시로_시작하지_않는_템플릿은_거부한다() {
+        // when & then
+        thenThrownBy(() -> PathTemplates.of(List.of("bbs/{board}")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
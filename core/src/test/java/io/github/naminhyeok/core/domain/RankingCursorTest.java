@@ -0,0 +1,34 @@
+package io.github.naminhyeok.core.domain;
+
+import io.github.naminhyeok.core.support.error.CoreException;
+import io.github.naminhyeok.core.support.error.ErrorType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+class RankingCursorTest {
+
+    @Test
+    void 인코딩한_커서를_그대로_복원한다() {
+        // given
+        RankingCursor cursor = new RankingCursor(1500, "/api/users?from=a:b");
+
+        // when
+        RankingCursor decoded = RankingCursor.decode(cursor.encode());
+
+        // then
+        then(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void 형식이_잘못된_커서는_INVALID_REQUEST_예외가_발생한다() {
+        // when & then
+        thenThrownBy(() -> RankingCursor.decode("not-a-cursor"))
+            .isInstanceOf(CoreException.class)
+            .satisfies(e -> {
+                CoreException coreException = (CoreException) e;
+                then(coreException.getErrorType()).isEqualTo(ErrorType.INVALID_REQUEST);
+            });
+    }
+}
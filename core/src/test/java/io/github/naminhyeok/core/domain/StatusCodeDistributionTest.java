@@ -2,9 +2,9 @@ package io.github.naminhyeok.core.domain;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatusCode;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 
 import static org.assertj.core.api.BDDAssertions.then;
@@ -80,12 +80,12 @@ class StatusCodeDistributionTest {
 
     private AccessLog createAccessLog(int statusCode) {
         return new AccessLog(
-            LocalDateTime.of(2026, 1, 29, 10, 30, 0),
+            LocalDateTime.of(2026, 1, 29, 10, 30, 0).toInstant(ZoneOffset.UTC).toEpochMilli(),
             "192.168.1.1",
             HttpMethod.GET,
             "/api/users",
             "Mozilla/5.0",
-            HttpStatusCode.valueOf(statusCode),
+            statusCode,
             "HTTP/1.1",
             100L,
             500L,
@@ -125,4 +125,59 @@ class FrequencyCounterTest {
         then(original.getTotal()).isEqualTo(2);
         then(copied.getTotal()).isEqualTo(3);
     }
+
+    @Test
+    void merge는_빈도수와_총합을_더한다() {
+        // given
+        FrequencyCounter left = new FrequencyCounter();
+        left.increment("key1");
+        left.increment("key2");
+        FrequencyCounter right = new FrequencyCounter();
+        right.increment("key1");
+        right.increment("key3");
+
+        // when
+        left.merge(right);
+
+        // then
+        then(left.getTotal()).isEqualTo(4);
+        then(left.getTop(3))
+            .extracting(RankedItem::value, RankedItem::count)
+            .containsExactly(
+                tuple("key1", 2L),
+                tuple("key2", 1L),
+                tuple("key3", 1L)
+            );
+    }
+
+    @Test
+    void merge는_병합_대상을_변경하지_않는다() {
+        // given
+        FrequencyCounter left = new FrequencyCounter();
+        FrequencyCounter right = new FrequencyCounter();
+        right.increment("key1");
+
+        // when
+        left.merge(right);
+        left.increment("key1");
+
+        // then
+        then(right.getTotal()).isEqualTo(1);
+        then(right.getTop(1))
+            .extracting(RankedItem::count)
+            .containsExactly(1L);
+    }
+
+    @Test
+    void 증가시킨_뒤의_카운트를_반환한다() {
+        // given
+        FrequencyCounter counter = new FrequencyCounter();
+        counter.increment("/api/users");
+
+        // when
+        long count = counter.increment("/api/users");
+
+        // then
+        then(count).isEqualTo(2);
+    }
 }
@@ -0,0 +1,76 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.within;
+
+class HyperLogLogTest {
+
+    @Test
+    void 적은_수의_고유값은_정확히_센다() {
+        // given
+        HyperLogLog sketch = new HyperLogLog();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            sketch.add("192.168.0.1");
+            sketch.add("192.168.0.2");
+        }
+        sketch.add(null);
+
+        // then
+        then(sketch.estimate()).isEqualTo(2);
+    }
+
+    @Test
+    void 많은_고유값도_오차_범위_안에서_추정한다() {
+        // given
+        HyperLogLog sketch = new HyperLogLog();
+
+        // when
+        for (int i = 0; i < 200_000; i++) {
+            sketch.add("10." + (i >> 16) + "." + (i >> 8 & 255) + "." + (i & 255));
+        }
+
+        // then
+        then((double) sketch.estimate()).isCloseTo(200_000, within(200_000 * 0.05));
+    }
+
+    @Test
+    void 병합_결과는_합집합을_직접_추정한_것과_같다() {
+        // given
+        HyperLogLog left = new HyperLogLog();
+        HyperLogLog right = new HyperLogLog();
+        HyperLogLog union = new HyperLogLog();
+        for (int i = 0; i < 20_000; i++) {
+            String path = "/api/" + i;
+            (i % 2 == 0 ? left : right).add(path);
+            union.add(path);
+        }
+        // 양쪽에 모두 있는 값은 한 번만 세어진다
+        left.add("/api/1");
+
+        // when
+        HyperLogLog merged = left.copy().merge(right);
+
+        // then
+        then(merged.estimate()).isEqualTo(union.estimate());
+        then(right.copy().merge(left).estimate()).isEqualTo(union.estimate());
+    }
+
+    @Test
+    void 복사본은_원본과_독립적이다() {
+        // given
+        HyperLogLog original = new HyperLogLog();
+        original.add("a");
+
+        // when
+        HyperLogLog copied = original.copy();
+        original.add("b");
+
+        // then
+        then(copied.estimate()).isEqualTo(1);
+        then(original.estimate()).isEqualTo(2);
+    }
+}
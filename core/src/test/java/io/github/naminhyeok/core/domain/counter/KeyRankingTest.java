@@ -0,0 +1,90 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import io.github.naminhyeok.core.domain.RankedItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.tuple;
+
+class KeyRankingTest {
+
+    @Test
+    void 구간은_getTop과_같은_순서로_잘라낸다() {
+        // given
+        FrequencyCounter counter = new FrequencyCounter();
+        for (int i = 0; i < 50; i++) {
+            for (int j = 0; j <= i % 7; j++) {
+                counter.increment("/api/" + i);
+            }
+        }
+
+        // when
+        KeyRanking ranking = counter.rank();
+
+        // then
+        then(ranking.size()).isEqualTo(50);
+        then(ranking.slice(0, 10)).isEqualTo(counter.getTop(10));
+        then(ranking.slice(10, 5)).isEqualTo(counter.getTop(15).subList(10, 15));
+        then(ranking.slice(0, Integer.MAX_VALUE)).isEqualTo(counter.getTop(50));
+    }
+
+    @Test
+    void 범위를_벗어난_구간은_비어_있다() {
+        // given
+        FrequencyCounter counter = new FrequencyCounter();
+        counter.increment("/api/users");
+        KeyRanking ranking = counter.rank();
+
+        // when & then
+        then(ranking.slice(1, 10)).isEmpty();
+        then(ranking.slice(0, 0)).isEmpty();
+    }
+
+    @Test
+    void positionAfter는_주어진_항목_바로_다음_위치를_찾는다() {
+        // given
+        FrequencyCounter counter = new FrequencyCounter();
+        counter.increment("/a");
+        counter.increment("/a");
+        counter.increment("/b");
+        counter.increment("/c");
+        KeyRanking ranking = counter.rank();
+
+        // when
+        int afterA = ranking.positionAfter(2, "/a");
+        int afterB = ranking.positionAfter(1, "/b");
+        int afterMissing = ranking.positionAfter(1, "/bb");
+
+        // then
+        then(afterA).isEqualTo(1);
+        then(afterB).isEqualTo(2);
+        then(afterMissing).isEqualTo(2);
+        then(ranking.slice(afterMissing, 10))
+            .extracting(RankedItem::value)
+            .containsExactly("/c");
+    }
+
+    @Test
+    void 근사_카운터의_순위는_오차_상한을_담는다() {
+        // given
+        SpaceSavingCounter counter = new SpaceSavingCounter(2);
+        counter.increment("/a");
+        counter.increment("/a");
+        counter.increment("/b");
+        counter.increment("/c");
+
+        // when
+        List<RankedItem> items = counter.rank().slice(0, 10);
+
+        // then
+        then(items).isEqualTo(counter.getTop(10));
+        then(items)
+            .extracting(RankedItem::value, RankedItem::count, RankedItem::errorBound)
+            .containsExactly(
+                tuple("/a", 2L, 0L),
+                tuple("/c", 2L, 1L)
+            );
+    }
+}
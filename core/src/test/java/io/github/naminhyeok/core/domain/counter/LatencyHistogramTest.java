@@ -0,0 +1,118 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import io.github.naminhyeok.core.domain.LatencySummary;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class LatencyHistogramTest {
+
+    @Test
+    void 작은_값의_백분위는_정확하다() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // when
+        for (int value = 1; value <= 50; value++) {
+            histogram.record(value);
+        }
+
+        // then
+        then(histogram.summarize()).isEqualTo(new LatencySummary(50, 25, 45, 50, 50, 50));
+    }
+
+    @Test
+    void 큰_값의_백분위는_상대_오차_이내로_과대_추정한다() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+
+        // when
+        long p99 = histogram.valueAtPercentile(99.0);
+
+        // then
+        then(p99).isBetween(99_000L, 99_000L + 99_000L / 64);
+        then(histogram.getMax()).isEqualTo(100_000);
+    }
+
+    @Test
+    void 백분위_값은_최댓값을_넘지_않는다() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // when
+        histogram.record(1_000_001);
+
+        // then
+        then(histogram.valueAtPercentile(50.0)).isEqualTo(1_000_001);
+    }
+
+    @Test
+    void 음수는_0으로_기록한다() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // when
+        histogram.record(-5);
+
+        // then
+        then(histogram.getTotalCount()).isEqualTo(1);
+        then(histogram.valueAtPercentile(100.0)).isZero();
+    }
+
+    @Test
+    void 초기화하면_비어_있는_히스토그램처럼_다시_기록한다() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000_000);
+        histogram.record(7);
+
+        // when
+        histogram.reset();
+        histogram.record(3);
+
+        // then
+        then(histogram.getTotalCount()).isEqualTo(1);
+        then(histogram.getMax()).isEqualTo(3);
+        then(histogram.valueAtPercentile(100.0)).isEqualTo(3);
+    }
+
+    @Test
+    void 병합_결과는_한_번에_기록한_것과_같다() {
+        // given
+        LatencyHistogram left = new LatencyHistogram();
+        LatencyHistogram right = new LatencyHistogram();
+        LatencyHistogram all = new LatencyHistogram();
+        for (long value = 0; value < 10_000; value++) {
+            long latency = value * value % 7919;
+            (value % 2 == 0 ? left : right).record(latency);
+            all.record(latency);
+        }
+        right.record(Long.MAX_VALUE);
+        all.record(Long.MAX_VALUE);
+
+        // when
+        LatencyHistogram merged = left.merge(right);
+
+        // then
+        then(merged.summarize()).isEqualTo(all.summarize());
+    }
+
+    @Test
+    void 버킷은_빈틈_없이_이어지고_값을_포함한다() {
+        // given
+        long[] values = {0, 1, 63, 64, 127, 128, 129, 1_000_000, Long.MAX_VALUE};
+
+        // when & then
+        for (long value : values) {
+            int index = LatencyHistogram.bucketIndex(value);
+            then(LatencyHistogram.highestEquivalentValue(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                then(LatencyHistogram.highestEquivalentValue(index - 1)).isLessThan(value);
+            }
+        }
+        then(LatencyHistogram.bucketIndex(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.MAX_BUCKETS - 1);
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import io.github.naminhyeok.core.domain.LatencySummary;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class LatencyTrackerTest {
+
+    @Test
+    void 전체와_경로별_응답_시간을_함께_기록한다() {
+        // given
+        LatencyTracker tracker = new LatencyTracker(4);
+
+        // when
+        tracker.record("/api/users", 10);
+        tracker.record("/api/users", 20);
+        tracker.record("/api/orders", 40);
+
+        // then
+        then(tracker.getOverall().count()).isEqualTo(3);
+        then(tracker.getOverall().max()).isEqualTo(40);
+        then(tracker.getByPath("/api/users")).isEqualTo(new LatencySummary(2, 10, 20, 20, 20, 20));
+        then(tracker.getByPath("/api/none")).isNull();
+    }
+
+    @Test
+    void 경로별_히스토그램은_빈도가_높은_경로에만_유지된다() {
+        // given
+        LatencyTracker tracker = new LatencyTracker(4);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            tracker.record("/api/hot", 5);
+            tracker.record("/api/cold/" + i, 500);
+        }
+
+        // then
+        then(tracker.getOverall().count()).isEqualTo(2_000);
+        then(tracker.getByPath("/api/hot")).isEqualTo(new LatencySummary(1_000, 5, 5, 5, 5, 5));
+        then(tracker.getByPath("/api/cold/0")).isNull();
+    }
+
+    @Test
+    void 밀려난_경로의_슬롯을_이어받은_경로는_빈_분포에서_시작한다() {
+        // given
+        LatencyTracker tracker = new LatencyTracker(1);
+        tracker.record("/api/old", 500);
+
+        // when
+        tracker.record("/api/new", 5);
+
+        // then
+        then(tracker.getByPath("/api/old")).isNull();
+        then(tracker.getByPath("/api/new")).isEqualTo(new LatencySummary(1, 5, 5, 5, 5, 5));
+    }
+
+    @Test
+    void 병합하면_같은_경로의_분포가_합쳐진다() {
+        // given
+        LatencyTracker left = new LatencyTracker(4);
+        LatencyTracker right = new LatencyTracker(4);
+        left.record("/api/users", 10);
+        right.record("/api/users", 30);
+        right.record("/api/orders", 50);
+
+        // when
+        LatencyTracker merged = left.merge(right);
+
+        // then
+        then(merged.getOverall().count()).isEqualTo(3);
+        then(merged.getByPath("/api/users")).isEqualTo(new LatencySummary(2, 10, 30, 30, 30, 30));
+        then(merged.getByPath("/api/orders")).isEqualTo(new LatencySummary(1, 50, 50, 50, 50, 50));
+    }
+
+    @Test
+    void 복사본은_원본과_독립적이다() {
+        // given
+        LatencyTracker original = new LatencyTracker(4);
+        original.record("/api/users", 10);
+
+        // when
+        LatencyTracker copied = original.copy();
+        original.record("/api/users", 20);
+
+        // then
+        then(copied.getByPath("/api/users").count()).isEqualTo(1);
+    }
+}
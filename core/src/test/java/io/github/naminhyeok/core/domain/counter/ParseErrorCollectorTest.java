@@ -1,10 +1,12 @@
 package io.github.naminhyeok.core.domain.counter;
 
 import io.github.naminhyeok.core.domain.ParseError;
+import io.github.naminhyeok.core.domain.ParseErrorReason;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
 
+import static org.assertj.core.api.BDDAssertions.entry;
 import static org.assertj.core.api.BDDAssertions.then;
 
 class ParseErrorCollectorTest {
@@ -118,4 +120,130 @@ class ParseErrorCollectorTest {
         // 처음 10개만 저장되어 있음
         then(collector.getSamples().get(9).lineNumber()).isEqualTo(10);
     }
+
+    @Test
+    void 라인_번호가_앞선_오류가_나중에_추가되면_샘플에_포함된다() {
+        // given
+        ParseErrorCollector collector = new ParseErrorCollector();
+        for (int i = 11; i <= 20; i++) {
+            collector.add(i, "line" + i, "error" + i);
+        }
+
+        // when
+        collector.add(3, "line3", "error3");
+
+        // then
+        then(collector.getTotalCount()).isEqualTo(11);
+        then(collector.getSamples())
+            .extracting(ParseError::lineNumber)
+            .containsExactly(3, 11, 12, 13, 14, 15, 16, 17, 18, 19);
+    }
+
+    @Test
+    void merge는_라인_번호가_앞선_샘플을_남긴다() {
+        // given
+        ParseErrorCollector left = new ParseErrorCollector();
+        ParseErrorCollector right = new ParseErrorCollector();
+        for (int i = 1; i <= 20; i++) {
+            (i % 2 == 0 ? left : right).add(i, "line" + i, "error" + i);
+        }
+
+        // when
+        left.merge(right);
+
+        // then
+        then(left.getTotalCount()).isEqualTo(20);
+        then(left.getSamples())
+            .extracting(ParseError::lineNumber)
+            .containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @Test
+    void merge는_병합_순서와_관계없이_같은_샘플을_선택한다() {
+        // given
+        ParseErrorCollector first = new ParseErrorCollector();
+        ParseErrorCollector second = new ParseErrorCollector();
+        for (int i = 1; i <= 8; i++) {
+            first.add(i * 3, "first" + i, "error");
+            second.add(i * 3 - 1, "second" + i, "error");
+        }
+
+        // when
+        ParseErrorCollector forward = new ParseErrorCollector().merge(first).merge(second);
+        ParseErrorCollector backward = new ParseErrorCollector().merge(second).merge(first);
+
+        // then
+        then(forward.getTotalCount()).isEqualTo(backward.getTotalCount());
+        then(forward.getSamples()).isEqualTo(backward.getSamples());
+        then(forward.getSamples())
+            .extracting(ParseError::lineNumber)
+            .containsExactly(2, 3, 5, 6, 8, 9, 11, 12, 14, 15);
+    }
+
+    @Test
+    void 사유별_개수와_샘플을_수집한다() {
+        // given
+        ParseErrorCollector collector = new ParseErrorCollector();
+
+        // when
+        for (int i = 1; i <= 5; i++) {
+            collector.add(i, "line" + i, ParseErrorReason.TIMESTAMP);
+        }
+        collector.add(6, "line6", ParseErrorReason.COLUMN_COUNT);
+
+        // then
+        then(collector.getTotalCount()).isEqualTo(6);
+        then(collector.getCountsByReason())
+            .containsExactly(
+                entry(ParseErrorReason.COLUMN_COUNT, 1),
+                entry(ParseErrorReason.TIMESTAMP, 5)
+            );
+        then(collector.getSamplesByReason().get(ParseErrorReason.TIMESTAMP))
+            .extracting(ParseError::lineNumber)
+            .containsExactly(1, 2, 3);
+        then(collector.getSamples().get(0).errorMessage()).isEqualTo(ParseErrorReason.TIMESTAMP.getMessage());
+    }
+
+    @Test
+    void merge는_사유별_개수와_샘플도_합친다() {
+        // given
+        ParseErrorCollector left = new ParseErrorCollector();
+        left.add(10, "line10", ParseErrorReason.HTTP_STATUS);
+        left.add(20, "line20", ParseErrorReason.HTTP_STATUS);
+        ParseErrorCollector right = new ParseErrorCollector();
+        right.add(5, "line5", ParseErrorReason.HTTP_STATUS);
+        right.add(15, "line15", ParseErrorReason.HTTP_STATUS);
+        right.add(7, "line7", ParseErrorReason.NUMERIC_FIELD);
+
+        // when
+        left.merge(right);
+
+        // then
+        then(left.getCountsByReason())
+            .containsExactly(
+                entry(ParseErrorReason.HTTP_STATUS, 4),
+                entry(ParseErrorReason.NUMERIC_FIELD, 1)
+            );
+        then(left.getSamplesByReason().get(ParseErrorReason.HTTP_STATUS))
+            .extracting(ParseError::lineNumber)
+            .containsExactly(5, 10, 15);
+    }
+
+    @Test
+    void shiftLineNumbers는_사유별_샘플의_라인_번호도_옮긴다() {
+        // given
+        ParseErrorCollector collector = new ParseErrorCollector();
+        collector.add(2, "line2", ParseErrorReason.HTTP_METHOD);
+
+        // when
+        collector.shiftLineNumbers(100);
+
+        // then
+        then(collector.getSamples())
+            .extracting(ParseError::lineNumber)
+            .containsExactly(102);
+        then(collector.getSamplesByReason().get(ParseErrorReason.HTTP_METHOD))
+            .extracting(ParseError::lineNumber)
+            .containsExactly(102);
+    }
 }
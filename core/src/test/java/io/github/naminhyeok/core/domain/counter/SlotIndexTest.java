@@ -0,0 +1,74 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class SlotIndexTest {
+
+    @Test
+    void 키로_슬롯_번호를_찾는다() {
+        // given
+        SlotIndex index = new SlotIndex(4);
+        index.put("/api/users", 0);
+        index.put("/api/orders", 3);
+
+        // when & then
+        then(index.get("/api/users")).isZero();
+        then(index.get("/api/orders")).isEqualTo(3);
+        then(index.get("/api/products")).isEqualTo(-1);
+    }
+
+    @Test
+    void 지운_키는_찾을_수_없고_같은_탐사_경로의_다른_키는_그대로_찾는다() {
+        // given
+        SlotIndex index = new SlotIndex(4);
+        // "Aa"와 "BB"는 hashCode가 같아 같은 칸에서 탐사를 시작한다
+        index.put("Aa", 0);
+        index.put("BB", 1);
+
+        // when
+        index.remove("Aa");
+
+        // then
+        then(index.get("Aa")).isEqualTo(-1);
+        then(index.get("BB")).isEqualTo(1);
+    }
+
+    @Test
+    void 넣고_지우기를_반복해도_HashMap과_같은_결과를_낸다() {
+        // given
+        int capacity = 64;
+        SlotIndex index = new SlotIndex(capacity);
+        Map<String, Integer> expected = new HashMap<>();
+        String[] slotKeys = new String[capacity];
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 50_000; i++) {
+            int slot = random.nextInt(capacity);
+            if (slotKeys[slot] != null) {
+                index.remove(slotKeys[slot]);
+                expected.remove(slotKeys[slot]);
+            }
+            String key = "/api/" + random.nextInt(1_000);
+            if (expected.containsKey(key)) {
+                slotKeys[slot] = null;
+                continue;
+            }
+            index.put(key, slot);
+            expected.put(key, slot);
+            slotKeys[slot] = key;
+        }
+
+        // then
+        for (int i = 0; i < 1_000; i++) {
+            String key = "/api/" + i;
+            then(index.get(key)).isEqualTo(expected.getOrDefault(key, -1));
+        }
+    }
+}
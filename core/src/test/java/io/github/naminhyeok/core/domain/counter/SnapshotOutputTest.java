@@ -0,0 +1,87 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+class SnapshotOutputTest {
+
+    @Test
+    void 쓴_값을_같은_순서로_읽는다() throws IOException {
+        // given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SnapshotOutput out = new SnapshotOutput(bytes);
+        out.writeVarLong(0);
+        out.writeVarLong(Long.MAX_VALUE);
+        out.writeSignedVarLong(-1);
+        out.writeSignedVarLong(Long.MIN_VALUE);
+        out.writeString("/api/users");
+        out.writeString(null);
+        out.writeString("한글");
+        out.flush();
+
+        // when
+        SnapshotInput in = new SnapshotInput(new ByteArrayInputStream(bytes.toByteArray()));
+
+        // then
+        then(in.readVarLong()).isZero();
+        then(in.readVarLong()).isEqualTo(Long.MAX_VALUE);
+        then(in.readSignedVarLong()).isEqualTo(-1);
+        then(in.readSignedVarLong()).isEqualTo(Long.MIN_VALUE);
+        then(in.readString()).isEqualTo("/api/users");
+        then(in.readString()).isNull();
+        then(in.readString()).isEqualTo("한글");
+    }
+
+    @Test
+    void 작은_값은_한_바이트로_쓴다() throws IOException {
+        // given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SnapshotOutput out = new SnapshotOutput(bytes);
+
+        // when
+        out.writeVarLong(127);
+        out.writeSignedVarLong(-64);
+        out.flush();
+
+        // then
+        then(bytes.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 같은_문자열은_두_번째부터_사전_번호로_쓴다() throws IOException {
+        // given
+        String key = "/api/very/long/path/that/repeats";
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SnapshotOutput out = new SnapshotOutput(bytes);
+        out.writeString(key);
+        out.flush();
+        int first = bytes.size();
+
+        // when
+        out.writeString(key);
+        out.flush();
+
+        // then
+        then(bytes.size() - first).isEqualTo(1);
+        SnapshotInput in = new SnapshotInput(new ByteArrayInputStream(bytes.toByteArray()));
+        then(in.readString()).isEqualTo(key);
+        then(in.readString()).isEqualTo(key);
+    }
+
+    @Test
+    void 중간에_끊긴_입력은_EOFException을_던진다() {
+        // given
+        SnapshotInput in = new SnapshotInput(new ByteArrayInputStream(new byte[]{(byte) 0x80}));
+
+        // when & then
+        thenThrownBy(in::readVarLong)
+            .isInstanceOf(EOFException.class);
+    }
+}
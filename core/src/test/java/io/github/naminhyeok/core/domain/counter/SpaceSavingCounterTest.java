@@ -0,0 +1,140 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import io.github.naminhyeok.core.domain.RankedItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.assertj.core.api.BDDAssertions.tuple;
+
+class SpaceSavingCounterTest {
+
+    @Test
+    void 용량_이하의_키는_오차_없이_정확히_센다() {
+        // given
+        SpaceSavingCounter counter = new SpaceSavingCounter(3);
+        counter.increment("/api/users");
+        counter.increment("/api/users");
+        counter.increment("/api/products");
+
+        // when
+        List<RankedItem> top = counter.getTop(3);
+
+        // then
+        then(counter.isApproximate()).isTrue();
+        then(top)
+            .extracting(RankedItem::value, RankedItem::count, RankedItem::errorBound)
+            .containsExactly(
+                tuple("/api/users", 2L, 0L),
+                tuple("/api/products", 1L, 0L)
+            );
+    }
+
+    @Test
+    void 키_종류가_많아도_용량만큼만_추적한다() {
+        // given
+        SpaceSavingCounter counter = new SpaceSavingCounter(10);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            counter.increment("/api/" + i);
+        }
+
+        // then
+        then(counter.size()).isEqualTo(10);
+        then(counter.getTotal()).isEqualTo(10_000);
+        then(counter.getTop(100)).hasSize(10);
+    }
+
+    @Test
+    void 보고된_카운트는_실제_빈도의_상한이고_오차만큼만_과대_추정된다() {
+        // given
+        SpaceSavingCounter counter = new SpaceSavingCounter(8);
+        Map<String, Long> actual = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            String key = i % 3 == 0 ? "/api/hot" : "/api/" + (i * 31 % 97);
+            counter.increment(key);
+            actual.merge(key, 1L, Long::sum);
+        }
+
+        // when
+        List<RankedItem> top = counter.getTop(8);
+
+        // then
+        then(top).allSatisfy(item -> {
+            long count = actual.getOrDefault(item.value(), 0L);
+            then(count).isBetween(item.count() - item.errorBound(), item.count());
+            then(item.errorBound()).isLessThanOrEqualTo(counter.getTotal() / 8);
+        });
+        then(top.getFirst().value()).isEqualTo("/api/hot");
+    }
+
+    @Test
+    void 병합해도_오차_보장과_상위_항목이_유지된다() {
+        // given
+        SpaceSavingCounter left = new SpaceSavingCounter(4);
+        SpaceSavingCounter right = new SpaceSavingCounter(4);
+        Map<String, Long> actual = new HashMap<>();
+        for (int i = 0; i < 1_000; i++) {
+            String key = i % 3 == 0 ? "/api/hot" : "/api/" + i % 50;
+            (i < 500 ? left : right).increment(key);
+            actual.merge(key, 1L, Long::sum);
+        }
+
+        // when
+        SpaceSavingCounter merged = left.merge(right);
+
+        // then
+        then(merged.getTotal()).isEqualTo(1_000);
+        then(merged.size()).isLessThanOrEqualTo(4);
+        then(merged.getTop(1).getFirst().value()).isEqualTo("/api/hot");
+        then(merged.getTop(4)).allSatisfy(item -> {
+            long count = actual.getOrDefault(item.value(), 0L);
+            then(count).isBetween(item.count() - item.errorBound(), item.count());
+        });
+    }
+
+    @Test
+    void 정확_카운터와는_병합할_수_없다() {
+        // given
+        SpaceSavingCounter counter = new SpaceSavingCounter(4);
+
+        // when & then
+        thenThrownBy(() -> counter.merge(new FrequencyCounter()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 복사본은_원본과_독립적이다() {
+        // given
+        SpaceSavingCounter original = new SpaceSavingCounter(4);
+        original.increment("/api/users");
+
+        // when
+        SpaceSavingCounter copied = original.copy();
+        original.increment("/api/users");
+
+        // then
+        then(copied.getTop(1))
+            .extracting(RankedItem::value, RankedItem::count)
+            .containsExactly(tuple("/api/users", 1L));
+    }
+
+    @Test
+    void 증가시킨_뒤의_추정_카운트를_반환한다() {
+        // given
+        SpaceSavingCounter counter = new SpaceSavingCounter(1);
+        counter.increment("/a");
+        counter.increment("/a");
+
+        // when
+        long count = counter.increment("/b");
+
+        // then
+        then(count).isEqualTo(3);
+    }
+}
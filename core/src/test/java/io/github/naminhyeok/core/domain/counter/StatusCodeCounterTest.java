@@ -3,7 +3,6 @@ package io.github.naminhyeok.core.domain.counter;
 import io.github.naminhyeok.core.domain.RankedItem;
 import io.github.naminhyeok.core.domain.StatusCodeDistribution;
 import org.junit.jupiter.api.Test;
-import org.springframework.http.HttpStatusCode;
 
 import java.util.List;
 
@@ -18,9 +17,9 @@ class StatusCodeCounterTest {
         StatusCodeCounter counter = new StatusCodeCounter();
 
         // when
-        counter.increment(HttpStatusCode.valueOf(200));
-        counter.increment(HttpStatusCode.valueOf(200));
-        counter.increment(HttpStatusCode.valueOf(404));
+        counter.increment(200);
+        counter.increment(200);
+        counter.increment(404);
 
         // then
         then(counter.getTotal()).isEqualTo(3);
@@ -30,12 +29,12 @@ class StatusCodeCounterTest {
     void 빈도수가_높은_순으로_반환한다() {
         // given
         StatusCodeCounter counter = new StatusCodeCounter();
-        counter.increment(HttpStatusCode.valueOf(200));
-        counter.increment(HttpStatusCode.valueOf(200));
-        counter.increment(HttpStatusCode.valueOf(200));
-        counter.increment(HttpStatusCode.valueOf(404));
-        counter.increment(HttpStatusCode.valueOf(404));
-        counter.increment(HttpStatusCode.valueOf(500));
+        counter.increment(200);
+        counter.increment(200);
+        counter.increment(200);
+        counter.increment(404);
+        counter.increment(404);
+        counter.increment(500);
 
         // when
         List<RankedItem> top = counter.getTop(3);
@@ -55,9 +54,9 @@ class StatusCodeCounterTest {
     void 동일_빈도수일_때_상태코드_오름차순으로_정렬한다() {
         // given
         StatusCodeCounter counter = new StatusCodeCounter();
-        counter.increment(HttpStatusCode.valueOf(500));
-        counter.increment(HttpStatusCode.valueOf(200));
-        counter.increment(HttpStatusCode.valueOf(404));
+        counter.increment(500);
+        counter.increment(200);
+        counter.increment(404);
 
         // when
         List<RankedItem> top = counter.getTop(3);
@@ -72,11 +71,11 @@ class StatusCodeCounterTest {
     void 카테고리별_분포를_계산한다() {
         // given
         StatusCodeCounter counter = new StatusCodeCounter();
-        counter.increment(HttpStatusCode.valueOf(200));  // 2xx
-        counter.increment(HttpStatusCode.valueOf(201));  // 2xx
-        counter.increment(HttpStatusCode.valueOf(301));  // 3xx
-        counter.increment(HttpStatusCode.valueOf(404));  // 4xx
-        counter.increment(HttpStatusCode.valueOf(500));  // 5xx
+        counter.increment(200);  // 2xx
+        counter.increment(201);  // 2xx
+        counter.increment(301);  // 3xx
+        counter.increment(404);  // 4xx
+        counter.increment(500);  // 5xx
 
         // when
         StatusCodeDistribution distribution = counter.getDistribution();
@@ -127,12 +126,12 @@ class StatusCodeCounterTest {
     void copy는_독립적인_복사본을_생성한다() {
         // given
         StatusCodeCounter original = new StatusCodeCounter();
-        original.increment(HttpStatusCode.valueOf(200));
-        original.increment(HttpStatusCode.valueOf(200));
+        original.increment(200);
+        original.increment(200);
 
         // when
         StatusCodeCounter copied = original.copy();
-        copied.increment(HttpStatusCode.valueOf(500));
+        copied.increment(500);
 
         // then
         then(original.getTotal()).isEqualTo(2);
@@ -145,10 +144,10 @@ class StatusCodeCounterTest {
     void 퍼센티지를_계산한다() {
         // given
         StatusCodeCounter counter = new StatusCodeCounter();
-        counter.increment(HttpStatusCode.valueOf(200));
-        counter.increment(HttpStatusCode.valueOf(200));
-        counter.increment(HttpStatusCode.valueOf(404));
-        counter.increment(HttpStatusCode.valueOf(404));
+        counter.increment(200);
+        counter.increment(200);
+        counter.increment(404);
+        counter.increment(404);
 
         // when
         List<RankedItem> top = counter.getTop(2);
@@ -158,4 +157,48 @@ class StatusCodeCounterTest {
             .extracting(RankedItem::percentage)
             .containsExactly(50.0, 50.0);
     }
+
+    @Test
+    void merge는_상태코드별_빈도수와_카테고리_분포를_합친다() {
+        // given
+        StatusCodeCounter left = new StatusCodeCounter();
+        left.increment(200);
+        left.increment(404);
+        StatusCodeCounter right = new StatusCodeCounter();
+        right.increment(200);
+        right.increment(500);
+
+        // when
+        left.merge(right);
+
+        // then
+        then(left.getTotal()).isEqualTo(4);
+        then(left.getTop(1))
+            .extracting(RankedItem::value, RankedItem::count)
+            .containsExactly(tuple("200", 2L));
+        StatusCodeDistribution distribution = left.getDistribution();
+        then(distribution.successRate()).isEqualTo(50.0);
+        then(distribution.clientErrorRate()).isEqualTo(25.0);
+        then(distribution.serverErrorRate()).isEqualTo(25.0);
+    }
+
+    @Test
+    void 카테고리_밖의_상태코드는_총합에만_포함된다() {
+        // given
+        StatusCodeCounter counter = new StatusCodeCounter();
+        counter.increment(101);
+        counter.increment(200);
+        counter.increment(600);
+        counter.increment(999);
+
+        // when
+        StatusCodeDistribution distribution = counter.getDistribution();
+
+        // then
+        then(counter.getTotal()).isEqualTo(4);
+        then(distribution.successRate()).isEqualTo(25.0);
+        then(counter.getTop(4))
+            .extracting(RankedItem::value)
+            .containsExactly("101", "200", "600", "999");
+    }
 }
@@ -0,0 +1,256 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.BDDAssertions.entry;
+import static org.assertj.core.api.BDDAssertions.then;
+
+class StringLongTableTest {
+
+    @Test
+    void 키별로_값을_누적한다() {
+        // given
+        StringLongTable table = new StringLongTable();
+
+        // when
+        table.add("/api/users", 1L);
+        table.add("/api/users", 2L);
+        table.add("/api/orders", 1L);
+
+        // then
+        then(table.size()).isEqualTo(2);
+        then(table.get("/api/users")).isEqualTo(3L);
+        then(table.get("/api/orders")).isEqualTo(1L);
+    }
+
+    @Test
+    void 없는_키는_0을_반환한다() {
+        // given
+        StringLongTable table = new StringLongTable();
+        table.add("/api/users", 1L);
+
+        // when
+        long value = table.get("/api/unknown");
+
+        // then
+        then(value).isZero();
+    }
+
+    @Test
+    void 용량을_넘으면_확장해도_모든_값을_유지한다() {
+        // given
+        StringLongTable table = new StringLongTable();
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            table.add("/api/" + i, i);
+        }
+
+        // then
+        then(table.size()).isEqualTo(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            then(table.get("/api/" + i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void forEach는_모든_항목을_순회한다() {
+        // given
+        StringLongTable table = new StringLongTable();
+        table.add("a", 1L);
+        table.add("b", 2L);
+
+        // when
+        Map<String, Long> visited = new HashMap<>();
+        table.forEach(visited::put);
+
+        // then
+        then(visited).containsOnly(entry("a", 1L), entry("b", 2L));
+    }
+
+    @Test
+    void addAll은_다른_테이블의_값을_더한다() {
+        // given
+        StringLongTable table = new StringLongTable();
+        table.add("a", 1L);
+        StringLongTable other = new StringLongTable();
+        other.add("a", 2L);
+        other.add("b", 3L);
+
+        // when
+        table.addAll(other);
+
+        // then
+        then(table.get("a")).isEqualTo(3L);
+        then(table.get("b")).isEqualTo(3L);
+        then(other.get("a")).isEqualTo(2L);
+    }
+
+    @Test
+    void copy는_독립적인_복사본을_생성한다() {
+        // given
+        StringLongTable original = new StringLongTable();
+        original.add("a", 1L);
+
+        // when
+        StringLongTable copied = original.copy();
+        copied.add("a", 1L);
+        copied.add("b", 1L);
+
+        // then
+        then(original.get("a")).isEqualTo(1L);
+        then(original.size()).isEqualTo(1);
+        then(copied.get("a")).isEqualTo(2L);
+        then(copied.size()).isEqualTo(2);
+    }
+
+    @Test
+    void forEachTop은_값_내림차순_키_오름차순으로_상위_항목만_전달한다() {
+        // given
+        StringLongTable table = new StringLongTable();
+        table.add("c", 5L);
+        table.add("a", 3L);
+        table.add("b", 5L);
+        table.add("d", 1L);
+        table.add("e", 3L);
+
+        // when
+        List<String> top = new ArrayList<>();
+        table.forEachTop(4, (key, value) -> top.add(key + "=" + value));
+
+        // then
+        then(top).containsExactly("b=5", "c=5", "a=3", "e=3");
+    }
+
+    @Test
+    void forEachTop의_limit이_항목_수보다_크면_모든_항목을_전달한다() {
+        // given
+        StringLongTable table = new StringLongTable();
+        table.add("a", 1L);
+        table.add("b", 2L);
+
+        // when
+        List<String> top = new ArrayList<>();
+        table.forEachTop(10, (key, value) -> top.add(key));
+
+        // then
+        then(top).containsExactly("b", "a");
+    }
+
+    @Test
+    void forEachTop의_limit이_0이면_아무것도_전달하지_않는다() {
+        // given
+        StringLongTable table = new StringLongTable();
+        table.add("a", 1L);
+
+        // when
+        List<String> top = new ArrayList<>();
+        table.forEachTop(0, (key, value) -> top.add(key));
+
+        // then
+        then(top).isEmpty();
+    }
+
+    @Test
+    void forEachTop은_많은_항목_중에서도_정확한_상위_항목을_고른다() {
+        // given
+        StringLongTable table = new StringLongTable();
+        for (int i = 0; i < 10_000; i++) {
+            table.add("key" + i, i % 100);
+        }
+
+        // when
+        List<String> top = new ArrayList<>();
+        table.forEachTop(3, (key, value) -> top.add(key + "=" + value));
+
+        // then
+        then(top).containsExactly("key1099=99", "key1199=99", "key1299=99");
+    }
+
+    @Test
+    void 한_행에_여러_컬럼을_누적한다() {
+        // given
+        StringLongTable table = new StringLongTable(3);
+
+        // when
+        int row = table.row("/api/users");
+        table.add(row, 0, 10L);
+        table.add(row, 2, 5L);
+        table.add(table.row("/api/users"), 0, 1L);
+
+        // then
+        then(table.size()).isEqualTo(1);
+        then(table.get("/api/users", 0)).isEqualTo(11L);
+        then(table.get("/api/users", 1)).isZero();
+        then(table.get("/api/users", 2)).isEqualTo(5L);
+        then(table.get("/api/unknown", 0)).isZero();
+    }
+
+    @Test
+    void 용량을_넘으면_확장해도_모든_행을_유지한다() {
+        // given
+        StringLongTable table = new StringLongTable(2);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            int row = table.row("/api/" + i);
+            table.add(row, 0, i);
+            table.add(row, 1, -i);
+        }
+
+        // then
+        then(table.size()).isEqualTo(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            then(table.get("/api/" + i, 0)).isEqualTo(i);
+            then(table.get("/api/" + i, 1)).isEqualTo(-i);
+        }
+    }
+
+    @Test
+    void forEachTop은_지정한_컬럼_기준으로_정렬한다() {
+        // given
+        StringLongTable table = new StringLongTable(2);
+        table.add(table.row("a"), 0, 1L);
+        table.add(table.row("a"), 1, 30L);
+        table.add(table.row("b"), 0, 3L);
+        table.add(table.row("b"), 1, 10L);
+        table.add(table.row("c"), 0, 2L);
+        table.add(table.row("c"), 1, 20L);
+
+        // when
+        List<String> byFirst = new ArrayList<>();
+        List<String> bySecond = new ArrayList<>();
+        table.forEachTop(0, 2, (key, value) -> byFirst.add(key));
+        table.forEachTop(1, 2, (key, value) -> bySecond.add(key));
+
+        // then
+        then(byFirst).containsExactly("b", "c");
+        then(bySecond).containsExactly("a", "c");
+    }
+
+    @Test
+    void addAll과_copy는_행_단위로_동작한다() {
+        // given
+        StringLongTable table = new StringLongTable(2);
+        table.add(table.row("a"), 0, 1L);
+        StringLongTable other = new StringLongTable(2);
+        other.add(other.row("a"), 1, 2L);
+        other.add(other.row("b"), 0, 3L);
+
+        // when
+        StringLongTable copied = table.copy();
+        table.addAll(other);
+
+        // then
+        then(table.get("a", 0)).isEqualTo(1L);
+        then(table.get("a", 1)).isEqualTo(2L);
+        then(table.get("b", 0)).isEqualTo(3L);
+        then(copied.size()).isEqualTo(1);
+        then(copied.get("a", 1)).isZero();
+    }
+}
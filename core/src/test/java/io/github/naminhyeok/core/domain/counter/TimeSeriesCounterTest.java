@@ -0,0 +1,159 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import io.github.naminhyeok.core.domain.TimeBucket;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.tuple;
+
+class TimeSeriesCounterTest {
+
+    private static final long BASE_MINUTE = LocalDateTime.of(2026, 1, 29, 5, 0).toEpochSecond(ZoneOffset.UTC) / 60;
+
+    @Test
+    void 분_단위로_요청과_오류와_바이트를_센다() {
+        // given
+        TimeSeriesCounter counter = new TimeSeriesCounter();
+
+        // when
+        counter.record(BASE_MINUTE, 200, 100, 10);
+        counter.record(BASE_MINUTE, 404, 50, 5);
+        counter.record(BASE_MINUTE + 1, 503, 20, 2);
+
+        // then
+        then(counter.rollUp(1))
+            .extracting(TimeBucket::requests, TimeBucket::clientErrors, TimeBucket::serverErrors,
+                TimeBucket::sentBytes, TimeBucket::receivedBytes)
+            .containsExactly(
+                tuple(2L, 1L, 0L, 150L, 15L),
+                tuple(1L, 0L, 1L, 20L, 2L)
+            );
+    }
+
+    @Test
+    void 순서가_뒤섞인_행도_제_버킷에_들어가고_빈_구간은_0으로_채운다() {
+        // given
+        TimeSeriesCounter counter = new TimeSeriesCounter();
+
+        // when
+        counter.record(BASE_MINUTE + 200, 200, 0, 0);
+        counter.record(BASE_MINUTE, 200, 0, 0);
+        counter.record(BASE_MINUTE + 100, 200, 0, 0);
+
+        // then
+        List<TimeBucket> buckets = counter.rollUp(1);
+        then(buckets).hasSize(201);
+        then(buckets.getFirst().start()).isEqualTo(LocalDateTime.of(2026, 1, 29, 5, 0));
+        then(buckets.get(100).requests()).isEqualTo(1);
+        then(buckets.get(150).requests()).isZero();
+        then(buckets.getLast().requests()).isEqualTo(1);
+    }
+
+    @Test
+    void 요청한_간격으로_묶을_때_경계는_정각_기준이다() {
+        // given
+        TimeSeriesCounter counter = new TimeSeriesCounter();
+        counter.record(BASE_MINUTE + 3, 200, 0, 0);
+        counter.record(BASE_MINUTE + 4, 500, 0, 0);
+        counter.record(BASE_MINUTE + 5, 200, 0, 0);
+
+        // when
+        List<TimeBucket> buckets = counter.rollUp(5);
+
+        // then
+        then(buckets)
+            .extracting(TimeBucket::start, TimeBucket::requests, TimeBucket::errorRate)
+            .containsExactly(
+                tuple(LocalDateTime.of(2026, 1, 29, 5, 0), 2L, 50.0),
+                tuple(LocalDateTime.of(2026, 1, 29, 5, 5), 1L, 0.0)
+            );
+    }
+
+    @Test
+    void 최대_구간을_벗어나는_행은_버킷에_넣지_않고_따로_센다() {
+        // given
+        TimeSeriesCounter counter = new TimeSeriesCounter();
+        counter.record(BASE_MINUTE, 200, 0, 0);
+
+        // when
+        counter.record(BASE_MINUTE + TimeSeriesCounter.MAX_SPAN_MINUTES, 200, 0, 0);
+        counter.record(0, 200, 0, 0);
+
+        // then
+        then(counter.getOutOfRange()).isEqualTo(2);
+        then(counter.rollUp(1)).hasSize(1);
+    }
+
+    @Test
+    void 앞쪽의_잘못된_타임스탬프_하나가_뒤따르는_정상_행을_밀어내지_않는다() {
+        // given
+        TimeSeriesCounter counter = new TimeSeriesCounter();
+        long validMinute = BASE_MINUTE + TimeSeriesCounter.MAX_SPAN_MINUTES * 2L;
+        counter.record(BASE_MINUTE, 200, 0, 0);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            counter.record(validMinute + i, 200, 0, 0);
+        }
+
+        // then
+        // 구간을 옮기기 전에 벗어난 첫 정상 행과 잘못된 행만 범위 밖으로 센다
+        List<TimeBucket> buckets = counter.rollUp(1);
+        then(counter.getOutOfRange()).isEqualTo(2);
+        then(buckets).hasSize(9);
+        then(buckets.getFirst().start()).isEqualTo(LocalDateTime.ofEpochSecond((validMinute + 1) * 60, 0, ZoneOffset.UTC));
+    }
+
+    @Test
+    void 뒤쪽의_잘못된_타임스탬프_하나는_쌓인_구간을_옮기지_않는다() {
+        // given
+        TimeSeriesCounter counter = new TimeSeriesCounter();
+        for (int i = 0; i < 10; i++) {
+            counter.record(BASE_MINUTE + i, 200, 0, 0);
+        }
+
+        // when
+        counter.record(BASE_MINUTE + TimeSeriesCounter.MAX_SPAN_MINUTES * 2L, 200, 0, 0);
+
+        // then
+        then(counter.getOutOfRange()).isEqualTo(1);
+        then(counter.rollUp(1)).hasSize(10);
+    }
+
+    @Test
+    void 병합_결과는_한_번에_기록한_것과_같다() {
+        // given
+        TimeSeriesCounter left = new TimeSeriesCounter();
+        TimeSeriesCounter right = new TimeSeriesCounter();
+        TimeSeriesCounter all = new TimeSeriesCounter();
+        for (int i = 0; i < 1_000; i++) {
+            long minute = BASE_MINUTE + (i * 37L % 500) - 250;
+            int status = 200 + (i % 4) * 100;
+            (i % 2 == 0 ? left : right).record(minute, status, i, 1);
+            all.record(minute, status, i, 1);
+        }
+
+        // when
+        TimeSeriesCounter merged = left.merge(right.copy());
+
+        // then
+        then(merged.rollUp(1)).isEqualTo(all.rollUp(1));
+        then(merged.rollUp(60)).isEqualTo(all.rollUp(60));
+    }
+
+    @Test
+    void 빈_카운터의_복사본에도_기록할_수_있다() {
+        // given
+        TimeSeriesCounter copied = new TimeSeriesCounter().copy();
+
+        // when
+        copied.record(BASE_MINUTE, 200, 0, 0);
+
+        // then
+        then(copied.rollUp(1)).hasSize(1);
+    }
+}
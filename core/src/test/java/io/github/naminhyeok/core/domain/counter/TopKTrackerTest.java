@@ -0,0 +1,101 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import io.github.naminhyeok.core.domain.RankedItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.BDDAssertions.entry;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+class TopKTrackerTest {
+
+    @Test
+    void 용량보다_적은_키는_모두_후보로_남는다() {
+        // given
+        TopKTracker tracker = new TopKTracker(3);
+
+        // when
+        tracker.offer("/a", 1);
+        tracker.offer("/b", 1);
+        tracker.offer("/a", 2);
+
+        // then
+        then(tracker.snapshot()).containsOnly(entry("/a", 2L), entry("/b", 1L));
+    }
+
+    @Test
+    void 꽉_차면_가장_작은_후보보다_큰_카운트만_받는다() {
+        // given
+        TopKTracker tracker = new TopKTracker(2);
+        tracker.offer("/a", 5);
+        tracker.offer("/b", 3);
+
+        // when
+        tracker.offer("/c", 3);
+        tracker.offer("/d", 4);
+
+        // then
+        then(tracker.snapshot()).containsOnly(entry("/a", 5L), entry("/d", 4L));
+    }
+
+    @Test
+    void 밀려난_키도_다시_늘면_누적_카운트로_돌아온다() {
+        // given
+        TopKTracker tracker = new TopKTracker(1);
+        tracker.offer("/a", 2);
+        tracker.offer("/b", 3);
+
+        // when
+        tracker.offer("/a", 4);
+
+        // then
+        then(tracker.snapshot()).containsOnly(entry("/a", 4L));
+    }
+
+    @Test
+    void 정확_카운터에_붙이면_상위_항목이_카운터와_같다() {
+        // given
+        FrequencyCounter counter = new FrequencyCounter();
+        TopKTracker tracker = new TopKTracker(20);
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 50_000; i++) {
+            String key = "/p" + (int) (Math.pow(random.nextDouble(), 3) * 2_000);
+            tracker.offer(key, counter.increment(key));
+        }
+
+        // then
+        List<Long> tracked = new ArrayList<>(tracker.snapshot().values());
+        tracked.sort(Comparator.reverseOrder());
+        then(tracked.subList(0, 10))
+            .containsExactlyElementsOf(counter.getTop(10).stream().map(RankedItem::count).toList());
+    }
+
+    @Test
+    void 스냅샷은_이후_갱신에_영향받지_않는다() {
+        // given
+        TopKTracker tracker = new TopKTracker(2);
+        tracker.offer("/a", 1);
+
+        // when
+        Map<String, Long> snapshot = tracker.snapshot();
+        tracker.offer("/a", 2);
+
+        // then
+        then(snapshot).containsOnly(entry("/a", 1L));
+    }
+
+    @Test
+    void 용량은_1_이상이어야_한다() {
+        // when & then
+        thenThrownBy(() -> new TopKTracker(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import io.github.naminhyeok.core.domain.RankedItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.assertj.core.api.BDDAssertions.tuple;
+
+class WeightedFrequencyCounterTest {
+
+    @Test
+    void 지표별로_가중치_합을_센다() {
+        // given
+        WeightedFrequencyCounter counter = new WeightedFrequencyCounter();
+        counter.add("/api/users", 100, 10, 5);
+        counter.add("/api/users", 100, 10, 5);
+        counter.add("/api/files", 1000, 1, 50);
+
+        // when & then
+        then(counter.get("/api/users", TrafficWeight.SENT_BYTES)).isEqualTo(200L);
+        then(counter.get("/api/users", TrafficWeight.RECEIVED_BYTES)).isEqualTo(20L);
+        then(counter.get("/api/files", TrafficWeight.RESPONSE_TIME)).isEqualTo(50L);
+        then(counter.getTotal(TrafficWeight.SENT_BYTES)).isEqualTo(1200L);
+    }
+
+    @Test
+    void 지표마다_순위가_다르다() {
+        // given
+        WeightedFrequencyCounter counter = new WeightedFrequencyCounter();
+        counter.add("/api/users", 100, 30, 5);
+        counter.add("/api/files", 300, 10, 50);
+
+        // when
+        List<RankedItem> bySent = counter.getTop(TrafficWeight.SENT_BYTES, 2);
+        List<RankedItem> byReceived = counter.getTop(TrafficWeight.RECEIVED_BYTES, 2);
+
+        // then
+        then(bySent)
+            .extracting(RankedItem::value, RankedItem::count, RankedItem::percentage)
+            .containsExactly(
+                tuple("/api/files", 300L, 75.0),
+                tuple("/api/users", 100L, 25.0)
+            );
+        then(byReceived)
+            .extracting(RankedItem::value)
+            .containsExactly("/api/users", "/api/files");
+    }
+
+    @Test
+    void 음수_값은_0으로_취급한다() {
+        // given
+        WeightedFrequencyCounter counter = new WeightedFrequencyCounter();
+
+        // when
+        counter.add("/api/users", -100, 10, -1);
+
+        // then
+        then(counter.get("/api/users", TrafficWeight.SENT_BYTES)).isZero();
+        then(counter.getTotal(TrafficWeight.RESPONSE_TIME)).isZero();
+        then(counter.getTotal(TrafficWeight.RECEIVED_BYTES)).isEqualTo(10L);
+    }
+
+    @Test
+    void 병합하면_키별_합과_총합이_더해진다() {
+        // given
+        WeightedFrequencyCounter counter = new WeightedFrequencyCounter();
+        counter.add("/api/users", 100, 0, 0);
+        WeightedFrequencyCounter other = new WeightedFrequencyCounter();
+        other.add("/api/users", 50, 0, 0);
+        other.add("/api/files", 10, 0, 0);
+
+        // when
+        counter.merge(other);
+
+        // then
+        then(counter.get("/api/users", TrafficWeight.SENT_BYTES)).isEqualTo(150L);
+        then(counter.get("/api/files", TrafficWeight.SENT_BYTES)).isEqualTo(10L);
+        then(counter.getTotal(TrafficWeight.SENT_BYTES)).isEqualTo(160L);
+    }
+
+    @Test
+    void 근사_카운터와는_병합할_수_없다() {
+        // given
+        WeightedFrequencyCounter counter = new WeightedFrequencyCounter();
+
+        // when & then
+        thenThrownBy(() -> counter.merge(new WeightedSpaceSavingCounter(10)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 복사본은_원본과_독립적이다() {
+        // given
+        WeightedFrequencyCounter counter = new WeightedFrequencyCounter();
+        counter.add("/api/users", 100, 0, 0);
+
+        // when
+        WeightedFrequencyCounter copied = counter.copy();
+        counter.add("/api/users", 100, 0, 0);
+
+        // then
+        then(copied.get("/api/users", TrafficWeight.SENT_BYTES)).isEqualTo(100L);
+        then(copied.getTotal(TrafficWeight.SENT_BYTES)).isEqualTo(100L);
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.naminhyeok.core.domain.counter;
+
+import io.github.naminhyeok.core.domain.RankedItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.tuple;
+
+class WeightedSpaceSavingCounterTest {
+
+    @Test
+    void 용량_이하의_키는_가중치_합을_정확히_센다() {
+        // given
+        WeightedSpaceSavingCounter counter = new WeightedSpaceSavingCounter(10);
+        counter.add("/api/users", 100, 30, 5);
+        counter.add("/api/files", 300, 10, 50);
+
+        // when
+        List<RankedItem> top = counter.getTop(TrafficWeight.SENT_BYTES, 2);
+
+        // then
+        then(counter.isApproximate()).isTrue();
+        then(counter.getTotal(TrafficWeight.RECEIVED_BYTES)).isEqualTo(40L);
+        then(top)
+            .extracting(RankedItem::value, RankedItem::count, RankedItem::errorBound)
+            .containsExactly(
+                tuple("/api/files", 300L, 0L),
+                tuple("/api/users", 100L, 0L)
+            );
+    }
+
+    @Test
+    void 키_종류가_많아도_큰_가중치의_키는_놓치지_않는다() {
+        // given
+        WeightedSpaceSavingCounter counter = new WeightedSpaceSavingCounter(10);
+        for (int i = 0; i < 1_000; i++) {
+            counter.add("/api/" + i, 1, 1, 1);
+        }
+        counter.add("/download", 5_000, 1, 1);
+
+        // when
+        List<RankedItem> top = counter.getTop(TrafficWeight.SENT_BYTES, 1);
+
+        // then
+        then(top).extracting(RankedItem::value).containsExactly("/download");
+        then(top.getFirst().count() - top.getFirst().errorBound()).isLessThanOrEqualTo(5_000L);
+        then(top.getFirst().count()).isGreaterThanOrEqualTo(5_000L);
+    }
+
+    @Test
+    void 가중치가_0인_지표에서는_키를_추적하지_않는다() {
+        // given
+        WeightedSpaceSavingCounter counter = new WeightedSpaceSavingCounter(10);
+
+        // when
+        counter.add("/api/users", 100, 0, 0);
+
+        // then
+        then(counter.getTop(TrafficWeight.SENT_BYTES, 10)).hasSize(1);
+        then(counter.getTop(TrafficWeight.RECEIVED_BYTES, 10)).isEmpty();
+    }
+
+    @Test
+    void 병합하면_지표별로_합쳐진다() {
+        // given
+        WeightedSpaceSavingCounter counter = new WeightedSpaceSavingCounter(10);
+        counter.add("/api/users", 100, 1, 1);
+        WeightedSpaceSavingCounter other = new WeightedSpaceSavingCounter(10);
+        other.add("/api/users", 50, 1, 1);
+
+        // when
+        counter.merge(other);
+
+        // then
+        then(counter.getTotal(TrafficWeight.SENT_BYTES)).isEqualTo(150L);
+        then(counter.getTop(TrafficWeight.SENT_BYTES, 1))
+            .extracting(RankedItem::value, RankedItem::count)
+            .containsExactly(tuple("/api/users", 150L));
+    }
+}
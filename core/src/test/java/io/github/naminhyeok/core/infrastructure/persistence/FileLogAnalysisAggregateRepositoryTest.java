@@ -0,0 +1,301 @@
+package io.github.naminhyeok.core.infrastructure.persistence;
+
+import io.github.naminhyeok.core.domain.AccessLog;
+import io.github.naminhyeok.core.domain.LogAnalysisAggregate;
+import io.github.naminhyeok.core.domain.LogStreamAggregator;
+import io.github.naminhyeok.core.support.config.AnalysisStoreProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpMethod;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class FileLogAnalysisAggregateRepositoryTest {
+
+    private static final long TTL_MINUTES = 60;
+
+    @TempDir
+    Path directory;
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private final List<FileLogAnalysisAggregateRepository> opened = new ArrayList<>();
+    private FileLogAnalysisAggregateRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        opened.forEach(FileLogAnalysisAggregateRepository::close);
+    }
+
+    @Test
+    void 저장한_결과를_ID로_조회한다() {
+        // given
+        LogAnalysisAggregate saved = repository.save(createAggregate(0));
+
+        // when
+        LogAnalysisAggregate found = repository.findById(saved.getId()).orElseThrow();
+
+        // then
+        then(saved.getId()).isEqualTo(1L);
+        then(found.getTopPaths(10)).isEqualTo(saved.getTopPaths(10));
+        then(repository.findById(999L)).isEmpty();
+    }
+
+    @Test
+    void 재시작하면_세그먼트에서_결과를_복구한다() {
+        // given
+        List<LogAnalysisAggregate> saved = saveMany(30);
+        repository.close();
+
+        // when
+        FileLogAnalysisAggregateRepository restarted = open();
+
+        // then
+        for (LogAnalysisAggregate aggregate : saved) {
+            then(restarted.findById(aggregate.getId()).orElseThrow().getTopPaths(20))
+                .isEqualTo(aggregate.getTopPaths(20));
+        }
+        then(restarted.save(createAggregate(99)).getId()).isEqualTo(31L);
+    }
+
+    @Test
+    void 닫지_않고_종료되어도_쓰던_세그먼트를_훑어_복구한다() {
+        // given
+        List<LogAnalysisAggregate> saved = saveMany(5);
+
+        // when
+        FileLogAnalysisAggregateRepository restarted = open();
+
+        // then
+        for (LogAnalysisAggregate aggregate : saved) {
+            then(restarted.findById(aggregate.getId())).isPresent();
+        }
+    }
+
+    @Test
+    void 중간에_끊긴_레코드는_잘라내고_나머지를_복구한다() throws IOException {
+        // given
+        List<LogAnalysisAggregate> saved = saveMany(3);
+        Path segment = lastSegment();
+        Files.write(segment, new byte[]{0x4C, 0x41, 0x53, 0x52, 1, 0, 0}, StandardOpenOption.APPEND);
+
+        // when
+        FileLogAnalysisAggregateRepository restarted = open();
+
+        // then
+        for (LogAnalysisAggregate aggregate : saved) {
+            then(restarted.findById(aggregate.getId())).isPresent();
+        }
+    }
+
+    @Test
+    void 삭제한_결과는_재시작_후에도_조회되지_않는다() {
+        // given
+        LogAnalysisAggregate kept = repository.save(createAggregate(0));
+        LogAnalysisAggregate deleted = repository.save(createAggregate(1));
+
+        // when
+        repository.deleteById(deleted.getId());
+        repository.close();
+        FileLogAnalysisAggregateRepository restarted = open();
+
+        // then
+        then(restarted.findById(deleted.getId())).isEmpty();
+        then(restarted.findById(kept.getId())).isPresent();
+    }
+
+    @Test
+    void 다시_저장한_뒤_삭제한_결과는_최신_레코드의_세그먼트가_압축되어도_재시작_후_되살아나지_않는다() throws IOException {
+        // given
+        LogAnalysisAggregate deleted = repository.save(createAggregate(0));
+        List<LogAnalysisAggregate> kept = saveUntilNextSegment(1_000);
+        repository.save(deleted);
+        List<LogAnalysisAggregate> sparse = saveUntilNextSegment(2_000);
+        int segmentsBefore = repository.segmentCount();
+
+        // when
+        repository.deleteById(deleted.getId());
+        sparse.forEach(aggregate -> repository.deleteById(aggregate.getId()));
+        // 툼스톤이 든 세그먼트도 압축되게 해 툼스톤이 옮겨지는지 본다
+        saveUntilNextSegment(3_000).forEach(aggregate -> repository.deleteById(aggregate.getId()));
+        repository.close();
+        FileLogAnalysisAggregateRepository restarted = open();
+
+        // then
+        then(segmentFiles()).hasSizeLessThan(segmentsBefore);
+        then(restarted.findById(deleted.getId())).isEmpty();
+        for (LogAnalysisAggregate aggregate : kept) {
+            then(restarted.findById(aggregate.getId())).isPresent();
+        }
+    }
+
+    @Test
+    void 대부분_삭제된_세그먼트는_압축해_지운다() throws IOException {
+        // given
+        List<LogAnalysisAggregate> saved = saveMany(60);
+        int segmentsBefore = repository.segmentCount();
+        LogAnalysisAggregate survivor = saved.getLast();
+
+        // when
+        for (LogAnalysisAggregate aggregate : saved.subList(0, saved.size() - 1)) {
+            repository.deleteById(aggregate.getId());
+        }
+
+        // then
+        then(segmentsBefore).isGreaterThan(1);
+        then(repository.segmentCount()).isLessThan(segmentsBefore);
+        then(repository.findById(survivor.getId()).orElseThrow().getTopPaths(20))
+            .isEqualTo(survivor.getTopPaths(20));
+        repository.close();
+        then(open().findById(survivor.getId())).isPresent();
+        then(segmentFiles()).hasSizeLessThan(segmentsBefore);
+    }
+
+    @Test
+    void 압축이_세그먼트를_지우는_동안에도_조회는_결과를_읽는다() throws InterruptedException {
+        // given
+        // 디코딩 캐시에 몇 개만 남도록 메모리 예산을 줄여 조회가 세그먼트를 직접 읽게 한다
+        repository.close();
+        repository = open(1L);
+        List<LogAnalysisAggregate> saved = saveMany(60);
+        int segmentsBefore = repository.segmentCount();
+        List<Long> survivorIds = new ArrayList<>();
+        for (int i = 0; i < saved.size(); i += 4) {
+            survivorIds.add(saved.get(i).getId());
+        }
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            try {
+                while (!done.get()) {
+                    for (Long id : survivorIds) {
+                        then(repository.findById(id)).isPresent();
+                    }
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        reader.start();
+
+        // when
+        for (LogAnalysisAggregate aggregate : saved) {
+            if (!survivorIds.contains(aggregate.getId())) {
+                repository.deleteById(aggregate.getId());
+            }
+        }
+        done.set(true);
+        reader.join();
+
+        // then
+        then(failure.get()).isNull();
+        then(repository.segmentCount()).isLessThan(segmentsBefore);
+        for (Long id : survivorIds) {
+            then(repository.findById(id)).isPresent();
+        }
+    }
+
+    @Test
+    void TTL이_지난_결과는_만료로_보고_재시작_후에도_복구하지_않는다() {
+        // given
+        LogAnalysisAggregate saved = repository.save(createAggregate(0));
+
+        // when
+        now.addAndGet(Duration.ofMinutes(TTL_MINUTES).toMillis());
+        repository.sweep();
+
+        // then
+        then(repository.findById(saved.getId())).isEmpty();
+        then(repository.isExpired(saved.getId())).isTrue();
+        then(repository.isExpired(999L)).isFalse();
+        then(repository.stats().expirations()).isEqualTo(1);
+        then(repository.stats().entries()).isZero();
+        repository.close();
+        FileLogAnalysisAggregateRepository restarted = open();
+        then(restarted.findById(saved.getId())).isEmpty();
+    }
+
+    private FileLogAnalysisAggregateRepository open() {
+        return open(null);
+    }
+
+    private FileLogAnalysisAggregateRepository open(Long memoryBudgetMb) {
+        AnalysisStoreProperties properties = new AnalysisStoreProperties(
+            memoryBudgetMb, TTL_MINUTES, AnalysisStoreProperties.Type.FILE, directory.toString(), 1L
+        );
+        FileLogAnalysisAggregateRepository opened = new FileLogAnalysisAggregateRepository(properties, now::get);
+        this.opened.add(opened);
+        return opened;
+    }
+
+    private List<LogAnalysisAggregate> saveMany(int count) {
+        List<LogAnalysisAggregate> saved = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            saved.add(repository.save(createAggregate(i)));
+        }
+        return saved;
+    }
+
+    // 새 세그먼트가 열릴 때까지 저장한다. 마지막으로 저장한 결과는 새 세그먼트에 들어간다
+    private List<LogAnalysisAggregate> saveUntilNextSegment(int seed) {
+        int segments = repository.segmentCount();
+        List<LogAnalysisAggregate> saved = new ArrayList<>();
+        while (repository.segmentCount() == segments) {
+            saved.add(repository.save(createAggregate(seed + saved.size())));
+        }
+        return saved;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private Path lastSegment() throws IOException {
+        return segmentFiles().getLast();
+    }
+
+    // 세그먼트(1MB)가 여러 개 생기도록 결과마다 수천 개의 서로 다른 경로를 담는다
+    private LogAnalysisAggregate createAggregate(int seed) {
+        LogStreamAggregator aggregator = new LogStreamAggregator();
+        for (int i = 0; i < 3_000; i++) {
+            String path = "/api/" + seed + "/" + i;
+            aggregator.accumulate(new AccessLog(
+                LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(i).toInstant(ZoneOffset.UTC).toEpochMilli(),
+                "10.0." + seed % 256 + "." + i % 256,
+                HttpMethod.GET,
+                path,
+                "Mozilla/5.0",
+                200,
+                "HTTP/1.1",
+                10L,
+                100L,
+                i % 500,
+                "TLSv1.2",
+                path
+            ));
+        }
+        return aggregator.finish();
+    }
+}
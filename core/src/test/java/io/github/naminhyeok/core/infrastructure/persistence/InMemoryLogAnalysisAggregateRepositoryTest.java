@@ -1,14 +1,22 @@
 package io.github.naminhyeok.core.infrastructure.persistence;
 
+import io.github.naminhyeok.core.domain.AnalysisStoreStats;
 import io.github.naminhyeok.core.domain.LogAnalysisAggregate;
+import io.github.naminhyeok.core.domain.counter.CardinalityCounter;
 import io.github.naminhyeok.core.domain.counter.FrequencyCounter;
+import io.github.naminhyeok.core.domain.counter.LatencyTracker;
 import io.github.naminhyeok.core.domain.counter.ParseErrorCollector;
 import io.github.naminhyeok.core.domain.counter.StatusCodeCounter;
+import io.github.naminhyeok.core.domain.counter.TimeSeriesCounter;
+import io.github.naminhyeok.core.domain.counter.WeightedFrequencyCounter;
+import io.github.naminhyeok.core.support.config.AnalysisStoreProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.BDDAssertions.then;
 
@@ -18,7 +26,7 @@ class InMemoryLogAnalysisAggregateRepositoryTest {
 
     @BeforeEach
     void setUp() {
-        repository = new InMemoryLogAnalysisAggregateRepository();
+        repository = new InMemoryLogAnalysisAggregateRepository(new AnalysisStoreProperties(null, null, null, null, null));
     }
 
     @Test
@@ -85,14 +93,99 @@ class InMemoryLogAnalysisAggregateRepositoryTest {
         then(repository.findById(100L)).isPresent();
     }
 
+    @Test
+    void 메모리_예산을_넘으면_결과를_축출하고_만료로_표시한다() {
+        // given
+        InMemoryLogAnalysisAggregateRepository bounded = new InMemoryLogAnalysisAggregateRepository(
+            new AnalysisStoreProperties(1L, 60L, null, null, null), System::nanoTime, Runnable::run
+        );
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            bounded.save(createAggregate(null));
+        }
+        bounded.cleanUp();
+
+        // then
+        AnalysisStoreStats stats = bounded.stats();
+        then(stats.entries()).isLessThan(200);
+        then(stats.evictions()).isEqualTo(200 - stats.entries());
+        then(stats.footprintBytes()).isLessThanOrEqualTo(stats.budgetBytes());
+        for (long id = 1; id <= 200; id++) {
+            then(bounded.findById(id).isPresent()).isNotEqualTo(bounded.isExpired(id));
+        }
+    }
+
+    @Test
+    void TTL이_지나면_결과를_만료시킨다() {
+        // given
+        AtomicLong nanos = new AtomicLong();
+        InMemoryLogAnalysisAggregateRepository expiring = new InMemoryLogAnalysisAggregateRepository(
+            new AnalysisStoreProperties(null, 10L, null, null, null), nanos::get, Runnable::run
+        );
+        LogAnalysisAggregate saved = expiring.save(createAggregate(null));
+
+        // when
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+        expiring.cleanUp();
+
+        // then
+        then(expiring.findById(saved.getId())).isEmpty();
+        then(expiring.isExpired(saved.getId())).isTrue();
+        then(expiring.stats().expirations()).isEqualTo(1);
+        then(expiring.stats().entries()).isZero();
+    }
+
+    @Test
+    void 삭제한_결과는_조회되지_않고_만료로도_보지_않는다() {
+        // given
+        LogAnalysisAggregate saved = repository.save(createAggregate(null));
+
+        // when
+        repository.deleteById(saved.getId());
+
+        // then
+        then(repository.findById(saved.getId())).isEmpty();
+        then(repository.isExpired(saved.getId())).isFalse();
+    }
+
+    @Test
+    void 저장된_적_없는_ID는_만료로_보지_않는다() {
+        // when & then
+        then(repository.isExpired(999L)).isFalse();
+    }
+
+    @Test
+    void 보관_중인_결과의_추정_크기를_보고한다() {
+        // given
+        InMemoryLogAnalysisAggregateRepository synchronous = new InMemoryLogAnalysisAggregateRepository(
+            new AnalysisStoreProperties(null, null, null, null, null), System::nanoTime, Runnable::run
+        );
+        LogAnalysisAggregate saved = synchronous.save(createAggregate(null));
+        synchronous.cleanUp();
+
+        // when
+        AnalysisStoreStats stats = synchronous.stats();
+
+        // then
+        then(stats.entries()).isEqualTo(1);
+        then(stats.footprintBytes()).isEqualTo(saved.estimatedBytes());
+    }
+
     private LogAnalysisAggregate createAggregate(Long id) {
         return new LogAnalysisAggregate(
             id,
             LocalDateTime.now(),
             new FrequencyCounter(),
             new FrequencyCounter(),
+            new FrequencyCounter(),
+            new WeightedFrequencyCounter(),
+            new WeightedFrequencyCounter(),
             new StatusCodeCounter(),
-            new ParseErrorCollector()
+            new ParseErrorCollector(),
+            new CardinalityCounter(),
+            new LatencyTracker(),
+            new TimeSeriesCounter()
         );
     }
 }
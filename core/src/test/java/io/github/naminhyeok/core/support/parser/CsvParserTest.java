@@ -111,6 +111,95 @@ class CsvParserTest {
             );
     }
 
+    @Test
+    void forEachRow는_헤더를_제외한_각_행을_전달한다() {
+        // given
+        String csv = """
+            header1,header2
+            row1col1,row1col2
+            row2col1,row2col2
+            """;
+        InputStream inputStream = toInputStream(csv);
+
+        // when
+        List<String> values = new ArrayList<>();
+        CsvParser.forEachRow(inputStream, row -> values.add(row.get(0) + "|" + row.get(1)));
+
+        // then
+        then(values).containsExactly("row1col1|row1col2", "row2col1|row2col2");
+    }
+
+    @Test
+    void CRLF_줄바꿈을_처리한다() {
+        // given
+        String csv = "header1,header2\r\nvalue1,value2\r\nvalue3,value4\r\n";
+        InputStream inputStream = toInputStream(csv);
+
+        // when
+        List<String> values = new ArrayList<>();
+        CsvParser.forEachRow(inputStream, row -> values.add(row.get(1)));
+
+        // then
+        then(values).containsExactly("value2", "value4");
+    }
+
+    @Test
+    void 필드_앞뒤_공백을_제거하고_UTF8_문자를_보존한다() {
+        // given
+        String csv = """
+            header1,header2
+              한글 경로 , "/검색?q=로그"\s
+            """;
+        InputStream inputStream = toInputStream(csv);
+
+        // when
+        List<CsvRow> rows = new ArrayList<>();
+        CsvParser.parse(inputStream, stream -> rows.addAll(stream.toList()));
+
+        // then
+        then(rows).hasSize(1)
+            .extracting(row -> row.get(0), row -> row.get(1))
+            .containsExactly(tuple("한글 경로", "/검색?q=로그"));
+    }
+
+    @Test
+    void 필드_중간의_따옴표는_제거되고_원본_라인은_보존된다() {
+        // given
+        String csv = """
+            header1,header2
+            ab"c,d"e,f
+            """;
+        InputStream inputStream = toInputStream(csv);
+
+        // when
+        List<CsvRow> rows = new ArrayList<>();
+        CsvParser.parse(inputStream, stream -> rows.addAll(stream.toList()));
+
+        // then
+        then(rows).hasSize(1);
+        then(rows.get(0).size()).isEqualTo(2);
+        then(rows.get(0).get(0)).isEqualTo("abc,de");
+        then(rows.get(0).get(1)).isEqualTo("f");
+        then(rows.get(0).rawLine()).isEqualTo("ab\"c,d\"e,f");
+    }
+
+    @Test
+    void 버퍼보다_긴_라인도_파싱할_수_있다() {
+        // given
+        String longValue = "x".repeat(200_000);
+        String csv = "header1,header2\n" + longValue + ",\"a,b\"\n";
+        InputStream inputStream = toInputStream(csv);
+
+        // when
+        List<CsvRow> rows = new ArrayList<>();
+        CsvParser.parse(inputStream, stream -> rows.addAll(stream.toList()));
+
+        // then
+        then(rows).hasSize(1)
+            .extracting(row -> row.get(0), row -> row.get(1))
+            .containsExactly(tuple(longValue, "a,b"));
+    }
+
     private InputStream toInputStream(String content) {
         return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
     }
@@ -0,0 +1,73 @@
+package io.github.naminhyeok.core.support.parser;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class CsvRowTest {
+
+    @Test
+    void 필드_배열로_CsvRow를_생성할_수_있다() {
+        // given
+        String[] fields = {"value1", "값2", ""};
+
+        // when
+        CsvRow row = new CsvRow(fields);
+
+        // then
+        then(row.size()).isEqualTo(3);
+        then(row.get(0)).isEqualTo("value1");
+        then(row.get(1)).isEqualTo("값2");
+        then(row.get(2)).isEmpty();
+    }
+
+    @Test
+    void 범위를_벗어난_인덱스는_null을_반환한다() {
+        // given
+        CsvRow row = new CsvRow(new String[]{"value1"});
+
+        // when & then
+        then(row.get(-1)).isNull();
+        then(row.get(1)).isNull();
+    }
+
+    @Test
+    void rawLine은_필드를_쉼표로_연결한_원본_라인을_반환한다() {
+        // given
+        CsvRow row = new CsvRow(new String[]{"a", "b", "c"});
+
+        // when
+        String rawLine = row.rawLine();
+
+        // then
+        then(rawLine).isEqualTo("a,b,c");
+    }
+
+    @Test
+    void copy는_원본_버퍼와_독립적인_행을_생성한다() {
+        // given
+        CsvRow original = new CsvRow(new String[]{"value1", "value2"});
+
+        // when
+        CsvRow copied = original.copy();
+
+        // then
+        then(copied.size()).isEqualTo(2);
+        then(copied.get(0)).isEqualTo("value1");
+        then(copied.get(1)).isEqualTo("value2");
+        then(copied.rawLine()).isEqualTo("value1,value2");
+    }
+
+    @Test
+    void 필드를_문자열로_만들지_않고_바이트_단위로_읽을_수_있다() {
+        // given
+        CsvRow row = new CsvRow(new String[]{"GET", "값"});
+
+        // when & then
+        then(row.length(0)).isEqualTo(3);
+        then(row.length(1)).isEqualTo(3);
+        then(row.byteAt(0, 1)).isEqualTo((byte) 'E');
+        then(row.fieldEquals(0, "GET".getBytes())).isTrue();
+        then(row.fieldEquals(0, "GETX".getBytes())).isFalse();
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.naminhyeok.core.support.parser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class MappedCsvFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void 청크_경계는_줄바꿈_직후에_위치한다() throws IOException {
+        // given
+        Path path = Files.writeString(tempDir.resolve("test.csv"), "header\nrow1,a\r\nrow2,b\nrow3,c\n");
+
+        try (MappedCsvFile file = MappedCsvFile.open(path)) {
+            // when
+            List<MappedCsvFile.Chunk> chunks = file.split(3);
+
+            // then
+            then(chunks).isNotEmpty();
+            then(chunks.get(0).start()).isZero();
+            then(chunks.get(chunks.size() - 1).end()).isEqualTo(file.size());
+            byte[] content = Files.readAllBytes(path);
+            for (int i = 1; i < chunks.size(); i++) {
+                then(chunks.get(i).start()).isEqualTo(chunks.get(i - 1).end());
+                then(content[(int) chunks.get(i).start() - 1]).isEqualTo((byte) '\n');
+            }
+        }
+    }
+
+    @Test
+    void 청크별로_읽은_행은_순차_파싱_결과와_같다() throws IOException {
+        // given
+        StringBuilder csv = new StringBuilder("header1,header2\n");
+        for (int i = 0; i < 200; i++) {
+            csv.append("\"value, ").append(i).append("\",").append(i).append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+        Path path = Files.writeString(tempDir.resolve("test.csv"), csv.toString());
+
+        List<String> expected = new ArrayList<>();
+        CsvParser.forEachRow(Files.newInputStream(path), row -> expected.add(row.get(0) + "|" + row.get(1)));
+
+        // when
+        List<String> actual = new ArrayList<>();
+        try (MappedCsvFile file = MappedCsvFile.open(path)) {
+            for (MappedCsvFile.Chunk chunk : file.split(7)) {
+                file.forEachRow(chunk, row -> actual.add(row.get(0) + "|" + row.get(1)));
+            }
+        }
+
+        // then
+        then(actual).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void 빈_파일은_청크가_없다() throws IOException {
+        // given
+        Path path = Files.createFile(tempDir.resolve("empty.csv"));
+
+        try (MappedCsvFile file = MappedCsvFile.open(path)) {
+            // when
+            List<MappedCsvFile.Chunk> chunks = file.split(4);
+
+            // then
+            then(chunks).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.naminhyeok.core.support.parser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class TimestampDecoderTest {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(
+        "M/d/yyyy, h:mm:ss.SSS a", Locale.ENGLISH
+    );
+
+    @Test
+    void 타임스탬프를_epoch_millis로_변환한다() {
+        // given
+        TimestampDecoder decoder = new TimestampDecoder();
+
+        // when
+        long epochMillis = decode(decoder, "1/29/2026, 5:44:10.123 AM");
+
+        // then
+        then(epochMillis).isEqualTo(toEpochMillis(LocalDateTime.of(2026, 1, 29, 5, 44, 10, 123_000_000)));
+    }
+
+    @Test
+    void 오전_12시는_0시로_오후_12시는_12시로_변환한다() {
+        // given
+        TimestampDecoder decoder = new TimestampDecoder();
+
+        // when
+        long midnight = decode(decoder, "1/29/2026, 12:00:00.000 AM");
+        long noon = decode(decoder, "1/29/2026, 12:00:00.000 PM");
+
+        // then
+        then(TimestampDecoder.toLocalDateTime(midnight)).isEqualTo(LocalDateTime.of(2026, 1, 29, 0, 0));
+        then(TimestampDecoder.toLocalDateTime(noon)).isEqualTo(LocalDateTime.of(2026, 1, 29, 12, 0));
+    }
+
+    @Test
+    void 접두사가_같은_연속된_타임스탬프도_정확히_변환한다() {
+        // given
+        TimestampDecoder decoder = new TimestampDecoder();
+        decode(decoder, "12/31/2025, 11:59:59.999 PM");
+
+        // when
+        long sameHour = decode(decoder, "12/31/2025, 11:00:00.001 PM");
+        long otherMeridiem = decode(decoder, "12/31/2025, 11:00:00.001 AM");
+        long nextDay = decode(decoder, "1/1/2026, 12:00:00.000 AM");
+
+        // then
+        then(TimestampDecoder.toLocalDateTime(sameHour))
+            .isEqualTo(LocalDateTime.of(2025, 12, 31, 23, 0, 0, 1_000_000));
+        then(TimestampDecoder.toLocalDateTime(otherMeridiem))
+            .isEqualTo(LocalDateTime.of(2025, 12, 31, 11, 0, 0, 1_000_000));
+        then(TimestampDecoder.toLocalDateTime(nextDay))
+            .isEqualTo(LocalDateTime.of(2026, 1, 1, 0, 0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "01/09/2026, 05:44:10.000 PM",
+        "2/30/2026, 1:00:00.000 AM",
+        "2/29/2024, 1:00:00.000 AM"
+    })
+    void 정형화되지_않은_입력도_기존_포매터와_같은_결과를_반환한다(String value) {
+        // given
+        TimestampDecoder decoder = new TimestampDecoder();
+
+        // when
+        long epochMillis = decode(decoder, value);
+
+        // then
+        then(epochMillis).isEqualTo(toEpochMillis(LocalDateTime.parse(value, FORMATTER)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "",
+        "invalid-date",
+        "2026-01-29 05:44:10",
+        "13/29/2026, 5:44:10.000 AM",
+        "1/32/2026, 5:44:10.000 AM",
+        "1/29/2026, 13:44:10.000 AM",
+        "1/29/2026, 5:60:10.000 AM",
+        "1/29/2026, 5:44:10.00 AM",
+        "1/29/2026, 5:44:10.000 am",
+        "1/29/2026, 5:44:10.000 AMX",
+        "1/29/2026 5:44:10.000 AM"
+    })
+    void 잘못된_형식은_INVALID를_반환한다(String value) {
+        // given
+        TimestampDecoder decoder = new TimestampDecoder();
+
+        // when
+        long epochMillis = decode(decoder, value);
+
+        // then
+        then(epochMillis).isEqualTo(TimestampDecoder.INVALID);
+    }
+
+    @Test
+    void 캐시된_접두사와_같아도_나머지가_잘못되면_INVALID를_반환한다() {
+        // given
+        TimestampDecoder decoder = new TimestampDecoder();
+        decode(decoder, "1/29/2026, 5:44:10.000 AM");
+
+        // when
+        long epochMillis = decode(decoder, "1/29/2026, 5:4x:10.000 AM");
+
+        // then
+        then(epochMillis).isEqualTo(TimestampDecoder.INVALID);
+    }
+
+    @Test
+    void 범위를_벗어난_인덱스는_INVALID를_반환한다() {
+        // given
+        TimestampDecoder decoder = new TimestampDecoder();
+        CsvRow row = new CsvRow(new String[]{"1/29/2026, 5:44:10.000 AM"});
+
+        // when
+        long epochMillis = decoder.decode(row, 1);
+
+        // then
+        then(epochMillis).isEqualTo(TimestampDecoder.INVALID);
+    }
+
+    private long decode(TimestampDecoder decoder, String value) {
+        return decoder.decode(new CsvRow(new String[]{value}), 0);
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}